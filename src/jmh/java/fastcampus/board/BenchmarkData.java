@@ -0,0 +1,170 @@
+package fastcampus.board;
+
+import fastcampus.board.dto.ArticleCommentDto;
+import fastcampus.board.dto.UserAccountDto;
+import fastcampus.board.dto.query.ArticleHashtagDto;
+import fastcampus.board.dto.query.ArticleListRow;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 벤치마크 입력 생성기. 모든 입력은 고정 시드에서 만들므로, 릴리스끼리 결과를 비교할 때 같은 데이터를 쓴다.
+ * 같은 입력을 다시 만들려면 {@link #random()} 으로 새 난수 생성기를 받아 같은 순서로 호출한다.
+ */
+public final class BenchmarkData {
+
+    public static final long SEED = 42L;
+
+    private static final String[] WORDS = {
+            "스프링", "게시판", "해시태그", "검색", "성능", "자바", "spring", "boot", "java", "board",
+            "오늘은", "정말", "좋은", "날씨", "입니다", "querydsl", "jpa", "테스트", "hello", "world"
+    };
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private BenchmarkData() {
+    }
+
+    public static Random random() {
+        return new Random(SEED);
+    }
+
+    public static UserAccountDto userAccountDto() {
+        return UserAccountDto.of("uno", "password", "uno@mail.com", "Uno", null);
+    }
+
+    /**
+     * 한글/영문 단어로 된 문장에 해시태그를 고르게 섞은 본문
+     */
+    public static String content(Random random, int length, int hashtagCount) {
+        StringBuilder builder = new StringBuilder(length + 64);
+        int hashtagEvery = Math.max(1, length / (Math.max(1, hashtagCount) * 8));
+        int words = 0;
+        while (builder.length() < length) {
+            if (hashtagCount > 0 && ++words % hashtagEvery == 0) {
+                builder.append('#');
+            }
+            builder.append(WORDS[random.nextInt(WORDS.length)]);
+            builder.append(random.nextInt(10) == 0 ? ". " : " ");
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 한 게시글의 댓글. 3할은 부모 댓글이고, 나머지는 앞선 부모 댓글 중 하나에 달린 대댓글이다. DB 와 같이 작성순으로 정렬되어 있다.
+     */
+    public static List<ArticleCommentDto> comments(Random random, int count) {
+        UserAccountDto userAccountDto = userAccountDto();
+        LocalDateTime createdAt = BASE_TIME;
+
+        List<ArticleCommentDto> comments = new ArrayList<>(count);
+        List<Long> parentIds = new ArrayList<>();
+        for (long id = 1; id <= count; id++) {
+            Long parentCommentId = null;
+            if (!parentIds.isEmpty() && random.nextInt(10) >= 3) {
+                parentCommentId = parentIds.get(random.nextInt(parentIds.size()));
+            } else {
+                parentIds.add(id);
+            }
+            createdAt = createdAt.plusSeconds(random.nextInt(3));
+            comments.add(ArticleCommentDto.of(id, 1L, userAccountDto, parentCommentId, "comment " + id, createdAt, "uno", createdAt, "uno"));
+        }
+        return comments;
+    }
+
+    /**
+     * 최신순으로 정렬된 게시글 목록 줄. 미리보기는 잘렸는지 알 수 있도록 {@link ArticleListRow#PREVIEW_LENGTH} 보다 한 글자 길다.
+     */
+    public static List<ArticleListRow> listRows(Random random, int count) {
+        LocalDateTime createdAt = BASE_TIME.plusDays(365);
+
+        List<ArticleListRow> rows = new ArrayList<>(count);
+        for (long id = count; id >= 1; id--) {
+            createdAt = createdAt.minusMinutes(1 + random.nextInt(60));
+            String userId = "user" + random.nextInt(100);
+            rows.add(ArticleListRow.of(
+                    id,
+                    "title " + id,
+                    content(random, ArticleListRow.PREVIEW_LENGTH + 1, 2),
+                    userId,
+                    random.nextInt(5) == 0 ? null : "nickname-" + userId,
+                    createdAt,
+                    random.nextInt(10_000),
+                    random.nextInt(50)
+            ));
+        }
+        return rows;
+    }
+
+    /**
+     * 게시글마다 0 ~ {@code maxPerArticle} 개의 해시태그 연결. 해시태그 이름은 {@code hashtagCount} 개 안에서 고른다.
+     */
+    public static Set<ArticleHashtagDto> articleHashtags(Random random, Collection<Long> articleIds, int maxPerArticle, int hashtagCount) {
+        Set<ArticleHashtagDto> articleHashtags = new HashSet<>();
+        for (Long articleId : articleIds) {
+            int count = random.nextInt(maxPerArticle + 1);
+            for (int i = 0; i < count; i++) {
+                articleHashtags.add(ArticleHashtagDto.of(articleId, "hashtag" + random.nextInt(hashtagCount)));
+            }
+        }
+        return articleHashtags;
+    }
+
+    /**
+     * 벤치마크가 쓰는 협력 객체만 넘겨 {@code type} 을 만든다. 생성자 매개변수마다 타입이 맞는 협력 객체를 넣고, 나머지는 {@code null} 로 둔다.
+     * 생성자 매개변수의 순서나 개수가 바뀌어도 벤치마크를 고칠 필요가 없고, 넘긴 협력 객체가 어디에도 들어가지 않으면 바로 실패한다.
+     */
+    public static <T> T withCollaborators(Class<T> type, Object... collaborators) {
+        Constructor<?>[] constructors = type.getConstructors();
+        if (constructors.length != 1) {
+            throw new IllegalArgumentException(type.getSimpleName() + " 의 public 생성자가 하나가 아닙니다.");
+        }
+        Constructor<?> constructor = constructors[0];
+        Class<?>[] parameterTypes = constructor.getParameterTypes();
+        Object[] args = new Object[parameterTypes.length];
+        Set<Object> unused = Collections.newSetFromMap(new IdentityHashMap<>());
+        unused.addAll(Arrays.asList(collaborators));
+        for (int i = 0; i < parameterTypes.length; i++) {
+            for (Object collaborator : collaborators) {
+                if (parameterTypes[i].isInstance(collaborator)) {
+                    args[i] = collaborator;
+                    unused.remove(collaborator);
+                    break;
+                }
+            }
+        }
+        if (!unused.isEmpty()) {
+            throw new IllegalArgumentException(type.getSimpleName() + " 의 생성자에 맞는 매개변수가 없습니다: "
+                    + unused.stream().map(collaborator -> collaborator.getClass().getName()).toList());
+        }
+        try {
+            return type.cast(constructor.newInstance(args));
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException(type.getSimpleName() + " 을 만들지 못했습니다.", e);
+        }
+    }
+
+    /**
+     * {@code methodName} 호출만 {@code answer} 로 답하고, 다른 메서드를 부르면 실패하는 저장소
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T stubRepository(Class<T> type, String methodName, Answer answer) {
+        return (T) Proxy.newProxyInstance(
+                type.getClassLoader(),
+                new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    if (method.getName().equals(methodName)) {
+                        return answer.answer(args);
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                }
+        );
+    }
+
+    public interface Answer {
+        Object answer(Object[] args);
+    }
+}
@@ -0,0 +1,90 @@
+package fastcampus.board.dto.response;
+
+import fastcampus.board.BenchmarkData;
+import fastcampus.board.dto.ArticleCommentDto;
+import fastcampus.board.dto.ArticleWithCommentsDto;
+import fastcampus.board.dto.HashtagDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 댓글 트리 조립을 기존 TreeSet 방식과 한 번에 엮는 방식으로 비교한다.
+ * 댓글은 {@link BenchmarkData#comments} 로 만든다. 게시글 상세 응답 전체를 만드는 비용도 함께 본다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CommentTreeBuilderBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int commentCount;
+
+    private List<ArticleCommentDto> comments;
+    private ArticleWithCommentsDto article;
+
+    @Setup
+    public void setUp() {
+        comments = BenchmarkData.comments(BenchmarkData.random(), commentCount);
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+        article = ArticleWithCommentsDto.of(
+                1L,
+                BenchmarkData.userAccountDto(),
+                new LinkedHashSet<>(comments),
+                "title",
+                "content",
+                Set.of(HashtagDto.of("spring"), HashtagDto.of("java")),
+                createdAt,
+                "uno",
+                createdAt,
+                "uno"
+        );
+    }
+
+    /**
+     * 기존 구현: 댓글마다 비교자와 TreeSet 을 만들어 대댓글을 정렬하며 넣고, 부모 댓글도 TreeSet 으로 다시 정렬한다.
+     */
+    @Benchmark
+    public Collection<?> treeSet() {
+        Map<Long, TreeNode> map = comments.stream()
+                .map(TreeNode::new)
+                .collect(Collectors.toMap(node -> node.comment.id(), Function.identity()));
+
+        map.values().stream()
+                .filter(node -> node.comment.parentCommentId() != null)
+                .forEach(node -> map.get(node.comment.parentCommentId()).childComments.add(node));
+
+        return map.values().stream()
+                .filter(node -> node.comment.parentCommentId() == null)
+                .collect(Collectors.toCollection(() -> new TreeSet<>(Comparator
+                        .comparing((TreeNode node) -> node.comment.createdAt())
+                        .reversed()
+                        .thenComparingLong(node -> node.comment.id()))));
+    }
+
+    @Benchmark
+    public List<ArticleCommentResponse> linear() {
+        return CommentTreeBuilder.build(comments);
+    }
+
+    @Benchmark
+    public ArticleWithCommentsResponse articleWithCommentsResponse() {
+        return ArticleWithCommentsResponse.from(article);
+    }
+
+    private static final class TreeNode {
+        private final ArticleCommentDto comment;
+        private final Set<TreeNode> childComments;
+
+        private TreeNode(ArticleCommentDto comment) {
+            this.comment = comment;
+            this.childComments = new TreeSet<>(Comparator
+                    .comparing((TreeNode node) -> node.comment.createdAt())
+                    .thenComparingLong(node -> node.comment.id()));
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package fastcampus.board.repository;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.*;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 목록 한 페이지를 엔티티 전체(본문 + 작성자 전체 컬럼)로 읽는 쿼리와
+ * 목록 줄(미리보기 + 닉네임 + 댓글 수)만 읽는 쿼리를 H2 메모리 DB 에서 비교한다.
+ * <p>
+ * 페이지당 힙 할당량은 {@code -prof gc} 의 {@code gc.alloc.rate.norm} 으로,
+ * 페이지당 전송 바이트는 {@link PageBytes} 보조 카운터(문자열은 UTF-8 길이, 그 외는 고정 길이로 계산)로 본다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class ArticleListBenchmark {
+
+    private static final int ARTICLES = 20_000;
+    private static final int COMMENTS_PER_ARTICLE = 5;
+    private static final int PAGE_SIZE = 20;
+    private static final int PREVIEW_LENGTH = 100;
+
+    private static final String FULL_ENTITY_SQL =
+            "select a.id, a.user_id, a.title, a.content, a.view_count, a.created_at, a.created_by, a.modified_at, a.modified_by, " +
+                    "u.user_id, u.user_password, u.email, u.nickname, u.memo, u.created_at, u.created_by, u.modified_at, u.modified_by " +
+                    "from article a join user_account u on u.user_id = a.user_id " +
+                    "order by a.created_at desc, a.id desc limit ? offset ?";
+
+    private static final String LIST_ROW_SQL =
+            "select a.id, a.title, substring(a.content, 1, " + (PREVIEW_LENGTH + 1) + "), u.user_id, u.nickname, a.created_at, a.view_count, " +
+                    "(select count(c.id) from article_comment c where c.article_id = a.id) " +
+                    "from article a join user_account u on u.user_id = a.user_id " +
+                    "order by a.created_at desc, a.id desc limit ? offset ?";
+
+    @Param({"1000", "10000"})
+    private int contentLength;
+
+    @Param({"0", "100"})
+    private int page;
+
+    private Connection connection;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PageBytes {
+        public long bytes;
+        public long pages;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+            pages = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:article-list-benchmark;DB_CLOSE_DELAY=-1", "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop all objects");
+            statement.execute("create table user_account (user_id varchar(50) primary key, user_password varchar(255), email varchar(100), nickname varchar(100), memo varchar(255), " +
+                    "created_at timestamp, created_by varchar(100), modified_at timestamp, modified_by varchar(100))");
+            statement.execute("create table article (id bigint primary key, user_id varchar(50) not null, title varchar(255) not null, content varchar(10000) not null, " +
+                    "view_count bigint default 0 not null, created_at timestamp not null, created_by varchar(100) not null, modified_at timestamp not null, modified_by varchar(100) not null)");
+            statement.execute("create index article_created_at_id on article (created_at, id)");
+            statement.execute("create table article_comment (id bigint auto_increment primary key, article_id bigint not null, content varchar(500) not null)");
+            statement.execute("create index article_comment_article_id on article_comment (article_id)");
+        }
+        seed();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public void fullEntity(PageBytes pageBytes, Blackhole blackhole) throws SQLException {
+        fetch(FULL_ENTITY_SQL, pageBytes, blackhole);
+    }
+
+    @Benchmark
+    public void listRow(PageBytes pageBytes, Blackhole blackhole) throws SQLException {
+        fetch(LIST_ROW_SQL, pageBytes, blackhole);
+    }
+
+    private void fetch(String sql, PageBytes pageBytes, Blackhole blackhole) throws SQLException {
+        try (PreparedStatement select = connection.prepareStatement(sql)) {
+            select.setInt(1, PAGE_SIZE);
+            select.setInt(2, page * PAGE_SIZE);
+            try (ResultSet resultSet = select.executeQuery()) {
+                int columns = resultSet.getMetaData().getColumnCount();
+                while (resultSet.next()) {
+                    for (int i = 1; i <= columns; i++) {
+                        Object value = resultSet.getObject(i);
+                        pageBytes.bytes += sizeOf(value);
+                        blackhole.consume(value);
+                    }
+                }
+            }
+        }
+        pageBytes.pages++;
+    }
+
+    private void seed() throws SQLException {
+        Random random = new Random(42);
+        String content = "lorem ipsum ".repeat(contentLength / 12 + 1).substring(0, contentLength);
+        Timestamp base = Timestamp.valueOf("2022-01-01 00:00:00");
+
+        connection.setAutoCommit(false);
+        try (PreparedStatement user = connection.prepareStatement(
+                "insert into user_account values ('uno', '{noop}asdf1234', 'uno@mail.com', 'Uno', 'memo', ?, 'uno', ?, 'uno')")) {
+            user.setTimestamp(1, base);
+            user.setTimestamp(2, base);
+            user.executeUpdate();
+        }
+        try (PreparedStatement article = connection.prepareStatement("insert into article values (?, 'uno', ?, ?, 0, ?, 'uno', ?, 'uno')");
+             PreparedStatement comment = connection.prepareStatement("insert into article_comment (article_id, content) values (?, 'comment')")) {
+            for (long id = 1; id <= ARTICLES; id++) {
+                Timestamp createdAt = new Timestamp(base.getTime() + random.nextInt(365 * 24 * 60) * 60_000L);
+                article.setLong(1, id);
+                article.setString(2, "title " + id);
+                article.setString(3, content);
+                article.setTimestamp(4, createdAt);
+                article.setTimestamp(5, createdAt);
+                article.addBatch();
+
+                int comments = random.nextInt(COMMENTS_PER_ARTICLE * 2 + 1);
+                for (int i = 0; i < comments; i++) {
+                    comment.setLong(1, id);
+                    comment.addBatch();
+                }
+
+                if (id % 2_000 == 0) {
+                    article.executeBatch();
+                    comment.executeBatch();
+                }
+            }
+            article.executeBatch();
+            comment.executeBatch();
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+    }
+
+    private static long sizeOf(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof String string) {
+            return string.getBytes(StandardCharsets.UTF_8).length;
+        }
+        if (value instanceof Timestamp) {
+            return 12;
+        }
+        return 8;
+    }
+}
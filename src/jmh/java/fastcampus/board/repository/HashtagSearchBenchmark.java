@@ -0,0 +1,223 @@
+package fastcampus.board.repository;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 해시태그 검색의 기존 쿼리 계획(넓은 행 distinct + 3 테이블 조인 count)과
+ * 2단계 계획(ID 만 group by 로 페이징 → 해당 페이지만 채움)을 H2 메모리 DB 에서 비교한다.
+ * 게시글 200,000 건 x 해시태그 5 개 = 연관 행 1,000,000 건. 해시태그 인기도는 한쪽으로 치우치게 생성한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class HashtagSearchBenchmark {
+
+    private static final int ARTICLES = 200_000;
+    private static final int TAGS_PER_ARTICLE = 5;
+    private static final int HASHTAGS = 1_000;
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"popular", "rare"})
+    private String tagSet;
+
+    @Param({"0", "100"})
+    private int page;
+
+    @Param({"1000"})
+    private int contentLength;
+
+    private Connection connection;
+    private List<String> hashtagNames;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:hashtag-benchmark;DB_CLOSE_DELAY=-1", "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop all objects");
+            statement.execute("create table user_account (user_id varchar(50) primary key, email varchar(100), nickname varchar(100), memo varchar(255))");
+            statement.execute("create table article (id bigint primary key, user_id varchar(50) not null, title varchar(255) not null, content varchar(10000) not null, " +
+                    "created_at timestamp not null, created_by varchar(100) not null, modified_at timestamp not null, modified_by varchar(100) not null)");
+            statement.execute("create index article_created_at_id on article (created_at, id)");
+            statement.execute("create table hashtag (id bigint primary key, hashtag_name varchar(255) not null unique)");
+            statement.execute("create table article_hashtag (id bigint auto_increment primary key, article_id bigint not null, hashtag_id bigint not null, " +
+                    "unique (article_id, hashtag_id))");
+            statement.execute("create index article_hashtag_hashtag_id_article_id on article_hashtag (hashtag_id, article_id)");
+        }
+        seed();
+
+        // 인기 해시태그(0, 1번)는 수만 건, 드문 해시태그(끝 번호)는 수백 건 이하의 게시글에 달린다.
+        hashtagNames = "popular".equals(tagSet) ? List.of("tag0", "tag1") : List.of("tag" + (HASHTAGS - 2), "tag" + (HASHTAGS - 1));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public void singlePhaseDistinct(Blackhole blackhole) throws SQLException {
+        String in = placeholders(hashtagNames.size());
+        try (PreparedStatement select = connection.prepareStatement(
+                "select distinct a.id, u.user_id, u.email, u.nickname, u.memo, a.title, a.content, a.created_at, a.created_by, a.modified_at, a.modified_by " +
+                        "from article_hashtag ah join article a on a.id = ah.article_id join hashtag h on h.id = ah.hashtag_id " +
+                        "join user_account u on u.user_id = a.user_id " +
+                        "where h.hashtag_name in (" + in + ") order by a.created_at desc limit ? offset ?")) {
+            int index = bindAll(select, 1, hashtagNames);
+            select.setInt(index++, PAGE_SIZE);
+            select.setInt(index, page * PAGE_SIZE);
+            consume(select, blackhole);
+        }
+        try (PreparedStatement count = connection.prepareStatement(
+                "select count(distinct a.id) from article_hashtag ah join article a on a.id = ah.article_id " +
+                        "join hashtag h on h.id = ah.hashtag_id where h.hashtag_name in (" + in + ")")) {
+            bindAll(count, 1, hashtagNames);
+            consume(count, blackhole);
+        }
+    }
+
+    @Benchmark
+    public void twoPhaseAny(Blackhole blackhole) throws SQLException {
+        twoPhase(false, blackhole);
+    }
+
+    @Benchmark
+    public void twoPhaseAll(Blackhole blackhole) throws SQLException {
+        twoPhase(true, blackhole);
+    }
+
+    private void twoPhase(boolean matchAll, Blackhole blackhole) throws SQLException {
+        List<Long> hashtagIds = new ArrayList<>();
+        try (PreparedStatement resolve = connection.prepareStatement(
+                "select id from hashtag where hashtag_name in (" + placeholders(hashtagNames.size()) + ")")) {
+            bindAll(resolve, 1, hashtagNames);
+            try (ResultSet resultSet = resolve.executeQuery()) {
+                while (resultSet.next()) {
+                    hashtagIds.add(resultSet.getLong(1));
+                }
+            }
+        }
+
+        String in = placeholders(hashtagIds.size());
+        String having = matchAll ? " having count(*) = " + hashtagIds.size() : "";
+        List<Long> articleIds = new ArrayList<>();
+        try (PreparedStatement ids = connection.prepareStatement(
+                "select ah.article_id from article_hashtag ah join article a on a.id = ah.article_id " +
+                        "where ah.hashtag_id in (" + in + ") group by ah.article_id, a.created_at" + having +
+                        " order by a.created_at desc, ah.article_id desc limit ? offset ?")) {
+            int index = bindAll(ids, 1, hashtagIds);
+            ids.setInt(index++, PAGE_SIZE);
+            ids.setInt(index, page * PAGE_SIZE);
+            try (ResultSet resultSet = ids.executeQuery()) {
+                while (resultSet.next()) {
+                    articleIds.add(resultSet.getLong(1));
+                }
+            }
+        }
+
+        if (!articleIds.isEmpty()) {
+            try (PreparedStatement hydrate = connection.prepareStatement(
+                    "select a.*, u.* from article a join user_account u on u.user_id = a.user_id " +
+                            "where a.id in (" + placeholders(articleIds.size()) + ")")) {
+                bindAll(hydrate, 1, articleIds);
+                consume(hydrate, blackhole);
+            }
+        }
+
+        String countSql = matchAll ?
+                "select count(*) from (select ah.article_id from article_hashtag ah where ah.hashtag_id in (" + in + ") group by ah.article_id" + having + ")" :
+                "select count(distinct ah.article_id) from article_hashtag ah where ah.hashtag_id in (" + in + ")";
+        try (PreparedStatement count = connection.prepareStatement(countSql)) {
+            bindAll(count, 1, hashtagIds);
+            consume(count, blackhole);
+        }
+    }
+
+    private void seed() throws SQLException {
+        Random random = new Random(42);
+        String content = "lorem ipsum ".repeat(contentLength / 12 + 1).substring(0, contentLength);
+        Timestamp base = Timestamp.valueOf("2022-01-01 00:00:00");
+
+        connection.setAutoCommit(false);
+        try (PreparedStatement user = connection.prepareStatement("insert into user_account values ('uno', 'uno@mail.com', 'Uno', null)")) {
+            user.executeUpdate();
+        }
+        try (PreparedStatement hashtag = connection.prepareStatement("insert into hashtag values (?, ?)")) {
+            for (int i = 0; i < HASHTAGS; i++) {
+                hashtag.setLong(1, i);
+                hashtag.setString(2, "tag" + i);
+                hashtag.addBatch();
+            }
+            hashtag.executeBatch();
+        }
+        try (PreparedStatement article = connection.prepareStatement("insert into article values (?, 'uno', ?, ?, ?, 'uno', ?, 'uno')");
+             PreparedStatement articleHashtag = connection.prepareStatement("insert into article_hashtag (article_id, hashtag_id) values (?, ?)")) {
+            for (long id = 1; id <= ARTICLES; id++) {
+                Timestamp createdAt = new Timestamp(base.getTime() + random.nextInt(365 * 24 * 60) * 60_000L);
+                article.setLong(1, id);
+                article.setString(2, "title " + id);
+                article.setString(3, content);
+                article.setTimestamp(4, createdAt);
+                article.setTimestamp(5, createdAt);
+                article.addBatch();
+
+                for (long hashtagId : skewedHashtagIds(random)) {
+                    articleHashtag.setLong(1, id);
+                    articleHashtag.setLong(2, hashtagId);
+                    articleHashtag.addBatch();
+                }
+
+                if (id % 5_000 == 0) {
+                    article.executeBatch();
+                    articleHashtag.executeBatch();
+                }
+            }
+            article.executeBatch();
+            articleHashtag.executeBatch();
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+    }
+
+    private static List<Long> skewedHashtagIds(Random random) {
+        List<Long> ids = new ArrayList<>(TAGS_PER_ARTICLE);
+        while (ids.size() < TAGS_PER_ARTICLE) {
+            double r = random.nextDouble();
+            long id = (long) (HASHTAGS * r * r * r);
+            if (!ids.contains(id)) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    private static int bindAll(PreparedStatement statement, int index, List<?> values) throws SQLException {
+        for (Object value : values) {
+            statement.setObject(index++, value);
+        }
+        return index;
+    }
+
+    private static void consume(PreparedStatement statement, Blackhole blackhole) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery()) {
+            int columns = resultSet.getMetaData().getColumnCount();
+            while (resultSet.next()) {
+                for (int i = 1; i <= columns; i++) {
+                    blackhole.consume(resultSet.getObject(i));
+                }
+            }
+        }
+    }
+}
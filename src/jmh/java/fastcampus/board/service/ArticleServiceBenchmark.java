@@ -0,0 +1,69 @@
+package fastcampus.board.service;
+
+import fastcampus.board.BenchmarkData;
+import fastcampus.board.dto.ArticleListDto;
+import fastcampus.board.dto.CursorPage;
+import fastcampus.board.dto.query.ArticleHashtagDto;
+import fastcampus.board.dto.query.ArticleListRow;
+import fastcampus.board.repository.ArticleHashtagRepository;
+import fastcampus.board.repository.ArticleRepository;
+import fastcampus.board.service.ArticleViewCounter.ArticleViewCountProperties;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 목록 한 페이지를 DTO 로 옮기는 비용(해시태그 묶기, 미반영 조회수 더하기, 다음 커서 만들기)을 DB 없이 잰다.
+ * 저장소는 미리 만들어 둔 목록 줄과 해시태그 연결을 돌려주는 프록시로 바꾸고, 나머지 의존성은 쓰지 않는다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ArticleServiceBenchmark {
+
+    private static final int MAX_HASHTAGS_PER_ARTICLE = 5;
+    private static final int HASHTAG_COUNT = 1_000;
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private ArticleService articleService;
+
+    @Setup
+    public void setUp() {
+        Random random = BenchmarkData.random();
+        List<ArticleListRow> rows = BenchmarkData.listRows(random, pageSize + 1);
+        Map<Long, Set<ArticleHashtagDto>> articleHashtags = BenchmarkData.articleHashtags(
+                        random,
+                        rows.stream().map(ArticleListRow::id).toList(),
+                        MAX_HASHTAGS_PER_ARTICLE,
+                        HASHTAG_COUNT
+                ).stream()
+                .collect(Collectors.groupingBy(ArticleHashtagDto::articleId, Collectors.toSet()));
+
+        ArticleViewCounter articleViewCounter = BenchmarkData.withCollaborators(
+                ArticleViewCounter.class,
+                new ArticleViewCountProperties(Duration.ofSeconds(5), 500)
+        );
+        rows.stream()
+                .filter(row -> random.nextInt(3) == 0)
+                .forEach(row -> articleViewCounter.increment(row.id()));
+
+        articleService = BenchmarkData.withCollaborators(
+                ArticleService.class,
+                BenchmarkData.stubRepository(ArticleRepository.class, "findListRowsBefore", args -> new ArrayList<>(rows)),
+                BenchmarkData.stubRepository(ArticleHashtagRepository.class, "findDtoByArticleIds", args -> ((Collection<?>) args[0]).stream()
+                        .flatMap(articleId -> articleHashtags.getOrDefault((Long) articleId, Set.of()).stream())
+                        .collect(Collectors.toSet())),
+                articleViewCounter
+        );
+    }
+
+    @Benchmark
+    public CursorPage<ArticleListDto> getArticlesByCursor() {
+        return articleService.getArticlesByCursor(null, pageSize);
+    }
+}
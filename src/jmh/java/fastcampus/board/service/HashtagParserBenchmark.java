@@ -0,0 +1,71 @@
+package fastcampus.board.service;
+
+import fastcampus.board.BenchmarkData;
+import fastcampus.board.service.HashtagParser.HashtagParserProperties;
+import org.openjdk.jmh.annotations.*;
+
+import java.text.Normalizer;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 게시글 저장/수정 때마다 본문을 다시 파싱하므로, 10KB 안팎의 본문에서 기존 정규식 방식과 직접 만든 파서를 비교한다.
+ * 본문은 {@link BenchmarkData#content} 로 만든 한글/영문 문장에 해시태그를 섞은 것이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HashtagParserBenchmark {
+
+    private static final Pattern HASHTAG_PATTERN = Pattern.compile("#[\\w가-힣]+");
+
+    @Param({"10240"})
+    private int contentLength;
+
+    @Param({"20"})
+    private int hashtagCount;
+
+    private String content;
+    private HashtagParser parser;
+
+    @Setup
+    public void setUp() {
+        content = BenchmarkData.content(BenchmarkData.random(), contentLength, hashtagCount);
+        parser = new HashtagParser(new HashtagParserProperties(50, 30, false, Normalizer.Form.NFC));
+    }
+
+    /**
+     * 기존 구현: 호출마다 패턴을 컴파일하고 group() 결과에서 '#' 을 지운다.
+     */
+    @Benchmark
+    public Set<String> regexCompiledPerCall() {
+        Pattern pattern = Pattern.compile("#[\\w가-힣]+");
+        Matcher matcher = pattern.matcher(content.strip());
+        Set<String> result = new HashSet<>();
+        while (matcher.find()) {
+            result.add(matcher.group().replace("#", ""));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Set<String> regexPrecompiled() {
+        Matcher matcher = HASHTAG_PATTERN.matcher(content);
+        Set<String> result = new HashSet<>();
+        while (matcher.find()) {
+            result.add(content.substring(matcher.start() + 1, matcher.end()));
+        }
+        return result;
+    }
+
+    /**
+     * 게시글 저장/수정이 실제로 부르는 경로. {@link HashtagService#parseHashtagNames} 는 이 파서에 그대로 넘긴다.
+     */
+    @Benchmark
+    public Set<String> handWrittenParser() {
+        return parser.parse(content);
+    }
+}
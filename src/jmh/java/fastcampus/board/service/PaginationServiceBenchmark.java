@@ -0,0 +1,41 @@
+package fastcampus.board.service;
+
+import fastcampus.board.BenchmarkData;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 화면마다 부르는 페이지 바 계산. 현재 페이지는 고정 시드로 고른 값을 돌아가며 쓴다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PaginationServiceBenchmark {
+
+    private static final int PAGE_NUMBERS = 1024;
+
+    @Param({"10", "100000"})
+    private int totalPages;
+
+    private final PaginationService paginationService = new PaginationService();
+    private int[] pageNumbers;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        Random random = BenchmarkData.random();
+        pageNumbers = new int[PAGE_NUMBERS];
+        for (int i = 0; i < PAGE_NUMBERS; i++) {
+            pageNumbers[i] = random.nextInt(totalPages);
+        }
+    }
+
+    @Benchmark
+    public List<Integer> getPaginationBarNumbers() {
+        index = (index + 1) & (PAGE_NUMBERS - 1);
+        return paginationService.getPaginationBarNumbers(pageNumbers[index], totalPages);
+    }
+}
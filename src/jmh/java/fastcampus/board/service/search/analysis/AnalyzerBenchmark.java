@@ -0,0 +1,102 @@
+package fastcampus.board.service.search.analysis;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * data.sql 의 문자열 리터럴(게시글 제목/본문, 댓글, 해시태그 등)을 말뭉치로 삼아 분석기 처리량을 잰다.
+ * {@link TokenCounter#tokens} 가 보조 카운터로 함께 보고되어 초당 토큰 수를 확인할 수 있다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class AnalyzerBenchmark {
+
+    @Param({"2", "3"})
+    private int hangulMaxGram;
+
+    private List<String> corpus;
+    private Analyzer analyzer;
+
+    @Setup
+    public void setUp() throws IOException {
+        corpus = readSeedLiterals();
+        analyzer = Analyzer.builder()
+                .normalization(Normalizer.Form.NFKC)
+                .hangulNGram(2, hangulMaxGram)
+                .lowerCase()
+                .asciiFolding()
+                .build();
+    }
+
+    @Benchmark
+    public void tokenStream(TokenCounter counter, Blackhole blackhole) {
+        for (String text : corpus) {
+            TokenStream stream = analyzer.tokenStream(text);
+            while (stream.incrementToken()) {
+                blackhole.consume(stream.token().length());
+                counter.tokens++;
+            }
+        }
+    }
+
+    @Benchmark
+    public void analyzeToList(TokenCounter counter, Blackhole blackhole) {
+        for (String text : corpus) {
+            List<String> terms = analyzer.analyze(text);
+            counter.tokens += terms.size();
+            blackhole.consume(terms);
+        }
+    }
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class TokenCounter {
+        public long tokens;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            tokens = 0;
+        }
+    }
+
+    private static List<String> readSeedLiterals() throws IOException {
+        String sql;
+        try (InputStream in = AnalyzerBenchmark.class.getResourceAsStream("/data.sql")) {
+            if (in == null) {
+                throw new IllegalStateException("data.sql 을 찾을 수 없습니다.");
+            }
+            sql = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        List<String> literals = new ArrayList<>();
+        StringBuilder literal = null;
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            if (literal == null) {
+                if (c == '\'') {
+                    literal = new StringBuilder();
+                }
+            } else if (c == '\'') {
+                if (i + 1 < sql.length() && sql.charAt(i + 1) == '\'') {
+                    literal.append('\'');
+                    i++;
+                } else {
+                    literals.add(literal.toString());
+                    literal = null;
+                }
+            } else {
+                literal.append(c);
+            }
+        }
+        return literals;
+    }
+}
@@ -0,0 +1,103 @@
+package fastcampus.board.loadtest;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 로그인한 회원 한 명의 브라우저 세션. 쿠키와 CSRF 토큰을 들고 있으며, 리다이렉트는 따라가지 않는다.
+ */
+public class BoardSession {
+
+    private static final Pattern CSRF_TOKEN = Pattern.compile("<input[^>]*name=\"_csrf\"[^>]*value=\"([^\"]+)\"");
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final URI baseUri;
+    private final HttpClient client;
+    private String csrfToken;
+
+    private BoardSession(URI baseUri, Executor executor) {
+        this.baseUri = baseUri;
+        this.client = HttpClient.newBuilder()
+                .cookieHandler(new CookieManager())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(TIMEOUT)
+                .executor(executor)
+                .build();
+    }
+
+    /**
+     * 로그인 페이지의 CSRF 토큰으로 폼 로그인한 뒤, 로그인하면서 바뀐 토큰을 글쓰기 화면에서 다시 받는다.
+     */
+    public static BoardSession login(URI baseUri, Executor executor, String username, String password) throws IOException, InterruptedException {
+        BoardSession session = new BoardSession(baseUri, executor);
+        String loginToken = session.fetchCsrfToken("/login");
+
+        HttpResponse<Void> response = session.client.send(
+                session.form("/login", Map.of("username", username, "password", password, "_csrf", loginToken)),
+                HttpResponse.BodyHandlers.discarding()
+        );
+        String location = response.headers().firstValue("Location").orElse("");
+        if (response.statusCode() != 302 || location.contains("error")) {
+            throw new IllegalStateException("로그인에 실패했습니다 - username: " + username + ", status: " + response.statusCode());
+        }
+
+        session.csrfToken = session.fetchCsrfToken("/articles/form");
+        return session;
+    }
+
+    public CompletableFuture<HttpResponse<Void>> get(String path) {
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(TIMEOUT)
+                .GET()
+                .build();
+        return client.sendAsync(request, HttpResponse.BodyHandlers.discarding());
+    }
+
+    public CompletableFuture<HttpResponse<Void>> post(String path, Map<String, String> parameters) {
+        Map<String, String> withToken = new LinkedHashMap<>(parameters);
+        withToken.put("_csrf", csrfToken);
+        return client.sendAsync(form(path, withToken), HttpResponse.BodyHandlers.discarding());
+    }
+
+    private String fetchCsrfToken(String path) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(
+                HttpRequest.newBuilder(baseUri.resolve(path)).timeout(TIMEOUT).GET().build(),
+                HttpResponse.BodyHandlers.ofString()
+        );
+        Matcher matcher = CSRF_TOKEN.matcher(response.body());
+        if (!matcher.find()) {
+            throw new IllegalStateException("CSRF 토큰을 찾을 수 없습니다 - path: " + path + ", status: " + response.statusCode());
+        }
+        return matcher.group(1);
+    }
+
+    private HttpRequest form(String path, Map<String, String> parameters) {
+        String body = parameters.entrySet().stream()
+                .map(entry -> encode(entry.getKey()) + "=" + encode(entry.getValue()))
+                .collect(Collectors.joining("&"));
+
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(TIMEOUT)
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,227 @@
+package fastcampus.board.loadtest;
+
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 부하 테스트용 대량 데이터를 JDBC 배치로 넣는다. 메모리 색인과 통계가 이 데이터까지 읽어 가도록,
+ * 애플리케이션이 준비되기 직전({@link ApplicationStartedEvent})에 넣는다.
+ * <p>
+ * 모든 값은 고정 시드에서 만들므로 실행마다 같은 데이터가 된다. 해시태그는 앞 번호일수록 자주 붙어, 인기 해시태그가 생긴다.
+ * 게시글에 저장하는 댓글 수는 만든 댓글 수로 바로 채운다.
+ */
+public class BulkDataGenerator implements ApplicationListener<ApplicationStartedEvent> {
+
+    public static final String PASSWORD = "loadtest";
+
+    private static final int BATCH_SIZE = 5_000;
+    private static final int MAX_HASHTAGS_PER_ARTICLE = 3;
+    private static final String CREATED_BY = "loadtest";
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2023, 1, 1, 0, 0);
+    private static final String[] WORDS = {
+            "스프링", "게시판", "해시태그", "검색", "성능", "자바", "spring", "boot", "java", "board",
+            "오늘은", "정말", "좋은", "날씨", "입니다", "querydsl", "jpa", "테스트", "hello", "world"
+    };
+
+    private final LoadTestProperties properties;
+    private final Random random;
+    private final List<String> usernames = new ArrayList<>();
+    private long firstArticleId;
+
+    public BulkDataGenerator(LoadTestProperties properties) {
+        this.properties = properties;
+        this.random = new Random(properties.seed());
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationStartedEvent event) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(event.getApplicationContext().getBean(DataSource.class));
+        long startedAt = System.nanoTime();
+
+        insertUsers(jdbcTemplate);
+        long firstHashtagId = nextGeneratedId(jdbcTemplate, "hashtag");
+        insertHashtags(jdbcTemplate, firstHashtagId);
+        firstArticleId = nextIdentity(jdbcTemplate, "article");
+        int[] commentCounts = distributeComments();
+        long nextArticleHashtagId = insertArticles(jdbcTemplate, firstHashtagId, nextGeneratedId(jdbcTemplate, "article_hashtag"), commentCounts);
+        long nextCommentId = insertComments(jdbcTemplate, nextIdentity(jdbcTemplate, "article_comment"), commentCounts);
+
+        jdbcTemplate.execute("alter table article alter column id restart with " + (firstArticleId + properties.articles()));
+        jdbcTemplate.execute("alter table article_comment alter column id restart with " + nextCommentId);
+        jdbcTemplate.update("update id_generator set next_val = ? where id_name = ?", firstHashtagId + properties.hashtags(), "hashtag");
+        jdbcTemplate.update("update id_generator set next_val = ? where id_name = ?", nextArticleHashtagId, "article_hashtag");
+
+        System.out.printf("데이터 생성 완료 - 게시글 %,d, 댓글 %,d, 해시태그 %,d (%,d ms)%n",
+                properties.articles(), properties.comments(), properties.hashtags(), (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    public List<String> usernames() {
+        return usernames;
+    }
+
+    /**
+     * 이미 있던 게시글 다음부터 만든 게시글 중 하나
+     */
+    public long randomArticleId(Random random) {
+        return firstArticleId + random.nextInt(properties.articles());
+    }
+
+    /**
+     * 만든 해시태그 중 하나. 게시글에 붙일 때와 같은 분포로 고른다.
+     */
+    public String randomHashtagName(Random random) {
+        return hashtagName(skewedHashtagIndex(random));
+    }
+
+    private void insertUsers(JdbcTemplate jdbcTemplate) {
+        Timestamp now = Timestamp.valueOf(BASE_TIME);
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < properties.users(); i++) {
+            String username = CREATED_BY + "-" + i;
+            usernames.add(username);
+            rows.add(new Object[]{username, "{noop}" + PASSWORD, username + "@mail.com", "부하" + i, now, username, now, username});
+        }
+        jdbcTemplate.batchUpdate("insert into user_account (user_id, user_password, email, nickname, created_at, created_by, modified_at, modified_by) " +
+                "values (?, ?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    private void insertHashtags(JdbcTemplate jdbcTemplate, long firstHashtagId) {
+        Timestamp now = Timestamp.valueOf(BASE_TIME);
+        Batch batch = new Batch(jdbcTemplate, "insert into hashtag (id, hashtag_name, created_at, created_by, modified_at, modified_by) " +
+                "values (?, ?, ?, ?, ?, ?)");
+        for (int i = 0; i < properties.hashtags(); i++) {
+            batch.add(firstHashtagId + i, hashtagName(i), now, CREATED_BY, now, CREATED_BY);
+        }
+        batch.flush();
+    }
+
+    private long insertArticles(JdbcTemplate jdbcTemplate, long firstHashtagId, long firstArticleHashtagId, int[] commentCounts) {
+        Batch articles = new Batch(jdbcTemplate, "insert into article (id, user_id, title, content, view_count, comment_count, created_at, created_by, modified_at, modified_by) " +
+                "values (?, ?, ?, ?, 0, ?, ?, ?, ?, ?)");
+        Batch articleHashtags = new Batch(jdbcTemplate, "insert into article_hashtag (id, article_id, hashtag_id, created_at, created_by, modified_at, modified_by) " +
+                "values (?, ?, ?, ?, ?, ?, ?)");
+
+        long articleHashtagId = firstArticleHashtagId;
+        for (int i = 0; i < properties.articles(); i++) {
+            long articleId = firstArticleId + i;
+            String userId = usernames.get(random.nextInt(usernames.size()));
+            Timestamp createdAt = Timestamp.valueOf(BASE_TIME.plusSeconds(i * 30L));
+
+            Set<Integer> hashtagIndexes = new LinkedHashSet<>();
+            int hashtagCount = random.nextInt(MAX_HASHTAGS_PER_ARTICLE + 1);
+            while (hashtagIndexes.size() < Math.min(hashtagCount, properties.hashtags())) {
+                hashtagIndexes.add(skewedHashtagIndex(random));
+            }
+
+            articles.add(articleId, userId, "부하 테스트 게시글 " + articleId, content(hashtagIndexes), commentCounts[i], createdAt, userId, createdAt, userId);
+            for (int hashtagIndex : hashtagIndexes) {
+                articleHashtags.add(articleHashtagId++, articleId, firstHashtagId + hashtagIndex, createdAt, userId, createdAt, userId);
+            }
+        }
+        articles.flush();
+        articleHashtags.flush();
+        return articleHashtagId;
+    }
+
+    /**
+     * 게시글마다 첫 댓글과 3할의 댓글은 부모 댓글이고, 나머지는 같은 게시글의 앞선 부모 댓글에 달린 대댓글이다.
+     */
+    private long insertComments(JdbcTemplate jdbcTemplate, long firstCommentId, int[] commentCounts) {
+        Batch comments = new Batch(jdbcTemplate, "insert into article_comment (id, article_id, user_id, parent_comment_id, content, created_at, created_by, modified_at, modified_by) " +
+                "values (?, ?, ?, ?, ?, ?, ?, ?, ?)");
+
+        long commentId = firstCommentId;
+        List<Long> parentIds = new ArrayList<>();
+        for (int i = 0; i < commentCounts.length; i++) {
+            long articleId = firstArticleId + i;
+            LocalDateTime createdAt = BASE_TIME.plusSeconds(i * 30L);
+            parentIds.clear();
+
+            for (int j = 0; j < commentCounts[i]; j++) {
+                Long parentCommentId = null;
+                if (parentIds.isEmpty() || random.nextInt(10) < 3) {
+                    parentIds.add(commentId);
+                } else {
+                    parentCommentId = parentIds.get(random.nextInt(parentIds.size()));
+                }
+                String userId = usernames.get(random.nextInt(usernames.size()));
+                createdAt = createdAt.plusSeconds(1 + random.nextInt(60));
+                Timestamp timestamp = Timestamp.valueOf(createdAt);
+                comments.add(commentId, articleId, userId, parentCommentId, "댓글 " + commentId, timestamp, userId, timestamp, userId);
+                commentId++;
+            }
+        }
+        comments.flush();
+        return commentId;
+    }
+
+    private int[] distributeComments() {
+        int[] commentCounts = new int[properties.articles()];
+        if (commentCounts.length == 0) {
+            return commentCounts;
+        }
+        for (int i = 0; i < properties.comments(); i++) {
+            commentCounts[random.nextInt(commentCounts.length)]++;
+        }
+        return commentCounts;
+    }
+
+    private String content(Set<Integer> hashtagIndexes) {
+        StringBuilder builder = new StringBuilder(320);
+        int words = 30 + random.nextInt(30);
+        for (int i = 0; i < words; i++) {
+            builder.append(WORDS[random.nextInt(WORDS.length)]).append(random.nextInt(10) == 0 ? ". " : " ");
+        }
+        for (int hashtagIndex : hashtagIndexes) {
+            builder.append('#').append(hashtagName(hashtagIndex)).append(' ');
+        }
+        return builder.toString();
+    }
+
+    private int skewedHashtagIndex(Random random) {
+        return (int) (properties.hashtags() * Math.pow(random.nextDouble(), 3));
+    }
+
+    private static String hashtagName(int index) {
+        return "tag" + index;
+    }
+
+    private static long nextIdentity(JdbcTemplate jdbcTemplate, String table) {
+        return jdbcTemplate.queryForObject("select coalesce(max(id), 0) + 1 from " + table, Long.class);
+    }
+
+    private static long nextGeneratedId(JdbcTemplate jdbcTemplate, String segment) {
+        return jdbcTemplate.queryForObject("select next_val from id_generator where id_name = ?", Long.class, segment);
+    }
+
+    private static final class Batch {
+        private final JdbcTemplate jdbcTemplate;
+        private final String sql;
+        private final List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+
+        private Batch(JdbcTemplate jdbcTemplate, String sql) {
+            this.jdbcTemplate = jdbcTemplate;
+            this.sql = sql;
+        }
+
+        private void add(Object... row) {
+            rows.add(row);
+            if (rows.size() == BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate(sql, rows);
+                rows.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package fastcampus.board.loadtest;
+
+import java.util.regex.Pattern;
+
+/**
+ * 부하를 거는 요청 종류. 읽기 요청은 가중치 비율로, 쓰기 요청은 {@link LoadTestProperties#writeRatio()} 안에서 가중치 비율로 고른다.
+ */
+public enum Endpoint {
+    ARTICLES("GET /articles", "GET", "/articles", 30, false),
+    ARTICLE("GET /articles/{id}", "GET", "/articles/\\d+", 40, false),
+    SEARCH_HASHTAG("GET /articles/search-hashtag", "GET", "/articles/search-hashtag", 15, false),
+    API_ARTICLES("GET /api/articles", "GET", "/api/articles", 10, false),
+    API_ARTICLE("GET /api/articles/{id}", "GET", "/api/articles/\\d+", 5, false),
+    POST_ARTICLE("POST /articles/form", "POST", "/articles/form", 1, true),
+    POST_COMMENT("POST /comments/new", "POST", "/comments/new", 4, true);
+
+    private final String label;
+    private final String method;
+    private final Pattern path;
+    private final int weight;
+    private final boolean write;
+
+    Endpoint(String label, String method, String pathRegex, int weight, boolean write) {
+        this.label = label;
+        this.method = method;
+        this.path = Pattern.compile(pathRegex);
+        this.weight = weight;
+        this.write = write;
+    }
+
+    public String label() {
+        return label;
+    }
+
+    public int weight() {
+        return weight;
+    }
+
+    public boolean isWrite() {
+        return write;
+    }
+
+    /**
+     * 서버에서 받은 요청이 어느 종류인지 찾는다. 로그인처럼 부하 대상이 아닌 요청이면 {@code null}
+     */
+    public static Endpoint match(String method, String path) {
+        for (Endpoint endpoint : values()) {
+            if (endpoint.method.equals(method) && endpoint.path.matcher(path).matches()) {
+                return endpoint;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,52 @@
+package fastcampus.board.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 부하 테스트 설정. 모두 {@code -Dloadtest.<이름>=<값>} 시스템 프로퍼티로 바꿀 수 있다.
+ *
+ * @param articles    미리 만들어 둘 게시글 수
+ * @param comments    미리 만들어 둘 댓글 수
+ * @param hashtags    미리 만들어 둘 해시태그 수
+ * @param users       로그인해 요청을 보낼 회원 수. 회원마다 세션을 하나씩 쓴다.
+ * @param rate        초당 요청 수. 응답을 기다리지 않고 이 간격으로 요청을 보낸다(열린 모델).
+ * @param warmup      결과에 넣지 않고 버리는 준비 시간
+ * @param duration    결과를 재는 시간
+ * @param writeRatio  전체 요청 중 게시글/댓글 쓰기 비율
+ * @param seed        데이터 생성과 요청 순서에 쓰는 난수 시드
+ * @param reportDir   결과 파일을 남길 디렉토리
+ */
+public record LoadTestProperties(
+        int articles,
+        int comments,
+        int hashtags,
+        int users,
+        int rate,
+        Duration warmup,
+        Duration duration,
+        double writeRatio,
+        long seed,
+        Path reportDir
+) {
+    private static final String PREFIX = "loadtest.";
+
+    public static LoadTestProperties fromSystemProperties() {
+        return new LoadTestProperties(
+                Integer.parseInt(get("articles", "1000000")),
+                Integer.parseInt(get("comments", "5000000")),
+                Integer.parseInt(get("hashtags", "100000")),
+                Integer.parseInt(get("users", "50")),
+                Integer.parseInt(get("rate", "200")),
+                Duration.ofSeconds(Long.parseLong(get("warmup", "30"))),
+                Duration.ofSeconds(Long.parseLong(get("duration", "120"))),
+                Double.parseDouble(get("write-ratio", "0.05")),
+                Long.parseLong(get("seed", "42")),
+                Path.of(get("report-dir", "build/reports/loadtest"))
+        );
+    }
+
+    private static String get(String name, String defaultValue) {
+        return System.getProperty(PREFIX + name, defaultValue);
+    }
+}
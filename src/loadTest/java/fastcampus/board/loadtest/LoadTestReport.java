@@ -0,0 +1,96 @@
+package fastcampus.board.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 요청 종류별 처리량, 지연 시간 백분위, 요청당 SQL 문 수를 표로 출력하고 파일로 남긴다.
+ * {@code summary.json} 은 배포 전후 비교용이고, {@code <요청 종류>.hgrm} 은 HdrHistogram 도구로 그려 볼 수 있는 지연 분포(ms)이다.
+ */
+public class LoadTestReport {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private final LoadTestProperties properties;
+    private final OpenModelDriver driver;
+
+    public LoadTestReport(LoadTestProperties properties, OpenModelDriver driver) {
+        this.properties = properties;
+        this.driver = driver;
+    }
+
+    public void print(PrintStream out) {
+        out.printf("%-32s %9s %7s %9s %9s %9s %9s %9s %9s %8s%n",
+                "endpoint", "requests", "errors", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)", "sql/req");
+        for (Endpoint endpoint : Endpoint.values()) {
+            Histogram histogram = driver.histogram(endpoint);
+            out.printf(Locale.ROOT, "%-32s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f %8.2f%n",
+                    endpoint.label(),
+                    histogram.getTotalCount(),
+                    driver.errors(endpoint),
+                    throughput(histogram),
+                    millis(histogram.getValueAtPercentile(PERCENTILES[0])),
+                    millis(histogram.getValueAtPercentile(PERCENTILES[1])),
+                    millis(histogram.getValueAtPercentile(PERCENTILES[2])),
+                    millis(histogram.getValueAtPercentile(PERCENTILES[3])),
+                    millis(histogram.getMaxValue()),
+                    SqlStatementCounter.statementsPerRequest(endpoint));
+        }
+    }
+
+    public void write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        List<String> entries = new ArrayList<>();
+        for (Endpoint endpoint : Endpoint.values()) {
+            Histogram histogram = driver.histogram(endpoint);
+            try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve(endpoint.name().toLowerCase(Locale.ROOT) + ".hgrm")))) {
+                histogram.outputPercentileDistribution(out, NANOS_PER_MILLI);
+            }
+            entries.add(String.format(Locale.ROOT,
+                    "    {\"endpoint\": \"%s\", \"requests\": %d, \"errors\": %d, \"throughput\": %.2f, " +
+                            "\"p50Ms\": %.3f, \"p90Ms\": %.3f, \"p99Ms\": %.3f, \"p999Ms\": %.3f, \"maxMs\": %.3f, \"sqlPerRequest\": %.3f}",
+                    endpoint.label(),
+                    histogram.getTotalCount(),
+                    driver.errors(endpoint),
+                    throughput(histogram),
+                    millis(histogram.getValueAtPercentile(PERCENTILES[0])),
+                    millis(histogram.getValueAtPercentile(PERCENTILES[1])),
+                    millis(histogram.getValueAtPercentile(PERCENTILES[2])),
+                    millis(histogram.getValueAtPercentile(PERCENTILES[3])),
+                    millis(histogram.getMaxValue()),
+                    SqlStatementCounter.statementsPerRequest(endpoint)));
+        }
+
+        String summary = String.format(Locale.ROOT,
+                "{%n  \"articles\": %d,%n  \"comments\": %d,%n  \"hashtags\": %d,%n  \"rate\": %d,%n  \"writeRatio\": %.3f,%n" +
+                        "  \"durationSeconds\": %d,%n  \"seed\": %d,%n  \"endpoints\": [%n%s%n  ]%n}%n",
+                properties.articles(),
+                properties.comments(),
+                properties.hashtags(),
+                properties.rate(),
+                properties.writeRatio(),
+                properties.duration().toSeconds(),
+                properties.seed(),
+                String.join(",\n", entries));
+        Files.writeString(directory.resolve("summary.json"), summary);
+    }
+
+    /**
+     * 요청은 측정 시간 동안만 보내므로, 남은 응답을 기다린 시간은 빼고 나눈다.
+     */
+    private double throughput(Histogram histogram) {
+        return histogram.getTotalCount() / (properties.duration().toMillis() / 1000.0);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / NANOS_PER_MILLI;
+    }
+}
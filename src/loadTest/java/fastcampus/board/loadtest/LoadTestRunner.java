@@ -0,0 +1,77 @@
+package fastcampus.board.loadtest;
+
+import fastcampus.board.BoardApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.Ordered;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 게시판을 test 프로필(H2 메모리 DB)로 띄우고, 대량 데이터를 넣은 뒤 읽기/쓰기 섞인 요청을 정해진 도착률로 보낸다.
+ * 준비 시간 동안의 결과는 버리고, 이후 측정 시간의 결과만 남긴다.
+ *
+ * <pre>./gradlew loadTest -Dloadtest.rate=500 -Dloadtest.duration=300</pre>
+ */
+public class LoadTestRunner {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestProperties properties = LoadTestProperties.fromSystemProperties();
+        BulkDataGenerator data = new BulkDataGenerator(properties);
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(BoardApplication.class)
+                .profiles("test")
+                .properties(
+                        "server.port=0",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.org.springframework.web.servlet=info",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=info"
+                )
+                .listeners(data)
+                .initializers(applicationContext -> ((GenericApplicationContext) applicationContext).registerBean(
+                        "sqlStatementCounterFilter",
+                        FilterRegistrationBean.class,
+                        LoadTestRunner::sqlStatementCounterFilter
+                ))
+                .run();
+
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            URI baseUri = URI.create("http://localhost:" + port);
+
+            List<BoardSession> sessions = new ArrayList<>();
+            for (String username : data.usernames()) {
+                sessions.add(BoardSession.login(baseUri, executor, username, BulkDataGenerator.PASSWORD));
+            }
+
+            OpenModelDriver driver = new OpenModelDriver(properties, data, sessions);
+            driver.run(properties.warmup());
+            driver.reset();
+            SqlStatementCounter.reset();
+
+            driver.run(properties.duration());
+
+            LoadTestReport report = new LoadTestReport(properties, driver);
+            report.print(System.out);
+            report.write(properties.reportDir());
+            System.out.println("결과 파일 - " + properties.reportDir().toAbsolutePath());
+        } finally {
+            executor.shutdownNow();
+            context.close();
+        }
+    }
+
+    private static FilterRegistrationBean<SqlStatementCounter.RequestFilter> sqlStatementCounterFilter() {
+        FilterRegistrationBean<SqlStatementCounter.RequestFilter> registration = new FilterRegistrationBean<>(new SqlStatementCounter.RequestFilter());
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
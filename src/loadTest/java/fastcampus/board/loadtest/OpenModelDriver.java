@@ -0,0 +1,151 @@
+package fastcampus.board.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 열린 모델로 요청을 보낸다. 도착 간격은 평균 {@code 1 / rate} 초의 지수 분포이며, 응답을 기다리지 않고 다음 요청을 보낸다.
+ * 지연 시간은 실제로 보낸 시각이 아니라 보내기로 한 시각부터 잰다. 보내는 쪽이 밀려도 그만큼 지연으로 잡히게 하기 위해서이다.
+ */
+public class OpenModelDriver {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(60);
+
+    private final LoadTestProperties properties;
+    private final BulkDataGenerator data;
+    private final List<BoardSession> sessions;
+    private final Random random;
+    private final Map<Endpoint, Histogram> histograms = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, LongAdder> errors = new EnumMap<>(Endpoint.class);
+    private final AtomicLong inFlight = new AtomicLong();
+    private final int readWeight;
+    private final int writeWeight;
+    private int sessionIndex;
+
+    public OpenModelDriver(LoadTestProperties properties, BulkDataGenerator data, List<BoardSession> sessions) {
+        this.properties = properties;
+        this.data = data;
+        this.sessions = sessions;
+        this.random = new Random(properties.seed());
+        for (Endpoint endpoint : Endpoint.values()) {
+            histograms.put(endpoint, new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, 3));
+            errors.put(endpoint, new LongAdder());
+        }
+        this.readWeight = totalWeight(false);
+        this.writeWeight = totalWeight(true);
+    }
+
+    public void run(Duration duration) throws InterruptedException {
+        double meanIntervalNanos = TimeUnit.SECONDS.toNanos(1) / (double) properties.rate();
+        long intendedAt = System.nanoTime();
+        long endAt = intendedAt + duration.toNanos();
+
+        while (intendedAt < endAt) {
+            long now;
+            while ((now = System.nanoTime()) < intendedAt) {
+                LockSupport.parkNanos(intendedAt - now);
+            }
+            send(nextEndpoint(), intendedAt);
+            intendedAt += (long) (-Math.log(1 - random.nextDouble()) * meanIntervalNanos);
+        }
+
+        long drainUntil = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < drainUntil) {
+            Thread.sleep(10);
+        }
+    }
+
+    public void reset() {
+        histograms.values().forEach(Histogram::reset);
+        errors.values().forEach(LongAdder::reset);
+    }
+
+    public Histogram histogram(Endpoint endpoint) {
+        return histograms.get(endpoint);
+    }
+
+    public long errors(Endpoint endpoint) {
+        return errors.get(endpoint).sum();
+    }
+
+    private void send(Endpoint endpoint, long intendedAt) {
+        BoardSession session = sessions.get(sessionIndex++ % sessions.size());
+        inFlight.incrementAndGet();
+        request(session, endpoint).whenComplete((response, e) -> {
+            long latency = System.nanoTime() - intendedAt;
+            if (e == null && isSuccess(endpoint, response)) {
+                histograms.get(endpoint).recordValue(Math.min(latency, HIGHEST_TRACKABLE_NANOS));
+            } else {
+                errors.get(endpoint).increment();
+            }
+            inFlight.decrementAndGet();
+        });
+    }
+
+    private CompletableFuture<HttpResponse<Void>> request(BoardSession session, Endpoint endpoint) {
+        return switch (endpoint) {
+            case ARTICLES -> session.get("/articles?page=" + random.nextInt(10));
+            case ARTICLE -> session.get("/articles/" + data.randomArticleId(random));
+            case SEARCH_HASHTAG -> session.get("/articles/search-hashtag?searchValue=" + data.randomHashtagName(random));
+            case API_ARTICLES -> session.get("/api/articles?page=" + random.nextInt(10));
+            case API_ARTICLE -> session.get("/api/articles/" + data.randomArticleId(random));
+            case POST_ARTICLE -> session.post("/articles/form", Map.of(
+                    "title", "부하 테스트 새 글",
+                    "content", "부하 테스트 중에 쓴 글입니다. #" + data.randomHashtagName(random)
+            ));
+            case POST_COMMENT -> session.post("/comments/new", Map.of(
+                    "articleId", String.valueOf(data.randomArticleId(random)),
+                    "content", "부하 테스트 중에 쓴 댓글입니다."
+            ));
+        };
+    }
+
+    private Endpoint nextEndpoint() {
+        boolean write = random.nextDouble() < properties.writeRatio();
+        int pick = random.nextInt(write ? writeWeight : readWeight);
+        for (Endpoint endpoint : Endpoint.values()) {
+            if (endpoint.isWrite() != write) {
+                continue;
+            }
+            pick -= endpoint.weight();
+            if (pick < 0) {
+                return endpoint;
+            }
+        }
+        throw new IllegalStateException("요청 종류를 고를 수 없습니다.");
+    }
+
+    /**
+     * 쓰기 요청은 성공하면 다른 화면으로 리다이렉트하고, 실패하면 로그인이나 에러 화면으로 보낸다.
+     */
+    private static boolean isSuccess(Endpoint endpoint, HttpResponse<Void> response) {
+        if (!endpoint.isWrite()) {
+            return response.statusCode() == 200;
+        }
+        String location = response.headers().firstValue("Location").orElse("");
+        return response.statusCode() == 302 && !location.contains("login") && !location.contains("error");
+    }
+
+    private static int totalWeight(boolean write) {
+        int total = 0;
+        for (Endpoint endpoint : Endpoint.values()) {
+            if (endpoint.isWrite() == write) {
+                total += endpoint.weight();
+            }
+        }
+        return total;
+    }
+}
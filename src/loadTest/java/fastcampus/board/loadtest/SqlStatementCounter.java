@@ -0,0 +1,66 @@
+package fastcampus.board.loadtest;
+
+import fastcampus.board.util.QueryCounter;
+import fastcampus.board.util.QueryScope;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청 하나가 보낸 SQL 문 수를 요청 종류별로 모은다. 요청마다 {@link QueryCounter} 범위를 열어 센다.
+ * 요청 스레드 밖(조회수 반영 등 백그라운드 작업)에서 보낸 SQL 은 세지 않는다.
+ */
+public final class SqlStatementCounter {
+
+    private static final Map<Endpoint, LongAdder> STATEMENTS = new EnumMap<>(Endpoint.class);
+    private static final Map<Endpoint, LongAdder> REQUESTS = new EnumMap<>(Endpoint.class);
+
+    static {
+        for (Endpoint endpoint : Endpoint.values()) {
+            STATEMENTS.put(endpoint, new LongAdder());
+            REQUESTS.put(endpoint, new LongAdder());
+        }
+    }
+
+    private SqlStatementCounter() {
+    }
+
+    public static double statementsPerRequest(Endpoint endpoint) {
+        long requests = REQUESTS.get(endpoint).sum();
+        return requests == 0 ? 0 : (double) STATEMENTS.get(endpoint).sum() / requests;
+    }
+
+    public static void reset() {
+        STATEMENTS.values().forEach(LongAdder::reset);
+        REQUESTS.values().forEach(LongAdder::reset);
+    }
+
+    public static class RequestFilter extends OncePerRequestFilter {
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+                throws ServletException, IOException {
+            Endpoint endpoint = Endpoint.match(request.getMethod(), request.getRequestURI());
+            if (endpoint == null) {
+                filterChain.doFilter(request, response);
+                return;
+            }
+
+            QueryScope scope = QueryCounter.open(endpoint.label());
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                scope.close();
+                STATEMENTS.get(endpoint).add(scope.getStatements());
+                REQUESTS.get(endpoint).increment();
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package fastcampus.board.config;
+
+import org.slf4j.MDC;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * 요청을 처리하는 컨트롤러 메서드를 MDC 에 넣어, 요청 중에 남긴 로그(느린 SQL 등)가 어느 화면/API 에서 나왔는지 알 수 있게 한다.
+ */
+public class HandlerMdcInterceptor implements HandlerInterceptor {
+
+    public static final String HANDLER = "handler";
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            MDC.put(HANDLER, handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        MDC.remove(HANDLER);
+    }
+}
@@ -0,0 +1,43 @@
+package fastcampus.board.config;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+
+@Configuration
+public class LoggingConfig implements WebMvcConfigurer {
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerMdcInterceptor());
+    }
+
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("board.db.sql-log")
+    public static class SqlLogProperties {
+        /**
+         * SQL 을 이 수마다 하나꼴로 무작위로 골라 남긴다. {@code 0} 이면 남기지 않는다.
+         */
+        private final int sampleRate;
+
+        /**
+         * 이보다 오래 걸린 SQL 은 요청을 처리한 컨트롤러 메서드와 함께 경고로 남긴다. {@code 0} 이면 남기지 않는다.
+         */
+        private final Duration slowThreshold;
+
+        public SqlLogProperties(
+                @DefaultValue("0") int sampleRate,
+                @DefaultValue("1s") Duration slowThreshold
+        ) {
+            this.sampleRate = sampleRate;
+            this.slowThreshold = slowThreshold;
+        }
+    }
+}
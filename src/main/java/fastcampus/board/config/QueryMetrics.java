@@ -0,0 +1,86 @@
+package fastcampus.board.config;
+
+import fastcampus.board.config.QueryMetricsConfig.QueryMetricsProperties;
+import fastcampus.board.util.QueryScope;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청이나 서비스 메서드 하나가 실행한 SQL 의 수, 읽거나 바꾼 행 수, 실행 시간을 {@code scope}(request, method)와
+ * {@code name}(요청 URI 패턴, 클래스.메서드) 태그로 남긴다. 같은 SQL 을 여러 번 실행했으면 N+1 로 보고 경고를 남긴다.
+ * 미터는 {@code (scope, name)} 마다 처음 기록할 때 한 번만 등록해 두고 재사용한다.
+ */
+@Slf4j
+public class QueryMetrics {
+
+    public static final String REQUEST = "request";
+    public static final String METHOD = "method";
+
+    private final MeterRegistry registry;
+    private final int nPlusOneThreshold;
+    private final Map<String, ScopeMeters> requestMeters = new ConcurrentHashMap<>();
+    private final Map<String, ScopeMeters> methodMeters = new ConcurrentHashMap<>();
+
+    public QueryMetrics(MeterRegistry registry, QueryMetricsProperties properties) {
+        this.registry = registry;
+        this.nPlusOneThreshold = properties.getNPlusOneThreshold();
+    }
+
+    public void record(String scopeType, String name, QueryScope scope) {
+        ScopeMeters meters = metersOf(scopeType, name);
+        meters.statements().record(scope.getStatements());
+        meters.rows().record(scope.getRows());
+        meters.time().record(scope.getElapsedNanos(), TimeUnit.NANOSECONDS);
+
+        if (scope.getStatements() < nPlusOneThreshold) {
+            return;
+        }
+        Map<String, Integer> repeated = scope.getRepeatedStatements(nPlusOneThreshold);
+        if (!repeated.isEmpty()) {
+            meters.nPlusOne().increment();
+            repeated.forEach((sql, count) -> log.warn("N+1 의심 - {} {}: {}회 실행 - {}", scopeType, name, count, sql));
+        }
+    }
+
+    private ScopeMeters metersOf(String scopeType, String name) {
+        Map<String, ScopeMeters> metersByName = REQUEST.equals(scopeType) ? requestMeters : methodMeters;
+        ScopeMeters meters = metersByName.get(name);
+        if (meters == null) {
+            meters = metersByName.computeIfAbsent(name, key -> register(scopeType, key));
+        }
+        return meters;
+    }
+
+    private ScopeMeters register(String scopeType, String name) {
+        Tags tags = Tags.of("scope", scopeType, "name", name);
+        return new ScopeMeters(
+                DistributionSummary.builder("board.db.statements")
+                        .description("요청/메서드 하나가 실행한 SQL 수")
+                        .tags(tags)
+                        .register(registry),
+                DistributionSummary.builder("board.db.rows")
+                        .description("요청/메서드 하나가 읽거나 바꾼 행 수")
+                        .tags(tags)
+                        .register(registry),
+                Timer.builder("board.db.time")
+                        .description("요청/메서드 하나의 SQL 실행 시간 합")
+                        .tags(tags)
+                        .register(registry),
+                Counter.builder("board.db.n-plus-one")
+                        .description("같은 SQL 을 반복 실행한 요청/메서드 수")
+                        .tags(tags)
+                        .register(registry)
+        );
+    }
+
+    private record ScopeMeters(DistributionSummary statements, DistributionSummary rows, Timer time, Counter nPlusOne) {
+    }
+}
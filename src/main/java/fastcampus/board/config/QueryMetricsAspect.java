@@ -0,0 +1,52 @@
+package fastcampus.board.config;
+
+import fastcampus.board.util.QueryCounter;
+import fastcampus.board.util.QueryScope;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서비스 메서드 하나가 실행한 SQL 을 센다. 커밋할 때 나가는 SQL 까지 세도록 트랜잭션 경계보다 바깥에서 감싼다.
+ * 지표 이름({@code 클래스.메서드})은 메서드마다 한 번만 만든다.
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class QueryMetricsAspect {
+
+    private final QueryMetrics queryMetrics;
+    private final Map<Method, String> names = new ConcurrentHashMap<>();
+
+    public QueryMetricsAspect(QueryMetrics queryMetrics) {
+        this.queryMetrics = queryMetrics;
+    }
+
+    @Around("@within(org.springframework.stereotype.Service)")
+    public Object count(ProceedingJoinPoint joinPoint) throws Throwable {
+        String name = nameOf((MethodSignature) joinPoint.getSignature());
+
+        QueryScope scope = QueryCounter.open(name);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            scope.close();
+            queryMetrics.record(QueryMetrics.METHOD, name, scope);
+        }
+    }
+
+    private String nameOf(MethodSignature signature) {
+        Method method = signature.getMethod();
+        String name = names.get(method);
+        if (name == null) {
+            name = names.computeIfAbsent(method, key -> key.getDeclaringClass().getSimpleName() + "." + key.getName());
+        }
+        return name;
+    }
+}
@@ -0,0 +1,147 @@
+package fastcampus.board.config;
+
+import fastcampus.board.config.LoggingConfig.SqlLogProperties;
+import fastcampus.board.util.QueryCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 데이터소스를 프록시로 감싸 요청/서비스 메서드마다 실행한 SQL 을 센다.
+ * JPA 뿐 아니라 JdbcTemplate 으로 보낸 SQL 도 센다. 읽은 행 수는 {@link ResultSet#next()} 가 참을 돌려준 횟수로 센다.
+ * 느린 SQL 과 표본 SQL 은 {@link SqlLogListener} 가 남긴다.
+ */
+@Configuration
+public class QueryMetricsConfig {
+
+    private static final String STARTED_AT = "queryStartedAt";
+
+    @Bean
+    public static BeanPostProcessor queryCountingDataSourcePostProcessor(ObjectProvider<SqlLogProperties> sqlLogProperties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+                    return bean;
+                }
+                return ProxyDataSourceBuilder.create(beanName, dataSource)
+                        .listener(new QueryCountingListener())
+                        .listener(new SqlLogListener(sqlLogProperties.getObject()))
+                        .proxyResultSet()
+                        .methodListener(new RowCountingListener())
+                        .build();
+            }
+        };
+    }
+
+    @Bean
+    public QueryMetrics queryMetrics(MeterRegistry registry, QueryMetricsProperties properties) {
+        return new QueryMetrics(registry, properties);
+    }
+
+    @Bean
+    public FilterRegistrationBean<QueryMetricsFilter> queryMetricsFilter(QueryMetrics queryMetrics) {
+        FilterRegistrationBean<QueryMetricsFilter> registration = new FilterRegistrationBean<>(new QueryMetricsFilter(queryMetrics));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Bean
+    public QueryMetricsAspect queryMetricsAspect(QueryMetrics queryMetrics) {
+        return new QueryMetricsAspect(queryMetrics);
+    }
+
+    private static class QueryCountingListener implements QueryExecutionListener {
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            if (QueryCounter.isActive()) {
+                execInfo.addCustomValue(STARTED_AT, System.nanoTime());
+            }
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            Long startedAt = execInfo.getCustomValue(STARTED_AT, Long.class);
+            if (startedAt == null) {
+                return;
+            }
+
+            String sql = queryInfoList.size() == 1
+                    ? queryInfoList.get(0).getQuery()
+                    : queryInfoList.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; "));
+            QueryCounter.recordStatement(sql, System.nanoTime() - startedAt);
+            QueryCounter.recordRows(updatedRows(execInfo.getResult()));
+        }
+
+        private static long updatedRows(Object result) {
+            if (result instanceof Integer count) {
+                return Math.max(count, 0);
+            }
+            if (result instanceof Long count) {
+                return Math.max(count, 0);
+            }
+            if (result instanceof int[] counts) {
+                long sum = 0;
+                for (int count : counts) {
+                    sum += Math.max(count, 0);
+                }
+                return sum;
+            }
+            return 0;
+        }
+    }
+
+    private static class RowCountingListener implements MethodExecutionListener {
+
+        @Override
+        public void beforeMethod(MethodExecutionContext executionContext) {
+        }
+
+        @Override
+        public void afterMethod(MethodExecutionContext executionContext) {
+            if (executionContext.getTarget() instanceof ResultSet
+                    && Boolean.TRUE.equals(executionContext.getResult())
+                    && "next".equals(executionContext.getMethod().getName())
+                    && QueryCounter.isActive()) {
+                QueryCounter.recordRows(1);
+            }
+        }
+    }
+
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("board.db.query-metrics")
+    public static class QueryMetricsProperties {
+        /**
+         * 요청이나 서비스 메서드 하나에서 같은 SQL 을 이만큼 실행하면 N+1 로 보고 경고한다.
+         */
+        private final int nPlusOneThreshold;
+
+        public QueryMetricsProperties(
+                @DefaultValue("10") int nPlusOneThreshold
+        ) {
+            this.nPlusOneThreshold = nPlusOneThreshold;
+        }
+    }
+}
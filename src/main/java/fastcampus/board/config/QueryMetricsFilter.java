@@ -0,0 +1,43 @@
+package fastcampus.board.config;
+
+import fastcampus.board.util.QueryCounter;
+import fastcampus.board.util.QueryScope;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * HTTP 요청 하나가 실행한 SQL 을 센다. 태그에는 요청 URI 대신 매핑된 URI 패턴을 써서, 게시글 ID 마다 지표가 생기지 않게 한다.
+ */
+public class QueryMetricsFilter extends OncePerRequestFilter {
+
+    private static final String UNMAPPED = "UNMAPPED";
+
+    private final QueryMetrics queryMetrics;
+
+    public QueryMetricsFilter(QueryMetrics queryMetrics) {
+        this.queryMetrics = queryMetrics;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryScope scope = QueryCounter.open(request.getRequestURI());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            scope.close();
+            queryMetrics.record(QueryMetrics.REQUEST, request.getMethod() + " " + uriPattern(request), scope);
+        }
+    }
+
+    private static String uriPattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? UNMAPPED : pattern.toString();
+    }
+}
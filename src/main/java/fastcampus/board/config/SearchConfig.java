@@ -0,0 +1,76 @@
+package fastcampus.board.config;
+
+import fastcampus.board.service.search.analysis.Analyzer;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.text.Normalizer;
+import java.time.Duration;
+
+@Configuration
+public class SearchConfig {
+
+    @Bean
+    public Analyzer searchAnalyzer(SearchAnalyzerProperties searchAnalyzerProperties) {
+        return Analyzer.builder()
+                .normalization(Normalizer.Form.NFKC)
+                .hangulNGram(searchAnalyzerProperties.getHangulMinGram(), searchAnalyzerProperties.getHangulMaxGram())
+                .lowerCase()
+                .asciiFolding()
+                .build();
+    }
+
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("board.search.analyzer")
+    public static class SearchAnalyzerProperties {
+        /**
+         * 한글 n-gram 최소 길이
+         */
+        private final int hangulMinGram;
+
+        /**
+         * 한글 n-gram 최대 길이
+         */
+        private final int hangulMaxGram;
+
+        public SearchAnalyzerProperties(@DefaultValue("2") int hangulMinGram, @DefaultValue("3") int hangulMaxGram) {
+            this.hangulMinGram = hangulMinGram;
+            this.hangulMaxGram = hangulMaxGram;
+        }
+    }
+
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("board.search.count")
+    public static class SearchCountProperties {
+        /**
+         * 검색 결과 개수 캐시 유지 시간
+         */
+        private final Duration ttl;
+
+        /**
+         * 검색 결과 개수 캐시 최대 항목 수
+         */
+        private final long maximumSize;
+
+        /**
+         * 0 보다 크면, 현재 페이지 이후 이 페이지 수만큼까지만 세는 추정 모드로 동작한다. 페이징 바를 채우는 데 더 필요하면 그만큼은 센다.
+         */
+        private final int estimatePages;
+
+        public SearchCountProperties(
+                @DefaultValue("30s") Duration ttl,
+                @DefaultValue("10000") long maximumSize,
+                @DefaultValue("0") int estimatePages
+        ) {
+            this.ttl = ttl;
+            this.maximumSize = maximumSize;
+            this.estimatePages = estimatePages;
+        }
+    }
+}
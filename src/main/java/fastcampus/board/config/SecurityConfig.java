@@ -1,9 +1,12 @@
 package fastcampus.board.config;
 
-import fastcampus.board.dto.security.BoardPrincipal;
-import fastcampus.board.dto.security.KakaoOAuth2Response;
+import fastcampus.board.service.OAuth2UserProvisioner;
 import fastcampus.board.service.UserAccountService;
+import lombok.Getter;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -12,13 +15,12 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.factory.PasswordEncoderFactories;
 import org.springframework.security.crypto.password.PasswordEncoder;
-import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserService;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.security.web.SecurityFilterChain;
 
-import java.util.UUID;
+import java.time.Duration;
 
 import static org.springframework.security.config.Customizer.withDefaults;
 
@@ -54,41 +56,15 @@ public class SecurityConfig {
     @Bean
     public UserDetailsService userDetailsService(UserAccountService userAccountService) {
         return username -> userAccountService
-                .searchUser(username)
-                .map(BoardPrincipal::from)
+                .searchPrincipal(username)
                 .orElseThrow(() -> new UsernameNotFoundException("유저를 찾을 수 없습니다 - username: " + username));
     }
 
     @Bean
     public OAuth2UserService<OAuth2UserRequest, OAuth2User> oAuth2UserService(
-            UserAccountService userAccountService,
-            PasswordEncoder passwordEncoder
+            OAuth2UserProvisioner oAuth2UserProvisioner
     ) {
-
-        final DefaultOAuth2UserService delegate = new DefaultOAuth2UserService();
-
-        return userRequest -> {
-            OAuth2User oAuth2User = delegate.loadUser(userRequest);
-
-            KakaoOAuth2Response kakaoResponse = KakaoOAuth2Response.from(oAuth2User.getAttributes());
-            String registrationId = userRequest.getClientRegistration().getRegistrationId();
-            String providerId = String.valueOf(kakaoResponse.id());
-            String username = registrationId + "_" + providerId;
-            String dummyPassword = passwordEncoder.encode("{bcrypt}" + UUID.randomUUID());
-
-            return userAccountService.searchUser(username)
-                    .map(BoardPrincipal::from)
-                    .orElseGet(() ->
-                            BoardPrincipal.from(
-                                    userAccountService.saveUser(
-                                            username,
-                                            dummyPassword,
-                                            kakaoResponse.email(),
-                                            kakaoResponse.nickname(),
-                                            null
-                                    ))
-                    );
-        };
+        return oAuth2UserProvisioner::loadPrincipal;
     }
 
     @Bean
@@ -96,4 +72,56 @@ public class SecurityConfig {
         return PasswordEncoderFactories.createDelegatingPasswordEncoder();
     }
 
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("board.security.principal-cache")
+    public static class PrincipalCacheProperties {
+        /**
+         * 캐시에 둘 로그인 사용자 수
+         */
+        private final long maximumSize;
+
+        /**
+         * 캐시에 넣은 뒤 DB 에서 다시 읽기까지의 시간. 서비스를 거치지 않은 회원 정보 변경은 이 시간 안에 반영된다.
+         */
+        private final Duration expireAfterWrite;
+
+        public PrincipalCacheProperties(
+                @DefaultValue("10000") long maximumSize,
+                @DefaultValue("5m") Duration expireAfterWrite
+        ) {
+            this.maximumSize = maximumSize;
+            this.expireAfterWrite = expireAfterWrite;
+        }
+    }
+
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("board.security.oauth2-provisioning")
+    public static class OAuth2ProvisioningProperties {
+        /**
+         * 처음 로그인한 카카오 사용자를 가입시키는 스레드 수. 비밀번호 해싱이 동시에 쓰는 코어 수의 상한이다.
+         */
+        private final int threads;
+
+        /**
+         * 가입을 기다릴 수 있는 로그인 수. 넘치면 로그인이 실패한다.
+         */
+        private final int queueCapacity;
+
+        /**
+         * 로그인 요청이 가입 완료를 기다리는 최대 시간
+         */
+        private final Duration timeout;
+
+        public OAuth2ProvisioningProperties(
+                @DefaultValue("2") int threads,
+                @DefaultValue("100") int queueCapacity,
+                @DefaultValue("10s") Duration timeout
+        ) {
+            this.threads = threads;
+            this.queueCapacity = queueCapacity;
+            this.timeout = timeout;
+        }
+    }
 }
@@ -0,0 +1,57 @@
+package fastcampus.board.config;
+
+import fastcampus.board.config.LoggingConfig.SqlLogProperties;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.slf4j.MDC;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * 바인딩 값을 빼고 SQL 일부만 {@code board.sql} 로거에 남긴다. 느린 SQL 은 모두, 나머지는 {@code sampleRate} 개 중 하나꼴로 남긴다.
+ * 어느 요청에서 나갔는지 알 수 있도록 {@link HandlerMdcInterceptor} 가 넣어 둔 컨트롤러 메서드를 함께 남긴다.
+ */
+@Slf4j(topic = "board.sql")
+public class SqlLogListener implements QueryExecutionListener {
+
+    private static final String NO_HANDLER = "-";
+
+    private final int sampleRate;
+    private final long slowThresholdMillis;
+
+    public SqlLogListener(SqlLogProperties properties) {
+        this.sampleRate = properties.getSampleRate();
+        this.slowThresholdMillis = properties.getSlowThreshold().toMillis();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long elapsedMillis = execInfo.getElapsedTime();
+        if (slowThresholdMillis > 0 && elapsedMillis >= slowThresholdMillis) {
+            if (log.isWarnEnabled()) {
+                log.warn("느린 SQL {}ms - {} - {}", elapsedMillis, handler(), sql(queryInfoList));
+            }
+        } else if (sampleRate > 0 && log.isInfoEnabled() && ThreadLocalRandom.current().nextInt(sampleRate) == 0) {
+            log.info("SQL {}ms - {} - {}", elapsedMillis, handler(), sql(queryInfoList));
+        }
+    }
+
+    private static String handler() {
+        String handler = MDC.get(HandlerMdcInterceptor.HANDLER);
+        return handler == null ? NO_HANDLER : handler;
+    }
+
+    private static String sql(List<QueryInfo> queryInfoList) {
+        return queryInfoList.size() == 1
+                ? queryInfoList.get(0).getQuery()
+                : queryInfoList.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; "));
+    }
+}
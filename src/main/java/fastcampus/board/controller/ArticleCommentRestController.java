@@ -0,0 +1,70 @@
+package fastcampus.board.controller;
+
+import fastcampus.board.dto.ArticleCommentDto;
+import fastcampus.board.dto.CursorPage;
+import fastcampus.board.dto.InvalidCursorException;
+import fastcampus.board.dto.response.ArticleCommentResponse;
+import fastcampus.board.service.ArticleCommentService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.rest.webmvc.RepositoryRestController;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.util.function.Supplier;
+
+/**
+ * /api/articles/{article-id}/comments
+ * /api/articles/{article-id}/comments/{parent-comment-id}/replies
+ * <p>
+ * 게시글의 댓글 연관 리소스는 전체를 한 번에 내려주므로, 부모 댓글과 대댓글을 커서 기반으로 나눠 조회하는 경로를 따로 둔다.
+ */
+@RequiredArgsConstructor
+@RepositoryRestController
+public class ArticleCommentRestController {
+
+    private final ArticleCommentService articleCommentService;
+
+    @GetMapping("/articles/{articleId}/comments")
+    public ResponseEntity<CollectionModel<ArticleCommentResponse>> parentComments(
+            @PathVariable Long articleId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return toResponse(() -> articleCommentService.getParentComments(articleId, cursor, size));
+    }
+
+    @GetMapping("/articles/{articleId}/comments/{parentCommentId}/replies")
+    public ResponseEntity<CollectionModel<ArticleCommentResponse>> childComments(
+            @PathVariable Long articleId,
+            @PathVariable Long parentCommentId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return toResponse(() -> articleCommentService.getChildComments(articleId, parentCommentId, cursor, size));
+    }
+
+    private static ResponseEntity<CollectionModel<ArticleCommentResponse>> toResponse(Supplier<CursorPage<ArticleCommentDto>> query) {
+        CursorPage<ArticleCommentResponse> comments;
+        try {
+            comments = query.get().map(ArticleCommentResponse::from);
+        } catch (InvalidCursorException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        CollectionModel<ArticleCommentResponse> body = CollectionModel.of(comments.content(),
+                Link.of(ServletUriComponentsBuilder.fromCurrentRequest().toUriString()).withSelfRel());
+        if (comments.hasNext()) {
+            body.add(Link.of(ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("cursor", comments.nextCursor())
+                    .toUriString(), IanaLinkRelations.NEXT));
+        }
+
+        return ResponseEntity.ok(body);
+    }
+}
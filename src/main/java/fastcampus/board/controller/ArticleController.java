@@ -1,32 +1,48 @@
 package fastcampus.board.controller;
 
 import fastcampus.board.domain.constant.FormStatus;
+import fastcampus.board.domain.constant.HashtagMatchMode;
+import fastcampus.board.domain.constant.HashtagRankType;
 import fastcampus.board.domain.constant.SearchType;
+import fastcampus.board.dto.ArticleCommentPageDto;
+import fastcampus.board.dto.ArticleDto;
+import fastcampus.board.dto.CursorPage;
+import fastcampus.board.dto.HashtagPopularityDto;
+import fastcampus.board.dto.InvalidCursorException;
 import fastcampus.board.dto.request.ArticleRequest;
 import fastcampus.board.dto.security.BoardPrincipal;
+import fastcampus.board.dto.response.ArticleCommentResponse;
+import fastcampus.board.dto.response.ArticleListResponse;
 import fastcampus.board.dto.response.ArticleResponse;
 import fastcampus.board.dto.response.ArticleWithCommentsResponse;
+import fastcampus.board.service.ArticleCommentService;
 import fastcampus.board.service.ArticleService;
 import fastcampus.board.service.HashtagService;
 import fastcampus.board.service.PaginationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.ModelMap;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
  * /articles
+ * /articles?cursor={cursor}
  * /articles/{article--id}
+ * /articles/{article--id}?commentCursor={cursor}&replyOf={parent-comment-id}&replyCursor={cursor}
  * /articles/search
  * /articles/search/hashtag
  */
@@ -36,7 +52,12 @@ import java.util.stream.Stream;
 @Controller
 public class ArticleController {
 
+    private static final int TAG_CLOUD_SIZE = 50;
+    private static final int COMMENT_PAGE_SIZE = 20;
+    private static final int REPLY_PAGE_SIZE = 20;
+
     private final ArticleService articleService;
+    private final ArticleCommentService articleCommentService;
     private final PaginationService paginationService;
     private final HashtagService hashtagService;
 
@@ -44,10 +65,11 @@ public class ArticleController {
     public String articles(
             @RequestParam(required = false) SearchType searchType,
             @RequestParam(required = false) String searchValue,
+            @RequestParam(required = false) HashtagMatchMode hashtagMatchMode,
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
             ModelMap model
     ) {
-        Page<ArticleResponse> articles = articleService.searchArticles(searchType, searchValue, pageable).map(ArticleResponse::from);
+        Page<ArticleListResponse> articles = articleService.searchArticles(searchType, searchValue, hashtagMatchMode, pageable).map(ArticleListResponse::from);
         List<Integer> barNumbers = paginationService.getPaginationBarNumbers(pageable.getPageNumber(), articles.getTotalPages());
         model.addAttribute("articles", articles);
         model.addAttribute("paginationBarNumbers", barNumbers);
@@ -56,11 +78,51 @@ public class ArticleController {
         return "articles/index";
     }
 
+    /**
+     * 커서 기반 게시글 리스트. 첫 페이지는 빈 커서({@code ?cursor=})로 요청한다.
+     */
+    @GetMapping(params = "cursor")
+    public String articlesByCursor(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            ModelMap model
+    ) {
+        CursorPage<ArticleListResponse> articles = withCursor(() -> articleService.getArticlesByCursor(cursor, size))
+                .map(ArticleListResponse::from);
+        model.addAttribute("articles", articles);
+        model.addAttribute("searchTypeHashtag", SearchType.HASHTAG);
+        return "articles/index-cursor";
+    }
+
+    /**
+     * 댓글은 부모 댓글 한 페이지만 조회하고, 대댓글은 개수만 보여준다. 대댓글 목록은 {@code replyOf} 로 펼친 부모 댓글 하나에 대해서만 조회한다.
+     */
     @GetMapping("/{articleId}")
-    public String article(@PathVariable Long articleId, ModelMap model) {
-        ArticleWithCommentsResponse article = ArticleWithCommentsResponse.from(articleService.getArticleWithComments(articleId));
+    public String article(
+            @PathVariable Long articleId,
+            @RequestParam(required = false) String commentCursor,
+            @RequestParam(required = false) Long replyOf,
+            @RequestParam(required = false) String replyCursor,
+            ModelMap model
+    ) {
+        ArticleDto articleDto = articleService.getArticle(articleId);
+        ArticleCommentPageDto commentPage = withCursor(() -> articleCommentService.getParentCommentPage(articleId, commentCursor, COMMENT_PAGE_SIZE));
+        CursorPage<ArticleCommentResponse> articleComments = commentPage.parentComments().map(ArticleCommentResponse::from);
+        ArticleWithCommentsResponse article = ArticleWithCommentsResponse.from(articleDto, articleComments.content());
+
         model.addAttribute("article", article);
         model.addAttribute("articleComments", article.articleCommentsResponse());
+        model.addAttribute("commentNextCursor", articleComments.nextCursor());
+        model.addAttribute("childCommentCounts", commentPage.childCommentCounts());
+        if (replyOf != null && commentPage.childCommentCounts().containsKey(replyOf)) {
+            CursorPage<ArticleCommentResponse> replies = withCursor(() -> articleCommentService.getChildComments(articleId, replyOf, replyCursor, REPLY_PAGE_SIZE))
+                    .map(ArticleCommentResponse::from);
+            model.addAttribute("replyOf", replyOf);
+            model.addAttribute("replies", replies.content());
+            model.addAttribute("replyNextCursor", replies.nextCursor());
+        }
+        // 커서가 잘못된 요청(400)은 조회수에 넣지 않도록, 커서를 쓰는 조회가 끝난 뒤에 센다.
+        articleService.increaseViewCount(articleId);
         model.addAttribute("totalCount", articleService.getArticleCount());
         model.addAttribute("searchTypeHashtag", SearchType.HASHTAG);
         return "articles/detail";
@@ -72,9 +134,11 @@ public class ArticleController {
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
             ModelMap model
     ) {
-        Page<ArticleResponse> articles = articleService.searchArticlesViaHashtag(searchValue, pageable).map(ArticleResponse::from);
+        Page<ArticleListResponse> articles = articleService.searchArticlesViaHashtag(searchValue, pageable).map(ArticleListResponse::from);
         List<Integer> barNumbers = paginationService.getPaginationBarNumbers(pageable.getPageNumber(), articles.getTotalPages());
-        List<String> hashtags = hashtagService.getHashtags();
+        List<String> hashtags = hashtagService.getPopularHashtags(HashtagRankType.TRENDING, PageRequest.of(0, TAG_CLOUD_SIZE))
+                .map(HashtagPopularityDto::hashtagName)
+                .getContent();
 
         model.addAttribute("articles", articles);
         model.addAttribute("hashtags", hashtags);
@@ -123,4 +187,15 @@ public class ArticleController {
 
         return "redirect:/articles";
     }
+
+    /**
+     * 커서를 풀 수 없으면 500 대신 400 으로 응답한다. 다른 예외는 그대로 던진다.
+     */
+    private static <T> T withCursor(Supplier<T> query) {
+        try {
+            return query.get();
+        } catch (InvalidCursorException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 커서입니다.", e);
+        }
+    }
 }
@@ -0,0 +1,50 @@
+package fastcampus.board.controller;
+
+import fastcampus.board.dto.CursorPage;
+import fastcampus.board.dto.InvalidCursorException;
+import fastcampus.board.dto.response.ArticleListResponse;
+import fastcampus.board.service.ArticleService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.rest.webmvc.RepositoryRestController;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+/**
+ * /api/articles/search/cursor
+ * <p>
+ * Data REST 는 커스텀 리포지토리 메서드를 노출하지 않으므로, 커서 기반 목록은 별도로 매핑한다.
+ */
+@RequiredArgsConstructor
+@RepositoryRestController
+public class ArticleCursorRestController {
+
+    private final ArticleService articleService;
+
+    @GetMapping("/articles/search/cursor")
+    public ResponseEntity<CollectionModel<ArticleListResponse>> articlesByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        CursorPage<ArticleListResponse> articles;
+        try {
+            articles = articleService.getArticlesByCursor(cursor, size).map(ArticleListResponse::from);
+        } catch (InvalidCursorException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        CollectionModel<ArticleListResponse> body = CollectionModel.of(articles.content(),
+                Link.of(ServletUriComponentsBuilder.fromCurrentRequest().toUriString()).withSelfRel());
+        if (articles.hasNext()) {
+            body.add(Link.of(ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("cursor", articles.nextCursor())
+                    .toUriString(), IanaLinkRelations.NEXT));
+        }
+
+        return ResponseEntity.ok(body);
+    }
+}
@@ -0,0 +1,47 @@
+package fastcampus.board.controller;
+
+import fastcampus.board.domain.constant.HashtagRankType;
+import fastcampus.board.dto.HashtagPopularityDto;
+import fastcampus.board.service.HashtagService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.rest.webmvc.RepositoryRestController;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+/**
+ * /api/hashtags/search/popular
+ * <p>
+ * 메모리에 집계된 해시태그 인기 순위를 페이지 단위로 노출한다. 해시태그 테이블은 읽지 않는다.
+ */
+@RequiredArgsConstructor
+@RepositoryRestController
+public class HashtagPopularityRestController {
+
+    private final HashtagService hashtagService;
+
+    @GetMapping("/hashtags/search/popular")
+    public ResponseEntity<CollectionModel<HashtagPopularityDto>> popularHashtags(
+            @RequestParam(defaultValue = "TRENDING") HashtagRankType rankType,
+            @PageableDefault(size = 20) Pageable pageable
+    ) {
+        Page<HashtagPopularityDto> hashtags = hashtagService.getPopularHashtags(rankType, pageable);
+
+        CollectionModel<HashtagPopularityDto> body = CollectionModel.of(hashtags.getContent(),
+                Link.of(ServletUriComponentsBuilder.fromCurrentRequest().toUriString()).withSelfRel());
+        if (hashtags.hasNext()) {
+            body.add(Link.of(ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("page", hashtags.getNumber() + 1)
+                    .toUriString(), IanaLinkRelations.NEXT));
+        }
+
+        return ResponseEntity.ok(body);
+    }
+}
@@ -1,6 +1,7 @@
 package fastcampus.board.domain;
 
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import javax.persistence.*;
 import java.util.LinkedHashSet;
@@ -12,8 +13,10 @@ import java.util.Set;
 @ToString(callSuper = true)
 @Table(indexes = {
         @Index(columnList = "title"),
-        @Index(columnList = "createdAt"),
-        @Index(columnList = "createdBy")
+        @Index(columnList = "createdAt, id"),
+        @Index(columnList = "createdBy"),
+        @Index(columnList = "viewCount"),
+        @Index(columnList = "commentCount")
 })
 @Entity
 public class Article extends AuditingFields{
@@ -25,9 +28,11 @@ public class Article extends AuditingFields{
     @Setter @ManyToOne(optional = false) @JoinColumn(name = "userId") private UserAccount userAccount; // 유저 정보 (ID)
     @Setter @Column(nullable = false, length = 255) private String title;
     @Setter @Column(nullable = false, length = 10000) private String content;
+    @ColumnDefault("0") @Column(nullable = false, updatable = false) private long viewCount; // 조회수. 메모리에 모아 두었다가 주기적으로 JDBC 로만 더한다.
+    @ColumnDefault("0") @Column(nullable = false, updatable = false) private long commentCount; // 댓글 수. 댓글을 쓰고 지울 때 벌크 UPDATE 로만 더하고 뺀다.
 
     @ToString.Exclude
-    @OrderBy("createdAt DESC")
+    @OrderBy("createdAt ASC, id ASC")
     @OneToMany(mappedBy = "article", cascade = CascadeType.ALL)
     private final Set<ArticleComment> articleComments = new LinkedHashSet<>();
 
@@ -4,6 +4,8 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 
 import javax.persistence.*;
 
@@ -13,13 +15,28 @@ import static javax.persistence.CascadeType.PERSIST;
 
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
-@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"articleId", "hashtagId"}))
+@Table(
+        indexes = @Index(columnList = "hashtagId, articleId"),
+        uniqueConstraints = @UniqueConstraint(columnNames = {"articleId", "hashtagId"})
+)
 @ToString(callSuper = true)
 @Entity
 public class ArticleHashtag extends AuditingFields{
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "article_hashtag_id")
+    @GenericGenerator(
+            name = "article_hashtag_id",
+            strategy = "org.hibernate.id.enhanced.TableGenerator",
+            parameters = {
+                    @Parameter(name = "table_name", value = "id_generator"),
+                    @Parameter(name = "segment_column_name", value = "id_name"),
+                    @Parameter(name = "value_column_name", value = "next_val"),
+                    @Parameter(name = "segment_value", value = "article_hashtag"),
+                    @Parameter(name = "increment_size", value = "50"),
+                    @Parameter(name = "optimizer", value = "pooled-lo")
+            }
+    )
     private Long id;
 
     @ManyToOne(cascade = {PERSIST, MERGE})
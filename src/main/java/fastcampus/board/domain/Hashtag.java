@@ -1,6 +1,8 @@
 package fastcampus.board.domain;
 
 import lombok.*;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 
 import javax.persistence.*;
 import java.util.Objects;
@@ -17,7 +19,19 @@ import java.util.Objects;
 public class Hashtag extends AuditingFields{
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "hashtag_id")
+    @GenericGenerator(
+            name = "hashtag_id",
+            strategy = "org.hibernate.id.enhanced.TableGenerator",
+            parameters = {
+                    @Parameter(name = "table_name", value = "id_generator"),
+                    @Parameter(name = "segment_column_name", value = "id_name"),
+                    @Parameter(name = "value_column_name", value = "next_val"),
+                    @Parameter(name = "segment_value", value = "hashtag"),
+                    @Parameter(name = "increment_size", value = "50"),
+                    @Parameter(name = "optimizer", value = "pooled-lo")
+            }
+    )
     private Long id;
 
     @Setter @Column(nullable = false)
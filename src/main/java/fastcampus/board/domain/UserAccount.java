@@ -1,5 +1,6 @@
 package fastcampus.board.domain;
 
+import fastcampus.board.service.UserAccountChangeListener;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
@@ -14,6 +15,7 @@ import java.util.Objects;
         @Index(columnList = "createdAt"),
         @Index(columnList = "createdBy")
 })
+@EntityListeners(UserAccountChangeListener.class)
 @Entity
 public class UserAccount extends AuditingFields {
     @Id
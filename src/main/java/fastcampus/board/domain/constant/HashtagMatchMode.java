@@ -0,0 +1,15 @@
+package fastcampus.board.domain.constant;
+
+import lombok.Getter;
+
+public enum HashtagMatchMode {
+    ANY("하나라도 포함"),
+    ALL("모두 포함");
+
+    @Getter private final String description;
+
+    HashtagMatchMode(String description) {
+        this.description = description;
+    }
+
+}
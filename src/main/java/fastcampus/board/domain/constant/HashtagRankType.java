@@ -0,0 +1,15 @@
+package fastcampus.board.domain.constant;
+
+import lombok.Getter;
+
+public enum HashtagRankType {
+    TRENDING("인기 급상승"),
+    USAGE("누적 사용");
+
+    @Getter private final String description;
+
+    HashtagRankType(String description) {
+        this.description = description;
+    }
+
+}
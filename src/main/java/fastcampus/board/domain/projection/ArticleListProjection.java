@@ -0,0 +1,27 @@
+package fastcampus.board.domain.projection;
+
+import fastcampus.board.domain.Article;
+import fastcampus.board.dto.query.ArticleListRow;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.rest.core.config.Projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 목록 응답에 쓰는 요약. 본문은 미리보기 길이만큼, 작성자는 닉네임만 내보낸다.
+ */
+@Projection(name = "listRow", types = Article.class)
+public interface ArticleListProjection {
+    Long getId();
+    String getTitle();
+
+    @Value("#{target.content.length() > " + ArticleListRow.PREVIEW_LENGTH + " ? target.content.substring(0, " + ArticleListRow.PREVIEW_LENGTH + ") + '…' : target.content}")
+    String getPreview();
+
+    @Value("#{target.userAccount.nickname}")
+    String getNickname();
+
+    LocalDateTime getCreatedAt();
+    long getViewCount();
+    long getCommentCount();
+}
@@ -0,0 +1,29 @@
+package fastcampus.board.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 목록 커서. (작성일, ID) 쌍을 가리키며, 문자열 형식은 {@link ArticleCursor} 와 같다.
+ * 부모 댓글은 이 위치보다 오래된 것부터, 대댓글은 이 위치보다 최신인 것부터 다음 페이지가 시작된다.
+ */
+public record ArticleCommentCursor(
+        LocalDateTime createdAt,
+        Long id
+) {
+    public static ArticleCommentCursor of(LocalDateTime createdAt, Long id) {
+        return new ArticleCommentCursor(createdAt, id);
+    }
+
+    /**
+     * @return 빈 값이면 첫 페이지를 의미하는 {@code null}
+     * @throws InvalidCursorException 커서 형식이 올바르지 않은 경우
+     */
+    public static ArticleCommentCursor decode(String cursor) {
+        ArticleCursor decoded = ArticleCursor.decode(cursor);
+        return decoded == null ? null : new ArticleCommentCursor(decoded.createdAt(), decoded.id());
+    }
+
+    public String encode() {
+        return ArticleCursor.of(createdAt, id).encode();
+    }
+}
@@ -0,0 +1,15 @@
+package fastcampus.board.dto;
+
+import java.util.Map;
+
+/**
+ * 부모 댓글 한 페이지와, 그 페이지의 부모 댓글별 대댓글 수
+ */
+public record ArticleCommentPageDto(
+        CursorPage<ArticleCommentDto> parentComments,
+        Map<Long, Long> childCommentCounts
+) {
+    public static ArticleCommentPageDto of(CursorPage<ArticleCommentDto> parentComments, Map<Long, Long> childCommentCounts) {
+        return new ArticleCommentPageDto(parentComments, childCommentCounts);
+    }
+}
@@ -0,0 +1,47 @@
+package fastcampus.board.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 게시글 목록 커서. (작성일, ID) 쌍을 가리키며, 다음 페이지는 이 위치보다 오래된 게시글부터 시작한다.
+ * 외부에는 내부 구조를 드러내지 않도록 URL-safe Base64 문자열로만 주고받는다.
+ */
+public record ArticleCursor(
+        LocalDateTime createdAt,
+        Long id
+) {
+    private static final char SEPARATOR = '_';
+
+    public static ArticleCursor of(LocalDateTime createdAt, Long id) {
+        return new ArticleCursor(createdAt, id);
+    }
+
+    /**
+     * @return 빈 값이면 첫 페이지를 의미하는 {@code null}
+     * @throws InvalidCursorException 커서 형식이 올바르지 않은 경우
+     */
+    public static ArticleCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = decoded.lastIndexOf(SEPARATOR);
+            return new ArticleCursor(
+                    LocalDateTime.parse(decoded.substring(0, separatorIndex)),
+                    Long.parseLong(decoded.substring(separatorIndex + 1))
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new InvalidCursorException("올바르지 않은 커서입니다 - cursor: " + cursor, e);
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
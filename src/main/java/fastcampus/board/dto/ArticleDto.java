@@ -3,7 +3,6 @@ package fastcampus.board.dto;
 import fastcampus.board.domain.Article;
 import fastcampus.board.domain.Hashtag;
 import fastcampus.board.domain.UserAccount;
-import fastcampus.board.dto.query.ArticleSelectDto;
 
 import java.time.LocalDateTime;
 import java.util.Set;
@@ -21,17 +20,18 @@ public record ArticleDto(
         LocalDateTime createdAt,
         String createdBy,
         LocalDateTime modifiedAt,
-        String modifiedBy
+        String modifiedBy,
+        long viewCount
 ) {
     public static ArticleDto of(UserAccountDto userAccountDto, String title, String content, Set<HashtagDto> hashtagDtos) {
-        return new ArticleDto(null, userAccountDto, title, content, hashtagDtos, null, null, null, null);
+        return new ArticleDto(null, userAccountDto, title, content, hashtagDtos, null, null, null, null, 0L);
     }
     public static ArticleDto of(Long id, UserAccountDto userAccountDto, String title, String content, Set<HashtagDto> hashtagDtos, LocalDateTime createdAt, String createdBy, LocalDateTime modifiedAt, String modifiedBy) {
-        return new ArticleDto(id, userAccountDto, title, content, hashtagDtos, createdAt, createdBy, modifiedAt, modifiedBy);
+        return new ArticleDto(id, userAccountDto, title, content, hashtagDtos, createdAt, createdBy, modifiedAt, modifiedBy, 0L);
     }
 
     public static ArticleDto from(Article entity, Set<String> hashtagNames) {
-        return ArticleDto.of(
+        return new ArticleDto(
                 entity.getId(),
                 UserAccountDto.from(entity.getUserAccount()),
                 entity.getTitle(),
@@ -42,25 +42,15 @@ public record ArticleDto(
                 entity.getCreatedAt(),
                 entity.getCreatedBy(),
                 entity.getModifiedAt(),
-                entity.getModifiedBy()
+                entity.getModifiedBy(),
+                entity.getViewCount()
         );
     }
 
-    public static ArticleDto from(ArticleSelectDto selectDto, Set<String> hashtagNames) {
-        return ArticleDto.of(
-                selectDto.id(),
-                UserAccountDto.from(selectDto.userAccount()),
-                selectDto.title(),
-                selectDto.content(),
-                hashtagNames.stream()
-                        .map(HashtagDto::from)
-                        .collect(Collectors.toUnmodifiableSet()),
-                selectDto.createdAt(),
-                selectDto.createdBy(),
-                selectDto.modifiedAt(),
-                selectDto.modifiedBy()
-        );
+    public ArticleDto withViewCount(long viewCount) {
+        return new ArticleDto(id, userAccountDto, title, content, hashtagDtos, createdAt, createdBy, modifiedAt, modifiedBy, viewCount);
     }
+
     public Article toEntity(UserAccount userAccount) {
         return Article.of(
                 userAccount,
@@ -0,0 +1,48 @@
+package fastcampus.board.dto;
+
+import fastcampus.board.dto.query.ArticleListRow;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * 게시글 목록용 DTO. 본문 대신 앞부분 미리보기만 담는다.
+ */
+public record ArticleListDto(
+        Long id,
+        String title,
+        String preview,
+        String userId,
+        String nickname,
+        Set<String> hashtags,
+        LocalDateTime createdAt,
+        long viewCount,
+        long commentCount
+) {
+    public static ArticleListDto of(Long id, String title, String preview, String userId, String nickname, Set<String> hashtags, LocalDateTime createdAt, long viewCount, long commentCount) {
+        return new ArticleListDto(id, title, preview, userId, nickname, hashtags, createdAt, viewCount, commentCount);
+    }
+
+    public static ArticleListDto from(ArticleListRow row, Set<String> hashtagNames) {
+        String preview = row.preview();
+        if (preview != null && preview.length() > ArticleListRow.PREVIEW_LENGTH) {
+            preview = preview.substring(0, ArticleListRow.PREVIEW_LENGTH) + "…";
+        }
+
+        return new ArticleListDto(
+                row.id(),
+                row.title(),
+                preview,
+                row.userId(),
+                row.nickname(),
+                Set.copyOf(hashtagNames),
+                row.createdAt(),
+                row.viewCount(),
+                row.commentCount()
+        );
+    }
+
+    public ArticleListDto withViewCount(long viewCount) {
+        return new ArticleListDto(id, title, preview, userId, nickname, hashtags, createdAt, viewCount, commentCount);
+    }
+}
@@ -0,0 +1,24 @@
+package fastcampus.board.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 페이지. 전체 개수를 세지 않으며, 다음 페이지가 없으면 {@code nextCursor} 는 {@code null} 이다.
+ */
+public record CursorPage<T>(
+        List<T> content,
+        String nextCursor
+) {
+    public static <T> CursorPage<T> of(List<T> content, String nextCursor) {
+        return new CursorPage<>(content, nextCursor);
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+        return new CursorPage<>(content.stream().<R>map(mapper).toList(), nextCursor);
+    }
+}
@@ -0,0 +1,12 @@
+package fastcampus.board.dto;
+
+public record HashtagPopularityDto(
+        String hashtagName,
+        long usageCount,
+        double trendingScore
+) {
+
+    public static HashtagPopularityDto of(String hashtagName, long usageCount, double trendingScore) {
+        return new HashtagPopularityDto(hashtagName, usageCount, trendingScore);
+    }
+}
@@ -0,0 +1,11 @@
+package fastcampus.board.dto;
+
+/**
+ * 요청으로 받은 커서 문자열을 풀 수 없는 경우. 다른 {@link IllegalArgumentException} 과 구분해 400 으로만 응답하기 위한 것이다.
+ */
+public class InvalidCursorException extends IllegalArgumentException {
+
+    public InvalidCursorException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
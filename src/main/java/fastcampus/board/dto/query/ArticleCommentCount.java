@@ -0,0 +1,16 @@
+package fastcampus.board.dto.query;
+
+import com.querydsl.core.annotations.QueryProjection;
+
+public record ArticleCommentCount(
+        long articleId,
+        long commentCount
+) {
+    @QueryProjection
+    public ArticleCommentCount {
+    }
+
+    public static ArticleCommentCount of(long articleId, long commentCount) {
+        return new ArticleCommentCount(articleId, commentCount);
+    }
+}
@@ -0,0 +1,20 @@
+package fastcampus.board.dto.query;
+
+import com.querydsl.core.annotations.QueryProjection;
+
+import java.time.LocalDateTime;
+
+public record ArticleIndexRow(
+        long id,
+        String title,
+        String content,
+        LocalDateTime createdAt
+) {
+    @QueryProjection
+    public ArticleIndexRow {
+    }
+
+    public static ArticleIndexRow of(long id, String title, String content, LocalDateTime createdAt) {
+        return new ArticleIndexRow(id, title, content, createdAt);
+    }
+}
@@ -0,0 +1,29 @@
+package fastcampus.board.dto.query;
+
+import com.querydsl.core.annotations.QueryProjection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록 한 줄. 본문은 {@link #PREVIEW_LENGTH} 보다 한 글자 더 읽어, 잘렸는지 알 수 있게 한다.
+ */
+public record ArticleListRow(
+        long id,
+        String title,
+        String preview,
+        String userId,
+        String nickname,
+        LocalDateTime createdAt,
+        long viewCount,
+        long commentCount
+) {
+    public static final int PREVIEW_LENGTH = 100;
+
+    @QueryProjection
+    public ArticleListRow {
+    }
+
+    public static ArticleListRow of(long id, String title, String preview, String userId, String nickname, LocalDateTime createdAt, long viewCount, long commentCount) {
+        return new ArticleListRow(id, title, preview, userId, nickname, createdAt, viewCount, commentCount);
+    }
+}
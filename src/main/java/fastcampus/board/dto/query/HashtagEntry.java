@@ -0,0 +1,16 @@
+package fastcampus.board.dto.query;
+
+import com.querydsl.core.annotations.QueryProjection;
+
+public record HashtagEntry(
+        long id,
+        String hashtagName
+) {
+    @QueryProjection
+    public HashtagEntry {
+    }
+
+    public static HashtagEntry of(long id, String hashtagName) {
+        return new HashtagEntry(id, hashtagName);
+    }
+}
@@ -0,0 +1,16 @@
+package fastcampus.board.dto.query;
+
+import com.querydsl.core.annotations.QueryProjection;
+
+public record HashtagUsage(
+        String hashtagName,
+        long usageCount
+) {
+    @QueryProjection
+    public HashtagUsage {
+    }
+
+    public static HashtagUsage of(String hashtagName, long usageCount) {
+        return new HashtagUsage(hashtagName, usageCount);
+    }
+}
@@ -0,0 +1,18 @@
+package fastcampus.board.dto.query;
+
+import com.querydsl.core.annotations.QueryProjection;
+
+import java.time.LocalDateTime;
+
+public record HashtagUse(
+        String hashtagName,
+        LocalDateTime articleCreatedAt
+) {
+    @QueryProjection
+    public HashtagUse {
+    }
+
+    public static HashtagUse of(String hashtagName, LocalDateTime articleCreatedAt) {
+        return new HashtagUse(hashtagName, articleCreatedAt);
+    }
+}
@@ -3,9 +3,8 @@ package fastcampus.board.dto.response;
 import fastcampus.board.dto.ArticleCommentDto;
 
 import java.time.LocalDateTime;
-import java.util.Comparator;
-import java.util.Set;
-import java.util.TreeSet;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * A DTO for the {@link fastcampus.board.domain.ArticleComment} entity
@@ -18,17 +17,14 @@ public record ArticleCommentResponse(
         String nickname,
         String userId,
         Long parentCommentId,
-        Set<ArticleCommentResponse> childComments
+        List<ArticleCommentResponse> childComments
 ) {
     public static ArticleCommentResponse of(Long id, String content, LocalDateTime createdAt, String email, String nickname, String userId) {
         return ArticleCommentResponse.of(id, content, createdAt, email, nickname, userId, null);
     }
 
     public static ArticleCommentResponse of(Long id, String content, LocalDateTime createdAt, String email, String nickname, String userId, Long parentCommentId) {
-        Comparator<ArticleCommentResponse> childCommentComparator = Comparator
-                .comparing(ArticleCommentResponse::createdAt)
-                .thenComparingLong(ArticleCommentResponse::id);
-        return new ArticleCommentResponse(id, content, createdAt, email, nickname, userId, parentCommentId, new TreeSet<>(childCommentComparator));
+        return new ArticleCommentResponse(id, content, createdAt, email, nickname, userId, parentCommentId, new ArrayList<>());
     }
 
     public static ArticleCommentResponse from(ArticleCommentDto dto) {
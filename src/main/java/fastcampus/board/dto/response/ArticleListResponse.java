@@ -0,0 +1,42 @@
+package fastcampus.board.dto.response;
+
+import fastcampus.board.dto.ArticleListDto;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * 게시글 목록 한 줄. 본문 대신 미리보기를 보여준다.
+ */
+public record ArticleListResponse(
+        Long id,
+        String title,
+        String preview,
+        Set<String> hashtags,
+        LocalDateTime createdAt,
+        String nickname,
+        long viewCount,
+        long commentCount
+) {
+    public static ArticleListResponse of(Long id, String title, String preview, Set<String> hashtags, LocalDateTime createdAt, String nickname, long viewCount, long commentCount) {
+        return new ArticleListResponse(id, title, preview, hashtags, createdAt, nickname, viewCount, commentCount);
+    }
+
+    public static ArticleListResponse from(ArticleListDto dto) {
+        String nickname = dto.nickname();
+        if (nickname == null || nickname.isBlank()) {
+            nickname = dto.userId();
+        }
+
+        return new ArticleListResponse(
+                dto.id(),
+                dto.title(),
+                dto.preview(),
+                dto.hashtags(),
+                dto.createdAt(),
+                nickname,
+                dto.viewCount(),
+                dto.commentCount()
+        );
+    }
+}
@@ -17,10 +17,11 @@ public record ArticleResponse(
         Set<String> hashtags,
         LocalDateTime createdAt,
         String email,
-        String nickname
+        String nickname,
+        long viewCount
 ) {
     public static ArticleResponse of(Long id, String title, String content, Set<String> hashtags, LocalDateTime createdAt, String email, String nickname) {
-        return new ArticleResponse(id, title, content, hashtags, createdAt, email, nickname);
+        return new ArticleResponse(id, title, content, hashtags, createdAt, email, nickname, 0L);
     }
 
     public static ArticleResponse from(ArticleDto dto) {
@@ -38,7 +39,8 @@ public record ArticleResponse(
                         .collect(Collectors.toUnmodifiableSet()),
                 dto.createdAt(),
                 dto.userAccountDto().email(),
-                nickname
+                nickname,
+                dto.viewCount()
         );
     }
 
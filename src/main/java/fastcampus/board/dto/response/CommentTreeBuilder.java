@@ -0,0 +1,75 @@
+package fastcampus.board.dto.response;
+
+import fastcampus.board.dto.ArticleCommentDto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * DB 에서 작성순(작성일 오름차순, 같으면 ID 오름차순)으로 정렬해 온 댓글을 정렬 없이 한 번에 트리로 엮는다.
+ * 대댓글은 부모 댓글의 리스트에 입력 순서 그대로 붙으므로 작성순이 유지되고,
+ * 부모 댓글은 최신순(작성일 내림차순, 같으면 ID 오름차순)으로 돌려준다.
+ */
+public final class CommentTreeBuilder {
+
+    private CommentTreeBuilder() {
+    }
+
+    /**
+     * 부모 댓글을 찾을 수 없는 대댓글은 버리지 않고 부모 댓글 자리로 올린다.
+     *
+     * @param comments 작성순으로 정렬된 댓글
+     * @return 최신순으로 정렬된 부모 댓글 목록
+     */
+    public static List<ArticleCommentResponse> build(Collection<ArticleCommentDto> comments) {
+        List<ArticleCommentResponse> responses = new ArrayList<>(comments.size());
+        Map<Long, ArticleCommentResponse> byId = new HashMap<>(Math.max(16, (int) (comments.size() / 0.75f) + 1));
+        for (ArticleCommentDto comment : comments) {
+            ArticleCommentResponse response = ArticleCommentResponse.from(comment);
+            responses.add(response);
+            byId.put(response.id(), response);
+        }
+
+        List<ArticleCommentResponse> roots = new ArrayList<>();
+        for (ArticleCommentResponse response : responses) {
+            ArticleCommentResponse parent = response.hasParentComment() ? byId.get(response.parentCommentId()) : null;
+            if (parent != null && parent != response) {
+                parent.childComments().add(response);
+            } else {
+                roots.add(response);
+            }
+        }
+
+        reverseToLatestFirst(roots);
+        return roots;
+    }
+
+    /**
+     * 작성순 목록을 뒤집은 뒤, 작성일이 같은 구간만 다시 뒤집어 ID 오름차순을 되살린다. 각 원소는 많아야 두 번 옮겨진다.
+     */
+    private static void reverseToLatestFirst(List<ArticleCommentResponse> roots) {
+        reverse(roots, 0, roots.size());
+
+        int start = 0;
+        while (start < roots.size()) {
+            LocalDateTime createdAt = roots.get(start).createdAt();
+            int end = start + 1;
+            while (end < roots.size() && Objects.equals(createdAt, roots.get(end).createdAt())) {
+                end++;
+            }
+            reverse(roots, start, end);
+            start = end;
+        }
+    }
+
+    private static void reverse(List<ArticleCommentResponse> list, int from, int to) {
+        for (int i = from, j = to - 1; i < j; i++, j--) {
+            list.set(i, list.set(j, list.get(i)));
+        }
+    }
+}
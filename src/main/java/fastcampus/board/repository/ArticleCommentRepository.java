@@ -5,6 +5,7 @@ import com.querydsl.core.types.dsl.StringExpression;
 import fastcampus.board.domain.ArticleComment;
 import fastcampus.board.domain.QArticleComment;
 import fastcampus.board.domain.projection.ArticleCommentProjection;
+import fastcampus.board.repository.querydsl.ArticleCommentRepositoryCustom;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.data.querydsl.binding.QuerydslBinderCustomizer;
@@ -16,6 +17,7 @@ import java.util.List;
 @RepositoryRestResource(excerptProjection = ArticleCommentProjection.class)
 public interface ArticleCommentRepository extends
         JpaRepository<ArticleComment, Long>,
+        ArticleCommentRepositoryCustom,
         QuerydslPredicateExecutor<ArticleComment>,
         QuerydslBinderCustomizer<QArticleComment> {
     List<ArticleComment> findByArticle_Id(Long articleId);
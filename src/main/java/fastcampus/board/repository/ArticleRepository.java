@@ -4,7 +4,7 @@ import com.querydsl.core.types.dsl.DateTimeExpression;
 import com.querydsl.core.types.dsl.StringExpression;
 import fastcampus.board.domain.Article;
 import fastcampus.board.domain.QArticle;
-import fastcampus.board.domain.projection.ArticleProjection;
+import fastcampus.board.domain.projection.ArticleListProjection;
 import fastcampus.board.repository.querydsl.ArticleRepositoryCustom;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -14,7 +14,7 @@ import org.springframework.data.querydsl.binding.QuerydslBinderCustomizer;
 import org.springframework.data.querydsl.binding.QuerydslBindings;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
 
-@RepositoryRestResource(excerptProjection = ArticleProjection.class)
+@RepositoryRestResource(excerptProjection = ArticleListProjection.class)
 public interface ArticleRepository extends
         JpaRepository<Article, Long>,
         ArticleRepositoryCustom,
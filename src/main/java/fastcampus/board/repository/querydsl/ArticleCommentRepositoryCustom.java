@@ -0,0 +1,35 @@
+package fastcampus.board.repository.querydsl;
+
+import fastcampus.board.domain.ArticleComment;
+import fastcampus.board.dto.ArticleCommentCursor;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface ArticleCommentRepositoryCustom {
+
+    /**
+     * 게시글의 부모 댓글을 최신순으로 조회한다.
+     *
+     * @param cursor {@code null} 이면 첫 페이지
+     */
+    List<ArticleComment> findParentComments(Long articleId, ArticleCommentCursor cursor, int limit);
+
+    /**
+     * 부모 댓글에 달린 대댓글을 작성순으로 조회한다.
+     *
+     * @param cursor {@code null} 이면 첫 페이지
+     */
+    List<ArticleComment> findChildComments(Long articleId, Long parentCommentId, ArticleCommentCursor cursor, int limit);
+
+    /**
+     * 부모 댓글 ID 별 대댓글 수. 대댓글이 없는 부모 댓글은 결과에 포함되지 않는다.
+     */
+    Map<Long, Long> countChildComments(Long articleId, Collection<Long> parentCommentIds);
+
+    /**
+     * 게시글 ID 별 댓글(대댓글 포함) 수. 댓글이 없는 게시글은 결과에 포함되지 않는다.
+     */
+    Map<Long, Long> countByArticleIds(Collection<Long> articleIds);
+}
@@ -0,0 +1,120 @@
+package fastcampus.board.repository.querydsl;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import fastcampus.board.domain.ArticleComment;
+import fastcampus.board.domain.QArticleComment;
+import fastcampus.board.dto.ArticleCommentCursor;
+import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public class ArticleCommentRepositoryCustomImpl extends QuerydslRepositorySupport implements ArticleCommentRepositoryCustom {
+
+    /**
+     * Creates a new {@link QuerydslRepositorySupport} instance for the given domain type.
+     *
+     * @param domainClass must not be {@literal null}.
+     */
+    public ArticleCommentRepositoryCustomImpl() {
+        super(ArticleComment.class);
+    }
+
+    @Override
+    public List<ArticleComment> findParentComments(Long articleId, ArticleCommentCursor cursor, int limit) {
+        QArticleComment articleComment = QArticleComment.articleComment;
+
+        return from(articleComment)
+                .innerJoin(articleComment.article).fetchJoin()
+                .innerJoin(articleComment.userAccount).fetchJoin()
+                .where(
+                        articleComment.article.id.eq(articleId),
+                        articleComment.parentCommentId.isNull(),
+                        before(articleComment, cursor)
+                )
+                .orderBy(articleComment.createdAt.desc(), articleComment.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<ArticleComment> findChildComments(Long articleId, Long parentCommentId, ArticleCommentCursor cursor, int limit) {
+        QArticleComment articleComment = QArticleComment.articleComment;
+
+        return from(articleComment)
+                .innerJoin(articleComment.article).fetchJoin()
+                .innerJoin(articleComment.userAccount).fetchJoin()
+                .where(
+                        articleComment.article.id.eq(articleId),
+                        articleComment.parentCommentId.eq(parentCommentId),
+                        after(articleComment, cursor)
+                )
+                .orderBy(articleComment.createdAt.asc(), articleComment.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public Map<Long, Long> countChildComments(Long articleId, Collection<Long> parentCommentIds) {
+        if (parentCommentIds.isEmpty()) {
+            return Map.of();
+        }
+
+        QArticleComment articleComment = QArticleComment.articleComment;
+
+        List<Tuple> counts = from(articleComment)
+                .select(articleComment.parentCommentId, articleComment.count())
+                .where(
+                        articleComment.article.id.eq(articleId),
+                        articleComment.parentCommentId.in(parentCommentIds)
+                )
+                .groupBy(articleComment.parentCommentId)
+                .fetch();
+
+        return counts.stream()
+                .collect(Collectors.toUnmodifiableMap(
+                        tuple -> tuple.get(articleComment.parentCommentId),
+                        tuple -> tuple.get(articleComment.count())
+                ));
+    }
+
+    @Override
+    public Map<Long, Long> countByArticleIds(Collection<Long> articleIds) {
+        if (articleIds.isEmpty()) {
+            return Map.of();
+        }
+
+        QArticleComment articleComment = QArticleComment.articleComment;
+
+        List<Tuple> counts = from(articleComment)
+                .select(articleComment.article.id, articleComment.count())
+                .where(articleComment.article.id.in(articleIds))
+                .groupBy(articleComment.article.id)
+                .fetch();
+
+        return counts.stream()
+                .collect(Collectors.toUnmodifiableMap(
+                        tuple -> tuple.get(articleComment.article.id),
+                        tuple -> tuple.get(articleComment.count())
+                ));
+    }
+
+    private static BooleanExpression before(QArticleComment articleComment, ArticleCommentCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return articleComment.createdAt.lt(cursor.createdAt())
+                .or(articleComment.createdAt.eq(cursor.createdAt()).and(articleComment.id.lt(cursor.id())));
+    }
+
+    private static BooleanExpression after(QArticleComment articleComment, ArticleCommentCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return articleComment.createdAt.gt(cursor.createdAt())
+                .or(articleComment.createdAt.eq(cursor.createdAt()).and(articleComment.id.gt(cursor.id())));
+    }
+}
@@ -1,17 +1,38 @@
 package fastcampus.board.repository.querydsl;
 
 import fastcampus.board.domain.*;
+import fastcampus.board.domain.constant.HashtagMatchMode;
 import fastcampus.board.dto.query.ArticleHashtagDto;
-import fastcampus.board.dto.query.ArticleSelectDto;
-import org.springframework.data.domain.Page;
+import fastcampus.board.dto.query.HashtagUsage;
+import fastcampus.board.dto.query.HashtagUse;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 
 public interface ArticleHashtagRepositoryCustom {
 
-    Page<ArticleSelectDto> findByHashtagNames(Collection<String> hashtagNames, Pageable pageable);
+    /**
+     * 해시태그가 달린 게시글 ID 페이지를 조회한다. 게시글 내용은 조회하지 않으므로, 호출하는 쪽에서 ID 로 따로 채워야 한다.
+     */
+    List<Long> findArticleIdsByHashtagIds(Collection<Long> hashtagIds, HashtagMatchMode matchMode, Pageable pageable);
+
+    /**
+     * @param limit 0 보다 크면 최대 {@code limit} 개까지만 센다.
+     */
+    long countArticlesByHashtagIds(Collection<Long> hashtagIds, HashtagMatchMode matchMode, long limit);
     Set<ArticleHashtag> findByArticleId(Long ArticleId);
     Set<ArticleHashtagDto> findDtoByArticleIds(Collection<Long> articleIds);
+
+    /**
+     * 해시태그별 누적 사용(연결된 게시글) 수
+     */
+    List<HashtagUsage> findHashtagUsages();
+
+    /**
+     * {@code since} 이후 작성된 게시글에 달린 해시태그와 게시글 작성 시각
+     */
+    List<HashtagUse> findHashtagUsesSince(LocalDateTime since);
 }
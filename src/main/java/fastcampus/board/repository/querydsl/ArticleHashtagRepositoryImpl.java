@@ -1,20 +1,24 @@
 package fastcampus.board.repository.querydsl;
 
-import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.PathBuilder;
 import com.querydsl.jpa.JPQLQuery;
-import com.querydsl.jpa.impl.JPAQuery;
 import fastcampus.board.domain.*;
+import fastcampus.board.domain.constant.HashtagMatchMode;
 import fastcampus.board.dto.query.ArticleHashtagDto;
-import fastcampus.board.dto.query.ArticleSelectDto;
+import fastcampus.board.dto.query.HashtagUsage;
+import fastcampus.board.dto.query.HashtagUse;
 import fastcampus.board.dto.query.QArticleHashtagDto;
-import fastcampus.board.dto.query.QArticleSelectDto;
+import fastcampus.board.dto.query.QHashtagUsage;
+import fastcampus.board.dto.query.QHashtagUse;
 import org.springframework.data.domain.*;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
 
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
-import static com.querydsl.jpa.JPAExpressions.select;
 import static org.springframework.data.domain.Sort.*;
 
 public class ArticleHashtagRepositoryImpl extends QuerydslRepositorySupport implements ArticleHashtagRepositoryCustom {
@@ -27,50 +31,106 @@ public class ArticleHashtagRepositoryImpl extends QuerydslRepositorySupport impl
         super(ArticleHashtag.class);
     }
 
+    /**
+     * 1단계 조회. 연관 테이블의 (hashtagId, articleId) 인덱스만으로 게시글 ID 를 모아 페이징한다.
+     * 게시글 테이블은 게시글 필드로 정렬할 때만 조인하며, 넓은 행을 distinct 하지 않도록 게시글 ID 로 group by 한다.
+     * ALL 모드에서는 요청한 해시태그를 모두 가진 게시글만 남긴다.
+     */
     @Override
-    public Page<ArticleSelectDto> findByHashtagNames(Collection<String> hashtagNames, Pageable pageable) {
+    public List<Long> findArticleIdsByHashtagIds(Collection<Long> hashtagIds, HashtagMatchMode matchMode, Pageable pageable) {
+        if (hashtagIds.isEmpty()) {
+            return List.of();
+        }
 
         QArticle article = QArticle.article;
         QArticleHashtag articleHashtag = QArticleHashtag.articleHashtag;
-        QHashtag hashtag = QHashtag.hashtag;
 
-        Pageable renewalPageable = getRenewalPageable(pageable);
+        List<Expression<?>> groupBy = new ArrayList<>();
+        List<OrderSpecifier<?>> orderBy = new ArrayList<>();
+        groupBy.add(articleHashtag.article.id);
+        for (Order order : pageable.getSort()) {
+            Expression<?> sortPath = articleSortPath(order.getProperty());
+            groupBy.add(sortPath);
+            orderBy.add(toOrderSpecifier(order, sortPath));
+        }
+        orderBy.add(articleHashtag.article.id.desc());
+
+        JPQLQuery<Long> query = getQuerydsl().createQuery()
+                .select(articleHashtag.article.id)
+                .from(articleHashtag);
+        if (pageable.getSort().isSorted()) {
+            query.innerJoin(articleHashtag.article, article);
+        }
+        query.where(articleHashtag.hashtag.id.in(hashtagIds))
+                .groupBy(groupBy.toArray(Expression[]::new))
+                .orderBy(orderBy.toArray(OrderSpecifier[]::new));
+        if (matchMode == HashtagMatchMode.ALL) {
+            query.having(articleHashtag.count().eq((long) Set.copyOf(hashtagIds).size()));
+        }
+        if (pageable.isPaged()) {
+            query.offset(pageable.getOffset()).limit(pageable.getPageSize());
+        }
+
+        return query.fetch();
+    }
 
-        JPQLQuery<ArticleSelectDto> query = getQuerydsl().createQuery()
-                .select(new QArticleSelectDto(
-                        article.id,
-                        article.userAccount,
-                        article.title,
-                        article.content,
-                        article.createdAt,
-                        article.createdBy,
-                        article.modifiedAt,
-                        article.modifiedBy
-                )).distinct()
-                .from(articleHashtag)
-                .innerJoin(articleHashtag.article, article)
-                .innerJoin(articleHashtag.hashtag, hashtag)
-                .where(hashtag.hashtagName.in(hashtagNames));
+    /**
+     * ANY 는 게시글 테이블을 조인하지 않고, 연관 테이블의 게시글 FK 만으로 센다.
+     * ALL 은 JPQL 이 from 절 서브쿼리를 지원하지 않으므로, 게시글별로 묶은 서브쿼리에 든 게시글을 게시글 테이블의 PK 로 센다.
+     *
+     * @param limit 0 보다 크면 최대 {@code limit} 개까지만 센다.
+     */
+    @Override
+    public long countArticlesByHashtagIds(Collection<Long> hashtagIds, HashtagMatchMode matchMode, long limit) {
+        if (hashtagIds.isEmpty()) {
+            return 0;
+        }
+
+        if (limit > 0 && selectMatchingArticleIds(hashtagIds, matchMode).offset(limit - 1).fetchFirst() != null) {
+            return limit;
+        }
+
+        if (matchMode == HashtagMatchMode.ALL) {
+            QArticle article = QArticle.article;
+            return from(article)
+                    .where(article.id.in(selectMatchingArticleIds(hashtagIds, matchMode)))
+                    .fetchCount();
+        }
+        return selectMatchingArticleIds(hashtagIds, matchMode).fetchCount();
+    }
 
-        List<ArticleSelectDto> fetch = getQuerydsl().applyPagination(renewalPageable, query).fetch();
+    /**
+     * 해시태그가 하나라도(ANY) 또는 모두(ALL) 달린 게시글 ID. ANY 는 중복을 없애고, ALL 은 게시글별로 달린 해시태그 수를 비교한다.
+     */
+    private JPQLQuery<Long> selectMatchingArticleIds(Collection<Long> hashtagIds, HashtagMatchMode matchMode) {
+        QArticleHashtag articleHashtag = QArticleHashtag.articleHashtag;
 
-        long count = getQuerydsl().createQuery()
-                .select(article.id).distinct()
+        JPQLQuery<Long> query = getQuerydsl().createQuery()
+                .select(articleHashtag.article.id)
                 .from(articleHashtag)
-                .innerJoin(articleHashtag.article, article)
-                .innerJoin(articleHashtag.hashtag, hashtag)
-                .where(hashtag.hashtagName.in(hashtagNames))
-                .fetchCount();
+                .where(articleHashtag.hashtag.id.in(hashtagIds));
 
-        return new PageImpl<>(fetch, pageable, count);
+        if (matchMode == HashtagMatchMode.ALL) {
+            return query.groupBy(articleHashtag.article.id)
+                    .having(articleHashtag.count().eq((long) Set.copyOf(hashtagIds).size()));
+        }
+        return query.distinct();
     }
 
-    private static Pageable getRenewalPageable(Pageable pageable) {
-        List<Order> orders = new ArrayList<>();
-        pageable.getSort().stream()
-                .forEach(order -> orders.add(new Order(order.getDirection(), "article." + order.getProperty())));
-        Sort newSort = Sort.by(orders);
-        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), newSort);
+    private static Expression<?> articleSortPath(String property) {
+        PathBuilder<?> path = new PathBuilder<>(Article.class, QArticle.article.getMetadata());
+        for (String segment : property.split("\\.")) {
+            path = path.get(segment);
+        }
+        return path;
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static OrderSpecifier<?> toOrderSpecifier(Order order, Expression<?> sortPath) {
+        return new OrderSpecifier(
+                order.isAscending() ? com.querydsl.core.types.Order.ASC : com.querydsl.core.types.Order.DESC,
+                sortPath
+        );
     }
 
     @Override
@@ -107,4 +167,32 @@ public class ArticleHashtagRepositoryImpl extends QuerydslRepositorySupport impl
                 .fetch()
                 .stream().collect(Collectors.toUnmodifiableSet());
     }
+
+    @Override
+    public List<HashtagUsage> findHashtagUsages() {
+        QArticleHashtag articleHashtag = QArticleHashtag.articleHashtag;
+        QHashtag hashtag = QHashtag.hashtag;
+
+        return getQuerydsl().createQuery()
+                .select(new QHashtagUsage(hashtag.hashtagName, articleHashtag.count()))
+                .from(articleHashtag)
+                .innerJoin(articleHashtag.hashtag, hashtag)
+                .groupBy(hashtag.id, hashtag.hashtagName)
+                .fetch();
+    }
+
+    @Override
+    public List<HashtagUse> findHashtagUsesSince(LocalDateTime since) {
+        QArticle article = QArticle.article;
+        QArticleHashtag articleHashtag = QArticleHashtag.articleHashtag;
+        QHashtag hashtag = QHashtag.hashtag;
+
+        return getQuerydsl().createQuery()
+                .select(new QHashtagUse(hashtag.hashtagName, article.createdAt))
+                .from(articleHashtag)
+                .innerJoin(articleHashtag.article, article)
+                .innerJoin(articleHashtag.hashtag, hashtag)
+                .where(article.createdAt.goe(since))
+                .fetch();
+    }
 }
@@ -1,7 +1,10 @@
 package fastcampus.board.repository.querydsl;
 
-import fastcampus.board.domain.Article;
-import org.springframework.data.domain.Page;
+import fastcampus.board.domain.constant.SearchType;
+import fastcampus.board.dto.ArticleCursor;
+import fastcampus.board.dto.query.ArticleCommentCount;
+import fastcampus.board.dto.query.ArticleIndexRow;
+import fastcampus.board.dto.query.ArticleListRow;
 import org.springframework.data.domain.Pageable;
 
 import java.util.Collection;
@@ -9,4 +12,46 @@ import java.util.List;
 
 public interface ArticleRepositoryCustom {
 
+    List<ArticleIndexRow> findIndexRowsAfter(long lastArticleId, int limit);
+
+    /**
+     * 커서 위치보다 오래된 게시글을 (작성일, ID) 내림차순으로 최대 {@code limit} 개 조회한다.
+     * 커서가 {@code null} 이면 가장 최근 게시글부터 조회한다.
+     */
+    List<ArticleListRow> findListRowsBefore(ArticleCursor cursor, int limit);
+
+    /**
+     * 검색 조건에 맞는 게시글 페이지의 내용만 조회한다. 전체 개수는 {@link #countBySearchKeyword} 로 따로 센다.
+     * 검색 유형이나 검색어가 없으면 전체 게시글을 대상으로 한다.
+     */
+    List<ArticleListRow> findListRowsBySearchKeyword(SearchType searchType, String keyword, Pageable pageable);
+
+    /**
+     * ID 로 게시글 목록 줄을 조회한다. 순서는 보장하지 않는다.
+     */
+    List<ArticleListRow> findListRowsByIds(Collection<Long> articleIds);
+
+    /**
+     * @param limit 0 보다 크면 최대 {@code limit} 개까지만 센다.
+     */
+    long countBySearchKeyword(SearchType searchType, String keyword, long limit);
+
+    /**
+     * 저장된 댓글 수에 {@code delta} 를 더한다. 읽지 않고 한 번의 UPDATE 로 더하므로 동시에 댓글을 써도 잃지 않는다.
+     *
+     * @return 바뀐 행 수. 게시글이 없으면 0
+     */
+    long addCommentCount(Long articleId, long delta);
+
+    /**
+     * ID 가 {@code lastArticleId} 보다 큰 게시글의 저장된 댓글 수를 ID 순으로 최대 {@code limit} 개 조회한다.
+     */
+    List<ArticleCommentCount> findCommentCountsAfter(long lastArticleId, int limit);
+
+    /**
+     * 저장된 댓글 수가 아직 {@code expected} 일 때만 {@code actual} 로 바꾼다. 그 사이 댓글이 달리거나 지워졌으면 바꾸지 않는다.
+     *
+     * @return 바뀐 행 수
+     */
+    long updateCommentCount(Long articleId, long expected, long actual);
 }
@@ -1,20 +1,161 @@
 package fastcampus.board.repository.querydsl;
 
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.JPQLQuery;
 import fastcampus.board.domain.*;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import fastcampus.board.domain.constant.SearchType;
+import fastcampus.board.dto.ArticleCursor;
+import fastcampus.board.dto.query.ArticleCommentCount;
+import fastcampus.board.dto.query.ArticleIndexRow;
+import fastcampus.board.dto.query.ArticleListRow;
+import fastcampus.board.dto.query.QArticleCommentCount;
+import fastcampus.board.dto.query.QArticleIndexRow;
+import fastcampus.board.dto.query.QArticleListRow;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
 
 import java.util.Collection;
 import java.util.List;
 
-import static com.querydsl.jpa.JPAExpressions.select;
-
 public class ArticleRepositoryCustomImpl extends QuerydslRepositorySupport implements ArticleRepositoryCustom {
 
     public ArticleRepositoryCustomImpl() {
         super(Article.class);
     }
+
+    @Override
+    public List<ArticleIndexRow> findIndexRowsAfter(long lastArticleId, int limit) {
+        QArticle article = QArticle.article;
+
+        return from(article)
+                .select(new QArticleIndexRow(
+                        article.id,
+                        article.title,
+                        article.content,
+                        article.createdAt
+                ))
+                .where(article.id.gt(lastArticleId))
+                .orderBy(article.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<ArticleListRow> findListRowsBefore(ArticleCursor cursor, int limit) {
+        QArticle article = QArticle.article;
+
+        JPQLQuery<ArticleListRow> query = selectListRows();
+
+        if (cursor != null) {
+            query.where(article.createdAt.lt(cursor.createdAt())
+                    .or(article.createdAt.eq(cursor.createdAt()).and(article.id.lt(cursor.id()))));
+        }
+
+        return query
+                .orderBy(article.createdAt.desc(), article.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<ArticleListRow> findListRowsBySearchKeyword(SearchType searchType, String keyword, Pageable pageable) {
+        JPQLQuery<ArticleListRow> query = selectListRows()
+                .where(searchCondition(searchType, keyword));
+
+        return getQuerydsl().applyPagination(pageable, query).fetch();
+    }
+
+    @Override
+    public List<ArticleListRow> findListRowsByIds(Collection<Long> articleIds) {
+        if (articleIds.isEmpty()) {
+            return List.of();
+        }
+
+        return selectListRows()
+                .where(QArticle.article.id.in(articleIds))
+                .fetch();
+    }
+
+    /**
+     * 상한이 있으면 먼저 {@code limit} 번째 게시글이 있는지만 확인해, 있으면 행을 가져오지 않고 상한을 돌려준다.
+     * 없을 때만 DB 에서 세며, 이때 맞는 게시글은 {@code limit} 개보다 적다.
+     */
+    @Override
+    public long countBySearchKeyword(SearchType searchType, String keyword, long limit) {
+        QArticle article = QArticle.article;
+        BooleanExpression condition = searchCondition(searchType, keyword);
+
+        if (limit > 0 && from(article).select(article.id).where(condition).offset(limit - 1).fetchFirst() != null) {
+            return limit;
+        }
+        return from(article).where(condition).fetchCount();
+    }
+
+    @Override
+    public long addCommentCount(Long articleId, long delta) {
+        QArticle article = QArticle.article;
+
+        return update(article)
+                .set(article.commentCount, article.commentCount.add(delta))
+                .where(article.id.eq(articleId))
+                .execute();
+    }
+
+    @Override
+    public List<ArticleCommentCount> findCommentCountsAfter(long lastArticleId, int limit) {
+        QArticle article = QArticle.article;
+
+        return from(article)
+                .select(new QArticleCommentCount(article.id, article.commentCount))
+                .where(article.id.gt(lastArticleId))
+                .orderBy(article.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public long updateCommentCount(Long articleId, long expected, long actual) {
+        QArticle article = QArticle.article;
+
+        return update(article)
+                .set(article.commentCount, actual)
+                .where(article.id.eq(articleId), article.commentCount.eq(expected))
+                .execute();
+    }
+
+    /**
+     * 본문은 미리보기 길이만큼만 잘라 읽고, 작성자는 필요한 컬럼만 읽는다. 엔티티를 만들지 않으므로 영속성 컨텍스트에도 올라가지 않는다.
+     */
+    private JPQLQuery<ArticleListRow> selectListRows() {
+        QArticle article = QArticle.article;
+        QUserAccount userAccount = QUserAccount.userAccount;
+
+        return from(article)
+                .innerJoin(article.userAccount, userAccount)
+                .select(new QArticleListRow(
+                        article.id,
+                        article.title,
+                        article.content.substring(0, ArticleListRow.PREVIEW_LENGTH + 1),
+                        userAccount.userId,
+                        userAccount.nickname,
+                        article.createdAt,
+                        article.viewCount,
+                        article.commentCount
+                ));
+    }
+
+    private static BooleanExpression searchCondition(SearchType searchType, String keyword) {
+        if (searchType == null || keyword == null || keyword.isBlank()) {
+            return null;
+        }
+
+        QArticle article = QArticle.article;
+        return switch (searchType) {
+            case TITLE -> article.title.contains(keyword);
+            case CONTENT -> article.content.contains(keyword);
+            case ID -> article.userAccount.userId.contains(keyword);
+            case NICKNAME -> article.userAccount.nickname.contains(keyword);
+            case HASHTAG -> throw new IllegalArgumentException("해시태그 검색은 ArticleHashtagRepository 를 사용해야 합니다.");
+        };
+    }
 }
@@ -1,7 +1,24 @@
 package fastcampus.board.repository.querydsl;
 
+import fastcampus.board.dto.query.HashtagEntry;
+
+import java.util.Collection;
 import java.util.List;
 
 public interface HashtagRepositoryCustom {
     List<String> findAllHashtagNames();
+    List<Long> findIdsByHashtagNames(Collection<String> hashtagNames);
+    List<HashtagEntry> findEntriesAfter(long lastHashtagId, int limit);
+
+    /**
+     * 주어진 해시태그 중 어떤 게시글에도 달려 있지 않은 것의 ID
+     */
+    List<Long> findOrphanIds(Collection<Long> hashtagIds);
+
+    /**
+     * 주어진 해시태그 중 삭제 시점에도 게시글에 달려 있지 않은 것만 한 번에 지운다.
+     *
+     * @return 지운 해시태그 수
+     */
+    long deleteOrphansByIds(Collection<Long> hashtagIds);
 }
@@ -1,9 +1,15 @@
 package fastcampus.board.repository.querydsl;
 
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
 import fastcampus.board.domain.Hashtag;
+import fastcampus.board.domain.QArticleHashtag;
 import fastcampus.board.domain.QHashtag;
+import fastcampus.board.dto.query.HashtagEntry;
+import fastcampus.board.dto.query.QHashtagEntry;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
 
+import java.util.Collection;
 import java.util.List;
 
 public class HashtagRepositoryCustomImpl extends QuerydslRepositorySupport implements HashtagRepositoryCustom {
@@ -25,4 +31,65 @@ public class HashtagRepositoryCustomImpl extends QuerydslRepositorySupport imple
                 .select(hashtag.hashtagName)
                 .fetch();
     }
+
+    @Override
+    public List<Long> findIdsByHashtagNames(Collection<String> hashtagNames) {
+        QHashtag hashtag = QHashtag.hashtag;
+
+        return from(hashtag)
+                .select(hashtag.id)
+                .where(hashtag.hashtagName.in(hashtagNames))
+                .fetch();
+    }
+
+    @Override
+    public List<HashtagEntry> findEntriesAfter(long lastHashtagId, int limit) {
+        QHashtag hashtag = QHashtag.hashtag;
+
+        return from(hashtag)
+                .select(new QHashtagEntry(hashtag.id, hashtag.hashtagName))
+                .where(hashtag.id.gt(lastHashtagId))
+                .orderBy(hashtag.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<Long> findOrphanIds(Collection<Long> hashtagIds) {
+        if (hashtagIds.isEmpty()) {
+            return List.of();
+        }
+
+        QHashtag hashtag = QHashtag.hashtag;
+
+        return from(hashtag)
+                .select(hashtag.id)
+                .where(hashtag.id.in(hashtagIds), hasNoArticles(hashtag, hashtagIds))
+                .fetch();
+    }
+
+    @Override
+    public long deleteOrphansByIds(Collection<Long> hashtagIds) {
+        if (hashtagIds.isEmpty()) {
+            return 0;
+        }
+
+        QHashtag hashtag = QHashtag.hashtag;
+
+        return delete(hashtag)
+                .where(hashtag.id.in(hashtagIds), hasNoArticles(hashtag, hashtagIds))
+                .execute();
+    }
+
+    /**
+     * 벌크 DELETE 에서는 상관 서브쿼리의 별칭이 DB 마다 다르게 풀리므로, 후보 ID 로 범위를 좁힌 비상관 서브쿼리를 쓴다.
+     */
+    private static BooleanExpression hasNoArticles(QHashtag hashtag, Collection<Long> hashtagIds) {
+        QArticleHashtag articleHashtag = QArticleHashtag.articleHashtag;
+
+        return hashtag.id.notIn(JPAExpressions
+                .select(articleHashtag.hashtag.id)
+                .from(articleHashtag)
+                .where(articleHashtag.hashtag.id.in(hashtagIds)));
+    }
 }
@@ -0,0 +1,133 @@
+package fastcampus.board.service;
+
+import fastcampus.board.dto.query.ArticleCommentCount;
+import fastcampus.board.repository.ArticleCommentRepository;
+import fastcampus.board.repository.ArticleRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.IntervalTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글에 저장된 댓글 수를 실제 댓글 수와 맞춘다. 댓글 서비스를 거치지 않은 변경(초기 데이터, 연쇄 삭제 등)을 바로잡기 위한 것이다.
+ * 게시글을 ID 순으로 {@code batchSize} 개씩 훑으며, 배치마다 댓글 수를 한 번의 group by 로 세고 어긋난 게시글만 고친다.
+ * 고칠 때는 읽어 둔 값이 그대로일 때만 바꾸므로, 세는 사이에 달린 댓글의 증감을 덮어쓰지 않는다.
+ */
+@Slf4j
+@Component
+public class ArticleCommentCountReconciler implements SchedulingConfigurer, MeterBinder {
+
+    private final ArticleRepository articleRepository;
+    private final ArticleCommentRepository articleCommentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ArticleCommentCountProperties properties;
+
+    private final LongAdder corrected = new LongAdder();
+
+    public ArticleCommentCountReconciler(
+            ArticleRepository articleRepository,
+            ArticleCommentRepository articleCommentRepository,
+            PlatformTransactionManager transactionManager,
+            ArticleCommentCountProperties properties
+    ) {
+        this.articleRepository = articleRepository;
+        this.articleCommentRepository = articleCommentRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+    }
+
+    /**
+     * @return 고친 게시글 수
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public int reconcile() {
+        int fixed = 0;
+        long lastArticleId = 0L;
+        List<ArticleCommentCount> storedCounts;
+        do {
+            storedCounts = articleRepository.findCommentCountsAfter(lastArticleId, properties.getBatchSize());
+            if (storedCounts.isEmpty()) {
+                break;
+            }
+            List<ArticleCommentCount> batch = storedCounts;
+            Integer batchFixed = transactionTemplate.execute(status -> reconcileBatch(batch));
+            fixed += batchFixed == null ? 0 : batchFixed;
+            lastArticleId = storedCounts.get(storedCounts.size() - 1).articleId();
+        } while (storedCounts.size() == properties.getBatchSize());
+
+        corrected.add(fixed);
+        if (fixed > 0) {
+            log.info("게시글 댓글 수 재조정 - 고친 게시글 수: {}", fixed);
+        }
+        return fixed;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        long intervalMillis = properties.getReconcileInterval().toMillis();
+        if (intervalMillis > 0) {
+            taskRegistrar.addFixedDelayTask(new IntervalTask(this::reconcile, intervalMillis, intervalMillis));
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("board.article.comment-count.corrected", corrected, LongAdder::sum)
+                .description("재조정에서 고친 게시글 댓글 수 건수")
+                .register(registry);
+    }
+
+    private int reconcileBatch(List<ArticleCommentCount> storedCounts) {
+        Map<Long, Long> actualCounts = articleCommentRepository.countByArticleIds(
+                storedCounts.stream().map(ArticleCommentCount::articleId).toList());
+
+        int fixed = 0;
+        for (ArticleCommentCount stored : storedCounts) {
+            long actual = actualCounts.getOrDefault(stored.articleId(), 0L);
+            if (stored.commentCount() != actual) {
+                fixed += (int) articleRepository.updateCommentCount(stored.articleId(), stored.commentCount(), actual);
+            }
+        }
+        return fixed;
+    }
+
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("board.article.comment-count")
+    public static class ArticleCommentCountProperties {
+        /**
+         * 게시글에 저장된 댓글 수를 실제 댓글 수와 맞추는 주기. 0 이면 시작할 때만 맞춘다.
+         */
+        private final Duration reconcileInterval;
+
+        /**
+         * 한 번에 맞춰 보는 게시글 수
+         */
+        private final int batchSize;
+
+        public ArticleCommentCountProperties(
+                @DefaultValue("1h") Duration reconcileInterval,
+                @DefaultValue("1000") int batchSize
+        ) {
+            this.reconcileInterval = reconcileInterval;
+            this.batchSize = batchSize;
+        }
+    }
+}
@@ -3,17 +3,27 @@ package fastcampus.board.service;
 import fastcampus.board.domain.Article;
 import fastcampus.board.domain.ArticleComment;
 import fastcampus.board.domain.UserAccount;
+import fastcampus.board.dto.ArticleCommentCursor;
 import fastcampus.board.dto.ArticleCommentDto;
+import fastcampus.board.dto.ArticleCommentPageDto;
+import fastcampus.board.dto.CursorPage;
 import fastcampus.board.repository.ArticleCommentRepository;
 import fastcampus.board.repository.ArticleRepository;
 import fastcampus.board.repository.UserAccountRepository;
+import fastcampus.board.service.ServiceMetrics.CacheResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityNotFoundException;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -21,9 +31,14 @@ import java.util.List;
 @Service
 public class ArticleCommentService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final ArticleRepository articleRepository;
     private final ArticleCommentRepository articleCommentRepository;
     private final UserAccountRepository userAccountRepository;
+    private final ArticleDetailCache articleDetailCache;
+    private final BoardStatistics boardStatistics;
+    private final ServiceMetrics serviceMetrics;
 
     public List<ArticleCommentDto> searchArticleComments(Long articleId) {
         return articleCommentRepository.findByArticle_Id(articleId)
@@ -32,6 +47,47 @@ public class ArticleCommentService {
                 .toList();
     }
 
+    /**
+     * 부모 댓글만 최신순으로 조회한다. 대댓글은 {@link #getChildComments} 로 부모 댓글마다 따로 조회해야 한다.
+     */
+    public CursorPage<ArticleCommentDto> getParentComments(Long articleId, String cursor, int size) {
+        int pageSize = clampPageSize(size);
+        return toCursorPage(
+                articleCommentRepository.findParentComments(articleId, ArticleCommentCursor.decode(cursor), pageSize + 1),
+                pageSize
+        );
+    }
+
+    public CursorPage<ArticleCommentDto> getChildComments(Long articleId, Long parentCommentId, String cursor, int size) {
+        int pageSize = clampPageSize(size);
+        return toCursorPage(
+                articleCommentRepository.findChildComments(articleId, parentCommentId, ArticleCommentCursor.decode(cursor), pageSize + 1),
+                pageSize
+        );
+    }
+
+    public Map<Long, Long> countChildComments(Long articleId, Collection<Long> parentCommentIds) {
+        return articleCommentRepository.countChildComments(articleId, parentCommentIds);
+    }
+
+    /**
+     * 부모 댓글 페이지와 대댓글 수를 함께 조회한다. 첫 페이지는 게시글 상세 캐시에서 읽는다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public ArticleCommentPageDto getParentCommentPage(Long articleId, String cursor, int size) {
+        long startedAt = System.nanoTime();
+        if (cursor == null || cursor.isBlank()) {
+            FirstPageLoader loader = new FirstPageLoader(articleId, size);
+            ArticleCommentPageDto page = articleDetailCache.getFirstCommentPage(articleId, size, loader);
+            serviceMetrics.recordCommentPage(loader.loaded ? CacheResult.MISS : CacheResult.HIT, startedAt);
+            return page;
+        }
+
+        ArticleCommentPageDto page = loadParentCommentPage(articleId, cursor, size);
+        serviceMetrics.recordCommentPage(CacheResult.BYPASS, startedAt);
+        return page;
+    }
+
     @Transactional
     public void saveArticleComment(ArticleCommentDto dto) {
         try {
@@ -45,13 +101,89 @@ public class ArticleCommentService {
             } else {
                 articleCommentRepository.save(articleComment);
             }
+            articleRepository.addCommentCount(dto.articleId(), 1);
+
+            articleDetailCache.invalidateComments(dto.articleId());
+            boardStatistics.addArticleComments(1);
+            serviceMetrics.recordCommentSaved(dto.parentCommentId() != null);
         } catch (EntityNotFoundException e) {
             log.warn("댓글 저장 실패. 댓글 작성에 필요한 정보를 찾을 수 없습니다 - {}", e.getLocalizedMessage());
         }
     }
 
+    /**
+     * 댓글을 지우면 대댓글과 그 아래 대댓글까지 함께 지워지므로, 게시글의 댓글 수에서 지워지는 댓글 전체 수를 뺀다.
+     */
     @Transactional
     public void deleteArticleComment(Long articleCommentId, String userId) {
+        articleCommentRepository.findById(articleCommentId)
+                .filter(articleComment -> articleComment.getUserAccount().getUserId().equals(userId))
+                .ifPresent(articleComment -> {
+                    Long articleId = articleComment.getArticle().getId();
+                    long deletedCount = countWithDescendants(articleComment);
+                    articleRepository.addCommentCount(articleId, -deletedCount);
+                    articleDetailCache.invalidateComments(articleId);
+                    boardStatistics.addArticleComments(-deletedCount);
+                    serviceMetrics.recordCommentsDeleted(deletedCount);
+                });
         articleCommentRepository.deleteByIdAndUserAccount_UserId(articleCommentId, userId);
     }
+
+    private ArticleCommentPageDto loadParentCommentPage(Long articleId, String cursor, int size) {
+        CursorPage<ArticleCommentDto> parentComments = getParentComments(articleId, cursor, size);
+        List<Long> parentCommentIds = parentComments.content().stream()
+                .map(ArticleCommentDto::id)
+                .toList();
+        return ArticleCommentPageDto.of(parentComments, countChildComments(articleId, parentCommentIds));
+    }
+
+    /**
+     * 연쇄 삭제가 어차피 자식 댓글을 모두 읽으므로, 같은 엔티티를 따라가며 센다.
+     */
+    private static long countWithDescendants(ArticleComment articleComment) {
+        long count = 0;
+        Deque<ArticleComment> pending = new ArrayDeque<>();
+        pending.push(articleComment);
+        while (!pending.isEmpty()) {
+            ArticleComment comment = pending.pop();
+            count++;
+            comment.getChildComments().forEach(pending::push);
+        }
+        return count;
+    }
+
+    private static int clampPageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+    }
+
+    private static CursorPage<ArticleCommentDto> toCursorPage(List<ArticleComment> articleComments, int pageSize) {
+        String nextCursor = null;
+        if (articleComments.size() > pageSize) {
+            articleComments = articleComments.subList(0, pageSize);
+            ArticleComment last = articleComments.get(pageSize - 1);
+            nextCursor = ArticleCommentCursor.of(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return CursorPage.of(articleComments.stream().map(ArticleCommentDto::from).toList(), nextCursor);
+    }
+
+    /**
+     * 캐시에 없어 실제로 읽었는지 남긴다. 페이지 크기가 캐시된 것과 달라 다시 읽은 경우도 읽은 것으로 본다.
+     */
+    private class FirstPageLoader implements Supplier<ArticleCommentPageDto> {
+        private final Long articleId;
+        private final int size;
+        private boolean loaded;
+
+        private FirstPageLoader(Long articleId, int size) {
+            this.articleId = articleId;
+            this.size = size;
+        }
+
+        @Override
+        public ArticleCommentPageDto get() {
+            loaded = true;
+            return loadParentCommentPage(articleId, null, size);
+        }
+    }
 }
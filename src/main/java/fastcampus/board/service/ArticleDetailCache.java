@@ -0,0 +1,129 @@
+package fastcampus.board.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import fastcampus.board.dto.ArticleCommentDto;
+import fastcampus.board.dto.ArticleCommentPageDto;
+import fastcampus.board.dto.ArticleDto;
+import fastcampus.board.util.AfterCommit;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 상세 화면 캐시. 게시글과 첫 댓글 페이지(대댓글 수 포함)를 읽을 때 채우고,
+ * 쓰기 쪽 서비스가 커밋 이후 해당 항목을 지운다.
+ * <p>
+ * 본문 글자 수를 가중치로 삼아 전체 크기를 제한하며, 넘치면 Caffeine 의 W-TinyLFU 정책으로 덜 읽히는 항목부터 밀어낸다.
+ * 읽는 중에 무효화되면 Caffeine 이 읽기가 끝날 때까지 기다렸다가 지우므로, 지운 뒤에 옛 값이 남지 않는다.
+ */
+@Component
+public class ArticleDetailCache implements MeterBinder {
+
+    private static final String CACHE_NAME = "articleDetail";
+    private static final int ENTRY_OVERHEAD = 64;
+
+    private final Cache<Object, Object> cache;
+
+    public ArticleDetailCache(ArticleDetailCacheProperties properties) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaximumWeight())
+                .weigher((key, value) -> weigh(value))
+                .expireAfterWrite(properties.getExpireAfterWrite())
+                .recordStats()
+                .build();
+    }
+
+    public ArticleDto getArticle(Long articleId, Supplier<ArticleDto> loader) {
+        return (ArticleDto) cache.get(new ArticleKey(articleId), key -> loader.get());
+    }
+
+    /**
+     * 첫 페이지만 캐시한다. 페이지 크기가 캐시된 것과 다르면 캐시하지 않고 바로 읽는다.
+     */
+    public ArticleCommentPageDto getFirstCommentPage(Long articleId, int size, Supplier<ArticleCommentPageDto> loader) {
+        CommentPageEntry entry = (CommentPageEntry) cache.get(new CommentPageKey(articleId),
+                key -> new CommentPageEntry(size, loader.get()));
+        return entry.size() == size ? entry.page() : loader.get();
+    }
+
+    /**
+     * 게시글 내용이나 해시태그가 바뀐 경우
+     */
+    public void invalidateArticle(Long articleId) {
+        AfterCommit.execute(() -> cache.invalidate(new ArticleKey(articleId)));
+    }
+
+    /**
+     * 댓글이나 대댓글이 추가, 삭제된 경우
+     */
+    public void invalidateComments(Long articleId) {
+        AfterCommit.execute(() -> cache.invalidate(new CommentPageKey(articleId)));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+        Gauge.builder("board.article.detail-cache.hit-ratio", cache, c -> c.stats().hitRate())
+                .description("게시글 상세 캐시 적중률")
+                .tags(Tags.of("cache", CACHE_NAME))
+                .register(registry);
+    }
+
+    private static int weigh(Object value) {
+        if (value instanceof ArticleDto article) {
+            return ENTRY_OVERHEAD + length(article.title()) + length(article.content());
+        }
+        if (value instanceof CommentPageEntry entry) {
+            int weight = ENTRY_OVERHEAD;
+            for (ArticleCommentDto comment : entry.page().parentComments().content()) {
+                weight += ENTRY_OVERHEAD + length(comment.content());
+            }
+            return weight;
+        }
+        return 1;
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    private record ArticleKey(Long articleId) {}
+
+    private record CommentPageKey(Long articleId) {}
+
+    private record CommentPageEntry(int size, ArticleCommentPageDto page) {}
+
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("board.article.detail-cache")
+    public static class ArticleDetailCacheProperties {
+        /**
+         * 게시글 상세 캐시의 최대 가중치. 게시글 본문과 댓글 본문의 글자 수 합으로 센다.
+         */
+        private final long maximumWeight;
+
+        /**
+         * 무효화를 놓친 경우에 대비한 최대 유지 시간
+         */
+        private final Duration expireAfterWrite;
+
+        public ArticleDetailCacheProperties(
+                @DefaultValue("16000000") long maximumWeight,
+                @DefaultValue("10m") Duration expireAfterWrite
+        ) {
+            this.maximumWeight = maximumWeight;
+            this.expireAfterWrite = expireAfterWrite;
+        }
+    }
+}
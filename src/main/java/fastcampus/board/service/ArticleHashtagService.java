@@ -3,6 +3,7 @@ package fastcampus.board.service;
 import fastcampus.board.domain.Article;
 import fastcampus.board.domain.ArticleHashtag;
 import fastcampus.board.domain.Hashtag;
+import fastcampus.board.dto.query.ArticleHashtagDto;
 import fastcampus.board.repository.ArticleHashtagRepository;
 import fastcampus.board.repository.HashtagRepository;
 import lombok.RequiredArgsConstructor;
@@ -11,6 +12,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -20,29 +22,63 @@ import java.util.stream.Collectors;
 public class ArticleHashtagService {
     private final ArticleHashtagRepository articleHashtagRepository;
     private final HashtagRepository hashtagRepository;
+    private final HashtagDictionary hashtagDictionary;
+    private final HashtagPopularityTracker hashtagPopularityTracker;
+    private final BoardStatistics boardStatistics;
+    private final ServiceMetrics serviceMetrics;
 
     @Transactional
     public void saveArticleHashtag(Article article, Hashtag hashtag) {
         articleHashtagRepository.save(ArticleHashtag.of(article, hashtag));
     }
 
+    /**
+     * 해시태그는 호출하는 쪽에서 이름 목록으로 한 번에 조회해 둔 것이어야 한다. 조회되지 않은(id 가 없는) 해시태그만 새로 저장한다.
+     * 해시태그와 연결 엔티티의 ID 는 테이블 생성기에서 묶음으로 할당받으므로, INSERT 는 flush 시점에 JDBC 배치로 나간다.
+     */
     @Transactional
     public Set<ArticleHashtag> saveArticleHashtags(Article article, Collection<Hashtag> hashtags) {
-        Set<ArticleHashtag> articleHashtags = new HashSet<>();
-        for (Hashtag hashtag : hashtags) {
-            if (hashtagRepository.findByHashtagName(hashtag.getHashtagName()).isEmpty()) {
-                hashtagRepository.save(hashtag);
-            }
-            ArticleHashtag articleHashtag = ArticleHashtag.of(article, hashtag);
-            articleHashtagRepository.save(articleHashtag);
-            articleHashtags.add(articleHashtag);
-        }
-        return articleHashtags;
+        List<Hashtag> newHashtags = hashtags.stream()
+                .filter(hashtag -> hashtag.getId() == null)
+                .toList();
+        hashtagRepository.saveAll(newHashtags);
+        newHashtags.forEach(hashtag -> hashtagDictionary.put(hashtag.getId(), hashtag.getHashtagName()));
+        boardStatistics.addHashtags(newHashtags.size());
+
+        List<ArticleHashtag> articleHashtags = articleHashtagRepository.saveAll(hashtags.stream()
+                .map(hashtag -> ArticleHashtag.of(article, hashtag))
+                .toList());
+        hashtagPopularityTracker.increase(
+                hashtags.stream().map(Hashtag::getHashtagName).toList(),
+                article.getCreatedAt()
+        );
+        serviceMetrics.recordArticleHashtagsSaved(newHashtags.size(), articleHashtags.size());
+        return new HashSet<>(articleHashtags);
     }
 
     @Transactional
     public void deleteArticleHashtagsByArticleId(Long articleId) {
-        articleHashtagRepository.deleteArticleHashtagsByArticle_Id(articleId);
+        deleteArticleHashtags(articleHashtagRepository.findByArticleId(articleId));
+    }
+
+    /**
+     * 한 게시글에 달린 연결만 넘겨야 한다. 인기 집계는 첫 연결의 게시글 작성 시각으로 되돌린다.
+     */
+    @Transactional
+    public void deleteArticleHashtags(Collection<ArticleHashtag> articleHashtags) {
+        if (articleHashtags.isEmpty()) {
+            return;
+        }
+        articleHashtagRepository.deleteAll(articleHashtags);
+        hashtagPopularityTracker.decrease(
+                articleHashtags.stream().map(ArticleHashtag::getHashtagName).toList(),
+                articleHashtags.iterator().next().getArticle().getCreatedAt()
+        );
+        serviceMetrics.recordArticleHashtagsDeleted(articleHashtags.size());
+    }
+
+    public Set<ArticleHashtag> getArticleHashtagsByArticleId(Long articleId) {
+        return articleHashtagRepository.findByArticleId(articleId);
     }
 
     public Set<Long> getHashtagIdsByArticleId(Long articleId) {
@@ -59,18 +95,12 @@ public class ArticleHashtagService {
                 .collect(Collectors.toUnmodifiableSet());
     }
 
+    /**
+     * 이름만 필요하므로 연결 엔티티 대신 이름만 조회한다. 연결 엔티티를 읽으면 게시글까지 즉시 로딩된다.
+     */
     public Set<String> getHashtagNamesByArticleId(Long articleId) {
-        Set<ArticleHashtag> articleHashtags = articleHashtagRepository.findByArticleId(articleId);
-        return articleHashtags.stream()
-                .map(ArticleHashtag::getHashtagName)
+        return articleHashtagRepository.findDtoByArticleIds(List.of(articleId)).stream()
+                .map(ArticleHashtagDto::hashtagName)
                 .collect(Collectors.toUnmodifiableSet());
     }
-
-    public boolean isExistForHashtagId(Long hashtagId) {
-        Set<ArticleHashtag> articleHashtags = articleHashtagRepository.findByHashtag_Id(hashtagId);
-        if (articleHashtags.isEmpty()) {
-            return false;
-        }
-        return true;
-    }
  }
@@ -1,27 +1,39 @@
 package fastcampus.board.service;
 
 import fastcampus.board.domain.Article;
+import fastcampus.board.domain.ArticleHashtag;
 import fastcampus.board.domain.Hashtag;
 import fastcampus.board.domain.UserAccount;
+import fastcampus.board.domain.constant.HashtagMatchMode;
 import fastcampus.board.domain.constant.SearchType;
+import fastcampus.board.dto.ArticleCursor;
 import fastcampus.board.dto.ArticleDto;
+import fastcampus.board.dto.ArticleListDto;
 import fastcampus.board.dto.ArticleWithCommentsDto;
+import fastcampus.board.dto.CursorPage;
 import fastcampus.board.dto.query.ArticleHashtagDto;
-import fastcampus.board.dto.query.ArticleSelectDto;
+import fastcampus.board.dto.query.ArticleListRow;
 import fastcampus.board.repository.ArticleHashtagRepository;
 import fastcampus.board.repository.ArticleRepository;
 import fastcampus.board.repository.UserAccountRepository;
+import fastcampus.board.service.ServiceMetrics.CacheResult;
+import fastcampus.board.service.ServiceMetrics.SearchSource;
+import fastcampus.board.service.search.ArticleSearchIndex;
+import fastcampus.board.service.search.SearchCountCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityNotFoundException;
 import java.util.*;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -32,42 +44,89 @@ import static java.util.stream.Collectors.toUnmodifiableSet;
 @Transactional(readOnly = true)
 @Service
 public class ArticleService {
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final ArticleHashtagService articleHashtagService;
     private final HashtagService hashtagService;
     private final ArticleRepository articleRepository;
     private final UserAccountRepository userAccountRepository;
     private final ArticleHashtagRepository articleHashtagRepository;
+    private final ArticleSearchIndex articleSearchIndex;
+    private final SearchCountCache searchCountCache;
+    private final ArticleDetailCache articleDetailCache;
+    private final BoardStatistics boardStatistics;
+    private final ArticleViewCounter articleViewCounter;
+    private final ServiceMetrics serviceMetrics;
+
+    public Page<ArticleListDto> searchArticles(SearchType searchType, String searchKeyword, Pageable pageable) {
+        return searchArticles(searchType, searchKeyword, HashtagMatchMode.ANY, pageable);
+    }
 
-    public Page<ArticleDto> searchArticles(SearchType searchType, String searchKeyword, Pageable pageable) {
+    /**
+     * @param hashtagMatchMode 해시태그 검색에서 여러 해시태그를 하나라도(ANY) 또는 모두(ALL) 포함해야 하는지. {@code null} 이면 ANY.
+     */
+    public Page<ArticleListDto> searchArticles(SearchType searchType, String searchKeyword, HashtagMatchMode hashtagMatchMode, Pageable pageable) {
         if (searchKeyword == null || searchKeyword.isBlank()) {
-            return createArticleDtoWithHashtagByArticlePage(articleRepository.findAll(pageable));
+            return searchArticlesViaRepository(null, null, pageable);
         }
 
+        String keyword = searchKeyword.strip();
         return switch (searchType) {
-            case TITLE ->
-                    createArticleDtoWithHashtagByArticlePage(articleRepository.findByTitleContaining(searchKeyword, pageable));
-            case CONTENT ->
-                    createArticleDtoWithHashtagByArticlePage(articleRepository.findByContentContaining(searchKeyword, pageable));
-            case ID ->
-                    createArticleDtoWithHashtagByArticlePage(articleRepository.findByUserAccount_UserIdContaining(searchKeyword, pageable));
-            case NICKNAME ->
-                    createArticleDtoWithHashtagByArticlePage(articleRepository.findByUserAccount_NicknameContaining(searchKeyword, pageable));
-            case HASHTAG ->
-                    createArticleDtoWithHashtagByArticleSelectDtoPage(articleHashtagRepository.findByHashtagNames(Arrays.stream(searchKeyword.split(" ")).toList(), pageable));
+            case TITLE, CONTENT -> articleSearchIndex.supports(keyword, pageable) ?
+                    searchArticlesViaIndex(searchType, keyword, pageable) :
+                    searchArticlesViaRepository(searchType, keyword, pageable);
+            case ID, NICKNAME -> searchArticlesViaRepository(searchType, keyword, pageable);
+            case HASHTAG -> searchArticlesViaHashtagNames(
+                    Arrays.stream(keyword.split("\\s+")).toList(),
+                    hashtagMatchMode == null ? HashtagMatchMode.ANY : hashtagMatchMode,
+                    pageable
+            );
         };
     }
 
+    /**
+     * 커서 기반으로 게시글 목록을 조회한다. 페이지 깊이와 무관하게 인덱스 범위 탐색만 하며, 전체 개수를 세지 않는다.
+     */
+    public CursorPage<ArticleListDto> getArticlesByCursor(String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        List<ArticleListRow> rows = articleRepository.findListRowsBefore(ArticleCursor.decode(cursor), pageSize + 1);
+
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            ArticleListRow last = rows.get(pageSize - 1);
+            nextCursor = ArticleCursor.of(last.createdAt(), last.id()).encode();
+        }
+
+        return CursorPage.of(createArticleListDtos(rows), nextCursor);
+    }
+
     public ArticleWithCommentsDto getArticleWithComments(Long articleId) {
         return articleRepository.findById(articleId)
                 .map(this::createArticleWithCommentsDtoWithHashtagByArticle)
+                .map(dto -> dto.withViewCount(dto.viewCount() + articleViewCounter.getPendingCount(dto.id())))
                 .orElseThrow(() -> new EntityNotFoundException("게시글이 없습니다 - articleId: " + articleId));
     }
 
+    /**
+     * 캐시에 있으면 DB 커넥션을 잡지 않도록 트랜잭션을 시작하지 않는다. 캐시를 채울 때는 조회마다 각자의 트랜잭션에서 읽는다.
+     * 조회수는 캐시에 담긴 값에 아직 DB 에 쓰지 않은 조회수를 더해 돌려준다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public ArticleDto getArticle(Long articleId) {
-        return articleRepository.findById(articleId)
-                .map(article ->
-                        ArticleDto.from(article, articleHashtagService.getHashtagNamesByArticleId(articleId)))
-                .orElseThrow(() -> new EntityNotFoundException("게시글이 없습니다 - articleId: " + articleId));
+        long startedAt = System.nanoTime();
+        ArticleLoader loader = new ArticleLoader(articleId);
+        ArticleDto article = articleDetailCache.getArticle(articleId, loader);
+        serviceMetrics.recordArticleDetail(loader.loaded ? CacheResult.MISS : CacheResult.HIT, startedAt);
+        return withPendingViews(article);
+    }
+
+    /**
+     * 조회수는 메모리에만 더하고, DB 에는 {@link ArticleViewCounter} 가 주기적으로 모아서 쓴다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void increaseViewCount(Long articleId) {
+        articleViewCounter.increment(articleId);
     }
 
     @Transactional
@@ -78,6 +137,9 @@ public class ArticleService {
         Article article = dto.toEntity(userAccount);
         articleRepository.save(article);
         articleHashtagService.saveArticleHashtags(article, hashtags);
+        articleSearchIndex.index(article);
+        searchCountCache.invalidateAll();
+        boardStatistics.addArticles(1);
     }
 
     @Transactional
@@ -92,15 +154,11 @@ public class ArticleService {
                 }
                 if (dto.content() != null) {
                     article.setContent(dto.content());
+                    renewArticleHashtags(article);
                 }
-                Set<Long> hashtagIds = articleHashtagService.getHashtagIdsByArticleId(articleId);
-                articleHashtagService.deleteArticleHashtagsByArticleId(articleId);
-                articleRepository.flush();
-
-                hashtagIds.forEach(hashtagService::deleteHashtagWithoutArticles);
-
-                Set<Hashtag> hashtags = renewHashtagsFormContent(dto.content());
-                articleHashtagService.saveArticleHashtags(article, hashtags);
+                articleSearchIndex.index(article);
+                searchCountCache.invalidateAll();
+                articleDetailCache.invalidateArticle(articleId);
             }
         } catch (EntityNotFoundException e) {
             log.warn("게시글 업데이트 실패! 게시글 수정에 필요한 정보를 찾을 수 없습니다. ㅡ {}", e.getLocalizedMessage());
@@ -116,25 +174,91 @@ public class ArticleService {
         Set<Long> hashtagIds = articleHashtagService.getHashtagIdsByArticleId(articleId);
         articleHashtagService.deleteArticleHashtagsByArticleId(articleId);
         articleRepository.deleteByIdAndUserAccount_UserId(articleId, userId);
-        articleRepository.flush();
-
-        hashtagIds.forEach(hashtagService::deleteHashtagWithoutArticles);
+        hashtagService.releaseHashtags(hashtagIds);
+        articleSearchIndex.remove(articleId);
+        searchCountCache.invalidateAll();
+        articleDetailCache.invalidateArticle(articleId);
+        articleDetailCache.invalidateComments(articleId);
+        boardStatistics.addArticles(-1);
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     public long getArticleCount() {
-        return articleRepository.count();
+        return boardStatistics.getArticleCount();
     }
 
-    public Page<ArticleDto> searchArticlesViaHashtag(String hashtagName, Pageable pageable) {
+    public Page<ArticleListDto> searchArticlesViaHashtag(String hashtagName, Pageable pageable) {
         if (hashtagName == null || hashtagName.isBlank()) {
             return Page.empty(pageable);
         }
 
-        return createArticleDtoWithHashtagByArticleSelectDtoPage(articleHashtagRepository.findByHashtagNames(List.of(hashtagName), pageable));
+        return searchArticlesViaHashtagNames(List.of(hashtagName.strip()), HashtagMatchMode.ANY, pageable);
+    }
+
+    private Page<ArticleListDto> searchArticlesViaRepository(SearchType searchType, String keyword, Pageable pageable) {
+        long startedAt = System.nanoTime();
+        List<ArticleListRow> rows = articleRepository.findListRowsBySearchKeyword(searchType, keyword, pageable);
+        Page<ArticleListRow> rowPage = PageableExecutionUtils.getPage(rows, pageable, () ->
+                searchCountCache.count(searchType, keyword, pageable,
+                        limit -> articleRepository.countBySearchKeyword(searchType, keyword, limit)));
+
+        return serviceMetrics.recordSearch(searchType, SearchSource.REPOSITORY, startedAt,
+                new PageImpl<>(createArticleListDtos(rowPage.getContent()), pageable, rowPage.getTotalElements()));
+    }
+
+    /**
+     * 해시태그 이름을 ID 로 바꾼 뒤, 게시글 ID 만 페이징하여 조회하고 해당 페이지의 게시글만 채운다.
+     */
+    private Page<ArticleListDto> searchArticlesViaHashtagNames(List<String> hashtagNames, HashtagMatchMode matchMode, Pageable pageable) {
+        long startedAt = System.nanoTime();
+        List<Long> hashtagIds = hashtagService.findHashtagIdsByNames(hashtagNames);
+        if (hashtagIds.isEmpty() || (matchMode == HashtagMatchMode.ALL && hashtagIds.size() < Set.copyOf(hashtagNames).size())) {
+            return serviceMetrics.recordSearch(SearchType.HASHTAG, SearchSource.HASHTAG, startedAt, Page.empty(pageable));
+        }
+
+        List<Long> articleIds = articleHashtagRepository.findArticleIdsByHashtagIds(hashtagIds, matchMode, pageable);
+        Page<Long> articleIdPage = PageableExecutionUtils.getPage(articleIds, pageable, () ->
+                searchCountCache.count(SearchType.HASHTAG, matchMode, String.join(" ", hashtagNames), pageable,
+                        limit -> articleHashtagRepository.countArticlesByHashtagIds(hashtagIds, matchMode, limit)));
+
+        return serviceMetrics.recordSearch(SearchType.HASHTAG, SearchSource.HASHTAG, startedAt,
+                createArticleListDtoPageByArticleIds(articleIdPage));
+    }
+
+    private Page<ArticleListDto> searchArticlesViaIndex(SearchType searchType, String searchKeyword, Pageable pageable) {
+        long startedAt = System.nanoTime();
+        return serviceMetrics.recordSearch(searchType, SearchSource.INDEX, startedAt,
+                createArticleListDtoPageByArticleIds(articleSearchIndex.search(searchType, searchKeyword, pageable)));
+    }
+
+    /**
+     * 본문의 해시태그와 저장된 연결을 비교해, 빠진 해시태그의 연결만 지우고 새 해시태그의 연결만 추가한다.
+     */
+    private void renewArticleHashtags(Article article) {
+        Set<String> addedHashtagNames = new HashSet<>(hashtagService.parseHashtagNames(article.getContent()));
+        Set<ArticleHashtag> removedArticleHashtags = new HashSet<>();
+        for (ArticleHashtag articleHashtag : articleHashtagService.getArticleHashtagsByArticleId(article.getId())) {
+            if (!addedHashtagNames.remove(articleHashtag.getHashtagName())) {
+                removedArticleHashtags.add(articleHashtag);
+            }
+        }
+
+        if (!removedArticleHashtags.isEmpty()) {
+            articleHashtagService.deleteArticleHashtags(removedArticleHashtags);
+            hashtagService.releaseHashtags(removedArticleHashtags.stream()
+                    .map(ArticleHashtag::getHashtagId)
+                    .toList());
+        }
+        if (!addedHashtagNames.isEmpty()) {
+            articleHashtagService.saveArticleHashtags(article, renewHashtags(addedHashtagNames));
+        }
     }
 
     private Set<Hashtag> renewHashtagsFormContent(String content) {
-        Set<String> hashtagNamesInContent = hashtagService.parseHashtagNames(content);
+        return renewHashtags(hashtagService.parseHashtagNames(content));
+    }
+
+    private Set<Hashtag> renewHashtags(Set<String> hashtagNamesInContent) {
         Set<Hashtag> hashtags = hashtagService.findHashtagsByNames(hashtagNamesInContent);
         Set<String> existingHashtagNames = hashtags.stream()
                 .map(Hashtag::getHashtagName)
@@ -153,24 +277,35 @@ public class ArticleService {
         return ArticleWithCommentsDto.from(article, articleHashtagService.getHashtagNamesByArticleId(article.getId()));
     }
     
-    private Page<ArticleDto> createArticleDtoWithHashtagByArticlePage(Page<Article> articlePage) {
-        Map<Long, Set<String>> articleHashtagsMap = getArticleHashtagMapFromArticlePage(articlePage.stream().map(Article::getId));
+    private List<ArticleListDto> createArticleListDtos(List<ArticleListRow> rows) {
+        Map<Long, Set<String>> articleHashtagsMap = getArticleHashtagMapFromArticlePage(rows.stream().map(ArticleListRow::id));
 
-        List<ArticleDto> collect = articlePage.stream()
-                .map(article -> ArticleDto.from(article, articleHashtagsMap.get(article.getId())))
+        return rows.stream()
+                .map(row -> ArticleListDto.from(row, articleHashtagsMap.get(row.id())))
+                .map(this::withPendingViews)
                 .toList();
-
-        return new PageImpl<>(collect, articlePage.getPageable(), articlePage.getTotalElements());
     }
 
-    private Page<ArticleDto> createArticleDtoWithHashtagByArticleSelectDtoPage(Page<ArticleSelectDto> selectDtoPage) {
-        Map<Long, Set<String>> articleHashtagsMap = getArticleHashtagMapFromArticlePage(selectDtoPage.stream().map(ArticleSelectDto::id));
+    private Page<ArticleListDto> createArticleListDtoPageByArticleIds(Page<Long> articleIdPage) {
+        Map<Long, ArticleListRow> rowMap = articleRepository.findListRowsByIds(articleIdPage.getContent()).stream()
+                .collect(Collectors.toMap(ArticleListRow::id, Function.identity()));
 
-        List<ArticleDto> collect = selectDtoPage.stream()
-                .map(selectDto -> ArticleDto.from(selectDto, articleHashtagsMap.get(selectDto.id())))
+        List<ArticleListRow> rows = articleIdPage.stream()
+                .map(rowMap::get)
+                .filter(Objects::nonNull)
                 .toList();
 
-        return new PageImpl<>(collect, selectDtoPage.getPageable(), selectDtoPage.getTotalElements());
+        return new PageImpl<>(createArticleListDtos(rows), articleIdPage.getPageable(), articleIdPage.getTotalElements());
+    }
+
+    private ArticleDto withPendingViews(ArticleDto dto) {
+        long pendingCount = articleViewCounter.getPendingCount(dto.id());
+        return pendingCount == 0 ? dto : dto.withViewCount(dto.viewCount() + pendingCount);
+    }
+
+    private ArticleListDto withPendingViews(ArticleListDto dto) {
+        long pendingCount = articleViewCounter.getPendingCount(dto.id());
+        return pendingCount == 0 ? dto : dto.withViewCount(dto.viewCount() + pendingCount);
     }
 
     private Map<Long, Set<String>> getArticleHashtagMapFromArticlePage(Stream<Long> articlePage) {
@@ -189,5 +324,26 @@ public class ArticleService {
         return articleHashtagsMap;
     }
 
+    /**
+     * 캐시에 없어 실제로 읽었는지 남긴다. 호출마다 만들던 로더 람다를 대신하므로 적중 여부를 재느라 할당이 늘지 않는다.
+     */
+    private class ArticleLoader implements Supplier<ArticleDto> {
+        private final Long articleId;
+        private boolean loaded;
+
+        private ArticleLoader(Long articleId) {
+            this.articleId = articleId;
+        }
+
+        @Override
+        public ArticleDto get() {
+            loaded = true;
+            return articleRepository.findById(articleId)
+                    .map(article ->
+                            ArticleDto.from(article, articleHashtagService.getHashtagNamesByArticleId(articleId)))
+                    .orElseThrow(() -> new EntityNotFoundException("게시글이 없습니다 - articleId: " + articleId));
+        }
+    }
+
 }
 
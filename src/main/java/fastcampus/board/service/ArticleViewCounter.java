@@ -0,0 +1,166 @@
+package fastcampus.board.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.IntervalTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 조회수. 조회할 때는 게시글별 {@link LongAdder} 에 더하기만 하고, 주기마다 모인 만큼을 JDBC 배치 UPDATE 로 DB 에 더한다.
+ * <p>
+ * 카운터 맵은 주기마다 새로 바꿔 끼우고, 바꿔 낸 맵은 한 주기를 더 기다린 뒤에 DB 에 쓴다.
+ * 맵을 바꾸는 순간 옛 맵에 더하던 요청이 마저 더할 시간을 주기 위해서이며, 덕분에 카운터를 지우는 데 잠금이 필요 없다.
+ * 메모리에는 최근 두 주기 동안 조회된 게시글만 남는다. 종료할 때는 기다리지 않고 모두 쓴다.
+ */
+@Slf4j
+@Component
+public class ArticleViewCounter implements SchedulingConfigurer, MeterBinder {
+
+    private static final String UPDATE_SQL = "update article set view_count = view_count + ? where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ArticleDetailCache articleDetailCache;
+    private final ArticleViewCountProperties properties;
+
+    private volatile Map<Long, LongAdder> current = new ConcurrentHashMap<>();
+    private volatile Map<Long, LongAdder> previous = new ConcurrentHashMap<>();
+    private volatile Map<Long, LongAdder> flushing = Map.of();
+    private final LongAdder flushed = new LongAdder();
+
+    public ArticleViewCounter(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ArticleDetailCache articleDetailCache,
+            ArticleViewCountProperties properties
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.articleDetailCache = articleDetailCache;
+        this.properties = properties;
+    }
+
+    public void increment(Long articleId) {
+        current.computeIfAbsent(articleId, id -> new LongAdder()).increment();
+    }
+
+    /**
+     * 아직 DB 에 더해지지 않은 조회수. DB 에서 읽은 조회수에 더해 보여준다.
+     */
+    public long getPendingCount(Long articleId) {
+        return sum(current, articleId) + sum(previous, articleId) + sum(flushing, articleId);
+    }
+
+    /**
+     * 한 주기를 기다린 맵을 DB 에 쓰고, 지금 맵을 다음 차례로 넘긴다.
+     *
+     * @return DB 에 조회수를 더한 게시글 수
+     */
+    public synchronized int flush() {
+        Map<Long, LongAdder> ready = previous;
+        previous = current;
+        current = new ConcurrentHashMap<>();
+        return write(ready);
+    }
+
+    @PreDestroy
+    public synchronized int flushAll() {
+        Map<Long, LongAdder> all = previous;
+        current.forEach((articleId, views) -> all.computeIfAbsent(articleId, id -> new LongAdder()).add(views.sum()));
+        previous = new ConcurrentHashMap<>();
+        current = new ConcurrentHashMap<>();
+        return write(all);
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        long intervalMillis = properties.getFlushInterval().toMillis();
+        taskRegistrar.addFixedDelayTask(new IntervalTask(this::flush, intervalMillis, intervalMillis));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("board.article.views.pending", this, counter -> counter.current.size() + counter.previous.size())
+                .description("DB 에 쓰기를 기다리는 조회수가 있는 게시글 수")
+                .register(registry);
+        FunctionCounter.builder("board.article.views.flushed", flushed, LongAdder::sum)
+                .description("DB 에 더한 조회수")
+                .register(registry);
+    }
+
+    private int write(Map<Long, LongAdder> views) {
+        if (views.isEmpty()) {
+            return 0;
+        }
+
+        flushing = views;
+        try {
+            List<Object[]> args = new ArrayList<>(views.size());
+            views.forEach((articleId, count) -> args.add(new Object[]{count.sum(), articleId}));
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(UPDATE_SQL, args, properties.getBatchSize(),
+                            (ps, arg) -> {
+                                ps.setLong(1, (Long) arg[0]);
+                                ps.setLong(2, (Long) arg[1]);
+                            }));
+
+            views.keySet().forEach(articleDetailCache::invalidateArticle);
+            args.forEach(arg -> flushed.add((Long) arg[0]));
+            return args.size();
+        } catch (RuntimeException e) {
+            log.warn("조회수 저장 실패, 다음 주기에 다시 시도합니다. - 게시글 수: {}", views.size(), e);
+            views.forEach((articleId, count) -> previous.computeIfAbsent(articleId, id -> new LongAdder()).add(count.sum()));
+            return 0;
+        } finally {
+            flushing = Map.of();
+        }
+    }
+
+    private static long sum(Map<Long, LongAdder> views, Long articleId) {
+        LongAdder count = views.get(articleId);
+        return count == null ? 0 : count.sum();
+    }
+
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("board.article.view-count")
+    public static class ArticleViewCountProperties {
+        /**
+         * 메모리에 모은 조회수를 DB 에 더하는 주기
+         */
+        private final Duration flushInterval;
+
+        /**
+         * 한 번의 JDBC 배치로 보낼 게시글 수
+         */
+        private final int batchSize;
+
+        public ArticleViewCountProperties(
+                @DefaultValue("5s") Duration flushInterval,
+                @DefaultValue("500") int batchSize
+        ) {
+            this.flushInterval = flushInterval;
+            this.batchSize = batchSize;
+        }
+    }
+}
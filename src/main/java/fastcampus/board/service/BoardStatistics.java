@@ -0,0 +1,178 @@
+package fastcampus.board.service;
+
+import fastcampus.board.repository.ArticleCommentRepository;
+import fastcampus.board.repository.ArticleRepository;
+import fastcampus.board.repository.HashtagRepository;
+import fastcampus.board.repository.UserAccountRepository;
+import fastcampus.board.util.AfterCommit;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.IntervalTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 게시글, 댓글, 해시태그, 회원 전체 수. 시작할 때 DB 에서 센 값으로 채우고, 이후에는 쓰기 쪽 서비스가 커밋 이후 더하고 뺀다.
+ * 연쇄 삭제처럼 서비스가 정확히 알 수 없는 변경은 주기적인 재조정에서 DB 값으로 맞춘다.
+ */
+@Slf4j
+@Component
+public class BoardStatistics implements SchedulingConfigurer, MeterBinder {
+
+    private final ArticleRepository articleRepository;
+    private final ArticleCommentRepository articleCommentRepository;
+    private final HashtagRepository hashtagRepository;
+    private final UserAccountRepository userAccountRepository;
+    private final BoardStatisticsProperties properties;
+
+    private final Total articles = new Total();
+    private final Total articleComments = new Total();
+    private final Total hashtags = new Total();
+    private final Total userAccounts = new Total();
+    private volatile boolean ready;
+
+    public BoardStatistics(
+            ArticleRepository articleRepository,
+            ArticleCommentRepository articleCommentRepository,
+            HashtagRepository hashtagRepository,
+            UserAccountRepository userAccountRepository,
+            BoardStatisticsProperties properties
+    ) {
+        this.articleRepository = articleRepository;
+        this.articleCommentRepository = articleCommentRepository;
+        this.hashtagRepository = hashtagRepository;
+        this.userAccountRepository = userAccountRepository;
+        this.properties = properties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcile() {
+        articles.reconcile("article", articleRepository::count);
+        articleComments.reconcile("articleComment", articleCommentRepository::count);
+        hashtags.reconcile("hashtag", hashtagRepository::count);
+        userAccounts.reconcile("userAccount", userAccountRepository::count);
+        ready = true;
+    }
+
+    /**
+     * 시작 직후 아직 채워지지 않았으면 DB 에서 바로 센다.
+     */
+    public long getArticleCount() {
+        return ready ? articles.sum() : articleRepository.count();
+    }
+
+    public long getArticleCommentCount() {
+        return ready ? articleComments.sum() : articleCommentRepository.count();
+    }
+
+    public long getHashtagCount() {
+        return ready ? hashtags.sum() : hashtagRepository.count();
+    }
+
+    public long getUserAccountCount() {
+        return ready ? userAccounts.sum() : userAccountRepository.count();
+    }
+
+    public void addArticles(long delta) {
+        articles.add(delta);
+    }
+
+    public void addArticleComments(long delta) {
+        articleComments.add(delta);
+    }
+
+    public void addHashtags(long delta) {
+        hashtags.add(delta);
+    }
+
+    public void addUserAccounts(long delta) {
+        userAccounts.add(delta);
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        long intervalMillis = properties.getReconcileInterval().toMillis();
+        if (intervalMillis > 0) {
+            taskRegistrar.addFixedDelayTask(new IntervalTask(this::reconcile, intervalMillis, intervalMillis));
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bindTotal(registry, "article", this::getArticleCount);
+        bindTotal(registry, "articleComment", this::getArticleCommentCount);
+        bindTotal(registry, "hashtag", this::getHashtagCount);
+        bindTotal(registry, "userAccount", this::getUserAccountCount);
+    }
+
+    private void bindTotal(MeterRegistry registry, String type, LongSupplier total) {
+        Gauge.builder("board.totals", total, LongSupplier::getAsLong)
+                .description("게시판 전체 수")
+                .tag("type", type)
+                .register(registry);
+    }
+
+    /**
+     * 재조정은 DB 를 세는 동안 더하고 뺀 것이 없을 때만 적용한다. 세는 도중 바뀌었으면 다음 주기로 미룬다.
+     */
+    private static final class Total {
+        private final LongAdder sum = new LongAdder();
+        private final AtomicLong version = new AtomicLong();
+
+        long sum() {
+            return sum.sum();
+        }
+
+        void add(long delta) {
+            if (delta == 0) {
+                return;
+            }
+            AfterCommit.execute(() -> {
+                version.incrementAndGet();
+                sum.add(delta);
+            });
+        }
+
+        void reconcile(String type, LongSupplier counter) {
+            long startVersion = version.get();
+            long count = counter.getAsLong();
+            if (version.get() != startVersion) {
+                return;
+            }
+
+            long drift = count - sum.sum();
+            if (drift != 0) {
+                sum.add(drift);
+                log.debug("전체 수 재조정 - type: {}, drift: {}", type, drift);
+            }
+        }
+    }
+
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("board.statistics")
+    public static class BoardStatisticsProperties {
+        /**
+         * 메모리에 유지하는 전체 수를 DB 에서 센 값으로 다시 맞추는 주기. 0 이면 시작할 때만 센다.
+         */
+        private final Duration reconcileInterval;
+
+        public BoardStatisticsProperties(@DefaultValue("10m") Duration reconcileInterval) {
+            this.reconcileInterval = reconcileInterval;
+        }
+    }
+}
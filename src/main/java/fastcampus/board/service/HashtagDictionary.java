@@ -0,0 +1,212 @@
+package fastcampus.board.service;
+
+import fastcampus.board.dto.query.HashtagEntry;
+import fastcampus.board.repository.HashtagRepository;
+import fastcampus.board.util.AfterCommit;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 해시태그 이름 ↔ ID 사전. 기동 시 DB 에서 적재하고, 해시태그 추가/삭제는 커밋 이후 반영한다.
+ * 적재 중에 커밋된 추가/삭제는 모아 두었다가 적재가 끝나면 순서대로 다시 적용한다.
+ * 최대 개수를 넘는 해시태그는 올리지 않으며, 그때부터는 {@link #isComplete()} 가 false 가 된다.
+ * 사전은 알고 있는 이름의 DB 조회를 건너뛰는 데만 쓰고, 사전에 없는 이름은 항상 DB 에서 확인해야 한다.
+ */
+@Slf4j
+@Component
+public class HashtagDictionary implements MeterBinder {
+
+    private static final int LOAD_BATCH_SIZE = 1_000;
+
+    private final HashtagRepository hashtagRepository;
+    private final int maximumSize;
+
+    private final Map<String, Long> idsByName = new ConcurrentHashMap<>();
+    private final Map<Long, String> namesById = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final List<Runnable> pendingUpdates = new ArrayList<>();
+    private boolean rebuilding;
+    private volatile boolean ready;
+    private volatile boolean complete;
+    private volatile List<String> sortedNames;
+
+    public HashtagDictionary(HashtagRepository hashtagRepository, HashtagDictionaryProperties properties) {
+        this.hashtagRepository = hashtagRepository;
+        this.maximumSize = properties.getMaximumSize();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        ready = false;
+        synchronized (pendingUpdates) {
+            rebuilding = true;
+        }
+        idsByName.clear();
+        namesById.clear();
+        sortedNames = null;
+
+        boolean loadedAll = true;
+        long lastHashtagId = 0L;
+        List<HashtagEntry> entries;
+        do {
+            entries = hashtagRepository.findEntriesAfter(lastHashtagId, LOAD_BATCH_SIZE);
+            for (HashtagEntry entry : entries) {
+                if (idsByName.size() >= maximumSize) {
+                    loadedAll = false;
+                    break;
+                }
+                idsByName.put(entry.hashtagName(), entry.id());
+                namesById.put(entry.id(), entry.hashtagName());
+            }
+            if (!entries.isEmpty()) {
+                lastHashtagId = entries.get(entries.size() - 1).id();
+            }
+        } while (loadedAll && entries.size() == LOAD_BATCH_SIZE);
+
+        complete = loadedAll;
+        synchronized (pendingUpdates) {
+            pendingUpdates.forEach(Runnable::run);
+            pendingUpdates.clear();
+            rebuilding = false;
+        }
+        ready = true;
+        log.info("해시태그 사전 적재 완료 - 해시태그 수: {}, 전체 적재 여부: {}", idsByName.size(), complete);
+    }
+
+    /**
+     * 사전이 모든 해시태그를 담고 있는지. 다른 인스턴스에서 추가한 해시태그는 반영되지 않으므로,
+     * 인스턴스가 하나일 때만 "사전에 없는 이름은 DB 에도 없다" 고 볼 수 있다. 목록 화면처럼 조금 늦어도 되는 곳에만 쓴다.
+     */
+    public boolean isComplete() {
+        return ready && complete;
+    }
+
+    /**
+     * @return 사전에 없으면 {@code null}
+     */
+    public Long getId(String hashtagName) {
+        Long id = ready ? idsByName.get(hashtagName) : null;
+        (id != null ? hits : misses).increment();
+        return id;
+    }
+
+    public String getName(long hashtagId) {
+        String name = ready ? namesById.get(hashtagId) : null;
+        (name != null ? hits : misses).increment();
+        return name;
+    }
+
+    /**
+     * 이름 순으로 정렬된 전체 해시태그 이름. 변경이 없는 동안은 같은 리스트를 재사용한다.
+     * {@link #isComplete()} 가 false 이면 일부만 담겨 있을 수 있다.
+     */
+    public List<String> getNames() {
+        List<String> names = sortedNames;
+        if (names == null) {
+            names = idsByName.keySet().stream()
+                    .sorted(Comparator.naturalOrder())
+                    .toList();
+            sortedNames = names;
+        }
+        return names;
+    }
+
+    /**
+     * DB 에서 조회해 확인한 해시태그를 사전에 채운다. 커밋되지 않은 해시태그에는 {@link #put} 을 사용해야 한다.
+     */
+    public void load(long hashtagId, String hashtagName) {
+        update(() -> add(hashtagId, hashtagName));
+    }
+
+    public void put(long hashtagId, String hashtagName) {
+        AfterCommit.execute(() -> load(hashtagId, hashtagName));
+    }
+
+    public void remove(long hashtagId) {
+        AfterCommit.execute(() -> update(() -> {
+            synchronized (this) {
+                String name = namesById.remove(hashtagId);
+                if (name != null) {
+                    idsByName.remove(name, hashtagId);
+                    sortedNames = null;
+                }
+            }
+        }));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("board.hashtag.dictionary.lookups", hits, LongAdder::sum)
+                .description("해시태그 사전 조회 수")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("board.hashtag.dictionary.lookups", misses, LongAdder::sum)
+                .description("해시태그 사전 조회 수")
+                .tag("result", "miss")
+                .register(registry);
+        Gauge.builder("board.hashtag.dictionary.size", idsByName, Map::size)
+                .description("해시태그 사전에 올라간 해시태그 수")
+                .register(registry);
+        Gauge.builder("board.hashtag.dictionary.complete", this, dictionary -> dictionary.isComplete() ? 1 : 0)
+                .description("해시태그 사전이 모든 해시태그를 담고 있으면 1")
+                .register(registry);
+    }
+
+    /**
+     * 적재 중이면 이미 읽어 간 배치에 덮이거나 빠지지 않도록 모아 두고, 아니면 바로 반영한다.
+     */
+    private void update(Runnable mutation) {
+        synchronized (pendingUpdates) {
+            if (rebuilding) {
+                pendingUpdates.add(mutation);
+                return;
+            }
+        }
+        mutation.run();
+    }
+
+    private synchronized void add(long hashtagId, String hashtagName) {
+        if (namesById.containsKey(hashtagId)) {
+            return;
+        }
+        if (idsByName.size() >= maximumSize) {
+            complete = false;
+            return;
+        }
+        idsByName.put(hashtagName, hashtagId);
+        namesById.put(hashtagId, hashtagName);
+        sortedNames = null;
+    }
+
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("board.hashtag.dictionary")
+    public static class HashtagDictionaryProperties {
+        /**
+         * 메모리에 올려둘 해시태그 최대 개수. 넘으면 사전이 전체를 담지 못하므로 해시태그 목록도 DB 에서 읽는다.
+         */
+        private final int maximumSize;
+
+        public HashtagDictionaryProperties(@DefaultValue("100000") int maximumSize) {
+            this.maximumSize = maximumSize;
+        }
+    }
+}
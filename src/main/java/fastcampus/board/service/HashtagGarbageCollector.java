@@ -0,0 +1,212 @@
+package fastcampus.board.service;
+
+import fastcampus.board.domain.Hashtag;
+import fastcampus.board.dto.query.HashtagEntry;
+import fastcampus.board.repository.HashtagRepository;
+import fastcampus.board.util.AfterCommit;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.IntervalTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글에서 떨어진 해시태그를 모아 두었다가, 어떤 게시글에도 달려 있지 않으면 백그라운드에서 지운다.
+ * 글 수정/삭제 트랜잭션은 후보를 넘기기만 하고, 확인과 삭제는 스케줄러 스레드에서 주기마다 {@code batchSize} 개씩 한다.
+ * 후보를 놓친 경우(재기동 등)를 위해 주기적으로 전체 해시태그를 훑어 후보를 다시 채운다.
+ */
+@Slf4j
+@Component
+public class HashtagGarbageCollector implements SchedulingConfigurer, MeterBinder {
+
+    private final HashtagRepository hashtagRepository;
+    private final HashtagDictionary hashtagDictionary;
+    private final BoardStatistics boardStatistics;
+    private final TransactionTemplate transactionTemplate;
+    private final HashtagGcProperties properties;
+
+    private final Set<Long> candidates = ConcurrentHashMap.newKeySet();
+    private final LongAdder deleted = new LongAdder();
+
+    public HashtagGarbageCollector(
+            HashtagRepository hashtagRepository,
+            HashtagDictionary hashtagDictionary,
+            BoardStatistics boardStatistics,
+            PlatformTransactionManager transactionManager,
+            HashtagGcProperties properties
+    ) {
+        this.hashtagRepository = hashtagRepository;
+        this.hashtagDictionary = hashtagDictionary;
+        this.boardStatistics = boardStatistics;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+    }
+
+    /**
+     * 정리 후보로 넘긴다. 연결 삭제가 커밋된 뒤에 확인해야 하므로, 트랜잭션 안이면 커밋 이후에 등록한다.
+     */
+    public void enqueue(Collection<Long> hashtagIds) {
+        if (hashtagIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = List.copyOf(hashtagIds);
+        AfterCommit.execute(() -> candidates.addAll(ids));
+    }
+
+    public int getBacklog() {
+        return candidates.size();
+    }
+
+    /**
+     * 후보를 최대 {@code batchSize} 개 꺼내, 아직 고아인 해시태그를 한 번에 지운다.
+     *
+     * @return 지운 해시태그 수
+     */
+    public int collect() {
+        List<Long> batch = drain(properties.getBatchSize());
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            List<Long> deletedIds = transactionTemplate.execute(status -> deleteOrphans(batch));
+            return deletedIds == null ? 0 : deletedIds.size();
+        } catch (RuntimeException e) {
+            log.warn("고아 해시태그 정리 실패, 다음 주기에 다시 시도합니다. - 후보 수: {}", batch.size(), e);
+            candidates.addAll(batch);
+            return 0;
+        }
+    }
+
+    /**
+     * 전체 해시태그를 ID 순으로 훑어 고아 해시태그를 후보에 넣는다. 삭제는 {@link #collect()} 가 주기에 맞춰 한다.
+     *
+     * @return 새로 찾은 후보 수
+     */
+    public int sweep() {
+        int found = 0;
+        long lastHashtagId = 0L;
+        List<HashtagEntry> entries;
+        do {
+            entries = hashtagRepository.findEntriesAfter(lastHashtagId, properties.getBatchSize());
+            if (entries.isEmpty()) {
+                break;
+            }
+            List<Long> orphanIds = hashtagRepository.findOrphanIds(entries.stream().map(HashtagEntry::id).toList());
+            candidates.addAll(orphanIds);
+            found += orphanIds.size();
+            lastHashtagId = entries.get(entries.size() - 1).id();
+        } while (entries.size() == properties.getBatchSize());
+
+        if (found > 0) {
+            log.info("고아 해시태그 전체 점검 - 정리 후보 수: {}", found);
+        }
+        return found;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        long intervalMillis = properties.getInterval().toMillis();
+        taskRegistrar.addFixedDelayTask(new IntervalTask(this::collect, intervalMillis, intervalMillis));
+
+        long sweepIntervalMillis = properties.getSweepInterval().toMillis();
+        if (sweepIntervalMillis > 0) {
+            taskRegistrar.addFixedDelayTask(new IntervalTask(this::sweep, sweepIntervalMillis, sweepIntervalMillis));
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("board.hashtag.gc.backlog", candidates, Set::size)
+                .description("정리를 기다리는 해시태그 후보 수")
+                .register(registry);
+        FunctionCounter.builder("board.hashtag.gc.deleted", deleted, LongAdder::sum)
+                .description("정리된 고아 해시태그 수")
+                .register(registry);
+    }
+
+    private List<Long> drain(int maxSize) {
+        List<Long> batch = new ArrayList<>(Math.min(maxSize, candidates.size()));
+        Iterator<Long> iterator = candidates.iterator();
+        while (batch.size() < maxSize && iterator.hasNext()) {
+            batch.add(iterator.next());
+            iterator.remove();
+        }
+        return batch;
+    }
+
+    private List<Long> deleteOrphans(List<Long> hashtagIds) {
+        List<Long> orphanIds = hashtagRepository.findOrphanIds(hashtagIds);
+        if (orphanIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> deletedIds = orphanIds;
+        long deletedCount = hashtagRepository.deleteOrphansByIds(orphanIds);
+        if (deletedCount != orphanIds.size()) {
+            // 조회와 삭제 사이에 다시 게시글에 달린 해시태그는 남아 있다.
+            Set<Long> remainingIds = hashtagRepository.findAllById(orphanIds).stream()
+                    .map(Hashtag::getId)
+                    .collect(Collectors.toSet());
+            deletedIds = orphanIds.stream()
+                    .filter(id -> !remainingIds.contains(id))
+                    .toList();
+        }
+
+        deletedIds.forEach(hashtagDictionary::remove);
+        boardStatistics.addHashtags(-deletedIds.size());
+        List<Long> result = deletedIds;
+        AfterCommit.execute(() -> deleted.add(result.size()));
+        return deletedIds;
+    }
+
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("board.hashtag.gc")
+    public static class HashtagGcProperties {
+        /**
+         * 정리 대상 해시태그를 지우는 주기. 한 번에 {@code batchSize} 개까지만 지운다.
+         */
+        private final Duration interval;
+
+        /**
+         * 한 주기에 확인하고 지울 해시태그 최대 수
+         */
+        private final int batchSize;
+
+        /**
+         * 전체 해시태그를 훑어 정리 대상을 다시 찾는 주기. 0 이면 하지 않는다.
+         */
+        private final Duration sweepInterval;
+
+        public HashtagGcProperties(
+                @DefaultValue("5s") Duration interval,
+                @DefaultValue("100") int batchSize,
+                @DefaultValue("1h") Duration sweepInterval
+        ) {
+            this.interval = interval;
+            this.batchSize = batchSize;
+            this.sweepInterval = sweepInterval;
+        }
+    }
+}
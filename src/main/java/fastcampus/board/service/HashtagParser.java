@@ -0,0 +1,145 @@
+package fastcampus.board.service;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 본문에서 해시태그 이름을 뽑는다. 정규식 없이 본문을 한 번만 훑으며, 해시태그 이름 문자열 외에는 새로 만들지 않는다.
+ * <p>
+ * {@code #} 뒤에 이어지는 문자, 숫자, {@code _}, 결합 문자(악센트 등)를 해시태그 이름으로 본다.
+ * 최대 길이를 넘는 해시태그는 버리고, 최대 개수를 채우면 나머지 본문은 보지 않는다.
+ */
+@Component
+public class HashtagParser {
+
+    private static final char HASH = '#';
+
+    private final int maxLength;
+    private final int maxCount;
+    private final boolean lowerCase;
+    private final Normalizer.Form normalization;
+
+    public HashtagParser(HashtagParserProperties properties) {
+        this.maxLength = properties.getMaxLength();
+        this.maxCount = properties.getMaxCount();
+        this.lowerCase = properties.isLowerCase();
+        this.normalization = properties.getNormalization();
+    }
+
+    /**
+     * @return 본문에 처음 나온 순서대로, 중복 없는 해시태그 이름
+     */
+    public Set<String> parse(CharSequence content) {
+        Set<String> hashtagNames = new LinkedHashSet<>();
+        if (content == null) {
+            return hashtagNames;
+        }
+
+        int length = content.length();
+        int index = 0;
+        while (index < length && hashtagNames.size() < maxCount) {
+            if (content.charAt(index) != HASH) {
+                index++;
+                continue;
+            }
+
+            int start = ++index;
+            boolean ascii = true;
+            while (index < length) {
+                int codePoint = Character.codePointAt(content, index);
+                if (!isHashtagPart(codePoint)) {
+                    break;
+                }
+                ascii &= codePoint < 0x80;
+                index += Character.charCount(codePoint);
+            }
+
+            int tagLength = index - start;
+            if (tagLength > 0 && tagLength <= maxLength) {
+                hashtagNames.add(toHashtagName(content, start, index, ascii));
+            }
+        }
+        return hashtagNames;
+    }
+
+    private String toHashtagName(CharSequence content, int start, int end, boolean ascii) {
+        String hashtagName = content.subSequence(start, end).toString();
+        if (ascii) {
+            return lowerCase ? toLowerCaseAscii(hashtagName) : hashtagName;
+        }
+
+        if (normalization != null && !Normalizer.isNormalized(hashtagName, normalization)) {
+            hashtagName = Normalizer.normalize(hashtagName, normalization);
+        }
+        return lowerCase ? hashtagName.toLowerCase(Locale.ROOT) : hashtagName;
+    }
+
+    private static boolean isHashtagPart(int codePoint) {
+        if (codePoint < 0x80) {
+            return (codePoint >= 'a' && codePoint <= 'z')
+                    || (codePoint >= 'A' && codePoint <= 'Z')
+                    || (codePoint >= '0' && codePoint <= '9')
+                    || codePoint == '_';
+        }
+        if (Character.isLetterOrDigit(codePoint)) {
+            return true;
+        }
+        int type = Character.getType(codePoint);
+        return type == Character.NON_SPACING_MARK || type == Character.COMBINING_SPACING_MARK;
+    }
+
+    private static String toLowerCaseAscii(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= 'A' && c <= 'Z') {
+                return value.toLowerCase(Locale.ROOT);
+            }
+        }
+        return value;
+    }
+
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("board.hashtag.parser")
+    public static class HashtagParserProperties {
+        /**
+         * 해시태그 이름 최대 길이. 더 긴 해시태그는 버린다.
+         */
+        private final int maxLength;
+
+        /**
+         * 게시글 하나에서 뽑을 해시태그 최대 수
+         */
+        private final int maxCount;
+
+        /**
+         * 해시태그 이름을 소문자로 맞출지 여부
+         */
+        private final boolean lowerCase;
+
+        /**
+         * 해시태그 이름 유니코드 정규화 방식. 비우면 정규화하지 않는다.
+         */
+        private final Normalizer.Form normalization;
+
+        public HashtagParserProperties(
+                @DefaultValue("50") int maxLength,
+                @DefaultValue("30") int maxCount,
+                @DefaultValue("false") boolean lowerCase,
+                @DefaultValue("NFC") Normalizer.Form normalization
+        ) {
+            this.maxLength = maxLength;
+            this.maxCount = maxCount;
+            this.lowerCase = lowerCase;
+            this.normalization = normalization;
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package fastcampus.board.service;
+
+import fastcampus.board.domain.constant.HashtagRankType;
+import fastcampus.board.dto.HashtagPopularityDto;
+import fastcampus.board.dto.query.HashtagUsage;
+import fastcampus.board.dto.query.HashtagUse;
+import fastcampus.board.repository.ArticleHashtagRepository;
+import fastcampus.board.util.AfterCommit;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 해시태그별 누적 사용 수와 인기 급상승 점수를 메모리에서 집계한다.
+ * <p>
+ * 인기 급상승 점수는 게시글 작성 시각 기준으로 반감기마다 절반이 되는 지수 감쇠 합이다.
+ * 모든 점수를 같은 기준 시각(landmark)에 대한 값으로 저장하므로, 시간이 흘러도 점수를 다시 계산하지 않아도 순위가 유지된다.
+ * 상위 {@code capacity} 개의 순위는 변경이 있을 때 크기가 제한된 힙으로 다시 뽑아 두고, 조회는 그 결과에서 페이지를 잘라 반환한다.
+ */
+@Slf4j
+@Component
+public class HashtagPopularityTracker {
+
+    /**
+     * 기준 시각과의 차이가 반감기의 이 배수를 넘으면 기준 시각을 옮겨 double 범위를 벗어나지 않게 한다.
+     */
+    private static final int REBASE_HALF_LIVES = 512;
+
+    /**
+     * 기동 시 인기 급상승 점수를 채울 때 되돌아볼 반감기 수. 그 이전 사용은 점수에 거의 영향이 없다.
+     */
+    private static final int SEED_HALF_LIVES = 16;
+
+    private static final Comparator<Popularity> TRENDING_ORDER = Comparator
+            .comparingDouble((Popularity popularity) -> popularity.score).reversed()
+            .thenComparing(Comparator.comparingLong((Popularity popularity) -> popularity.usage).reversed())
+            .thenComparing(popularity -> popularity.hashtagName);
+    private static final Comparator<Popularity> USAGE_ORDER = Comparator
+            .comparingLong((Popularity popularity) -> popularity.usage).reversed()
+            .thenComparing(Comparator.comparingDouble((Popularity popularity) -> popularity.score).reversed())
+            .thenComparing(popularity -> popularity.hashtagName);
+
+    private final ArticleHashtagRepository articleHashtagRepository;
+    private final Clock clock;
+    private final long halfLifeMillis;
+    private final double meanLifeMillis;
+    private final int capacity;
+    private final long refreshIntervalMillis;
+
+    private final Map<String, Popularity> popularities = new HashMap<>();
+    private long landmarkMillis;
+    private volatile boolean dirty = true;
+    private volatile Ranking ranking = Ranking.EMPTY;
+
+    @Autowired
+    public HashtagPopularityTracker(ArticleHashtagRepository articleHashtagRepository, HashtagPopularityProperties properties) {
+        this(articleHashtagRepository, properties, Clock.systemDefaultZone());
+    }
+
+    HashtagPopularityTracker(ArticleHashtagRepository articleHashtagRepository, HashtagPopularityProperties properties, Clock clock) {
+        this.articleHashtagRepository = articleHashtagRepository;
+        this.clock = clock;
+        this.halfLifeMillis = properties.getHalfLife().toMillis();
+        this.meanLifeMillis = halfLifeMillis / Math.log(2);
+        this.capacity = properties.getCapacity();
+        this.refreshIntervalMillis = properties.getRefreshInterval().toMillis();
+        this.landmarkMillis = clock.millis();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        popularities.clear();
+        landmarkMillis = clock.millis();
+
+        for (HashtagUsage usage : articleHashtagRepository.findHashtagUsages()) {
+            popularities.put(usage.hashtagName(), new Popularity(usage.hashtagName(), usage.usageCount()));
+        }
+        LocalDateTime since = toLocalDateTime(landmarkMillis - halfLifeMillis * SEED_HALF_LIVES);
+        for (HashtagUse use : articleHashtagRepository.findHashtagUsesSince(since)) {
+            Popularity popularity = popularities.get(use.hashtagName());
+            if (popularity != null) {
+                popularity.score += weight(use.articleCreatedAt());
+            }
+        }
+
+        dirty = true;
+        log.info("해시태그 인기 집계 적재 완료 - 해시태그 수: {}", popularities.size());
+    }
+
+    /**
+     * 게시글에 해시태그가 달렸음을 반영한다. 트랜잭션 안이면 커밋 이후에 반영한다.
+     *
+     * @param articleCreatedAt 게시글 작성 시각. 인기 급상승 점수는 이 시각을 기준으로 감쇠한다.
+     */
+    public void increase(Collection<String> hashtagNames, LocalDateTime articleCreatedAt) {
+        List<String> names = List.copyOf(hashtagNames);
+        AfterCommit.execute(() -> apply(names, articleCreatedAt, 1));
+    }
+
+    /**
+     * 게시글에서 해시태그가 떨어졌음을 반영한다. 트랜잭션 안이면 커밋 이후에 반영한다.
+     *
+     * @param articleCreatedAt {@link #increase} 에 넘겼던 것과 같은 게시글 작성 시각
+     */
+    public void decrease(Collection<String> hashtagNames, LocalDateTime articleCreatedAt) {
+        List<String> names = List.copyOf(hashtagNames);
+        AfterCommit.execute(() -> apply(names, articleCreatedAt, -1));
+    }
+
+    /**
+     * 상위 {@code capacity} 개 안에서 페이지를 잘라 반환한다.
+     * 변경 후 순위는 최대 {@code refreshInterval} 만큼 늦게 반영될 수 있다.
+     */
+    public Page<HashtagPopularityDto> getTop(HashtagRankType rankType, Pageable pageable) {
+        List<HashtagPopularityDto> ranked = currentRanking().get(rankType);
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(ranked, pageable, ranked.size());
+        }
+
+        int fromIndex = (int) Math.min(pageable.getOffset(), ranked.size());
+        int toIndex = Math.min(fromIndex + pageable.getPageSize(), ranked.size());
+        return new PageImpl<>(ranked.subList(fromIndex, toIndex), pageable, ranked.size());
+    }
+
+    private synchronized void apply(List<String> hashtagNames, LocalDateTime articleCreatedAt, int delta) {
+        double weight = weight(articleCreatedAt);
+        for (String hashtagName : hashtagNames) {
+            Popularity popularity = popularities.computeIfAbsent(hashtagName, name -> new Popularity(name, 0));
+            popularity.usage += delta;
+            popularity.score = Math.max(0, popularity.score + delta * weight);
+            if (popularity.usage <= 0) {
+                popularities.remove(hashtagName);
+            }
+        }
+        dirty = true;
+    }
+
+    /**
+     * 기준 시각에 대한 한 번의 사용 가중치
+     */
+    private double weight(LocalDateTime usedAt) {
+        long usedAtMillis = usedAt == null ? clock.millis() : usedAt.atZone(clock.getZone()).toInstant().toEpochMilli();
+        if (usedAtMillis - landmarkMillis > halfLifeMillis * REBASE_HALF_LIVES) {
+            rebase(usedAtMillis);
+        }
+        return Math.exp((usedAtMillis - landmarkMillis) / meanLifeMillis);
+    }
+
+    private void rebase(long newLandmarkMillis) {
+        double factor = Math.exp((landmarkMillis - newLandmarkMillis) / meanLifeMillis);
+        popularities.values().forEach(popularity -> popularity.score *= factor);
+        landmarkMillis = newLandmarkMillis;
+    }
+
+    private Ranking currentRanking() {
+        Ranking current = ranking;
+        if (dirty && (current == Ranking.EMPTY || clock.millis() - current.rankedAtMillis() >= refreshIntervalMillis)) {
+            synchronized (this) {
+                if (dirty) {
+                    dirty = false;
+                    ranking = rank();
+                }
+                current = ranking;
+            }
+        }
+        return current;
+    }
+
+    private Ranking rank() {
+        long nowMillis = clock.millis();
+        double decay = Math.exp((landmarkMillis - nowMillis) / meanLifeMillis);
+        return new Ranking(
+                top(TRENDING_ORDER, decay),
+                top(USAGE_ORDER, decay),
+                nowMillis
+        );
+    }
+
+    private List<HashtagPopularityDto> top(Comparator<Popularity> order, double decay) {
+        // 가장 순위가 낮은 항목이 머리에 오는 최소 힙
+        PriorityQueue<Popularity> heap = new PriorityQueue<>(capacity + 1, order.reversed());
+        for (Popularity popularity : popularities.values()) {
+            if (heap.size() < capacity) {
+                heap.add(popularity);
+            } else if (order.compare(popularity, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(popularity);
+            }
+        }
+
+        List<HashtagPopularityDto> ranked = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            Popularity popularity = heap.poll();
+            ranked.add(HashtagPopularityDto.of(popularity.hashtagName, popularity.usage, popularity.score * decay));
+        }
+        Collections.reverse(ranked);
+        return List.copyOf(ranked);
+    }
+
+    private LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), clock.getZone());
+    }
+
+    private static final class Popularity {
+        private final String hashtagName;
+        private long usage;
+        private double score;
+
+        private Popularity(String hashtagName, long usage) {
+            this.hashtagName = hashtagName;
+            this.usage = usage;
+        }
+    }
+
+    private record Ranking(
+            List<HashtagPopularityDto> trending,
+            List<HashtagPopularityDto> usage,
+            long rankedAtMillis
+    ) {
+        private static final Ranking EMPTY = new Ranking(List.of(), List.of(), 0L);
+
+        private List<HashtagPopularityDto> get(HashtagRankType rankType) {
+            return switch (rankType) {
+                case TRENDING -> trending;
+                case USAGE -> usage;
+            };
+        }
+    }
+
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("board.hashtag.popularity")
+    public static class HashtagPopularityProperties {
+        /**
+         * 인기 급상승 점수가 절반으로 줄어드는 시간
+         */
+        private final Duration halfLife;
+
+        /**
+         * 순위를 유지할 상위 해시태그 수
+         */
+        private final int capacity;
+
+        /**
+         * 변경이 있을 때 순위를 다시 계산하는 최소 간격
+         */
+        private final Duration refreshInterval;
+
+        public HashtagPopularityProperties(
+                @DefaultValue("24h") Duration halfLife,
+                @DefaultValue("1000") int capacity,
+                @DefaultValue("5s") Duration refreshInterval
+        ) {
+            this.halfLife = halfLife;
+            this.capacity = capacity;
+            this.refreshInterval = refreshInterval;
+        }
+    }
+}
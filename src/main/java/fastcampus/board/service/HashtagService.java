@@ -1,16 +1,21 @@
 package fastcampus.board.service;
 
 import fastcampus.board.domain.Hashtag;
+import fastcampus.board.domain.constant.HashtagRankType;
+import fastcampus.board.dto.HashtagPopularityDto;
 import fastcampus.board.repository.HashtagRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
@@ -18,39 +23,65 @@ import java.util.regex.Pattern;
 public class HashtagService {
 
     private final HashtagRepository hashtagRepository;
-    private final ArticleHashtagService articleHashtagService;
+    private final HashtagDictionary hashtagDictionary;
+    private final HashtagPopularityTracker hashtagPopularityTracker;
+    private final HashtagGarbageCollector hashtagGarbageCollector;
+    private final HashtagParser hashtagParser;
+    private final ServiceMetrics serviceMetrics;
 
+    /**
+     * 저장할 게시글에 연결할 엔티티가 필요하므로 사전을 거치지 않고 DB 에서 조회한다.
+     * 사전에 없다고 새 해시태그로 만들면, 다른 인스턴스나 적재 중에 생긴 해시태그와 이름이 겹쳐 저장이 실패한다.
+     */
     public Set<Hashtag> findHashtagsByNames(Set<String> hashtagNames) {
         return new HashSet<>(hashtagRepository.findByHashtagNameIn(hashtagNames));
     }
 
-    @Transactional
-    public Set<String> parseHashtagNames(String content) {
-
-        if (content == null) {
-            return Set.of();
+    public List<Long> findHashtagIdsByNames(Collection<String> hashtagNames) {
+        List<Long> hashtagIds = new ArrayList<>();
+        Set<String> unresolved = new HashSet<>();
+        for (String hashtagName : new LinkedHashSet<>(hashtagNames)) {
+            Long hashtagId = hashtagDictionary.getId(hashtagName);
+            if (hashtagId != null) {
+                hashtagIds.add(hashtagId);
+            } else {
+                unresolved.add(hashtagName);
+            }
         }
 
-        Pattern pattern = Pattern.compile("#[\\w가-힣]+");
-        Matcher matcher = pattern.matcher(content.strip());
-        Set<String> result = new HashSet<>();
-
-        while (matcher.find()) {
-            result.add(matcher.group().replace("#", ""));
+        int dictionaryHits = hashtagIds.size();
+        if (!unresolved.isEmpty()) {
+            for (Hashtag hashtag : hashtagRepository.findByHashtagNameIn(unresolved)) {
+                hashtagDictionary.load(hashtag.getId(), hashtag.getHashtagName());
+                hashtagIds.add(hashtag.getId());
+            }
         }
 
-        return result;
+        int databaseHits = hashtagIds.size() - dictionaryHits;
+        serviceMetrics.recordHashtagLookups(dictionaryHits, databaseHits, unresolved.size() - databaseHits);
+        return hashtagIds;
     }
 
-    @Transactional
-    public void deleteHashtagWithoutArticles(Long hashtagId) {
-        if(!articleHashtagService.isExistForHashtagId(hashtagId)){
-            hashtagRepository.deleteById(hashtagId);
-        }
+    public Set<String> parseHashtagNames(String content) {
+        return hashtagParser.parse(content);
+    }
+
+    /**
+     * 게시글에서 떨어진 해시태그를 넘긴다. 더 이상 어떤 게시글에도 달려 있지 않은 해시태그는 백그라운드에서 지운다.
+     */
+    public void releaseHashtags(Collection<Long> hashtagIds) {
+        hashtagGarbageCollector.enqueue(hashtagIds);
     }
 
     public List<String> getHashtags() {
+        if (hashtagDictionary.isComplete()) {
+            return hashtagDictionary.getNames();
+        }
         return hashtagRepository.findAllHashtagNames();
     }
 
+    public Page<HashtagPopularityDto> getPopularHashtags(HashtagRankType rankType, Pageable pageable) {
+        return hashtagPopularityTracker.getTop(rankType, pageable);
+    }
+
 }
@@ -0,0 +1,172 @@
+package fastcampus.board.service;
+
+import fastcampus.board.config.SecurityConfig.OAuth2ProvisioningProperties;
+import fastcampus.board.dto.security.BoardPrincipal;
+import fastcampus.board.dto.security.KakaoOAuth2Response;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
+import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
+import org.springframework.security.oauth2.client.userinfo.OAuth2UserService;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2ErrorCodes;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+/**
+ * 카카오 로그인 사용자를 찾고, 처음 로그인한 사용자는 회원으로 가입시킨다.
+ * 이미 가입한 사용자는 비밀번호를 해싱하지 않는다. 가입할 때의 bcrypt 해싱은 CPU 를 많이 쓰므로,
+ * 로그인이 몰려도 코어를 다 쓰지 않도록 크기가 정해진 전용 스레드 풀에서만 하고, 같은 사용자의 동시 가입은 한 번으로 합친다.
+ * <p>
+ * 단계별 소요 시간은 {@code board.login.oauth2} 타이머의 {@code phase} 태그(user-info, lookup, provision)로 본다.
+ */
+@Service
+public class OAuth2UserProvisioner {
+
+    private static final String TIMER_NAME = "board.login.oauth2";
+    private static final String EXECUTOR_NAME = "oauth2-provisioning";
+
+    enum Phase {
+        USER_INFO("user-info"),
+        LOOKUP("lookup"),
+        PROVISION("provision");
+
+        private final String tag;
+
+        Phase(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    private final OAuth2UserService<OAuth2UserRequest, OAuth2User> delegate;
+    private final UserAccountService userAccountService;
+    private final PasswordEncoder passwordEncoder;
+    private final Duration timeout;
+    private final ThreadPoolExecutor executor;
+    private final Map<String, CompletableFuture<BoardPrincipal>> provisioning = new ConcurrentHashMap<>();
+    private final Map<Phase, Timer> timers = new EnumMap<>(Phase.class);
+
+    @Autowired
+    public OAuth2UserProvisioner(
+            UserAccountService userAccountService,
+            PasswordEncoder passwordEncoder,
+            OAuth2ProvisioningProperties properties,
+            MeterRegistry registry
+    ) {
+        this(new DefaultOAuth2UserService(), userAccountService, passwordEncoder, properties, registry);
+    }
+
+    OAuth2UserProvisioner(
+            OAuth2UserService<OAuth2UserRequest, OAuth2User> delegate,
+            UserAccountService userAccountService,
+            PasswordEncoder passwordEncoder,
+            OAuth2ProvisioningProperties properties,
+            MeterRegistry registry
+    ) {
+        this.delegate = delegate;
+        this.userAccountService = userAccountService;
+        this.passwordEncoder = passwordEncoder;
+        this.timeout = properties.getTimeout();
+        this.executor = new ThreadPoolExecutor(
+                properties.getThreads(),
+                properties.getThreads(),
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                new CustomizableThreadFactory(EXECUTOR_NAME + "-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        for (Phase phase : Phase.values()) {
+            timers.put(phase, Timer.builder(TIMER_NAME)
+                    .description("카카오 로그인 단계별 소요 시간")
+                    .tag("phase", phase.tag)
+                    .register(registry));
+        }
+        new ExecutorServiceMetrics(executor, EXECUTOR_NAME, Tags.empty()).bindTo(registry);
+    }
+
+    public BoardPrincipal loadPrincipal(OAuth2UserRequest userRequest) {
+        OAuth2User oAuth2User = timers.get(Phase.USER_INFO).record(() -> delegate.loadUser(userRequest));
+
+        KakaoOAuth2Response kakaoResponse = KakaoOAuth2Response.from(oAuth2User.getAttributes());
+        String registrationId = userRequest.getClientRegistration().getRegistrationId();
+        String providerId = String.valueOf(kakaoResponse.id());
+        String username = registrationId + "_" + providerId;
+
+        return timers.get(Phase.LOOKUP).record(() -> userAccountService.searchPrincipal(username))
+                .orElseGet(() -> timers.get(Phase.PROVISION).record(() -> provision(username, kakaoResponse)));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private BoardPrincipal provision(String username, KakaoOAuth2Response kakaoResponse) {
+        CompletableFuture<BoardPrincipal> created = new CompletableFuture<>();
+        CompletableFuture<BoardPrincipal> existing = provisioning.putIfAbsent(username, created);
+        if (existing == null) {
+            submit(username, kakaoResponse, created);
+        }
+
+        try {
+            return (existing == null ? created : existing).get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw provisioningFailed(username, e);
+        } catch (ExecutionException e) {
+            throw provisioningFailed(username, e.getCause());
+        } catch (TimeoutException e) {
+            throw provisioningFailed(username, e);
+        }
+    }
+
+    /**
+     * 앞선 가입이 끝난 직후에 들어온 요청일 수 있으므로, 스레드 풀 안에서 한 번 더 조회한 뒤에만 가입시킨다.
+     */
+    private void submit(String username, KakaoOAuth2Response kakaoResponse, CompletableFuture<BoardPrincipal> result) {
+        try {
+            executor.execute(() -> {
+                try {
+                    result.complete(userAccountService.searchPrincipal(username)
+                            .orElseGet(() -> BoardPrincipal.from(userAccountService.saveUser(
+                                    username,
+                                    passwordEncoder.encode(UUID.randomUUID().toString()),
+                                    kakaoResponse.email(),
+                                    kakaoResponse.nickname(),
+                                    null
+                            ))));
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                } finally {
+                    provisioning.remove(username, result);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            provisioning.remove(username, result);
+            result.completeExceptionally(e);
+        }
+    }
+
+    private static OAuth2AuthenticationException provisioningFailed(String username, Throwable cause) {
+        return new OAuth2AuthenticationException(
+                new OAuth2Error(OAuth2ErrorCodes.SERVER_ERROR),
+                "회원 가입에 실패했습니다 - username: " + username,
+                cause
+        );
+    }
+}
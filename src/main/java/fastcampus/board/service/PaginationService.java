@@ -10,13 +10,28 @@ public class PaginationService {
 
     private static final int BAR_LENGTH = 5;
 
+    /**
+     * @param totalPages 정확한 값이 아니어도 된다. {@link #pagesNeededForBar(int)} 이상이면 결과가 같으므로,
+     *                   그만큼 페이지가 "더 있는지" 만 알면 된다.
+     */
     public List<Integer> getPaginationBarNumbers(int currentPageNumber, int totalPages) {
-        int startNumber = Math.max(currentPageNumber - (BAR_LENGTH / 2), 0);
+        int startNumber = barStartNumber(currentPageNumber);
         int endNumber = Math.min(startNumber + BAR_LENGTH, totalPages);
 
         return IntStream.range(startNumber, endNumber).boxed().toList();
     }
 
+    /**
+     * 현재 페이지의 페이징 바를 끝까지 채우는 데 필요한 페이지 수. 전체 개수를 셀 때 이보다 많이 셀 필요는 없다.
+     */
+    public static int pagesNeededForBar(int currentPageNumber) {
+        return barStartNumber(currentPageNumber) + BAR_LENGTH;
+    }
+
+    private static int barStartNumber(int currentPageNumber) {
+        return Math.max(currentPageNumber - (BAR_LENGTH / 2), 0);
+    }
+
 
     public int currentBarLength() {
         return BAR_LENGTH;
@@ -0,0 +1,49 @@
+package fastcampus.board.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import fastcampus.board.config.SecurityConfig.PrincipalCacheProperties;
+import fastcampus.board.dto.security.BoardPrincipal;
+import fastcampus.board.util.AfterCommit;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 로그인 사용자 캐시. 폼 로그인과 카카오 로그인이 매번 회원을 조회하지 않도록 {@link BoardPrincipal} 을 아이디별로 담아 둔다.
+ * 없는 회원은 담지 않으므로, 가입 직후에도 바로 조회된다. 회원 정보가 바뀌면 커밋 이후 지운다.
+ * <p>
+ * {@link BoardPrincipal} 은 {@code CredentialsContainer} 가 아니어서, 인증이 끝난 뒤 비밀번호가 지워지지 않고 캐시에 그대로 남는다.
+ */
+@Component
+public class PrincipalCache implements MeterBinder {
+
+    private static final String CACHE_NAME = "principal";
+
+    private final Cache<String, BoardPrincipal> cache;
+
+    public PrincipalCache(PrincipalCacheProperties properties) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getExpireAfterWrite())
+                .recordStats()
+                .build();
+    }
+
+    public Optional<BoardPrincipal> get(String username, Supplier<Optional<BoardPrincipal>> loader) {
+        return Optional.ofNullable(cache.get(username, key -> loader.get().orElse(null)));
+    }
+
+    public void invalidate(String username) {
+        AfterCommit.execute(() -> cache.invalidate(username));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+    }
+}
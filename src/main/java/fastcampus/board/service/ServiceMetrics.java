@@ -0,0 +1,193 @@
+package fastcampus.board.service;
+
+import fastcampus.board.domain.constant.SearchType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서비스 계층 주요 경로의 시간과 횟수를 남긴다.
+ * 태그 조합마다 미터를 미리 등록해 두고 배열에서 꺼내 쓰므로, 기록할 때 태그나 미터 객체를 새로 만들지 않는다.
+ * 시간은 호출하는 쪽에서 {@link System#nanoTime()} 으로 잰 시작 시각을 넘긴다.
+ */
+@Component
+public class ServiceMetrics {
+
+    /**
+     * 검색 결과를 어디서 읽었는지
+     */
+    public enum SearchSource {
+        REPOSITORY, INDEX, HASHTAG
+    }
+
+    public enum CacheResult {
+        HIT, MISS, BYPASS
+    }
+
+    /**
+     * 검색 결과 전체 개수 구간. 추정 모드에서는 개수가 하한값이므로 실제보다 작은 구간에 들어갈 수 있다.
+     */
+    enum ResultSize {
+        EMPTY("0"), SMALL("1-99"), MEDIUM("100-9999"), LARGE("10000+");
+
+        private final String tag;
+
+        ResultSize(String tag) {
+            this.tag = tag;
+        }
+
+        static ResultSize of(long totalElements) {
+            if (totalElements <= 0) {
+                return EMPTY;
+            }
+            if (totalElements < 100) {
+                return SMALL;
+            }
+            return totalElements < 10_000 ? MEDIUM : LARGE;
+        }
+    }
+
+    private static final String NO_SEARCH_TYPE = "none";
+    private static final Duration MINIMUM_EXPECTED = Duration.ofMillis(1);
+    private static final Duration MAXIMUM_EXPECTED = Duration.ofSeconds(10);
+
+    /**
+     * [검색 유형(마지막 칸은 검색어 없음)][출처][결과 구간]. 일어날 수 없는 조합은 비워 둔다.
+     */
+    private final Timer[][][] searchTimers;
+    private final Timer[] articleDetailTimers;
+    private final Timer[] commentPageTimers;
+    private final Counter commentsSaved;
+    private final Counter repliesSaved;
+    private final Counter commentsDeleted;
+    private final Counter hashtagDictionaryHits;
+    private final Counter hashtagDatabaseHits;
+    private final Counter hashtagMisses;
+    private final Counter hashtagsCreated;
+    private final Counter articleHashtagsSaved;
+    private final Counter articleHashtagsDeleted;
+
+    public ServiceMetrics(MeterRegistry registry) {
+        SearchType[] searchTypes = SearchType.values();
+        this.searchTimers = new Timer[searchTypes.length + 1][SearchSource.values().length][ResultSize.values().length];
+        for (SearchType searchType : searchTypes) {
+            for (SearchSource source : sourcesOf(searchType)) {
+                registerSearchTimers(registry, searchType.ordinal(), tagOf(searchType), source);
+            }
+        }
+        registerSearchTimers(registry, searchTypes.length, NO_SEARCH_TYPE, SearchSource.REPOSITORY);
+
+        this.articleDetailTimers = new Timer[CacheResult.values().length];
+        for (CacheResult result : new CacheResult[]{CacheResult.HIT, CacheResult.MISS}) {
+            articleDetailTimers[result.ordinal()] = latencyTimer("board.article.detail", "게시글 상세 조회 시간")
+                    .tag("cache", tagOf(result))
+                    .register(registry);
+        }
+        this.commentPageTimers = new Timer[CacheResult.values().length];
+        for (CacheResult result : CacheResult.values()) {
+            commentPageTimers[result.ordinal()] = latencyTimer("board.comment.page", "부모 댓글 페이지 조회 시간. 첫 페이지만 캐시를 거친다.")
+                    .tag("cache", tagOf(result))
+                    .register(registry);
+        }
+
+        this.commentsSaved = counter(registry, "board.comment.saved", "저장한 댓글 수", "type", "comment");
+        this.repliesSaved = counter(registry, "board.comment.saved", "저장한 댓글 수", "type", "reply");
+        this.commentsDeleted = counter(registry, "board.comment.deleted", "지운 댓글 수(대댓글 포함)", null, null);
+        this.hashtagDictionaryHits = counter(registry, "board.hashtag.lookups", "해시태그 이름을 ID 로 바꾼 수", "source", "dictionary");
+        this.hashtagDatabaseHits = counter(registry, "board.hashtag.lookups", "해시태그 이름을 ID 로 바꾼 수", "source", "database");
+        this.hashtagMisses = counter(registry, "board.hashtag.lookups", "해시태그 이름을 ID 로 바꾼 수", "source", "absent");
+        this.hashtagsCreated = counter(registry, "board.hashtag.created", "새로 저장한 해시태그 수", null, null);
+        this.articleHashtagsSaved = counter(registry, "board.article-hashtag.changes", "게시글-해시태그 연결 변경 수", "op", "save");
+        this.articleHashtagsDeleted = counter(registry, "board.article-hashtag.changes", "게시글-해시태그 연결 변경 수", "op", "delete");
+    }
+
+    /**
+     * @return 넘겨받은 {@code page} 그대로
+     */
+    public <T> Page<T> recordSearch(SearchType searchType, SearchSource source, long startedAt, Page<T> page) {
+        int typeIndex = searchType == null ? searchTimers.length - 1 : searchType.ordinal();
+        Timer timer = searchTimers[typeIndex][source.ordinal()][ResultSize.of(page.getTotalElements()).ordinal()];
+        if (timer != null) {
+            timer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+        return page;
+    }
+
+    public void recordArticleDetail(CacheResult result, long startedAt) {
+        Timer timer = articleDetailTimers[result.ordinal()];
+        if (timer != null) {
+            timer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public void recordCommentPage(CacheResult result, long startedAt) {
+        commentPageTimers[result.ordinal()].record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordCommentSaved(boolean reply) {
+        (reply ? repliesSaved : commentsSaved).increment();
+    }
+
+    public void recordCommentsDeleted(long count) {
+        commentsDeleted.increment(count);
+    }
+
+    public void recordHashtagLookups(int dictionaryHits, int databaseHits, int misses) {
+        hashtagDictionaryHits.increment(dictionaryHits);
+        hashtagDatabaseHits.increment(databaseHits);
+        hashtagMisses.increment(misses);
+    }
+
+    public void recordArticleHashtagsSaved(int createdHashtags, int articleHashtags) {
+        hashtagsCreated.increment(createdHashtags);
+        articleHashtagsSaved.increment(articleHashtags);
+    }
+
+    public void recordArticleHashtagsDeleted(int articleHashtags) {
+        articleHashtagsDeleted.increment(articleHashtags);
+    }
+
+    private void registerSearchTimers(MeterRegistry registry, int typeIndex, String typeTag, SearchSource source) {
+        for (ResultSize size : ResultSize.values()) {
+            searchTimers[typeIndex][source.ordinal()][size.ordinal()] = latencyTimer("board.article.search", "게시글 검색 시간")
+                    .tag("type", typeTag)
+                    .tag("source", tagOf(source))
+                    .tag("results", size.tag)
+                    .register(registry);
+        }
+    }
+
+    private static SearchSource[] sourcesOf(SearchType searchType) {
+        return switch (searchType) {
+            case TITLE, CONTENT -> new SearchSource[]{SearchSource.INDEX, SearchSource.REPOSITORY};
+            case ID, NICKNAME -> new SearchSource[]{SearchSource.REPOSITORY};
+            case HASHTAG -> new SearchSource[]{SearchSource.HASHTAG};
+        };
+    }
+
+    private static Timer.Builder latencyTimer(String name, String description) {
+        return Timer.builder(name)
+                .description(description)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(MINIMUM_EXPECTED)
+                .maximumExpectedValue(MAXIMUM_EXPECTED);
+    }
+
+    private static Counter counter(MeterRegistry registry, String name, String description, String tagKey, String tagValue) {
+        Counter.Builder builder = Counter.builder(name).description(description);
+        if (tagKey != null) {
+            builder.tag(tagKey, tagValue);
+        }
+        return builder.register(registry);
+    }
+
+    private static String tagOf(Enum<?> value) {
+        return value.name().toLowerCase(Locale.ROOT);
+    }
+}
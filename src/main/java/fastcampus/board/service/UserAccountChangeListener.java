@@ -0,0 +1,26 @@
+package fastcampus.board.service;
+
+import fastcampus.board.domain.UserAccount;
+import org.springframework.beans.factory.ObjectProvider;
+
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+/**
+ * 회원 엔티티가 수정되거나 삭제되면 로그인 사용자 캐시에서 지운다. 어느 경로로 바뀌든 JPA 를 거치면 반영된다.
+ * Hibernate 가 Spring 의 빈 컨테이너로 만들므로, 캐시가 없는 슬라이스 테스트에서도 만들어질 수 있게 {@link ObjectProvider} 로 받는다.
+ */
+public class UserAccountChangeListener {
+
+    private final ObjectProvider<PrincipalCache> principalCache;
+
+    public UserAccountChangeListener(ObjectProvider<PrincipalCache> principalCache) {
+        this.principalCache = principalCache;
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void onChange(UserAccount userAccount) {
+        principalCache.ifAvailable(cache -> cache.invalidate(userAccount.getUserId()));
+    }
+}
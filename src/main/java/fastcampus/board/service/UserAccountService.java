@@ -2,9 +2,11 @@ package fastcampus.board.service;
 
 import fastcampus.board.domain.UserAccount;
 import fastcampus.board.dto.UserAccountDto;
+import fastcampus.board.dto.security.BoardPrincipal;
 import fastcampus.board.repository.UserAccountRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
@@ -15,14 +17,28 @@ import java.util.Optional;
 public class UserAccountService {
 
     private final UserAccountRepository userAccountRepository;
+    private final BoardStatistics boardStatistics;
+    private final PrincipalCache principalCache;
 
     public Optional<UserAccountDto> searchUser(String username) {
         return userAccountRepository.findById(username)
                 .map(UserAccountDto::from);
     }
 
+    /**
+     * 로그인할 때 쓴다. 캐시에 있으면 트랜잭션도 시작하지 않고 DB 를 거치지 않는다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Optional<BoardPrincipal> searchPrincipal(String username) {
+        return principalCache.get(username, () -> userAccountRepository.findById(username)
+                .map(UserAccountDto::from)
+                .map(BoardPrincipal::from));
+    }
+
     @Transactional
     public UserAccountDto saveUser(String username, String userPassword, String email, String nickname, String memo) {
+        boardStatistics.addUserAccounts(1);
+        principalCache.invalidate(username);
         return UserAccountDto.from(userAccountRepository.save(
                 UserAccount.of(
                         username,
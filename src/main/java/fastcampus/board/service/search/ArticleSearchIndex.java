@@ -0,0 +1,282 @@
+package fastcampus.board.service.search;
+
+import fastcampus.board.domain.Article;
+import fastcampus.board.domain.constant.SearchType;
+import fastcampus.board.dto.query.ArticleIndexRow;
+import fastcampus.board.repository.ArticleRepository;
+import fastcampus.board.service.search.analysis.Analyzer;
+import fastcampus.board.service.search.analysis.Token;
+import fastcampus.board.service.search.analysis.TokenStream;
+import fastcampus.board.service.search.analysis.TokenType;
+import fastcampus.board.util.AfterCommit;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.IntervalTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 제목/본문 검색을 위한 메모리 역색인.
+ * 애플리케이션 기동 시 DB 에서 전체를 적재하고, 이후에는 게시글 저장/수정/삭제 시점에 커밋 이후 갱신된다.
+ * 적재 중에 커밋된 변경은 이미 읽어 간 배치보다 새로울 수 있으므로, 바로 반영하지 않고 모아 두었다가 적재가 끝나면 순서대로 다시 적용한다.
+ * 적재가 실패하면 {@link #REBUILD_RETRY_INTERVAL} 마다 다시 적재하며, 그동안은 DB 검색으로 대체된다.
+ * <p>
+ * DB 의 {@code LIKE '%검색어%'} 와 찾는 범위가 다르다.
+ * <ul>
+ *     <li>영문/숫자 단어는 단어 전체로만 색인되므로 단어 일부로는 찾지 않는다. ("spr" 로 "spring" 을, "board" 로 "dashboard" 를 찾지 않는다.)</li>
+ *     <li>여러 단어는 이어진 구절이 아니라, 모든 단어를 포함하는지로 찾는다.</li>
+ *     <li>최소 n-gram 보다 짧은 한글 단어("책")는 더 긴 단어의 일부로 색인되지 않으므로, 이런 검색어는 색인으로 처리하지 않는다.</li>
+ * </ul>
+ * 적재가 끝나기 전이거나, 위처럼 색인으로 처리할 수 없는 검색어나 정렬이 요청되면 {@link #supports(String, Pageable)} 가 false 를 반환하고,
+ * 호출하는 쪽은 DB 검색으로 대체한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ArticleSearchIndex implements SchedulingConfigurer, MeterBinder {
+
+    static final Duration REBUILD_RETRY_INTERVAL = Duration.ofMinutes(1);
+    private static final int REBUILD_BATCH_SIZE = 1_000;
+    private static final Set<String> SORTABLE_PROPERTIES = Set.of("createdAt", "id");
+
+    private final ArticleRepository articleRepository;
+    private final Analyzer analyzer;
+
+    private final InvertedIndex titleIndex = new InvertedIndex();
+    private final InvertedIndex contentIndex = new InvertedIndex();
+    private final Map<Long, LocalDateTime> createdAts = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<Runnable> pendingUpdates = new ArrayList<>();
+    private boolean rebuilding;
+    private volatile boolean ready;
+    private volatile boolean rebuildFailed;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        ready = false;
+        write(() -> {
+            titleIndex.clear();
+            contentIndex.clear();
+            createdAts.clear();
+            rebuilding = true;
+        });
+
+        boolean loaded = false;
+        try {
+            long lastArticleId = 0L;
+            List<ArticleIndexRow> rows;
+            do {
+                rows = articleRepository.findIndexRowsAfter(lastArticleId, REBUILD_BATCH_SIZE);
+                List<ArticleIndexRow> batch = rows;
+                write(() -> batch.forEach(row -> put(row.id(), row.title(), row.content(), row.createdAt())));
+                if (!rows.isEmpty()) {
+                    lastArticleId = rows.get(rows.size() - 1).id();
+                }
+            } while (rows.size() == REBUILD_BATCH_SIZE);
+            loaded = true;
+        } catch (RuntimeException e) {
+            log.error("게시글 검색 색인 적재 실패 - {} 뒤 다시 적재하며, 그동안은 DB 에서 검색한다.", REBUILD_RETRY_INTERVAL, e);
+        } finally {
+            write(() -> {
+                pendingUpdates.forEach(Runnable::run);
+                pendingUpdates.clear();
+                rebuilding = false;
+            });
+        }
+
+        rebuildFailed = !loaded;
+        if (loaded) {
+            ready = true;
+            log.info("게시글 검색 색인 적재 완료 - 게시글 수: {}", createdAts.size());
+        }
+    }
+
+    /**
+     * 색인으로 검색할 수 있는지. 적재 전이거나, 색인이 처리할 수 없는 정렬이나 검색어이면 false.
+     */
+    public boolean supports(String keyword, Pageable pageable) {
+        return ready
+                && pageable.getSort().stream().allMatch(order -> SORTABLE_PROPERTIES.contains(order.getProperty()))
+                && covers(keyword);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        long intervalMillis = REBUILD_RETRY_INTERVAL.toMillis();
+        taskRegistrar.addFixedDelayTask(new IntervalTask(this::retryFailedRebuild, intervalMillis, intervalMillis));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("board.article.search.index.ready", this, index -> index.isReady() ? 1 : 0)
+                .description("게시글 검색 색인 적재가 끝나 색인으로 검색하고 있으면 1")
+                .register(registry);
+    }
+
+    void retryFailedRebuild() {
+        if (rebuildFailed) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 검색어의 모든 토큰을 포함하는 게시글 ID 페이지를 반환한다.
+     * 정렬 조건이 없으면 BM25 점수 순으로, 있으면 요청된 정렬 순으로 정렬한다.
+     */
+    public Page<Long> search(SearchType searchType, String keyword, Pageable pageable) {
+        InvertedIndex index = indexFor(searchType);
+        List<String> queryTerms = analyzer.analyze(keyword);
+        int limit = (int) Math.min(pageable.getOffset() + pageable.getPageSize(), Integer.MAX_VALUE);
+
+        List<ScoredDocument> topHits;
+        int totalHits;
+        lock.readLock().lock();
+        try {
+            List<ScoredDocument> hits = index.search(queryTerms);
+            totalHits = hits.size();
+            topHits = selectTop(hits, limit, comparatorFor(pageable.getSort()));
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Long> articleIds = topHits.stream()
+                .skip(pageable.getOffset())
+                .map(ScoredDocument::articleId)
+                .toList();
+
+        return new PageImpl<>(articleIds, pageable, totalHits);
+    }
+
+    public void index(Article article) {
+        long articleId = article.getId();
+        String title = article.getTitle();
+        String content = article.getContent();
+        LocalDateTime createdAt = article.getCreatedAt();
+
+        AfterCommit.execute(() -> update(() -> put(articleId, title, content, createdAt)));
+    }
+
+    public void remove(long articleId) {
+        AfterCommit.execute(() -> update(() -> {
+            titleIndex.remove(articleId);
+            contentIndex.remove(articleId);
+            createdAts.remove(articleId);
+        }));
+    }
+
+    /**
+     * 적재 중이면 배치가 덮어쓰지 못하도록 모아 두고, 아니면 바로 반영한다.
+     */
+    private void update(Runnable mutation) {
+        write(() -> {
+            if (rebuilding) {
+                pendingUpdates.add(mutation);
+            } else {
+                mutation.run();
+            }
+        });
+    }
+
+    /**
+     * 최소 n-gram 보다 짧은 한글 단어는 더 긴 단어의 일부로 색인되지 않아, 색인으로 찾으면 결과가 빠진다.
+     */
+    private boolean covers(String keyword) {
+        TokenStream stream = analyzer.tokenStream(keyword);
+        while (stream.incrementToken()) {
+            Token token = stream.token();
+            if (token.type() == TokenType.HANGUL && token.length() < analyzer.hangulMinGram()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void put(long articleId, String title, String content, LocalDateTime createdAt) {
+        titleIndex.put(articleId, analyzer.analyze(title));
+        contentIndex.put(articleId, analyzer.analyze(content));
+        createdAts.put(articleId, createdAt);
+    }
+
+    private void write(Runnable mutation) {
+        lock.writeLock().lock();
+        try {
+            mutation.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private InvertedIndex indexFor(SearchType searchType) {
+        return switch (searchType) {
+            case TITLE -> titleIndex;
+            case CONTENT -> contentIndex;
+            default -> throw new IllegalArgumentException("색인되지 않은 검색 유형입니다 - searchType: " + searchType);
+        };
+    }
+
+    private Comparator<ScoredDocument> comparatorFor(Sort sort) {
+        Comparator<ScoredDocument> byIdDesc = Comparator.comparingLong(ScoredDocument::articleId).reversed();
+        if (sort.isUnsorted()) {
+            return Comparator.comparingDouble(ScoredDocument::score).reversed().thenComparing(byIdDesc);
+        }
+
+        Comparator<ScoredDocument> comparator = null;
+        for (Sort.Order order : sort) {
+            Comparator<ScoredDocument> next = switch (order.getProperty()) {
+                case "createdAt" -> Comparator.comparing(
+                        (ScoredDocument hit) -> createdAts.get(hit.articleId()),
+                        Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()));
+                case "id" -> Comparator.comparingLong(ScoredDocument::articleId);
+                default -> throw new IllegalArgumentException("색인으로 정렬할 수 없는 속성입니다 - property: " + order.getProperty());
+            };
+            if (order.isDescending()) {
+                next = next.reversed();
+            }
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+
+        return comparator.thenComparing(byIdDesc);
+    }
+
+    /**
+     * 전체 결과를 정렬하지 않고, 크기 {@code limit} 의 힙으로 상위 결과만 골라 정렬한다.
+     */
+    private static List<ScoredDocument> selectTop(List<ScoredDocument> hits, int limit, Comparator<ScoredDocument> comparator) {
+        if (hits.size() <= limit) {
+            hits.sort(comparator);
+            return hits;
+        }
+
+        PriorityQueue<ScoredDocument> heap = new PriorityQueue<>(limit + 1, comparator.reversed());
+        for (ScoredDocument hit : hits) {
+            heap.offer(hit);
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+
+        List<ScoredDocument> top = new ArrayList<>(heap);
+        top.sort(comparator);
+        return top;
+    }
+}
@@ -0,0 +1,178 @@
+package fastcampus.board.service.search;
+
+import java.util.*;
+
+/**
+ * 단일 필드(제목, 본문)에 대한 역색인.
+ * 용어별 postings 는 게시글 ID 오름차순으로 유지되므로, 여러 질의어의 교집합을 정렬 병합으로 구할 수 있다.
+ * 동기화는 호출하는 쪽({@link ArticleSearchIndex})에서 책임진다.
+ */
+class InvertedIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final Map<String, Postings> postingsByTerm = new HashMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private long totalLength;
+
+    void put(long articleId, List<String> tokens) {
+        remove(articleId);
+        if (tokens.isEmpty()) {
+            return;
+        }
+
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        for (String token : tokens) {
+            termFrequencies.merge(token, 1, Integer::sum);
+        }
+        termFrequencies.forEach((term, frequency) ->
+                postingsByTerm.computeIfAbsent(term, key -> new Postings()).put(articleId, frequency));
+
+        documents.put(articleId, new Document(termFrequencies.keySet().toArray(String[]::new), tokens.size()));
+        totalLength += tokens.size();
+    }
+
+    void remove(long articleId) {
+        Document document = documents.remove(articleId);
+        if (document == null) {
+            return;
+        }
+
+        for (String term : document.terms()) {
+            Postings postings = postingsByTerm.get(term);
+            if (postings != null && postings.remove(articleId) && postings.isEmpty()) {
+                postingsByTerm.remove(term);
+            }
+        }
+        totalLength -= document.length();
+    }
+
+    void clear() {
+        postingsByTerm.clear();
+        documents.clear();
+        totalLength = 0;
+    }
+
+    int size() {
+        return documents.size();
+    }
+
+    /**
+     * 모든 질의어를 포함하는 문서를 BM25 점수와 함께 반환한다.
+     */
+    List<ScoredDocument> search(Collection<String> queryTerms) {
+        Set<String> terms = new LinkedHashSet<>(queryTerms);
+        if (terms.isEmpty() || documents.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Postings> postingsList = new ArrayList<>(terms.size());
+        for (String term : terms) {
+            Postings postings = postingsByTerm.get(term);
+            if (postings == null) {
+                return new ArrayList<>();
+            }
+            postingsList.add(postings);
+        }
+        postingsList.sort(Comparator.comparingInt(Postings::size));
+
+        int documentCount = documents.size();
+        double averageLength = (double) totalLength / documentCount;
+        double[] idfs = new double[postingsList.size()];
+        for (int i = 0; i < idfs.length; i++) {
+            int documentFrequency = postingsList.get(i).size();
+            idfs[i] = Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+        }
+
+        Postings shortest = postingsList.get(0);
+        int[] cursors = new int[postingsList.size()];
+        List<ScoredDocument> hits = new ArrayList<>();
+
+        candidates:
+        for (int i = 0; i < shortest.size(); i++) {
+            long articleId = shortest.articleIdAt(i);
+            double lengthNorm = K1 * (1 - B + B * documents.get(articleId).length() / averageLength);
+            double score = bm25(idfs[0], shortest.frequencyAt(i), lengthNorm);
+
+            for (int p = 1; p < postingsList.size(); p++) {
+                Postings postings = postingsList.get(p);
+                int index = postings.indexOf(articleId, cursors[p]);
+                if (index < 0) {
+                    cursors[p] = -index - 1;
+                    continue candidates;
+                }
+                cursors[p] = index + 1;
+                score += bm25(idfs[p], postings.frequencyAt(index), lengthNorm);
+            }
+            hits.add(new ScoredDocument(articleId, score));
+        }
+
+        return hits;
+    }
+
+    private static double bm25(double idf, int termFrequency, double lengthNorm) {
+        return idf * termFrequency * (K1 + 1) / (termFrequency + lengthNorm);
+    }
+
+    private record Document(String[] terms, int length) {
+    }
+
+    private static final class Postings {
+        private long[] articleIds = new long[4];
+        private int[] frequencies = new int[4];
+        private int size;
+
+        void put(long articleId, int frequency) {
+            int index = size == 0 || articleIds[size - 1] < articleId
+                    ? -size - 1
+                    : Arrays.binarySearch(articleIds, 0, size, articleId);
+            if (index >= 0) {
+                frequencies[index] = frequency;
+                return;
+            }
+
+            int insertAt = -index - 1;
+            if (size == articleIds.length) {
+                articleIds = Arrays.copyOf(articleIds, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            System.arraycopy(articleIds, insertAt, articleIds, insertAt + 1, size - insertAt);
+            System.arraycopy(frequencies, insertAt, frequencies, insertAt + 1, size - insertAt);
+            articleIds[insertAt] = articleId;
+            frequencies[insertAt] = frequency;
+            size++;
+        }
+
+        boolean remove(long articleId) {
+            int index = Arrays.binarySearch(articleIds, 0, size, articleId);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(articleIds, index + 1, articleIds, index, size - index - 1);
+            System.arraycopy(frequencies, index + 1, frequencies, index, size - index - 1);
+            size--;
+            return true;
+        }
+
+        int indexOf(long articleId, int fromIndex) {
+            return Arrays.binarySearch(articleIds, fromIndex, size, articleId);
+        }
+
+        long articleIdAt(int index) {
+            return articleIds[index];
+        }
+
+        int frequencyAt(int index) {
+            return frequencies[index];
+        }
+
+        int size() {
+            return size;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+    }
+}
@@ -0,0 +1,4 @@
+package fastcampus.board.service.search;
+
+record ScoredDocument(long articleId, double score) {
+}
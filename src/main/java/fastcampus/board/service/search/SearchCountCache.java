@@ -0,0 +1,141 @@
+package fastcampus.board.service.search;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import fastcampus.board.config.SearchConfig.SearchCountProperties;
+import fastcampus.board.domain.constant.HashtagMatchMode;
+import fastcampus.board.domain.constant.SearchType;
+import fastcampus.board.util.AfterCommit;
+import fastcampus.board.service.PaginationService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * 검색 결과 전체 개수 캐시. (검색 유형, 정규화된 검색어) 별로 개수를 보관하고, 게시글이 변경되면 커밋 이후 전부 비운다.
+ * 추정 모드에서는 현재 페이지 이후 {@code estimatePages} 페이지까지만 세고(페이징 바가 모자라면 바를 채울 만큼까지), 그 이상은 "더 있음" 으로만 취급한다.
+ * 적중/실패 수는 검색 유형별로 {@code board.article.search.count-cache} 에 남긴다.
+ */
+@Component
+public class SearchCountCache implements MeterBinder {
+
+    private final Cache<CountKey, CountEntry> cache;
+    private final int estimatePages;
+    private final AtomicLong generation = new AtomicLong();
+    private final LongAdder[] hits = newAdders();
+    private final LongAdder[] misses = newAdders();
+
+    public SearchCountCache(SearchCountProperties properties) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getTtl())
+                .maximumSize(properties.getMaximumSize())
+                .build();
+        this.estimatePages = properties.getEstimatePages();
+    }
+
+    /**
+     * @param counter 최대 개수({@code 0} 이면 제한 없음)를 받아 실제로 개수를 세는 함수
+     * @return 정확한 개수, 또는 추정 모드에서 상한에 도달한 경우 그 하한값
+     */
+    public long count(SearchType searchType, String keyword, Pageable pageable, LongUnaryOperator counter) {
+        return count(searchType, null, keyword, pageable, counter);
+    }
+
+    /**
+     * 해시태그 검색처럼 같은 검색어라도 일치 방식에 따라 개수가 달라지는 경우에 사용한다.
+     */
+    public long count(SearchType searchType, HashtagMatchMode matchMode, String keyword, Pageable pageable, LongUnaryOperator counter) {
+        CountKey key = new CountKey(searchType, matchMode, normalize(searchType, keyword));
+        long limit = countLimit(pageable);
+
+        CountEntry cached = cache.getIfPresent(key);
+        if (cached != null && (cached.exact() || (limit > 0 && cached.count() >= limit))) {
+            hits[indexOf(searchType)].increment();
+            return cached.count();
+        }
+
+        misses[indexOf(searchType)].increment();
+        long currentGeneration = generation.get();
+        long count = counter.applyAsLong(limit);
+        CountEntry entry = new CountEntry(count, limit <= 0 || count < limit);
+        if (generation.get() == currentGeneration) {
+            cache.put(key, entry);
+        }
+
+        return count;
+    }
+
+    /**
+     * 게시글 변경은 어떤 검색 결과의 개수에도 영향을 줄 수 있으므로, 커밋 이후 전체를 무효화한다.
+     * 개수를 세는 도중 무효화가 일어나면 그 결과는 캐시에 넣지 않는다.
+     */
+    public void invalidateAll() {
+        AfterCommit.execute(() -> {
+            generation.incrementAndGet();
+            cache.invalidateAll();
+        });
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (int i = 0; i < hits.length; i++) {
+            String type = i < SearchType.values().length ? SearchType.values()[i].name().toLowerCase(Locale.ROOT) : "none";
+            FunctionCounter.builder("board.article.search.count-cache", hits[i], LongAdder::sum)
+                    .description("검색 결과 개수 캐시 조회 수")
+                    .tags("type", type, "result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("board.article.search.count-cache", misses[i], LongAdder::sum)
+                    .description("검색 결과 개수 캐시 조회 수")
+                    .tags("type", type, "result", "miss")
+                    .register(registry);
+        }
+    }
+
+    private long countLimit(Pageable pageable) {
+        if (estimatePages <= 0 || pageable.isUnpaged()) {
+            return 0;
+        }
+        long pages = Math.max(pageable.getPageNumber() + (long) estimatePages + 1,
+                PaginationService.pagesNeededForBar(pageable.getPageNumber()));
+        return (pages - 1) * pageable.getPageSize() + 1;
+    }
+
+    static String normalize(SearchType searchType, String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return "";
+        }
+        if (searchType == SearchType.HASHTAG) {
+            return Arrays.stream(keyword.strip().split("\\s+"))
+                    .distinct()
+                    .sorted()
+                    .collect(Collectors.joining(" "));
+        }
+        return keyword.strip();
+    }
+
+    /**
+     * 검색 유형마다 한 칸, 검색어 없는 조회에 한 칸
+     */
+    private static LongAdder[] newAdders() {
+        LongAdder[] adders = new LongAdder[SearchType.values().length + 1];
+        Arrays.setAll(adders, i -> new LongAdder());
+        return adders;
+    }
+
+    private static int indexOf(SearchType searchType) {
+        return searchType == null ? SearchType.values().length : searchType.ordinal();
+    }
+
+    private record CountKey(SearchType searchType, HashtagMatchMode matchMode, String keyword) {}
+
+    private record CountEntry(long count, boolean exact) {}
+}
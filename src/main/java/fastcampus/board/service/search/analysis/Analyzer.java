@@ -0,0 +1,97 @@
+package fastcampus.board.service.search.analysis;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+/**
+ * 정규화 → 토큰화 → 토큰 필터 순으로 구성되는 분석기.
+ * 상태를 갖지 않으므로 게시글 제목/본문, 댓글 본문 색인이 하나의 인스턴스를 공유할 수 있다.
+ */
+public final class Analyzer {
+
+    private final Normalizer.Form normalizationForm;
+    private final List<UnaryOperator<TokenStream>> filters;
+    private final int hangulMinGram;
+
+    private Analyzer(Normalizer.Form normalizationForm, List<UnaryOperator<TokenStream>> filters, int hangulMinGram) {
+        this.normalizationForm = normalizationForm;
+        this.filters = List.copyOf(filters);
+        this.hangulMinGram = hangulMinGram;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public TokenStream tokenStream(CharSequence text) {
+        TokenStream stream = new ScriptTokenizer(normalize(text));
+        for (UnaryOperator<TokenStream> filter : filters) {
+            stream = filter.apply(stream);
+        }
+        return stream;
+    }
+
+    /**
+     * 한글 n-gram 최소 길이. 이보다 짧은 한글 단어는 더 긴 단어의 일부로 색인되지 않는다. n-gram 필터가 없으면 0.
+     */
+    public int hangulMinGram() {
+        return hangulMinGram;
+    }
+
+    public List<String> analyze(CharSequence text) {
+        List<String> terms = new ArrayList<>();
+        TokenStream stream = tokenStream(text);
+        while (stream.incrementToken()) {
+            terms.add(stream.token().toString());
+        }
+        return terms;
+    }
+
+    private CharSequence normalize(CharSequence text) {
+        if (text == null) {
+            return "";
+        }
+        if (normalizationForm == null || Normalizer.isNormalized(text, normalizationForm)) {
+            return text;
+        }
+        return Normalizer.normalize(text, normalizationForm);
+    }
+
+    public static final class Builder {
+        private Normalizer.Form normalizationForm;
+        private final List<UnaryOperator<TokenStream>> filters = new ArrayList<>();
+        private int hangulMinGram;
+
+        private Builder() {
+        }
+
+        public Builder normalization(Normalizer.Form form) {
+            this.normalizationForm = form;
+            return this;
+        }
+
+        public Builder hangulNGram(int minGram, int maxGram) {
+            this.hangulMinGram = minGram;
+            return filter(input -> new HangulNGramFilter(input, minGram, maxGram));
+        }
+
+        public Builder lowerCase() {
+            return filter(LowerCaseFilter::new);
+        }
+
+        public Builder asciiFolding() {
+            return filter(AsciiFoldingFilter::new);
+        }
+
+        public Builder filter(UnaryOperator<TokenStream> filter) {
+            filters.add(filter);
+            return this;
+        }
+
+        public Analyzer build() {
+            return new Analyzer(normalizationForm, filters, hangulMinGram);
+        }
+    }
+}
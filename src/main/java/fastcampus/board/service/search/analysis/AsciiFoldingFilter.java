@@ -0,0 +1,52 @@
+package fastcampus.board.service.search.analysis;
+
+import java.text.Normalizer;
+
+/**
+ * 라틴 문자의 발음 구별 기호를 제거한다. (예: café → cafe)
+ * 변환표는 클래스 로딩 시 한 번만 만들어 두고, 토큰은 제자리에서 바꾼다.
+ */
+public final class AsciiFoldingFilter extends TokenFilter {
+
+    private static final char[] FOLDING = buildFoldingTable();
+
+    public AsciiFoldingFilter(TokenStream input) {
+        super(input);
+    }
+
+    @Override
+    public boolean incrementToken() {
+        if (!input.incrementToken()) {
+            return false;
+        }
+
+        Token token = input.token();
+        if (token.type() == TokenType.WORD) {
+            char[] buffer = token.buffer();
+            for (int i = 0; i < token.length(); i++) {
+                char c = buffer[i];
+                if (c >= 0x80 && c < FOLDING.length && FOLDING[c] != 0) {
+                    buffer[i] = FOLDING[c];
+                }
+            }
+        }
+        return true;
+    }
+
+    private static char[] buildFoldingTable() {
+        char[] table = new char[0x250];
+        for (char c = 0x80; c < table.length; c++) {
+            String decomposed = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD);
+            if (decomposed.charAt(0) < 0x80 && Character.isLetter(decomposed.charAt(0))) {
+                table[c] = decomposed.charAt(0);
+            }
+        }
+        table['ø'] = 'o';
+        table['Ø'] = 'O';
+        table['đ'] = 'd';
+        table['Đ'] = 'D';
+        table['ł'] = 'l';
+        table['Ł'] = 'L';
+        return table;
+    }
+}
@@ -0,0 +1,70 @@
+package fastcampus.board.service.search.analysis;
+
+import java.util.Arrays;
+
+/**
+ * 한글 토큰을 n-gram 으로 펼친다. 형태소 분석 없이도 조사가 붙은 단어나 복합어의 일부로 검색할 수 있게 한다.
+ * {@code minGram} 이하 길이의 토큰은 그대로 통과시킨다.
+ */
+public final class HangulNGramFilter extends TokenFilter {
+
+    private final int minGram;
+    private final int maxGram;
+
+    private char[] pending = new char[16];
+    private int pendingLength;
+    private int start;
+    private int gramSize;
+    private boolean hasPending;
+
+    public HangulNGramFilter(TokenStream input, int minGram, int maxGram) {
+        super(input);
+        if (minGram < 1 || maxGram < minGram) {
+            throw new IllegalArgumentException("n-gram 범위가 올바르지 않습니다 - minGram: " + minGram + ", maxGram: " + maxGram);
+        }
+        this.minGram = minGram;
+        this.maxGram = maxGram;
+    }
+
+    @Override
+    public boolean incrementToken() {
+        while (true) {
+            if (hasPending) {
+                if (emitNextGram()) {
+                    return true;
+                }
+                hasPending = false;
+            }
+
+            if (!input.incrementToken()) {
+                return false;
+            }
+            Token token = input.token();
+            if (token.type() != TokenType.HANGUL || token.length() <= minGram) {
+                return true;
+            }
+
+            if (pending.length < token.length()) {
+                pending = Arrays.copyOf(pending, Math.max(token.length(), pending.length * 2));
+            }
+            System.arraycopy(token.buffer(), 0, pending, 0, token.length());
+            pendingLength = token.length();
+            start = 0;
+            gramSize = minGram;
+            hasPending = true;
+        }
+    }
+
+    private boolean emitNextGram() {
+        while (start + minGram <= pendingLength) {
+            if (gramSize <= maxGram && start + gramSize <= pendingLength) {
+                input.token().setTerm(pending, start, gramSize);
+                gramSize++;
+                return true;
+            }
+            start++;
+            gramSize = minGram;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,24 @@
+package fastcampus.board.service.search.analysis;
+
+public final class LowerCaseFilter extends TokenFilter {
+
+    public LowerCaseFilter(TokenStream input) {
+        super(input);
+    }
+
+    @Override
+    public boolean incrementToken() {
+        if (!input.incrementToken()) {
+            return false;
+        }
+
+        Token token = input.token();
+        if (token.type() == TokenType.WORD) {
+            char[] buffer = token.buffer();
+            for (int i = 0; i < token.length(); i++) {
+                buffer[i] = Character.toLowerCase(buffer[i]);
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,58 @@
+package fastcampus.board.service.search.analysis;
+
+/**
+ * 문자 종류(한글 음절 / 그 외 문자·숫자)가 바뀌는 지점과 공백·문장부호에서 텍스트를 자른다.
+ */
+final class ScriptTokenizer implements TokenStream {
+
+    private final CharSequence text;
+    private final Token token = new Token();
+    private int position;
+
+    ScriptTokenizer(CharSequence text) {
+        this.text = text;
+    }
+
+    @Override
+    public boolean incrementToken() {
+        int length = text.length();
+        while (position < length) {
+            int codePoint = Character.codePointAt(text, position);
+            TokenType type = typeOf(codePoint);
+            if (type == null) {
+                position += Character.charCount(codePoint);
+                continue;
+            }
+
+            int start = position;
+            do {
+                position += Character.charCount(codePoint);
+                if (position >= length) {
+                    break;
+                }
+                codePoint = Character.codePointAt(text, position);
+            } while (typeOf(codePoint) == type);
+
+            token.setTerm(text, start, position);
+            token.setType(type);
+            return true;
+        }
+
+        return false;
+    }
+
+    @Override
+    public Token token() {
+        return token;
+    }
+
+    private static TokenType typeOf(int codePoint) {
+        if (codePoint >= '가' && codePoint <= '힣') {
+            return TokenType.HANGUL;
+        }
+        if (Character.isLetterOrDigit(codePoint)) {
+            return TokenType.WORD;
+        }
+        return null;
+    }
+}
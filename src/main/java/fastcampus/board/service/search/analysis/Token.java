@@ -0,0 +1,70 @@
+package fastcampus.board.service.search.analysis;
+
+import java.util.Arrays;
+
+/**
+ * 토큰 스트림이 재사용하는 가변 토큰.
+ * 다음 {@link TokenStream#incrementToken()} 호출 전까지만 유효하므로, 보관하려면 {@link #toString()} 으로 복사해야 한다.
+ */
+public final class Token implements CharSequence {
+
+    private char[] buffer = new char[16];
+    private int length;
+    private TokenType type;
+
+    public char[] buffer() {
+        return buffer;
+    }
+
+    public TokenType type() {
+        return type;
+    }
+
+    public void setType(TokenType type) {
+        this.type = type;
+    }
+
+    public void setTerm(CharSequence source, int start, int end) {
+        int termLength = end - start;
+        ensureCapacity(termLength);
+        for (int i = 0; i < termLength; i++) {
+            buffer[i] = source.charAt(start + i);
+        }
+        length = termLength;
+    }
+
+    public void setTerm(char[] source, int offset, int termLength) {
+        ensureCapacity(termLength);
+        System.arraycopy(source, offset, buffer, 0, termLength);
+        length = termLength;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index >= length) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return buffer[index];
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return new String(buffer, start, end - start);
+    }
+
+    @Override
+    public String toString() {
+        return new String(buffer, 0, length);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (buffer.length < capacity) {
+            buffer = Arrays.copyOf(buffer, Math.max(capacity, buffer.length * 2));
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package fastcampus.board.service.search.analysis;
+
+/**
+ * 다른 토큰 스트림을 감싸 토큰을 변환하는 필터의 기반 클래스.
+ */
+public abstract class TokenFilter implements TokenStream {
+
+    protected final TokenStream input;
+
+    protected TokenFilter(TokenStream input) {
+        this.input = input;
+    }
+
+    @Override
+    public Token token() {
+        return input.token();
+    }
+}
@@ -0,0 +1,12 @@
+package fastcampus.board.service.search.analysis;
+
+/**
+ * 토큰을 하나씩 꺼내는 스트리밍 API.
+ * 구현체는 매 호출마다 같은 {@link Token} 인스턴스를 갱신하여 토큰당 할당을 피한다.
+ */
+public interface TokenStream {
+
+    boolean incrementToken();
+
+    Token token();
+}
@@ -0,0 +1,6 @@
+package fastcampus.board.service.search.analysis;
+
+public enum TokenType {
+    HANGUL,
+    WORD
+}
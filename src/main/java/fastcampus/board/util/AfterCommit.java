@@ -0,0 +1,28 @@
+package fastcampus.board.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 커밋 이후에 실행되어야 하는 메모리 상태 갱신(색인, 캐시 등)을 등록한다.
+ * 진행 중인 트랜잭션이 없으면 즉시 실행한다.
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void execute(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,57 @@
+package fastcampus.board.util;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * 현재 스레드에서 실행한 SQL 을 열려 있는 모든 {@link QueryScope} 에 더한다.
+ * 범위는 요청 안에 서비스 메서드가 있는 식으로 겹쳐 열 수 있고, 안쪽 범위의 SQL 은 바깥 범위에도 더해진다.
+ * 열린 범위가 없으면 아무것도 세지 않는다.
+ */
+public final class QueryCounter {
+
+    private static final ThreadLocal<Deque<QueryScope>> SCOPES = new ThreadLocal<>();
+
+    private QueryCounter() {
+    }
+
+    public static QueryScope open(String name) {
+        Deque<QueryScope> scopes = SCOPES.get();
+        if (scopes == null) {
+            scopes = new ArrayDeque<>();
+            SCOPES.set(scopes);
+        }
+        QueryScope scope = new QueryScope(name);
+        scopes.push(scope);
+        return scope;
+    }
+
+    public static boolean isActive() {
+        return SCOPES.get() != null;
+    }
+
+    public static void recordStatement(String sql, long elapsedNanos) {
+        Deque<QueryScope> scopes = SCOPES.get();
+        if (scopes != null) {
+            scopes.forEach(scope -> scope.addStatement(sql, elapsedNanos));
+        }
+    }
+
+    public static void recordRows(long rows) {
+        Deque<QueryScope> scopes = SCOPES.get();
+        if (scopes != null) {
+            scopes.forEach(scope -> scope.addRows(rows));
+        }
+    }
+
+    static void close(QueryScope scope) {
+        Deque<QueryScope> scopes = SCOPES.get();
+        if (scopes == null) {
+            return;
+        }
+        scopes.remove(scope);
+        if (scopes.isEmpty()) {
+            SCOPES.remove();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package fastcampus.board.util;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * {@link QueryCounter#open(String)} 로 연 범위 안에서 실행한 SQL 의 수, 읽거나 바꾼 행 수, 실행 시간.
+ * 연 스레드에서만 쓰고 닫아야 한다.
+ */
+public class QueryScope implements AutoCloseable {
+
+    private final String name;
+    private final Map<String, Integer> statementCounts = new LinkedHashMap<>();
+    private long statements;
+    private long rows;
+    private long elapsedNanos;
+
+    QueryScope(String name) {
+        this.name = name;
+    }
+
+    void addStatement(String sql, long elapsedNanos) {
+        this.statements++;
+        this.elapsedNanos += elapsedNanos;
+        this.statementCounts.merge(sql, 1, Integer::sum);
+    }
+
+    void addRows(long rows) {
+        this.rows += rows;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getStatements() {
+        return statements;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * 실행한 SQL 별 실행 횟수. 실행한 순서대로 돌려준다.
+     */
+    public Map<String, Integer> getStatementCounts() {
+        return Collections.unmodifiableMap(statementCounts);
+    }
+
+    /**
+     * 같은 SQL 을 {@code threshold} 번 이상 실행한 것만 돌려준다. 연관 엔티티를 하나씩 읽는 N+1 의심 지점이다.
+     */
+    public Map<String, Integer> getRepeatedStatements(int threshold) {
+        return statementCounts.entrySet().stream()
+                .filter(entry -> entry.getValue() >= threshold)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, LinkedHashMap::new));
+    }
+
+    @Override
+    public void close() {
+        QueryCounter.close(this);
+    }
+}
@@ -888,123 +888,131 @@ insert into article_comment (article_id, user_id, parent_comment_id, content, cr
                                                                                                                                     (49, 'uno', 1, '또또 퍼가요~', '2021-03-05 22:40:04', '2021-04-27 15:38:09', 'Uno', 'Uno')
 ;
 
-insert into hashtag (hashtag_name, created_at, modified_at, created_by, modified_by) values
-                                                                                         ('blue', now(), now(), 'uno', 'uno'),
-                                                                                         ('crimson', now(), now(), 'uno', 'uno'),
-                                                                                         ('fuscia', now(), now(), 'uno', 'uno'),
-                                                                                         ('goldenrod', now(), now(), 'uno', 'uno'),
-                                                                                         ('green', now(), now(), 'uno', 'uno'),
-                                                                                         ('indigo', now(), now(), 'uno', 'uno'),
-                                                                                         ('khaki', now(), now(), 'uno', 'uno'),
-                                                                                         ('maroon', now(), now(), 'uno', 'uno'),
-                                                                                         ('mauv', now(), now(), 'uno', 'uno'),
-                                                                                         ('orange', now(), now(), 'uno', 'uno'),
-                                                                                         ('pink', now(), now(), 'uno', 'uno'),
-                                                                                         ('puce', now(), now(), 'uno', 'uno'),
-                                                                                         ('purple', now(), now(), 'uno', 'uno'),
-                                                                                         ('red', now(), now(), 'uno', 'uno'),
-                                                                                         ('teal', now(), now(), 'uno', 'uno'),
-                                                                                         ('turquoise', now(), now(), 'uno', 'uno'),
-                                                                                         ('violet', now(), now(), 'uno', 'uno'),
-                                                                                         ('yellow', now(), now(), 'uno', 'uno'),
-                                                                                         ('white', now(), now(), 'uno', 'uno')
+insert into hashtag (id, hashtag_name, created_at, modified_at, created_by, modified_by) values
+                                                                                         (1, 'blue', now(), now(), 'uno', 'uno'),
+                                                                                         (2, 'crimson', now(), now(), 'uno', 'uno'),
+                                                                                         (3, 'fuscia', now(), now(), 'uno', 'uno'),
+                                                                                         (4, 'goldenrod', now(), now(), 'uno', 'uno'),
+                                                                                         (5, 'green', now(), now(), 'uno', 'uno'),
+                                                                                         (6, 'indigo', now(), now(), 'uno', 'uno'),
+                                                                                         (7, 'khaki', now(), now(), 'uno', 'uno'),
+                                                                                         (8, 'maroon', now(), now(), 'uno', 'uno'),
+                                                                                         (9, 'mauv', now(), now(), 'uno', 'uno'),
+                                                                                         (10, 'orange', now(), now(), 'uno', 'uno'),
+                                                                                         (11, 'pink', now(), now(), 'uno', 'uno'),
+                                                                                         (12, 'puce', now(), now(), 'uno', 'uno'),
+                                                                                         (13, 'purple', now(), now(), 'uno', 'uno'),
+                                                                                         (14, 'red', now(), now(), 'uno', 'uno'),
+                                                                                         (15, 'teal', now(), now(), 'uno', 'uno'),
+                                                                                         (16, 'turquoise', now(), now(), 'uno', 'uno'),
+                                                                                         (17, 'violet', now(), now(), 'uno', 'uno'),
+                                                                                         (18, 'yellow', now(), now(), 'uno', 'uno'),
+                                                                                         (19, 'white', now(), now(), 'uno', 'uno')
 ;
 
-insert into article_hashtag (article_id, hashtag_id, created_at, modified_at, created_by, modified_by) values
-                                                         (1, 11, now(), now(), 'uno', 'uno'),
-                                                         (2, 13, now(), now(), 'uno', 'uno'),
-                                                         (3, 13, now(), now(), 'uno', 'uno'),
-                                                         (4, 9, now(), now(), 'uno', 'uno'),
-                                                         (5, 5, now(), now(), 'uno', 'uno'),
-                                                         (6, 8, now(), now(), 'uno', 'uno'),
-                                                         (7, 10, now(), now(), 'uno', 'uno'),
-                                                         (8, 15, now(), now(), 'uno', 'uno'),
-                                                         (9, 7, now(), now(), 'uno', 'uno'),
-                                                         (10, 12, now(), now(), 'uno', 'uno'),
-                                                         (11, 10, now(), now(), 'uno', 'uno'),
-                                                         (12, 13, now(), now(), 'uno', 'uno'),
-                                                         (13, 8, now(), now(), 'uno', 'uno'),
-                                                         (15, 7, now(), now(), 'uno', 'uno'),
-                                                         (18, 4, now(), now(), 'uno', 'uno'),
-                                                         (19, 18, now(), now(), 'uno', 'uno'),
-                                                         (20, 10, now(), now(), 'uno', 'uno'),
-                                                         (21, 3, now(), now(), 'uno', 'uno'),
-                                                         (22, 12, now(), now(), 'uno', 'uno'),
-                                                         (24, 15, now(), now(), 'uno', 'uno'),
-                                                         (25, 3, now(), now(), 'uno', 'uno'),
-                                                         (26, 8, now(), now(), 'uno', 'uno'),
-                                                         (27, 15, now(), now(), 'uno', 'uno'),
-                                                         (28, 16, now(), now(), 'uno', 'uno'),
-                                                         (29, 3, now(), now(), 'uno', 'uno'),
-                                                         (31, 1, now(), now(), 'uno', 'uno'),
-                                                         (32, 18, now(), now(), 'uno', 'uno'),
-                                                         (33, 11, now(), now(), 'uno', 'uno'),
-                                                         (34, 4, now(), now(), 'uno', 'uno'),
-                                                         (35, 1, now(), now(), 'uno', 'uno'),
-                                                         (37, 13, now(), now(), 'uno', 'uno'),
-                                                         (38, 5, now(), now(), 'uno', 'uno'),
-                                                         (40, 16, now(), now(), 'uno', 'uno'),
-                                                         (42, 3, now(), now(), 'uno', 'uno'),
-                                                         (43, 17, now(), now(), 'uno', 'uno'),
-                                                         (45, 14, now(), now(), 'uno', 'uno'),
-                                                         (45, 19, now(), now(), 'uno', 'uno'),
-                                                         (47, 13, now(), now(), 'uno', 'uno'),
-                                                         (48, 2, now(), now(), 'uno', 'uno'),
-                                                         (49, 6, now(), now(), 'uno', 'uno'),
-                                                         (50, 7, now(), now(), 'uno', 'uno'),
-                                                         (52, 16, now(), now(), 'uno', 'uno'),
-                                                         (54, 11, now(), now(), 'uno', 'uno'),
-                                                         (55, 10, now(), now(), 'uno', 'uno'),
-                                                         (57, 10, now(), now(), 'uno', 'uno'),
-                                                         (58, 11, now(), now(), 'uno', 'uno'),
-                                                         (59, 2, now(), now(), 'uno', 'uno'),
-                                                         (60, 2, now(), now(), 'uno', 'uno'),
-                                                         (61, 15, now(), now(), 'uno', 'uno'),
-                                                         (63, 17, now(), now(), 'uno', 'uno'),
-                                                         (64, 17, now(), now(), 'uno', 'uno'),
-                                                         (65, 17, now(), now(), 'uno', 'uno'),
-                                                         (66, 16, now(), now(), 'uno', 'uno'),
-                                                         (67, 12, now(), now(), 'uno', 'uno'),
-                                                         (68, 3, now(), now(), 'uno', 'uno'),
-                                                         (70, 12, now(), now(), 'uno', 'uno'),
-                                                         (71, 11, now(), now(), 'uno', 'uno'),
-                                                         (72, 3, now(), now(), 'uno', 'uno'),
-                                                         (73, 14, now(), now(), 'uno', 'uno'),
-                                                         (75, 16, now(), now(), 'uno', 'uno'),
-                                                         (76, 1, now(), now(), 'uno', 'uno'),
-                                                         (77, 11, now(), now(), 'uno', 'uno'),
-                                                         (80, 13, now(), now(), 'uno', 'uno'),
-                                                         (81, 17, now(), now(), 'uno', 'uno'),
-                                                         (82, 16, now(), now(), 'uno', 'uno'),
-                                                         (83, 13, now(), now(), 'uno', 'uno'),
-                                                         (84, 2, now(), now(), 'uno', 'uno'),
-                                                         (85, 15, now(), now(), 'uno', 'uno'),
-                                                         (86, 14, now(), now(), 'uno', 'uno'),
-                                                         (88, 17, now(), now(), 'uno', 'uno'),
-                                                         (90, 7, now(), now(), 'uno', 'uno'),
-                                                         (91, 10, now(), now(), 'uno', 'uno'),
-                                                         (92, 13, now(), now(), 'uno', 'uno'),
-                                                         (93, 16, now(), now(), 'uno', 'uno'),
-                                                         (94, 16, now(), now(), 'uno', 'uno'),
-                                                         (95, 3, now(), now(), 'uno', 'uno'),
-                                                         (96, 8, now(), now(), 'uno', 'uno'),
-                                                         (97, 18, now(), now(), 'uno', 'uno'),
-                                                         (98, 10, now(), now(), 'uno', 'uno'),
-                                                         (99, 17, now(), now(), 'uno', 'uno'),
-                                                         (100, 2, now(), now(), 'uno', 'uno'),
-                                                         (102, 12, now(), now(), 'uno', 'uno'),
-                                                         (103, 14, now(), now(), 'uno', 'uno'),
-                                                         (104, 7, now(), now(), 'uno', 'uno'),
-                                                         (105, 16, now(), now(), 'uno', 'uno'),
-                                                         (106, 14, now(), now(), 'uno', 'uno'),
-                                                         (107, 1, now(), now(), 'uno', 'uno'),
-                                                         (111, 18, now(), now(), 'uno', 'uno'),
-                                                         (112, 6, now(), now(), 'uno', 'uno'),
-                                                         (113, 9, now(), now(), 'uno', 'uno'),
-                                                         (114, 2, now(), now(), 'uno', 'uno'),
-                                                         (116, 16, now(), now(), 'uno', 'uno'),
-                                                         (117, 14, now(), now(), 'uno', 'uno'),
-                                                         (119, 12, now(), now(), 'uno', 'uno'),
-                                                         (120, 18, now(), now(), 'uno', 'uno'),
-                                                         (122, 18, now(), now(), 'uno', 'uno')
-;
\ No newline at end of file
+insert into article_hashtag (id, article_id, hashtag_id, created_at, modified_at, created_by, modified_by) values
+                                                         (1, 1, 11, now(), now(), 'uno', 'uno'),
+                                                         (2, 2, 13, now(), now(), 'uno', 'uno'),
+                                                         (3, 3, 13, now(), now(), 'uno', 'uno'),
+                                                         (4, 4, 9, now(), now(), 'uno', 'uno'),
+                                                         (5, 5, 5, now(), now(), 'uno', 'uno'),
+                                                         (6, 6, 8, now(), now(), 'uno', 'uno'),
+                                                         (7, 7, 10, now(), now(), 'uno', 'uno'),
+                                                         (8, 8, 15, now(), now(), 'uno', 'uno'),
+                                                         (9, 9, 7, now(), now(), 'uno', 'uno'),
+                                                         (10, 10, 12, now(), now(), 'uno', 'uno'),
+                                                         (11, 11, 10, now(), now(), 'uno', 'uno'),
+                                                         (12, 12, 13, now(), now(), 'uno', 'uno'),
+                                                         (13, 13, 8, now(), now(), 'uno', 'uno'),
+                                                         (14, 15, 7, now(), now(), 'uno', 'uno'),
+                                                         (15, 18, 4, now(), now(), 'uno', 'uno'),
+                                                         (16, 19, 18, now(), now(), 'uno', 'uno'),
+                                                         (17, 20, 10, now(), now(), 'uno', 'uno'),
+                                                         (18, 21, 3, now(), now(), 'uno', 'uno'),
+                                                         (19, 22, 12, now(), now(), 'uno', 'uno'),
+                                                         (20, 24, 15, now(), now(), 'uno', 'uno'),
+                                                         (21, 25, 3, now(), now(), 'uno', 'uno'),
+                                                         (22, 26, 8, now(), now(), 'uno', 'uno'),
+                                                         (23, 27, 15, now(), now(), 'uno', 'uno'),
+                                                         (24, 28, 16, now(), now(), 'uno', 'uno'),
+                                                         (25, 29, 3, now(), now(), 'uno', 'uno'),
+                                                         (26, 31, 1, now(), now(), 'uno', 'uno'),
+                                                         (27, 32, 18, now(), now(), 'uno', 'uno'),
+                                                         (28, 33, 11, now(), now(), 'uno', 'uno'),
+                                                         (29, 34, 4, now(), now(), 'uno', 'uno'),
+                                                         (30, 35, 1, now(), now(), 'uno', 'uno'),
+                                                         (31, 37, 13, now(), now(), 'uno', 'uno'),
+                                                         (32, 38, 5, now(), now(), 'uno', 'uno'),
+                                                         (33, 40, 16, now(), now(), 'uno', 'uno'),
+                                                         (34, 42, 3, now(), now(), 'uno', 'uno'),
+                                                         (35, 43, 17, now(), now(), 'uno', 'uno'),
+                                                         (36, 45, 14, now(), now(), 'uno', 'uno'),
+                                                         (37, 45, 19, now(), now(), 'uno', 'uno'),
+                                                         (38, 47, 13, now(), now(), 'uno', 'uno'),
+                                                         (39, 48, 2, now(), now(), 'uno', 'uno'),
+                                                         (40, 49, 6, now(), now(), 'uno', 'uno'),
+                                                         (41, 50, 7, now(), now(), 'uno', 'uno'),
+                                                         (42, 52, 16, now(), now(), 'uno', 'uno'),
+                                                         (43, 54, 11, now(), now(), 'uno', 'uno'),
+                                                         (44, 55, 10, now(), now(), 'uno', 'uno'),
+                                                         (45, 57, 10, now(), now(), 'uno', 'uno'),
+                                                         (46, 58, 11, now(), now(), 'uno', 'uno'),
+                                                         (47, 59, 2, now(), now(), 'uno', 'uno'),
+                                                         (48, 60, 2, now(), now(), 'uno', 'uno'),
+                                                         (49, 61, 15, now(), now(), 'uno', 'uno'),
+                                                         (50, 63, 17, now(), now(), 'uno', 'uno'),
+                                                         (51, 64, 17, now(), now(), 'uno', 'uno'),
+                                                         (52, 65, 17, now(), now(), 'uno', 'uno'),
+                                                         (53, 66, 16, now(), now(), 'uno', 'uno'),
+                                                         (54, 67, 12, now(), now(), 'uno', 'uno'),
+                                                         (55, 68, 3, now(), now(), 'uno', 'uno'),
+                                                         (56, 70, 12, now(), now(), 'uno', 'uno'),
+                                                         (57, 71, 11, now(), now(), 'uno', 'uno'),
+                                                         (58, 72, 3, now(), now(), 'uno', 'uno'),
+                                                         (59, 73, 14, now(), now(), 'uno', 'uno'),
+                                                         (60, 75, 16, now(), now(), 'uno', 'uno'),
+                                                         (61, 76, 1, now(), now(), 'uno', 'uno'),
+                                                         (62, 77, 11, now(), now(), 'uno', 'uno'),
+                                                         (63, 80, 13, now(), now(), 'uno', 'uno'),
+                                                         (64, 81, 17, now(), now(), 'uno', 'uno'),
+                                                         (65, 82, 16, now(), now(), 'uno', 'uno'),
+                                                         (66, 83, 13, now(), now(), 'uno', 'uno'),
+                                                         (67, 84, 2, now(), now(), 'uno', 'uno'),
+                                                         (68, 85, 15, now(), now(), 'uno', 'uno'),
+                                                         (69, 86, 14, now(), now(), 'uno', 'uno'),
+                                                         (70, 88, 17, now(), now(), 'uno', 'uno'),
+                                                         (71, 90, 7, now(), now(), 'uno', 'uno'),
+                                                         (72, 91, 10, now(), now(), 'uno', 'uno'),
+                                                         (73, 92, 13, now(), now(), 'uno', 'uno'),
+                                                         (74, 93, 16, now(), now(), 'uno', 'uno'),
+                                                         (75, 94, 16, now(), now(), 'uno', 'uno'),
+                                                         (76, 95, 3, now(), now(), 'uno', 'uno'),
+                                                         (77, 96, 8, now(), now(), 'uno', 'uno'),
+                                                         (78, 97, 18, now(), now(), 'uno', 'uno'),
+                                                         (79, 98, 10, now(), now(), 'uno', 'uno'),
+                                                         (80, 99, 17, now(), now(), 'uno', 'uno'),
+                                                         (81, 100, 2, now(), now(), 'uno', 'uno'),
+                                                         (82, 102, 12, now(), now(), 'uno', 'uno'),
+                                                         (83, 103, 14, now(), now(), 'uno', 'uno'),
+                                                         (84, 104, 7, now(), now(), 'uno', 'uno'),
+                                                         (85, 105, 16, now(), now(), 'uno', 'uno'),
+                                                         (86, 106, 14, now(), now(), 'uno', 'uno'),
+                                                         (87, 107, 1, now(), now(), 'uno', 'uno'),
+                                                         (88, 111, 18, now(), now(), 'uno', 'uno'),
+                                                         (89, 112, 6, now(), now(), 'uno', 'uno'),
+                                                         (90, 113, 9, now(), now(), 'uno', 'uno'),
+                                                         (91, 114, 2, now(), now(), 'uno', 'uno'),
+                                                         (92, 116, 16, now(), now(), 'uno', 'uno'),
+                                                         (93, 117, 14, now(), now(), 'uno', 'uno'),
+                                                         (94, 119, 12, now(), now(), 'uno', 'uno'),
+                                                         (95, 120, 18, now(), now(), 'uno', 'uno'),
+                                                         (96, 122, 18, now(), now(), 'uno', 'uno')
+;
+
+-- 해시태그, 게시글-해시태그 ID 는 id_generator 테이블에서 묶음으로 할당받는다. 위에서 직접 넣은 ID 다음부터 시작한다.
+-- 행은 Hibernate 가 스키마를 만들 때 넣어 두므로 값만 바꾼다.
+update id_generator set next_val = 20 where id_name = 'hashtag';
+update id_generator set next_val = 97 where id_name = 'article_hashtag';
+
+-- 게시글에 저장하는 댓글 수는 위에서 직접 넣은 댓글로 채운다.
+update article a set comment_count = (select count(*) from article_comment c where c.article_id = a.id);
@@ -0,0 +1,57 @@
+package fastcampus.board.config;
+
+import fastcampus.board.config.QueryMetricsConfig.QueryMetricsProperties;
+import fastcampus.board.util.QueryCounter;
+import fastcampus.board.util.QueryScope;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SQL 지표")
+class QueryMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final QueryMetrics sut = new QueryMetrics(registry, new QueryMetricsProperties(3));
+
+    @DisplayName("같은 메서드를 여러 번 기록하면, 미터를 한 번만 등록하고 값을 누적한다.")
+    @Test
+    void givenSameName_whenRecordingTwice_thenReusesMeters() {
+        // Given
+        QueryScope first = scopeWith("select 1", "select 2");
+        QueryScope second = scopeWith("select 1");
+
+        // When
+        sut.record(QueryMetrics.METHOD, "ArticleService.getArticle", first);
+        sut.record(QueryMetrics.METHOD, "ArticleService.getArticle", second);
+
+        // Then
+        assertThat(registry.find("board.db.statements").summaries()).hasSize(1);
+        assertThat(registry.get("board.db.statements").tags("scope", "method", "name", "ArticleService.getArticle").summary().totalAmount())
+                .isEqualTo(3);
+        assertThat(registry.get("board.db.n-plus-one").counter().count()).isZero();
+    }
+
+    @DisplayName("같은 SQL 을 기준 횟수 이상 실행했으면, N+1 로 센다.")
+    @Test
+    void givenRepeatedStatement_whenRecording_thenCountsNPlusOne() {
+        // Given
+        QueryScope scope = scopeWith("select * from hashtag where id=?", "select * from hashtag where id=?", "select * from hashtag where id=?");
+
+        // When
+        sut.record(QueryMetrics.REQUEST, "GET /articles/{articleId}", scope);
+
+        // Then
+        assertThat(registry.get("board.db.n-plus-one").tags("scope", "request").counter().count()).isEqualTo(1);
+    }
+
+    private static QueryScope scopeWith(String... statements) {
+        QueryScope scope = QueryCounter.open("test");
+        for (String sql : statements) {
+            QueryCounter.recordStatement(sql, 1_000);
+        }
+        scope.close();
+        return scope;
+    }
+}
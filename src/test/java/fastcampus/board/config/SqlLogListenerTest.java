@@ -0,0 +1,92 @@
+package fastcampus.board.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import fastcampus.board.config.LoggingConfig.SqlLogProperties;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SQL 로그")
+class SqlLogListenerTest {
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger("board.sql");
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+        MDC.clear();
+    }
+
+    @DisplayName("느린 SQL 은, 요청을 처리한 컨트롤러 메서드와 함께 경고로 남긴다.")
+    @Test
+    void givenSlowStatement_whenExecuted_thenLogsWarningWithHandler() {
+        // Given
+        SqlLogListener sut = new SqlLogListener(new SqlLogProperties(0, Duration.ofMillis(200)));
+        MDC.put(HandlerMdcInterceptor.HANDLER, "ArticleController.article");
+
+        // When
+        sut.afterQuery(executionInfo(250), List.of(new QueryInfo("select * from article where id=?")));
+
+        // Then
+        assertThat(appender.list).singleElement().satisfies(event -> {
+            assertThat(event.getLevel()).isEqualTo(Level.WARN);
+            assertThat(event.getFormattedMessage())
+                    .contains("250ms", "ArticleController.article", "select * from article where id=?");
+        });
+    }
+
+    @DisplayName("빠른 SQL 은 표본을 뽑지 않으면 남기지 않는다.")
+    @Test
+    void givenFastStatementWithoutSampling_whenExecuted_thenLogsNothing() {
+        // Given
+        SqlLogListener sut = new SqlLogListener(new SqlLogProperties(0, Duration.ofMillis(200)));
+
+        // When
+        sut.afterQuery(executionInfo(10), List.of(new QueryInfo("select 1")));
+
+        // Then
+        assertThat(appender.list).isEmpty();
+    }
+
+    @DisplayName("표본 비율이 1 이면, 빠른 SQL 도 모두 남긴다.")
+    @Test
+    void givenSampleRateOne_whenExecuted_thenLogsEveryStatement() {
+        // Given
+        SqlLogListener sut = new SqlLogListener(new SqlLogProperties(1, Duration.ZERO));
+
+        // When
+        sut.afterQuery(executionInfo(10), List.of(new QueryInfo("select 1")));
+        sut.afterQuery(executionInfo(10), List.of(new QueryInfo("select 2")));
+
+        // Then
+        assertThat(appender.list)
+                .extracting(ILoggingEvent::getLevel)
+                .containsExactly(Level.INFO, Level.INFO);
+    }
+
+    private static ExecutionInfo executionInfo(long elapsedMillis) {
+        ExecutionInfo executionInfo = new ExecutionInfo();
+        executionInfo.setElapsedTime(elapsedMillis);
+        return executionInfo;
+    }
+}
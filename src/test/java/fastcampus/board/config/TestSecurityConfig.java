@@ -1,6 +1,8 @@
 package fastcampus.board.config;
 
 import fastcampus.board.dto.UserAccountDto;
+import fastcampus.board.dto.security.BoardPrincipal;
+import fastcampus.board.service.OAuth2UserProvisioner;
 import fastcampus.board.service.UserAccountService;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
@@ -15,11 +17,14 @@ import static org.mockito.BDDMockito.given;
 public class TestSecurityConfig {
 
     @MockBean private UserAccountService userAccountService;
+    @MockBean private OAuth2UserProvisioner oAuth2UserProvisioner;
 
     @BeforeTestMethod
     public void securitySetup() {
         given(userAccountService.searchUser(anyString()))
                 .willReturn(Optional.of(createUserAccountDto()));
+        given(userAccountService.searchPrincipal(anyString()))
+                .willReturn(Optional.of(BoardPrincipal.from(createUserAccountDto())));
         given(userAccountService.saveUser(anyString(), anyString(), anyString(), anyString(), anyString()))
                 .willReturn(createUserAccountDto());
     }
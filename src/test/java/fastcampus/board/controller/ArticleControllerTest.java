@@ -2,13 +2,19 @@ package fastcampus.board.controller;
 
 import fastcampus.board.config.TestSecurityConfig;
 import fastcampus.board.domain.constant.FormStatus;
+import fastcampus.board.domain.constant.HashtagRankType;
 import fastcampus.board.domain.constant.SearchType;
 import fastcampus.board.dto.ArticleDto;
-import fastcampus.board.dto.ArticleWithCommentsDto;
+import fastcampus.board.dto.ArticleCommentDto;
+import fastcampus.board.dto.ArticleCommentPageDto;
+import fastcampus.board.dto.CursorPage;
 import fastcampus.board.dto.HashtagDto;
+import fastcampus.board.dto.HashtagPopularityDto;
+import fastcampus.board.dto.InvalidCursorException;
 import fastcampus.board.dto.UserAccountDto;
 import fastcampus.board.dto.request.ArticleRequest;
 import fastcampus.board.dto.response.ArticleResponse;
+import fastcampus.board.service.ArticleCommentService;
 import fastcampus.board.service.ArticleService;
 import fastcampus.board.service.HashtagService;
 import fastcampus.board.service.PaginationService;
@@ -21,6 +27,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -32,8 +39,12 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
@@ -52,6 +63,8 @@ class ArticleControllerTest {
     @MockBean
     private ArticleService articleService;
     @MockBean
+    private ArticleCommentService articleCommentService;
+    @MockBean
     private PaginationService paginationService;
     @MockBean
     private HashtagService hashtagService;
@@ -66,7 +79,7 @@ class ArticleControllerTest {
     @Test
     void givenNothing_whenRequestArticlesView_thenRequestArticlesView() throws Exception {
         //given
-        given(articleService.searchArticles(eq(null), eq(null), any(Pageable.class))).willReturn(Page.empty());
+        given(articleService.searchArticles(eq(null), eq(null), eq(null), any(Pageable.class))).willReturn(Page.empty());
         given(paginationService.getPaginationBarNumbers(anyInt(), anyInt())).willReturn(List.of(0, 1, 2, 3, 4));
 
         //when && then
@@ -79,17 +92,48 @@ class ArticleControllerTest {
                 .andExpect(model().attributeExists("searchTypes"))
                 .andExpect(model().attribute("searchTypeHashtag", SearchType.HASHTAG));
 
-        then(articleService).should().searchArticles(eq(null), eq(null), any(Pageable.class));
+        then(articleService).should().searchArticles(eq(null), eq(null), eq(null), any(Pageable.class));
         then(paginationService).should().getPaginationBarNumbers(anyInt(), anyInt());
     }
 
+    @DisplayName("[view][GET] 게시글 리스트 페이지 - 커서와 함께 호출")
+    @Test
+    void givenCursor_whenRequestArticlesView_thenReturnsCursorArticlesView() throws Exception {
+        // Given
+        String cursor = "";
+        given(articleService.getArticlesByCursor(cursor, 10)).willReturn(CursorPage.of(List.of(), null));
+
+        // When & Then
+        mvc.perform(get("/articles").queryParam("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_HTML))
+                .andExpect(view().name("articles/index-cursor"))
+                .andExpect(model().attributeExists("articles"))
+                .andExpect(model().attribute("searchTypeHashtag", SearchType.HASHTAG));
+        then(articleService).should().getArticlesByCursor(cursor, 10);
+        then(articleService).shouldHaveNoMoreInteractions();
+    }
+
+    @DisplayName("[view][GET] 게시글 리스트 페이지 - 잘못된 커서로 호출하면 400")
+    @Test
+    void givenMalformedCursor_whenRequestArticlesView_thenReturnsBadRequest() throws Exception {
+        // Given
+        String cursor = "not-a-cursor";
+        given(articleService.getArticlesByCursor(cursor, 10)).willThrow(new InvalidCursorException("잘못된 커서", null));
+
+        // When & Then
+        mvc.perform(get("/articles").queryParam("cursor", cursor))
+                .andExpect(status().isBadRequest());
+        then(articleService).should().getArticlesByCursor(cursor, 10);
+    }
+
     @DisplayName("[view][GET] 게시글 리스트 (게시판) 페이지 - 검색어와 함께 호출")
     @Test
     public void givenSearchKeyword_whenSearchingArticlesView_thenReturnsArticlesView() throws Exception {
         // Given
         SearchType searchType = SearchType.TITLE;
         String searchValue = "title";
-        given(articleService.searchArticles(eq(searchType), eq(searchValue), any(Pageable.class))).willReturn(Page.empty());
+        given(articleService.searchArticles(eq(searchType), eq(searchValue), eq(null), any(Pageable.class))).willReturn(Page.empty());
         given(paginationService.getPaginationBarNumbers(anyInt(), anyInt())).willReturn(List.of(0, 1, 2, 3, 4));
 
         // When & Then
@@ -103,7 +147,7 @@ class ArticleControllerTest {
                 .andExpect(view().name("articles/index"))
                 .andExpect(model().attributeExists("articles"))
                 .andExpect(model().attributeExists("searchTypes"));
-        then(articleService).should().searchArticles(eq(searchType), eq(searchValue), any(Pageable.class));
+        then(articleService).should().searchArticles(eq(searchType), eq(searchValue), eq(null), any(Pageable.class));
         then(paginationService).should().getPaginationBarNumbers(anyInt(), anyInt());
     }
 
@@ -117,7 +161,7 @@ class ArticleControllerTest {
         int pageSize = 5;
         Pageable pageable = PageRequest.of(pageNumber, pageSize, Sort.by(Sort.Order.desc(sortName)));
         List<Integer> barNumbers = List.of(1, 2, 3, 4, 5);
-        given(articleService.searchArticles(null, null, pageable)).willReturn(Page.empty());
+        given(articleService.searchArticles(null, null, null, pageable)).willReturn(Page.empty());
         given(paginationService.getPaginationBarNumbers(pageable.getPageNumber(), Page.empty().getTotalPages())).willReturn(barNumbers);
 
         // When & Then
@@ -132,7 +176,7 @@ class ArticleControllerTest {
                 .andExpect(view().name("articles/index"))
                 .andExpect(model().attributeExists("articles"))
                 .andExpect(model().attribute("paginationBarNumbers", barNumbers));
-        then(articleService).should().searchArticles(null, null, pageable);
+        then(articleService).should().searchArticles(null, null, null, pageable);
         then(paginationService).should().getPaginationBarNumbers(pageable.getPageNumber(), Page.empty().getTotalPages());
     }
 
@@ -156,7 +200,11 @@ class ArticleControllerTest {
         //given
         Long articleId = 1L;
         long totalCount = 1L;
-        given(articleService.getArticleWithComments(articleId)).willReturn(createArticleWithCommentsDto());
+        given(articleService.getArticle(articleId)).willReturn(createArticleDtoWithId(articleId));
+        given(articleCommentService.getParentCommentPage(articleId, null, 20)).willReturn(ArticleCommentPageDto.of(
+                CursorPage.of(List.of(createArticleCommentDto(1L, null)), "next-cursor"),
+                Map.of(1L, 2L)
+        ));
         given(articleService.getArticleCount()).willReturn(totalCount);
 
         //when && then
@@ -166,13 +214,80 @@ class ArticleControllerTest {
                 .andExpect(view().name("articles/detail"))
                 .andExpect(model().attributeExists("article"))
                 .andExpect(model().attributeExists("articleComments"))
+                .andExpect(model().attribute("commentNextCursor", "next-cursor"))
+                .andExpect(model().attribute("childCommentCounts", Map.of(1L, 2L)))
+                .andExpect(model().attributeDoesNotExist("replies"))
                 .andExpect(model().attribute("totalCount", totalCount))
                 .andExpect(model().attribute("searchTypeHashtag", SearchType.HASHTAG));
 
-        then(articleService).should().getArticleWithComments(articleId);
+        then(articleService).should().getArticle(articleId);
+        then(articleService).should().increaseViewCount(articleId);
+        then(articleCommentService).should().getParentCommentPage(articleId, null, 20);
+        then(articleCommentService).should(never()).getChildComments(any(), any(), any(), anyInt());
         then(articleService).should().getArticleCount();
     }
 
+    @WithMockUser
+    @DisplayName("[view][GET] 게시글 상세 페이지 - 대댓글 펼치기, 펼친 부모 댓글의 대댓글만 조회")
+    @Test
+    void givenParentCommentId_whenRequestArticleView_thenReturnsRepliesOfThatParentOnly() throws Exception {
+        //given
+        Long articleId = 1L;
+        Long parentCommentId = 1L;
+        given(articleService.getArticle(articleId)).willReturn(createArticleDtoWithId(articleId));
+        given(articleCommentService.getParentCommentPage(articleId, null, 20)).willReturn(ArticleCommentPageDto.of(
+                CursorPage.of(List.of(createArticleCommentDto(parentCommentId, null)), null),
+                Map.of(parentCommentId, 1L)
+        ));
+        given(articleCommentService.getChildComments(articleId, parentCommentId, null, 20))
+                .willReturn(CursorPage.of(List.of(createArticleCommentDto(2L, parentCommentId)), null));
+        given(articleService.getArticleCount()).willReturn(1L);
+
+        //when && then
+        mvc.perform(get("/articles/" + articleId).queryParam("replyOf", String.valueOf(parentCommentId)))
+                .andExpect(status().isOk())
+                .andExpect(view().name("articles/detail"))
+                .andExpect(model().attribute("replyOf", parentCommentId))
+                .andExpect(model().attributeExists("replies"))
+                .andExpect(model().attribute("commentNextCursor", nullValue()));
+
+        then(articleCommentService).should().getChildComments(articleId, parentCommentId, null, 20);
+    }
+
+    @WithMockUser
+    @DisplayName("[view][GET] 게시글 상세 페이지 - 잘못된 댓글 커서로 호출하면 400")
+    @Test
+    void givenMalformedCommentCursor_whenRequestArticleView_thenReturnsBadRequest() throws Exception {
+        //given
+        Long articleId = 1L;
+        String commentCursor = "not-a-cursor";
+        given(articleService.getArticle(articleId)).willReturn(createArticleDtoWithId(articleId));
+        given(articleCommentService.getParentCommentPage(articleId, commentCursor, 20))
+                .willThrow(new InvalidCursorException("잘못된 커서", null));
+
+        //when && then
+        mvc.perform(get("/articles/" + articleId).queryParam("commentCursor", commentCursor))
+                .andExpect(status().isBadRequest());
+
+        then(articleCommentService).should().getParentCommentPage(articleId, commentCursor, 20);
+        then(articleService).should(never()).increaseViewCount(articleId);
+    }
+
+    @DisplayName("[view][GET] 게시글 리스트 페이지 - 커서가 아닌 다른 잘못된 인자 예외는 400 으로 바꾸지 않는다")
+    @Test
+    void givenNonCursorIllegalArgument_whenRequestArticlesView_thenDoesNotAnswerBadRequest() {
+        // Given
+        String cursor = "";
+        given(articleService.getArticlesByCursor(cursor, 10)).willThrow(new IllegalArgumentException("다른 문제"));
+
+        // When
+        Throwable t = catchThrowable(() -> mvc.perform(get("/articles").queryParam("cursor", cursor)));
+
+        // Then
+        assertThat(t).hasRootCauseInstanceOf(IllegalArgumentException.class)
+                .hasRootCauseMessage("다른 문제");
+    }
+
     @Disabled("개발 중")
     @DisplayName("[view][GET] 게시글 검색 페이지 - 정상 호출")
     @Test
@@ -192,7 +307,11 @@ class ArticleControllerTest {
         // Given
         List<String> hashtags = List.of("#java", "#spring", "#boot");
         given(articleService.searchArticlesViaHashtag(eq(null), any(Pageable.class))).willReturn(Page.empty());
-        given(hashtagService.getHashtags()).willReturn(hashtags);
+        given(hashtagService.getPopularHashtags(eq(HashtagRankType.TRENDING), any(Pageable.class))).willReturn(new PageImpl<>(List.of(
+                HashtagPopularityDto.of("#java", 3, 2.5),
+                HashtagPopularityDto.of("#spring", 2, 1.5),
+                HashtagPopularityDto.of("#boot", 1, 0.5)
+        )));
         given(paginationService.getPaginationBarNumbers(anyInt(), anyInt())).willReturn(List.of(1, 2, 3, 4, 5));
 
         // When & Then
@@ -205,7 +324,7 @@ class ArticleControllerTest {
                 .andExpect(model().attributeExists("paginationBarNumbers"))
                 .andExpect(model().attribute("searchType", SearchType.HASHTAG));
         then(articleService).should().searchArticlesViaHashtag(eq(null), any(Pageable.class));
-        then(hashtagService).should().getHashtags();
+        then(hashtagService).should().getPopularHashtags(eq(HashtagRankType.TRENDING), any(Pageable.class));
         then(paginationService).should().getPaginationBarNumbers(anyInt(), anyInt());
     }
 
@@ -216,7 +335,11 @@ class ArticleControllerTest {
         String hashtag = "#java";
         List<String> hashtags = List.of("#java", "#spring", "#boot");
         given(articleService.searchArticlesViaHashtag(eq(hashtag), any(Pageable.class))).willReturn(Page.empty());
-        given(hashtagService.getHashtags()).willReturn(hashtags);
+        given(hashtagService.getPopularHashtags(eq(HashtagRankType.TRENDING), any(Pageable.class))).willReturn(new PageImpl<>(List.of(
+                HashtagPopularityDto.of("#java", 3, 2.5),
+                HashtagPopularityDto.of("#spring", 2, 1.5),
+                HashtagPopularityDto.of("#boot", 1, 0.5)
+        )));
         given(paginationService.getPaginationBarNumbers(anyInt(), anyInt())).willReturn(List.of(1, 2, 3, 4, 5));
 
         // When & Then
@@ -232,7 +355,7 @@ class ArticleControllerTest {
                 .andExpect(model().attributeExists("paginationBarNumbers"))
                 .andExpect(model().attribute("searchType", SearchType.HASHTAG));
         then(articleService).should().searchArticlesViaHashtag(eq(hashtag), any(Pageable.class));
-        then(hashtagService).should().getHashtags();
+        then(hashtagService).should().getPopularHashtags(eq(HashtagRankType.TRENDING), any(Pageable.class));
         then(paginationService).should().getPaginationBarNumbers(anyInt(), anyInt());
     }
 
@@ -359,11 +482,10 @@ class ArticleControllerTest {
         );
     }
 
-    private ArticleWithCommentsDto createArticleWithCommentsDto() {
-        return ArticleWithCommentsDto.of(
-                1L,
+    private ArticleDto createArticleDtoWithId(Long id) {
+        return ArticleDto.of(
+                id,
                 createUserAccountDto(),
-                Set.of(),
                 "title",
                 "content",
                 Set.of(HashtagDto.of("java")),
@@ -374,6 +496,20 @@ class ArticleControllerTest {
         );
     }
 
+    private ArticleCommentDto createArticleCommentDto(Long id, Long parentCommentId) {
+        return ArticleCommentDto.of(
+                id,
+                1L,
+                createUserAccountDto(),
+                parentCommentId,
+                "comment",
+                LocalDateTime.now(),
+                "uno",
+                LocalDateTime.now(),
+                "uno"
+        );
+    }
+
     private UserAccountDto createUserAccountDto() {
         return UserAccountDto.of(
                 "Uno",
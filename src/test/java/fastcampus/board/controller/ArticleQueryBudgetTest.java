@@ -0,0 +1,63 @@
+package fastcampus.board.controller;
+
+import fastcampus.board.util.QueryBudget;
+import fastcampus.board.util.QueryScope;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.TestExecutionEvent;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("쿼리 예산 - 게시글 화면")
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@SpringBootTest
+class ArticleQueryBudgetTest {
+
+    private final MockMvc mvc;
+    private final MeterRegistry registry;
+
+    public ArticleQueryBudgetTest(
+            @Autowired MockMvc mvc,
+            @Autowired MeterRegistry registry
+    ) {
+        this.mvc = mvc;
+        this.registry = registry;
+    }
+
+    @DisplayName("[view][GET] 게시글 리스트 페이지 - 목록 줄, 해시태그를 게시글마다 따로 읽지 않는다.")
+    @Test
+    void givenArticles_whenRequestingArticlesView_thenStaysWithinQueryBudget() throws Exception {
+        // Given
+
+        // When
+        QueryScope scope = QueryBudget.statements(5).repeatsAtMost(1)
+                .verify(() -> mvc.perform(get("/articles")).andExpect(status().isOk()));
+
+        // Then
+        assertThat(scope.getRows()).isPositive();
+        assertThat(registry.find("board.db.statements").tags("scope", "request", "name", "GET /articles").summary())
+                .isNotNull();
+    }
+
+    @WithUserDetails(value = "uno", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("[view][GET] 게시글 상세 페이지 - 댓글 작성자를 댓글마다 따로 읽지 않는다.")
+    @Test
+    void givenArticleWithComments_whenRequestingArticleView_thenStaysWithinQueryBudget() throws Exception {
+        // Given
+        long articleId = 49L;
+
+        // When & Then
+        QueryBudget.statements(10).repeatsAtMost(2)
+                .verify(() -> mvc.perform(get("/articles/" + articleId)).andExpect(status().isOk()));
+    }
+}
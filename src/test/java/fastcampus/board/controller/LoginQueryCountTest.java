@@ -0,0 +1,53 @@
+package fastcampus.board.controller;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.persistence.EntityManagerFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestBuilders.formLogin;
+import static org.springframework.security.test.web.servlet.response.SecurityMockMvcResultMatchers.authenticated;
+
+@DisplayName("부하 - 로그인 요청당 DB 쿼리 수")
+@ActiveProfiles("test")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+class LoginQueryCountTest {
+
+    private static final int REQUESTS = 50;
+
+    private final MockMvc mvc;
+    private final Statistics statistics;
+
+    public LoginQueryCountTest(
+            @Autowired MockMvc mvc,
+            @Autowired EntityManagerFactory entityManagerFactory
+    ) {
+        this.mvc = mvc;
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @DisplayName("같은 회원이 여러 번 로그인해도, 회원 조회 쿼리는 처음 한 번만 나간다.")
+    @Test
+    void givenRepeatedLogins_whenAuthenticating_thenQueriesUserAccountOnlyOnce() throws Exception {
+        // Given
+        long before = statistics.getPrepareStatementCount();
+
+        // When
+        for (int i = 0; i < REQUESTS; i++) {
+            mvc.perform(formLogin().user("uno3").password("asdf1234"))
+                    .andExpect(authenticated().withUsername("uno3"));
+        }
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount() - before).isLessThanOrEqualTo(1);
+    }
+}
@@ -8,10 +8,15 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 @DisplayName("DTO - 댓글을 포함한 게시글 응답 테스트")
 class ArticleWithCommentsResponseTest {
@@ -21,7 +26,7 @@ class ArticleWithCommentsResponseTest {
     void givenArticleWithCommentsDtoWithoutChildComments_whenMapping_thenOrganizesCommentsWithCertainOrder() {
         // Given
         LocalDateTime now = LocalDateTime.now();
-        Set<ArticleCommentDto> articleCommentDtos = Set.of(
+        Set<ArticleCommentDto> articleCommentDtos = inCreatedOrder(
                 createArticleCommentDto(1L, null, now),
                 createArticleCommentDto(2L, null, now.plusDays(1L)),
                 createArticleCommentDto(3L, null, now.plusDays(3L)),
@@ -55,7 +60,7 @@ class ArticleWithCommentsResponseTest {
     void givenArticleWithCommentsDto_whenMapping_thenOrganizesParentAndChildCommentsWithCertainOrders() {
         // Given
         LocalDateTime now = LocalDateTime.now();
-        Set<ArticleCommentDto> articleCommentDtos = Set.of(
+        Set<ArticleCommentDto> articleCommentDtos = inCreatedOrder(
                 createArticleCommentDto(1L, null, now),
                 createArticleCommentDto(2L, 1L, now.plusDays(1L)),
                 createArticleCommentDto(3L, 1L, now.plusDays(3L)),
@@ -72,11 +77,13 @@ class ArticleWithCommentsResponseTest {
 
         // Then
         assertThat(actual.articleCommentsResponse())
+                .extracting(ArticleCommentResponse::id, ArticleCommentResponse::parentCommentId, ArticleCommentResponse::createdAt)
                 .containsExactly(
-                        createArticleCommentResponse(5L, null, now.plusDays(5)),
-                        createArticleCommentResponse(6L, null, now.plusDays(4)),
-                        createArticleCommentResponse(1L, null, now)
-                )
+                        tuple(5L, null, now.plusDays(5)),
+                        tuple(6L, null, now.plusDays(4)),
+                        tuple(1L, null, now)
+                );
+        assertThat(actual.articleCommentsResponse())
                 .flatExtracting(ArticleCommentResponse::childComments)
                 .containsExactly(
                         createArticleCommentResponse(7L, 6L, now.plusDays(2L)),
@@ -92,7 +99,7 @@ class ArticleWithCommentsResponseTest {
     void givenArticleWithCommentsDto_whenMapping_thenOrganizesParentAndChildCommentsWithoutDepthLimit() {
         // Given
         LocalDateTime now = LocalDateTime.now();
-        Set<ArticleCommentDto> articleCommentDtos = Set.of(
+        Set<ArticleCommentDto> articleCommentDtos = inCreatedOrder(
                 createArticleCommentDto(1L, null, now),
                 createArticleCommentDto(2L, 1L, now.plusDays(1L)),
                 createArticleCommentDto(3L, 2L, now.plusDays(2L)),
@@ -123,6 +130,15 @@ class ArticleWithCommentsResponseTest {
     }
 
 
+    /**
+     * 게시글 엔티티의 댓글 컬렉션과 같은 순서(작성일 오름차순, 같으면 ID 오름차순)로 맞춘다.
+     */
+    private Set<ArticleCommentDto> inCreatedOrder(ArticleCommentDto... articleCommentDtos) {
+        return Stream.of(articleCommentDtos)
+                .sorted(Comparator.comparing(ArticleCommentDto::createdAt).thenComparing(ArticleCommentDto::id))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
     private ArticleWithCommentsDto createArticleWithCommentsDto(Set<ArticleCommentDto> articleCommentDtos) {
         return ArticleWithCommentsDto.of(
                 1L,
@@ -0,0 +1,95 @@
+package fastcampus.board.dto.response;
+
+import fastcampus.board.dto.ArticleCommentDto;
+import fastcampus.board.dto.UserAccountDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("DTO - 댓글 트리 조립 테스트")
+class CommentTreeBuilderTest {
+
+    @DisplayName("작성순으로 정렬된 댓글을 조립하면, 부모 댓글은 최신순으로, 대댓글은 작성순으로 정리한다.")
+    @Test
+    void givenCommentsInCreatedOrder_whenBuilding_thenReturnsLatestParentsWithChildrenInCreatedOrder() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        List<ArticleCommentDto> comments = List.of(
+                createArticleCommentDto(1L, null, now),
+                createArticleCommentDto(2L, null, now),
+                createArticleCommentDto(3L, 1L, now.plusDays(1L)),
+                createArticleCommentDto(4L, null, now.plusDays(2L)),
+                createArticleCommentDto(5L, 1L, now.plusDays(3L))
+        );
+
+        // When
+        List<ArticleCommentResponse> actual = CommentTreeBuilder.build(comments);
+
+        // Then
+        assertThat(actual).extracting(ArticleCommentResponse::id).containsExactly(4L, 1L, 2L);
+        assertThat(actual.get(1).childComments()).extracting(ArticleCommentResponse::id).containsExactly(3L, 5L);
+        assertThat(actual.get(0).childComments()).isEmpty();
+    }
+
+    @DisplayName("부모 댓글이 없는 대댓글은, 버리지 않고 부모 댓글로 올린다.")
+    @Test
+    void givenOrphanedChildComment_whenBuilding_thenPromotesItToParent() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        List<ArticleCommentDto> comments = List.of(
+                createArticleCommentDto(1L, null, now),
+                createArticleCommentDto(2L, 99L, now.plusDays(1L))
+        );
+
+        // When
+        List<ArticleCommentResponse> actual = CommentTreeBuilder.build(comments);
+
+        // Then
+        assertThat(actual).extracting(ArticleCommentResponse::id).containsExactly(2L, 1L);
+        assertThat(actual).flatExtracting(ArticleCommentResponse::childComments).isEmpty();
+    }
+
+    @DisplayName("댓글이 없으면, 빈 목록을 반환한다.")
+    @Test
+    void givenNoComments_whenBuilding_thenReturnsEmptyList() {
+        // Given
+
+        // When
+        List<ArticleCommentResponse> actual = CommentTreeBuilder.build(List.of());
+
+        // Then
+        assertThat(actual).isEmpty();
+    }
+
+    private ArticleCommentDto createArticleCommentDto(Long id, Long parentCommentId, LocalDateTime createdAt) {
+        return ArticleCommentDto.of(
+                id,
+                1L,
+                createUserAccountDto(),
+                parentCommentId,
+                "test comment " + id,
+                createdAt,
+                "uno",
+                createdAt,
+                "uno"
+        );
+    }
+
+    private UserAccountDto createUserAccountDto() {
+        return UserAccountDto.of(
+                "uno",
+                "password",
+                "uno@mail.com",
+                "Uno",
+                "This is memo",
+                LocalDateTime.now(),
+                "uno",
+                LocalDateTime.now(),
+                "uno"
+        );
+    }
+}
@@ -1,13 +1,21 @@
 package fastcampus.board.repository;
 
 import fastcampus.board.domain.*;
-import fastcampus.board.dto.query.ArticleSelectDto;
+import fastcampus.board.dto.ArticleCommentCursor;
+import fastcampus.board.dto.ArticleCursor;
+import fastcampus.board.dto.query.ArticleListRow;
+import fastcampus.board.domain.constant.HashtagMatchMode;
+import fastcampus.board.dto.query.HashtagUsage;
+import fastcampus.board.dto.query.HashtagUse;
 import org.assertj.core.api.InstanceOfAssertFactories;
+import org.hibernate.Session;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
@@ -15,10 +23,15 @@ import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.*;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -33,18 +46,21 @@ class JpaRepositoryTest {
     private final UserAccountRepository userAccountRepository;
     private final HashtagRepository hashtagRepository;
     private final ArticleHashtagRepository articleHashtagRepository;
+    private final TestEntityManager testEntityManager;
 
     public JpaRepositoryTest(
             @Autowired ArticleRepository articleRepository,
             @Autowired ArticleCommentRepository articleCommentRepository,
             @Autowired UserAccountRepository userAccountRepository,
             @Autowired HashtagRepository hashtagRepository,
-            @Autowired ArticleHashtagRepository articleHashtagRepository) {
+            @Autowired ArticleHashtagRepository articleHashtagRepository,
+            @Autowired TestEntityManager testEntityManager) {
         this.articleRepository = articleRepository;
         this.articleCommentRepository = articleCommentRepository;
         this.userAccountRepository = userAccountRepository;
         this.hashtagRepository = hashtagRepository;
         this.articleHashtagRepository = articleHashtagRepository;
+        this.testEntityManager = testEntityManager;
     }
 
     @DisplayName("select 테스트")
@@ -196,21 +212,299 @@ class JpaRepositoryTest {
     @Test
     void givenHashtagNamesAndPageable_whenQueryingArticles_thenReturnsArticlePage() {
         // Given
-        List<String> hashtagNames = List.of("blue", "crimson", "fuscia");
+        List<Long> hashtagIds = hashtagRepository.findIdsByHashtagNames(List.of("blue", "crimson", "fuscia"));
         Pageable pageable = PageRequest.of(0, 5, Sort.by(Sort.Order.asc("title")));
 
         // When
-        Page<ArticleSelectDto> articlePage = articleHashtagRepository.findByHashtagNames(hashtagNames, pageable);
-        Set<ArticleHashtag> hashtags = articleHashtagRepository.findByArticleId(articlePage.getContent().get(0).getId());
+        List<Long> articleIds = articleHashtagRepository.findArticleIdsByHashtagIds(hashtagIds, HashtagMatchMode.ANY, pageable);
+        long count = articleHashtagRepository.countArticlesByHashtagIds(hashtagIds, HashtagMatchMode.ANY, 0);
+        Set<ArticleHashtag> hashtags = articleHashtagRepository.findByArticleId(articleIds.get(0));
 
         // Then
-        assertThat(articlePage.getContent()).hasSize(pageable.getPageSize());
-        assertThat(articlePage.getContent().get(0).getTitle()).isEqualTo("Duis aliquam convallis nunc.");
+        assertThat(articleIds).hasSize(pageable.getPageSize());
+        assertThat(articleRepository.findById(articleIds.get(0))).get()
+                .hasFieldOrPropertyWithValue("title", "Duis aliquam convallis nunc.");
         assertThat(hashtags)
                 .extracting("hashtagName", String.class)
                 .containsExactly("blue");
-        assertThat(articlePage.getTotalElements()).isEqualTo(17);
-        assertThat(articlePage.getTotalPages()).isEqualTo(4);
+        assertThat(count).isEqualTo(17);
+    }
+
+    @DisplayName("[Querydsl] 해시태그 ID 로 게시글 ID 를 조회하면, ANY 는 하나라도, ALL 은 모두 가진 게시글만 조회된다.")
+    @Test
+    void givenHashtagIdsAndMatchMode_whenQueryingArticleIds_thenReturnsMatchingArticleIds() {
+        // Given
+        UserAccount userAccount = userAccountRepository.save(UserAccount.of("testId", "pw", null, null, null));
+        Hashtag first = hashtagRepository.save(Hashtag.of("first-test-tag"));
+        Hashtag second = hashtagRepository.save(Hashtag.of("second-test-tag"));
+        Article both = articleRepository.save(Article.of(userAccount, "both", "content"));
+        Article onlyFirst = articleRepository.save(Article.of(userAccount, "only first", "content"));
+        articleHashtagRepository.saveAll(List.of(
+                ArticleHashtag.of(both, first),
+                ArticleHashtag.of(both, second),
+                ArticleHashtag.of(onlyFirst, first)
+        ));
+        List<Long> hashtagIds = List.of(first.getId(), second.getId());
+        Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Order.desc("createdAt")));
+
+        // When
+        List<Long> anyIds = articleHashtagRepository.findArticleIdsByHashtagIds(hashtagIds, HashtagMatchMode.ANY, pageable);
+        List<Long> allIds = articleHashtagRepository.findArticleIdsByHashtagIds(hashtagIds, HashtagMatchMode.ALL, pageable);
+        long anyCount = articleHashtagRepository.countArticlesByHashtagIds(hashtagIds, HashtagMatchMode.ANY, 0);
+        long allCount = articleHashtagRepository.countArticlesByHashtagIds(hashtagIds, HashtagMatchMode.ALL, 0);
+
+        // Then
+        assertThat(anyIds).containsExactlyInAnyOrder(both.getId(), onlyFirst.getId());
+        assertThat(allIds).containsExactly(both.getId());
+        assertThat(anyCount).isEqualTo(2);
+        assertThat(allCount).isEqualTo(1);
+    }
+
+    @DisplayName("[Querydsl] 최대 개수를 주고 검색 결과를 세면, 최대 개수까지만 센다.")
+    @Test
+    void givenLimit_whenCountingSearchResults_thenCountsUpToLimit() {
+        // Given
+        long limit = 10;
+
+        // When
+        long exactCount = articleRepository.countBySearchKeyword(null, null, 0);
+        long limitedCount = articleRepository.countBySearchKeyword(null, null, limit);
+
+        // Then
+        assertThat(exactCount).isEqualTo(123); // classpath:resources/data.sql 참조
+        assertThat(limitedCount).isEqualTo(limit);
+    }
+
+    @DisplayName("[Querydsl] 최대 개수를 주고 해시태그로 게시글 수를 세면, 최대 개수까지만 세고 모자라면 실제 개수를 센다.")
+    @Test
+    void givenLimit_whenCountingArticlesByHashtags_thenCountsUpToLimit() {
+        // Given
+        UserAccount userAccount = userAccountRepository.save(UserAccount.of("limit-test", "pw", null, null, null));
+        Hashtag first = hashtagRepository.save(Hashtag.of("first-limit-tag"));
+        Hashtag second = hashtagRepository.save(Hashtag.of("second-limit-tag"));
+        Article both = articleRepository.save(Article.of(userAccount, "both", "content"));
+        Article onlyFirst = articleRepository.save(Article.of(userAccount, "only first", "content"));
+        articleHashtagRepository.saveAll(List.of(
+                ArticleHashtag.of(both, first),
+                ArticleHashtag.of(both, second),
+                ArticleHashtag.of(onlyFirst, first)
+        ));
+        List<Long> hashtagIds = List.of(first.getId(), second.getId());
+
+        // When
+        long anyLimited = articleHashtagRepository.countArticlesByHashtagIds(hashtagIds, HashtagMatchMode.ANY, 1);
+        long anyUnderLimit = articleHashtagRepository.countArticlesByHashtagIds(hashtagIds, HashtagMatchMode.ANY, 3);
+        long allUnderLimit = articleHashtagRepository.countArticlesByHashtagIds(hashtagIds, HashtagMatchMode.ALL, 2);
+
+        // Then
+        assertThat(anyLimited).isEqualTo(1);
+        assertThat(anyUnderLimit).isEqualTo(2);
+        assertThat(allUnderLimit).isEqualTo(1);
+    }
+
+    @DisplayName("[Querydsl] 커서로 게시글 목록을 끝까지 조회하면, 작성일/ID 내림차순으로 빠짐없이 조회된다.")
+    @Test
+    void givenCursor_whenQueryingArticlesUntilEnd_thenReturnsEveryArticleInOrder() {
+        // Given
+        int pageSize = 50;
+        List<Long> expectedIds = articleRepository.findAll(Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"))).stream()
+                .map(Article::getId)
+                .toList();
+
+        // When
+        List<Long> actualIds = new ArrayList<>();
+        ArticleCursor cursor = null;
+        List<ArticleListRow> page;
+        do {
+            page = articleRepository.findListRowsBefore(cursor, pageSize);
+            page.forEach(row -> actualIds.add(row.id()));
+            if (!page.isEmpty()) {
+                ArticleListRow last = page.get(page.size() - 1);
+                cursor = ArticleCursor.of(last.createdAt(), last.id());
+            }
+        } while (page.size() == pageSize);
+
+        // Then
+        assertThat(actualIds)
+                .hasSize(123) // classpath:resources/data.sql 참조
+                .containsExactlyElementsOf(expectedIds);
+    }
+
+    @DisplayName("[Querydsl] 게시글 목록 줄을 조회하면, 본문은 미리보기 길이만큼만 읽고 댓글 수를 함께 센다.")
+    @Test
+    void givenArticleIds_whenQueryingListRows_thenReturnsPreviewAndCommentCount() {
+        // Given
+        Long articleId = 49L;
+        Article article = articleRepository.findById(articleId).orElseThrow();
+        long commentCount = articleCommentRepository.findByArticle_Id(articleId).size();
+
+        // When
+        List<ArticleListRow> rows = articleRepository.findListRowsByIds(List.of(articleId));
+
+        // Then
+        assertThat(rows).singleElement()
+                .satisfies(row -> {
+                    assertThat(row.title()).isEqualTo(article.getTitle());
+                    assertThat(article.getContent()).startsWith(row.preview());
+                    assertThat(row.preview()).hasSizeLessThanOrEqualTo(ArticleListRow.PREVIEW_LENGTH + 1);
+                    assertThat(row.nickname()).isEqualTo(article.getUserAccount().getNickname());
+                    assertThat(row.commentCount()).isEqualTo(commentCount);
+                });
+    }
+
+    @DisplayName("[Querydsl] 게시글 댓글 수를 더하면, 읽지 않고 저장된 값에 더한다.")
+    @Test
+    void givenArticleId_whenAddingCommentCount_thenAddsToStoredCount() {
+        // Given
+        Long articleId = 49L;
+        long before = articleRepository.findListRowsByIds(List.of(articleId)).get(0).commentCount();
+
+        // When
+        long updated = articleRepository.addCommentCount(articleId, 2);
+
+        // Then
+        assertThat(updated).isEqualTo(1);
+        assertThat(articleRepository.findListRowsByIds(List.of(articleId)).get(0).commentCount()).isEqualTo(before + 2);
+    }
+
+    @DisplayName("[Querydsl] 저장된 댓글 수가 예상과 다르면, 댓글 수를 바꾸지 않는다.")
+    @Test
+    void givenStaleExpectedCount_whenUpdatingCommentCount_thenKeepsStoredCount() {
+        // Given
+        Long articleId = 49L;
+        long stored = articleRepository.findListRowsByIds(List.of(articleId)).get(0).commentCount();
+
+        // When
+        long staleUpdated = articleRepository.updateCommentCount(articleId, stored + 1, 0);
+        long updated = articleRepository.updateCommentCount(articleId, stored, 0);
+
+        // Then
+        assertThat(staleUpdated).isZero();
+        assertThat(updated).isEqualTo(1);
+        assertThat(articleRepository.findListRowsByIds(List.of(articleId)).get(0).commentCount()).isZero();
+    }
+
+    @DisplayName("[Querydsl] 부모 댓글을 커서로 끝까지 넘기면, 대댓글 없이 최신순으로 빠짐없이 조회된다.")
+    @Test
+    void givenArticleId_whenPagingParentCommentsByCursor_thenReturnsEveryParentCommentInOrder() {
+        // Given
+        Long articleId = 49L;
+        int pageSize = 3;
+        List<Long> expectedIds = articleCommentRepository.findByArticle_Id(articleId).stream()
+                .filter(articleComment -> articleComment.getParentCommentId() == null)
+                .sorted(Comparator.comparing(ArticleComment::getCreatedAt).thenComparing(ArticleComment::getId).reversed())
+                .map(ArticleComment::getId)
+                .toList();
+
+        // When
+        List<Long> actualIds = new ArrayList<>();
+        ArticleCommentCursor cursor = null;
+        List<ArticleComment> page;
+        do {
+            page = articleCommentRepository.findParentComments(articleId, cursor, pageSize);
+            page.forEach(articleComment -> actualIds.add(articleComment.getId()));
+            if (!page.isEmpty()) {
+                ArticleComment last = page.get(page.size() - 1);
+                cursor = ArticleCommentCursor.of(last.getCreatedAt(), last.getId());
+            }
+        } while (page.size() == pageSize);
+
+        // Then
+        assertThat(actualIds)
+                .hasSize(4) // classpath:resources/data.sql 참조
+                .containsExactlyElementsOf(expectedIds);
+    }
+
+    @DisplayName("[Querydsl] 부모 댓글 ID로 대댓글 수와 대댓글 페이지를 조회한다.")
+    @Test
+    void givenParentCommentIds_whenCountingAndPagingChildComments_thenReturnsChildCommentsOfThatParent() {
+        // Given
+        Long articleId = 49L;
+        Long parentCommentId = 1L;
+
+        // When
+        Map<Long, Long> counts = articleCommentRepository.countChildComments(articleId, List.of(parentCommentId, 2L));
+        List<ArticleComment> firstPage = articleCommentRepository.findChildComments(articleId, parentCommentId, null, 3);
+        ArticleComment last = firstPage.get(firstPage.size() - 1);
+        List<ArticleComment> secondPage = articleCommentRepository.findChildComments(
+                articleId, parentCommentId, ArticleCommentCursor.of(last.getCreatedAt(), last.getId()), 3);
+
+        // Then
+        assertThat(counts).containsExactly(Map.entry(parentCommentId, 4L));
+        assertThat(Stream.concat(firstPage.stream(), secondPage.stream()))
+                .hasSize(4)
+                .allMatch(articleComment -> parentCommentId.equals(articleComment.getParentCommentId()))
+                .isSortedAccordingTo(Comparator.comparing(ArticleComment::getCreatedAt));
+    }
+
+    @DisplayName("[Querydsl] 해시태그별 사용 수를 조회하면, 합계가 게시글-해시태그 연결 수와 같다.")
+    @Test
+    void givenTestData_whenFindingHashtagUsages_thenSumsToArticleHashtagCount() {
+        // Given
+        long articleHashtagCount = articleHashtagRepository.count();
+
+        // When
+        List<HashtagUsage> usages = articleHashtagRepository.findHashtagUsages();
+        List<HashtagUse> uses = articleHashtagRepository.findHashtagUsesSince(LocalDateTime.of(1970, 1, 1, 0, 0));
+
+        // Then
+        assertThat(usages).extracting(HashtagUsage::hashtagName).doesNotHaveDuplicates();
+        assertThat(usages.stream().mapToLong(HashtagUsage::usageCount).sum()).isEqualTo(articleHashtagCount);
+        assertThat(uses).hasSize((int) articleHashtagCount);
+    }
+
+    @DisplayName("해시태그와 게시글-해시태그를 여러 개 저장하면, 엔티티 수와 상관없이 JDBC 배치로 묶어 INSERT 한다.")
+    @Test
+    void givenManyNewHashtags_whenSavingAll_thenInsertsInJdbcBatches() {
+        // Given
+        UserAccount userAccount = userAccountRepository.save(UserAccount.of("testId", "pw", null, null, null));
+        Article article = articleRepository.saveAndFlush(Article.of(userAccount, "new article", "new content"));
+        List<Hashtag> hashtags = IntStream.range(0, 20)
+                .mapToObj(i -> Hashtag.of("batch-tag-" + i))
+                .toList();
+        Statistics statistics = testEntityManager.getEntityManager()
+                .unwrap(Session.class)
+                .getSessionFactory()
+                .getStatistics();
+        statistics.clear();
+        statistics.setStatisticsEnabled(true);
+
+        // When
+        try {
+            hashtagRepository.saveAll(hashtags);
+            articleHashtagRepository.saveAll(hashtags.stream()
+                    .map(hashtag -> ArticleHashtag.of(article, hashtag))
+                    .toList());
+            articleHashtagRepository.flush();
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+
+        // Then
+        assertThat(hashtags).extracting(Hashtag::getId).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(40);
+        // 엔티티마다 INSERT 했다면 40 번. 테이블별 배치 INSERT 2 번에, 집계 방식에 따라 ID 묶음 할당(조회+갱신) 이 더해질 수 있다.
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(6);
+    }
+
+    @DisplayName("[Querydsl] 고아 해시태그를 조회하고 지우면, 게시글에 달린 해시태그는 남기고 고아 해시태그만 지운다.")
+    @Test
+    void givenOrphanAndUsedHashtags_whenDeletingOrphans_thenDeletesOnlyOrphans() {
+        // Given
+        Hashtag orphan = hashtagRepository.saveAndFlush(Hashtag.of("orphan-tag"));
+        Long usedHashtagId = articleHashtagRepository.findAll().get(0).getHashtagId();
+        List<Long> hashtagIds = List.of(orphan.getId(), usedHashtagId);
+
+        // When
+        List<Long> orphanIds = hashtagRepository.findOrphanIds(hashtagIds);
+        long deletedCount = hashtagRepository.deleteOrphansByIds(hashtagIds);
+
+        // Then
+        assertThat(orphanIds).containsExactly(orphan.getId());
+        assertThat(deletedCount).isEqualTo(1);
+        testEntityManager.clear();
+        assertThat(hashtagRepository.findById(orphan.getId())).isEmpty();
+        assertThat(hashtagRepository.findById(usedHashtagId)).isPresent();
     }
 
     @EnableJpaAuditing
@@ -0,0 +1,83 @@
+package fastcampus.board.service;
+
+import fastcampus.board.dto.query.ArticleCommentCount;
+import fastcampus.board.repository.ArticleCommentRepository;
+import fastcampus.board.repository.ArticleRepository;
+import fastcampus.board.service.ArticleCommentCountReconciler.ArticleCommentCountProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비지니스 로직 - 게시글 댓글 수 재조정")
+@ExtendWith(MockitoExtension.class)
+class ArticleCommentCountReconcilerTest {
+
+    @Mock private ArticleRepository articleRepository;
+    @Mock private ArticleCommentRepository articleCommentRepository;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private ArticleCommentCountReconciler sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new ArticleCommentCountReconciler(
+                articleRepository,
+                articleCommentRepository,
+                transactionManager,
+                new ArticleCommentCountProperties(Duration.ZERO, 2)
+        );
+    }
+
+    @DisplayName("저장된 댓글 수가 실제와 다르면, 어긋난 게시글만 배치 단위로 고친다.")
+    @Test
+    void givenMismatchedCounts_whenReconciling_thenUpdatesOnlyMismatchedArticles() {
+        // Given
+        given(articleRepository.findCommentCountsAfter(0L, 2)).willReturn(List.of(
+                ArticleCommentCount.of(1L, 3L),
+                ArticleCommentCount.of(2L, 0L)
+        ));
+        given(articleRepository.findCommentCountsAfter(2L, 2)).willReturn(List.of(
+                ArticleCommentCount.of(3L, 5L)
+        ));
+        given(articleCommentRepository.countByArticleIds(List.of(1L, 2L))).willReturn(Map.of(1L, 3L, 2L, 4L));
+        given(articleCommentRepository.countByArticleIds(List.of(3L))).willReturn(Map.of());
+        given(articleRepository.updateCommentCount(2L, 0L, 4L)).willReturn(1L);
+        given(articleRepository.updateCommentCount(3L, 5L, 0L)).willReturn(1L);
+
+        // When
+        int fixed = sut.reconcile();
+
+        // Then
+        assertThat(fixed).isEqualTo(2);
+        then(articleRepository).should(never()).updateCommentCount(eq(1L), anyLong(), anyLong());
+        then(articleRepository).should().updateCommentCount(2L, 0L, 4L);
+        then(articleRepository).should().updateCommentCount(3L, 5L, 0L);
+    }
+
+    @DisplayName("세는 사이에 댓글 수가 바뀌었으면, 고치지 못한 게시글은 센 수에서 뺀다.")
+    @Test
+    void givenConcurrentChange_whenReconciling_thenSkipsChangedArticle() {
+        // Given
+        given(articleRepository.findCommentCountsAfter(0L, 2)).willReturn(List.of(ArticleCommentCount.of(1L, 3L)));
+        given(articleCommentRepository.countByArticleIds(List.of(1L))).willReturn(Map.of(1L, 4L));
+        given(articleRepository.updateCommentCount(1L, 3L, 4L)).willReturn(0L);
+
+        // When
+        int fixed = sut.reconcile();
+
+        // Then
+        assertThat(fixed).isZero();
+    }
+}
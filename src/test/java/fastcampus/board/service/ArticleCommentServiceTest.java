@@ -4,25 +4,36 @@ import fastcampus.board.domain.Article;
 import fastcampus.board.domain.ArticleComment;
 import fastcampus.board.domain.Hashtag;
 import fastcampus.board.domain.UserAccount;
+import fastcampus.board.dto.ArticleCommentCursor;
 import fastcampus.board.dto.ArticleCommentDto;
+import fastcampus.board.dto.ArticleCommentPageDto;
+import fastcampus.board.dto.CursorPage;
+import fastcampus.board.dto.InvalidCursorException;
 import fastcampus.board.dto.UserAccountDto;
 import fastcampus.board.repository.ArticleCommentRepository;
 import fastcampus.board.repository.ArticleRepository;
 import fastcampus.board.repository.UserAccountRepository;
+import fastcampus.board.service.ArticleDetailCache.ArticleDetailCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import javax.persistence.EntityNotFoundException;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.*;
@@ -39,6 +50,12 @@ class ArticleCommentServiceTest {
     private ArticleCommentRepository articleCommentRepository;
     @Mock
     private UserAccountRepository userAccountRepository;
+    @Mock
+    private BoardStatistics boardStatistics;
+    @Spy
+    private ArticleDetailCache articleDetailCache = new ArticleDetailCache(new ArticleDetailCacheProperties(1_000_000, Duration.ofMinutes(10)));
+    @Spy
+    private ServiceMetrics serviceMetrics = new ServiceMetrics(new SimpleMeterRegistry());
 
     @DisplayName("게시글 ID로 조회하면, 해당하는 댓글 리스트를 반환한다.")
     @Test
@@ -67,6 +84,156 @@ class ArticleCommentServiceTest {
         then(articleCommentRepository).should().findByArticle_Id(articleId);
     }
 
+    @DisplayName("부모 댓글 페이지를 조회하면, 한 개를 더 조회해 다음 페이지 커서를 만든다.")
+    @Test
+    void givenPageSize_whenGettingParentComments_thenReturnsPageWithNextCursor() {
+        // Given
+        Long articleId = 1L;
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 0, 0);
+        ArticleComment first = createArticleComment(3L, "first", now);
+        ArticleComment second = createArticleComment(2L, "second", now.minusMinutes(1));
+        ArticleComment extra = createArticleComment(1L, "extra", now.minusMinutes(2));
+        given(articleCommentRepository.findParentComments(articleId, null, 3)).willReturn(List.of(first, second, extra));
+
+        // When
+        CursorPage<ArticleCommentDto> actual = sut.getParentComments(articleId, null, 2);
+
+        // Then
+        assertThat(actual.content()).extracting("id").containsExactly(3L, 2L);
+        assertThat(ArticleCommentCursor.decode(actual.nextCursor()))
+                .isEqualTo(ArticleCommentCursor.of(now.minusMinutes(1), 2L));
+        then(articleCommentRepository).should().findParentComments(articleId, null, 3);
+    }
+
+    @DisplayName("대댓글 페이지를 조회할 때 남은 대댓글이 없으면, 다음 페이지 커서는 없다.")
+    @Test
+    void givenCursor_whenGettingLastChildCommentPage_thenReturnsPageWithoutNextCursor() {
+        // Given
+        Long articleId = 1L;
+        Long parentCommentId = 1L;
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 0, 0);
+        ArticleCommentCursor cursor = ArticleCommentCursor.of(now, 2L);
+        ArticleComment child = createArticleComment(3L, "child", now.plusMinutes(1));
+        child.setParentCommentId(parentCommentId);
+        given(articleCommentRepository.findChildComments(articleId, parentCommentId, cursor, 21)).willReturn(List.of(child));
+
+        // When
+        CursorPage<ArticleCommentDto> actual = sut.getChildComments(articleId, parentCommentId, cursor.encode(), 20);
+
+        // Then
+        assertThat(actual.content()).extracting("id", "parentCommentId").containsExactly(tuple(3L, parentCommentId));
+        assertThat(actual.hasNext()).isFalse();
+        then(articleCommentRepository).should().findChildComments(articleId, parentCommentId, cursor, 21);
+    }
+
+    @DisplayName("첫 댓글 페이지를 다시 조회하면, 캐시된 페이지와 대댓글 수를 반환한다.")
+    @Test
+    void givenCachedFirstPage_whenGettingParentCommentPageAgain_thenReturnsCachedPage() {
+        // Given
+        Long articleId = 1L;
+        ArticleComment parent = createArticleComment(1L, "parent", LocalDateTime.of(2024, 1, 1, 0, 0));
+        given(articleCommentRepository.findParentComments(articleId, null, 21)).willReturn(List.of(parent));
+        given(articleCommentRepository.countChildComments(articleId, List.of(1L))).willReturn(Map.of(1L, 3L));
+        ArticleCommentPageDto first = sut.getParentCommentPage(articleId, null, 20);
+
+        // When
+        ArticleCommentPageDto second = sut.getParentCommentPage(articleId, null, 20);
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(second.childCommentCounts()).containsEntry(1L, 3L);
+        then(articleCommentRepository).should(times(1)).findParentComments(articleId, null, 21);
+        then(articleCommentRepository).should(times(1)).countChildComments(articleId, List.of(1L));
+    }
+
+    @DisplayName("댓글을 삭제하면, 해당 게시글의 캐시된 첫 댓글 페이지를 지운다.")
+    @Test
+    void givenArticleCommentId_whenDeletingArticleComment_thenEvictsCachedFirstPage() {
+        // Given
+        ArticleComment articleComment = createArticleComment(1L, "content");
+        Long articleId = articleComment.getArticle().getId();
+        given(articleCommentRepository.findById(articleComment.getId())).willReturn(Optional.of(articleComment));
+
+        // When
+        sut.deleteArticleComment(articleComment.getId(), "uno");
+
+        // Then
+        then(articleDetailCache).should().invalidateComments(articleId);
+        then(boardStatistics).should().addArticleComments(-1);
+        then(articleRepository).should().addCommentCount(articleId, -1);
+        then(articleCommentRepository).should().deleteByIdAndUserAccount_UserId(articleComment.getId(), "uno");
+    }
+
+    @DisplayName("대댓글이 달린 댓글을 삭제하면, 게시글 댓글 수에서 대댓글 수까지 뺀다.")
+    @Test
+    void givenArticleCommentWithReplies_whenDeletingArticleComment_thenSubtractsRepliesFromCommentCount() {
+        // Given
+        ArticleComment articleComment = createArticleComment(1L, "content");
+        articleComment.addChildComment(createArticleComment(2L, "reply"));
+        articleComment.addChildComment(createArticleComment(3L, "reply"));
+        Long articleId = articleComment.getArticle().getId();
+        given(articleCommentRepository.findById(articleComment.getId())).willReturn(Optional.of(articleComment));
+
+        // When
+        sut.deleteArticleComment(articleComment.getId(), "uno");
+
+        // Then
+        then(articleRepository).should().addCommentCount(articleId, -3);
+        then(boardStatistics).should().addArticleComments(-3);
+    }
+
+    @DisplayName("대댓글에 다시 대댓글이 달린 댓글을 삭제하면, 게시글 댓글 수에서 아래 달린 댓글을 모두 뺀다.")
+    @Test
+    void givenArticleCommentWithNestedReplies_whenDeletingArticleComment_thenSubtractsWholeSubtreeFromCommentCount() {
+        // Given
+        ArticleComment articleComment = createArticleComment(1L, "content");
+        ArticleComment reply = createArticleComment(2L, "reply");
+        ArticleComment nestedReply = createArticleComment(3L, "nested reply");
+        articleComment.addChildComment(reply);
+        reply.addChildComment(nestedReply);
+        nestedReply.addChildComment(createArticleComment(4L, "deeper reply"));
+        articleComment.addChildComment(createArticleComment(5L, "reply"));
+        Long articleId = articleComment.getArticle().getId();
+        given(articleCommentRepository.findById(articleComment.getId())).willReturn(Optional.of(articleComment));
+
+        // When
+        sut.deleteArticleComment(articleComment.getId(), "uno");
+
+        // Then
+        then(articleRepository).should().addCommentCount(articleId, -5);
+        then(boardStatistics).should().addArticleComments(-5);
+    }
+
+    @DisplayName("남의 댓글을 삭제하려 하면, 댓글 수를 바꾸지 않는다.")
+    @Test
+    void givenOtherUsersArticleComment_whenDeletingArticleComment_thenKeepsCommentCount() {
+        // Given
+        ArticleComment articleComment = createArticleComment(1L, "content");
+        given(articleCommentRepository.findById(articleComment.getId())).willReturn(Optional.of(articleComment));
+
+        // When
+        sut.deleteArticleComment(articleComment.getId(), "other");
+
+        // Then
+        then(articleRepository).shouldHaveNoInteractions();
+        then(boardStatistics).shouldHaveNoInteractions();
+        then(articleCommentRepository).should().deleteByIdAndUserAccount_UserId(articleComment.getId(), "other");
+    }
+
+    @DisplayName("잘못된 커서로 댓글 페이지를 조회하면, 예외를 던진다.")
+    @Test
+    void givenInvalidCursor_whenGettingParentComments_thenThrowsException() {
+        // Given
+        String cursor = "not-a-cursor";
+
+        // When
+        Throwable t = catchThrowable(() -> sut.getParentComments(1L, cursor, 20));
+
+        // Then
+        assertThat(t).isInstanceOf(InvalidCursorException.class);
+        then(articleCommentRepository).shouldHaveNoInteractions();
+    }
+
     @DisplayName("댓글 정보를 입력하면, 댓글을 저장한다.")
     @Test
     void givenArticleCommentInfo_whenSavingArticleComment_thenSavesArticleComment() {
@@ -84,6 +251,7 @@ class ArticleCommentServiceTest {
         then(userAccountRepository).should().getReferenceById(dto.userAccountDto().userId());
         then(articleCommentRepository).should(never()).getReferenceById(anyLong());
         then(articleCommentRepository).should().save(any(ArticleComment.class));
+        then(articleRepository).should().addCommentCount(dto.articleId(), 1);
     }
 
     @DisplayName("댓글 저장을 시도했는데 맞는 게시글이 없으면, 경고 로그를 찍고 아무것도 안 한다.")
@@ -124,6 +292,25 @@ class ArticleCommentServiceTest {
         then(articleCommentRepository).should(never()).save(any(ArticleComment.class));
     }
 
+    @DisplayName("대댓글 저장을 시도했는데 부모 댓글이 없으면, 댓글 수와 캐시를 건드리지 않는다.")
+    @Test
+    void givenNonexistentParentComment_whenSavingChildComment_thenKeepsCountsAndCache() {
+        // Given
+        Long parentCommentId = 1L;
+        ArticleCommentDto child = createArticleCommentDto(parentCommentId, "대댓글");
+        given(articleRepository.getReferenceById(child.articleId())).willReturn(createArticle());
+        given(userAccountRepository.getReferenceById(child.userAccountDto().userId())).willReturn(createUserAccount());
+        given(articleCommentRepository.getReferenceById(parentCommentId)).willThrow(EntityNotFoundException.class);
+
+        // When
+        sut.saveArticleComment(child);
+
+        // Then
+        then(articleRepository).should(never()).addCommentCount(anyLong(), anyLong());
+        then(boardStatistics).shouldHaveNoInteractions();
+        then(articleDetailCache).should(never()).invalidateComments(anyLong());
+    }
+
     @DisplayName("댓글 ID를 입력하면, 댓글을 삭제한다.")
     @Test
     void givenArticleCommentId_whenDeletingArticleComment_thenDeletesArticleComment() {
@@ -161,6 +348,13 @@ class ArticleCommentServiceTest {
         );
     }
 
+    private ArticleComment createArticleComment(Long id, String content, LocalDateTime createdAt) {
+        ArticleComment articleComment = createArticleComment(id, content);
+        ReflectionTestUtils.setField(articleComment, "createdAt", createdAt);
+
+        return articleComment;
+    }
+
     private ArticleComment createArticleComment(Long id, String content) {
         ArticleComment articleComment = ArticleComment.of(
                 createArticle(),
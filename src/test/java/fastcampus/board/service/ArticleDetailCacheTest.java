@@ -0,0 +1,114 @@
+package fastcampus.board.service;
+
+import fastcampus.board.dto.ArticleCommentPageDto;
+import fastcampus.board.dto.ArticleDto;
+import fastcampus.board.dto.CursorPage;
+import fastcampus.board.service.ArticleDetailCache.ArticleDetailCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("비지니스 로직 - 게시글 상세 캐시")
+class ArticleDetailCacheTest {
+
+    private final ArticleDetailCache sut = new ArticleDetailCache(new ArticleDetailCacheProperties(1_000_000, Duration.ofMinutes(10)));
+
+    @DisplayName("같은 게시글을 두 번 읽으면, 한 번만 불러온다.")
+    @Test
+    void givenSameArticleId_whenGettingTwice_thenLoadsOnce() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<ArticleDto> loader = () -> {
+            loads.incrementAndGet();
+            return createArticleDto(1L);
+        };
+
+        // When
+        sut.getArticle(1L, loader);
+        ArticleDto actual = sut.getArticle(1L, loader);
+
+        // Then
+        assertThat(actual.id()).isEqualTo(1L);
+        assertThat(loads).hasValue(1);
+    }
+
+    @DisplayName("게시글을 무효화하면, 다음 조회에서 다시 불러온다. 댓글 페이지는 그대로 남는다.")
+    @Test
+    void givenCachedArticle_whenInvalidatingArticle_thenReloadsOnlyArticle() {
+        // Given
+        AtomicInteger articleLoads = new AtomicInteger();
+        AtomicInteger pageLoads = new AtomicInteger();
+        Supplier<ArticleDto> articleLoader = () -> {
+            articleLoads.incrementAndGet();
+            return createArticleDto(1L);
+        };
+        Supplier<ArticleCommentPageDto> pageLoader = () -> {
+            pageLoads.incrementAndGet();
+            return createCommentPage();
+        };
+        sut.getArticle(1L, articleLoader);
+        sut.getFirstCommentPage(1L, 20, pageLoader);
+
+        // When
+        sut.invalidateArticle(1L);
+        sut.getArticle(1L, articleLoader);
+        sut.getFirstCommentPage(1L, 20, pageLoader);
+
+        // Then
+        assertThat(articleLoads).hasValue(2);
+        assertThat(pageLoads).hasValue(1);
+    }
+
+    @DisplayName("캐시된 것과 다른 크기로 첫 댓글 페이지를 읽으면, 캐시를 거치지 않고 불러온다.")
+    @Test
+    void givenCachedFirstPage_whenGettingWithDifferentSize_thenLoadsWithoutCaching() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<ArticleCommentPageDto> loader = () -> {
+            loads.incrementAndGet();
+            return createCommentPage();
+        };
+        sut.getFirstCommentPage(1L, 20, loader);
+
+        // When
+        sut.getFirstCommentPage(1L, 5, loader);
+        sut.getFirstCommentPage(1L, 20, loader);
+
+        // Then
+        assertThat(loads).hasValue(2);
+    }
+
+    @DisplayName("적중률과 축출 수를 지표로 내보낸다.")
+    @Test
+    void givenMeterRegistry_whenBinding_thenExposesHitRatioAndEvictions() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        sut.bindTo(registry);
+        sut.getArticle(1L, () -> createArticleDto(1L));
+        sut.getArticle(1L, () -> createArticleDto(1L));
+
+        // When
+        double hitRatio = registry.get("board.article.detail-cache.hit-ratio").gauge().value();
+
+        // Then
+        assertThat(hitRatio).isEqualTo(0.5);
+        assertThat(registry.find("cache.evictions").tag("cache", "articleDetail").functionCounter()).isNotNull();
+    }
+
+    private ArticleDto createArticleDto(Long id) {
+        return ArticleDto.of(id, null, "title", "content", Set.of(), null, null, null, null);
+    }
+
+    private ArticleCommentPageDto createCommentPage() {
+        return ArticleCommentPageDto.of(CursorPage.of(List.of(), null), Map.of());
+    }
+}
@@ -4,17 +4,27 @@ import fastcampus.board.domain.Article;
 import fastcampus.board.domain.ArticleHashtag;
 import fastcampus.board.domain.Hashtag;
 import fastcampus.board.domain.UserAccount;
+import fastcampus.board.domain.constant.HashtagMatchMode;
 import fastcampus.board.domain.constant.SearchType;
+import fastcampus.board.dto.ArticleCursor;
 import fastcampus.board.dto.ArticleDto;
+import fastcampus.board.dto.ArticleListDto;
 import fastcampus.board.dto.ArticleWithCommentsDto;
+import fastcampus.board.dto.CursorPage;
 import fastcampus.board.dto.HashtagDto;
+import fastcampus.board.dto.InvalidCursorException;
 import fastcampus.board.dto.UserAccountDto;
 import fastcampus.board.dto.query.ArticleHashtagDto;
-import fastcampus.board.dto.query.ArticleSelectDto;
+import fastcampus.board.dto.query.ArticleListRow;
 import fastcampus.board.repository.ArticleHashtagRepository;
 import fastcampus.board.repository.ArticleRepository;
 import fastcampus.board.repository.HashtagRepository;
 import fastcampus.board.repository.UserAccountRepository;
+import fastcampus.board.service.ArticleDetailCache.ArticleDetailCacheProperties;
+import fastcampus.board.service.search.ArticleSearchIndex;
+import fastcampus.board.service.search.SearchCountCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.DisplayName;
@@ -30,6 +40,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import javax.persistence.EntityNotFoundException;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -54,20 +65,33 @@ class ArticleServiceTest {
     private HashtagService hashtagService;
     @Mock
     private ArticleHashtagService articleHashtagService;
+    @Mock
+    private ArticleSearchIndex articleSearchIndex;
+    @Mock
+    private SearchCountCache searchCountCache;
+    @Mock
+    private BoardStatistics boardStatistics;
+    @Mock
+    private ArticleViewCounter articleViewCounter;
+    @Spy
+    private ArticleDetailCache articleDetailCache = new ArticleDetailCache(new ArticleDetailCacheProperties(1_000_000, Duration.ofMinutes(10)));
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    @Spy
+    private ServiceMetrics serviceMetrics = new ServiceMetrics(meterRegistry);
 
     @DisplayName("검색어 없이 게시글을 검색하면, 게시글 리스트를 반환한다.")
     @Test
     void givenNoSearchParameters_whenSearchingArticles_thenReturnsArticles() {
         // Given
         Pageable pageable = Pageable.ofSize(20);
-        given(articleRepository.findAll(pageable)).willReturn(Page.empty());
+        given(articleRepository.findListRowsBySearchKeyword(null, null, pageable)).willReturn(List.of());
 
         // When
-        Page<ArticleDto> articles = sut.searchArticles(null, null, pageable);
+        Page<ArticleListDto> articles = sut.searchArticles(null, null, pageable);
 
         // Then
         assertThat(articles).isEmpty();
-        then(articleRepository).should().findAll(pageable);
+        then(articleRepository).should().findListRowsBySearchKeyword(null, null, pageable);
     }
 
     @DisplayName("검색어와 함께 게시글을 검색하면, 게시글 리스트를 반환한다.")
@@ -77,14 +101,132 @@ class ArticleServiceTest {
         SearchType searchType = SearchType.TITLE;
         String searchKeyword = "title";
         Pageable pageable = Pageable.ofSize(20);
-        given(articleRepository.findByTitleContaining(searchKeyword, pageable)).willReturn(Page.empty());
+        given(articleRepository.findListRowsBySearchKeyword(searchType, searchKeyword, pageable)).willReturn(List.of());
 
         // When
-        Page<ArticleDto> articles = sut.searchArticles(searchType, searchKeyword, pageable);
+        Page<ArticleListDto> articles = sut.searchArticles(searchType, searchKeyword, pageable);
 
         // Then
         assertThat(articles).isEmpty();
-        then(articleRepository).should().findByTitleContaining(searchKeyword, pageable);
+        then(articleRepository).should().findListRowsBySearchKeyword(searchType, searchKeyword, pageable);
+    }
+
+    @DisplayName("검색 결과가 한 페이지를 넘으면, 전체 개수는 개수 캐시를 거쳐 조회한다.")
+    @Test
+    void givenFullPage_whenSearchingArticles_thenCountsThroughCountCache() {
+        // Given
+        SearchType searchType = SearchType.NICKNAME;
+        String searchKeyword = "Uno";
+        Pageable pageable = Pageable.ofSize(2);
+        given(articleRepository.findListRowsBySearchKeyword(searchType, searchKeyword, pageable)).willReturn(List.of(createArticleListRow(1L), createArticleListRow(2L)));
+        given(searchCountCache.count(eq(searchType), eq(searchKeyword), eq(pageable), any())).willReturn(5L);
+        given(articleHashtagRepository.findDtoByArticleIds(Set.of(1L, 2L))).willReturn(Set.of());
+
+        // When
+        Page<ArticleListDto> articles = sut.searchArticles(searchType, searchKeyword, pageable);
+
+        // Then
+        assertThat(articles.getTotalElements()).isEqualTo(5L);
+        assertThat(articles.getTotalPages()).isEqualTo(3);
+        then(searchCountCache).should().count(eq(searchType), eq(searchKeyword), eq(pageable), any());
+    }
+
+    @DisplayName("검색 색인이 준비된 상태에서 제목으로 검색하면, 색인 결과 순서대로 게시글 페이지를 반환한다.")
+    @Test
+    void givenReadySearchIndex_whenSearchingArticlesByTitle_thenReturnsArticlePageInIndexOrder() {
+        // Given
+        SearchType searchType = SearchType.TITLE;
+        String searchKeyword = "title";
+        Pageable pageable = Pageable.ofSize(20);
+        given(articleSearchIndex.supports(searchKeyword, pageable)).willReturn(true);
+        given(articleSearchIndex.search(searchType, searchKeyword, pageable)).willReturn(new PageImpl<>(List.of(2L, 1L), pageable, 2));
+        given(articleRepository.findListRowsByIds(List.of(2L, 1L))).willReturn(List.of(createArticleListRow(1L), createArticleListRow(2L)));
+        given(articleHashtagRepository.findDtoByArticleIds(Set.of(1L, 2L))).willReturn(Set.of());
+
+        // When
+        Page<ArticleListDto> articles = sut.searchArticles(searchType, searchKeyword, pageable);
+
+        // Then
+        assertThat(articles.getTotalElements()).isEqualTo(2);
+        assertThat(articles.getContent())
+                .extracting("id")
+                .containsExactly(2L, 1L);
+        then(articleSearchIndex).should().search(searchType, searchKeyword, pageable);
+        then(articleRepository).should().findListRowsByIds(List.of(2L, 1L));
+        then(articleRepository).should(never()).findListRowsBySearchKeyword(any(), any(), any());
+    }
+
+    @DisplayName("게시글 목록을 조회하면, 미리보기 길이를 넘는 본문은 잘라서 반환한다.")
+    @Test
+    void givenLongContent_whenSearchingArticles_thenReturnsTruncatedPreview() {
+        // Given
+        Pageable pageable = Pageable.ofSize(20);
+        String content = "a".repeat(ArticleListRow.PREVIEW_LENGTH + 1);
+        ArticleListRow row = ArticleListRow.of(1L, "title", content, "uno", "Uno", LocalDateTime.now(), 0L, 3L);
+        given(articleRepository.findListRowsBySearchKeyword(null, null, pageable)).willReturn(List.of(row));
+        given(articleHashtagRepository.findDtoByArticleIds(Set.of(1L))).willReturn(Set.of());
+
+        // When
+        Page<ArticleListDto> articles = sut.searchArticles(null, null, pageable);
+
+        // Then
+        assertThat(articles.getContent()).singleElement()
+                .hasFieldOrPropertyWithValue("preview", "a".repeat(ArticleListRow.PREVIEW_LENGTH) + "…")
+                .hasFieldOrPropertyWithValue("commentCount", 3L);
+    }
+
+    @DisplayName("커서 없이 게시글 목록을 조회하면, 첫 페이지와 다음 커서를 반환한다.")
+    @Test
+    void givenNoCursor_whenSearchingArticlesByCursor_thenReturnsFirstPageWithNextCursor() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        ArticleListRow row1 = createArticleListRow(3L, now);
+        ArticleListRow row2 = createArticleListRow(2L, now);
+        ArticleListRow row3 = createArticleListRow(1L, now.minusDays(1));
+        given(articleRepository.findListRowsBefore(null, 3)).willReturn(List.of(row1, row2, row3));
+        given(articleHashtagRepository.findDtoByArticleIds(Set.of(3L, 2L))).willReturn(Set.of());
+
+        // When
+        CursorPage<ArticleListDto> articles = sut.getArticlesByCursor(null, 2);
+
+        // Then
+        assertThat(articles.content())
+                .extracting("id")
+                .containsExactly(3L, 2L);
+        assertThat(articles.nextCursor()).isEqualTo(ArticleCursor.of(now, 2L).encode());
+        then(articleRepository).should().findListRowsBefore(null, 3);
+    }
+
+    @DisplayName("마지막 페이지의 커서로 게시글 목록을 조회하면, 다음 커서 없이 반환한다.")
+    @Test
+    void givenLastPageCursor_whenSearchingArticlesByCursor_thenReturnsPageWithoutNextCursor() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        ArticleCursor cursor = ArticleCursor.of(now, 2L);
+        ArticleListRow row = createArticleListRow(1L, now.minusDays(1));
+        given(articleRepository.findListRowsBefore(cursor, 3)).willReturn(List.of(row));
+        given(articleHashtagRepository.findDtoByArticleIds(Set.of(1L))).willReturn(Set.of());
+
+        // When
+        CursorPage<ArticleListDto> articles = sut.getArticlesByCursor(cursor.encode(), 2);
+
+        // Then
+        assertThat(articles.content()).hasSize(1);
+        assertThat(articles.hasNext()).isFalse();
+    }
+
+    @DisplayName("잘못된 커서로 게시글 목록을 조회하면, 예외를 던진다.")
+    @Test
+    void givenInvalidCursor_whenSearchingArticlesByCursor_thenThrowsException() {
+        // Given
+        String cursor = "invalid-cursor";
+
+        // When
+        Throwable t = catchThrowable(() -> sut.getArticlesByCursor(cursor, 10));
+
+        // Then
+        assertThat(t).isInstanceOf(InvalidCursorException.class);
+        then(articleRepository).shouldHaveNoInteractions();
     }
 
     @DisplayName("검색어 없이 게시글을 해시태그 검색하면, 빈 페이지를 반환한다.")
@@ -94,7 +236,7 @@ class ArticleServiceTest {
         Pageable pageable = Pageable.ofSize(20);
 
         // When
-        Page<ArticleDto> articles = sut.searchArticlesViaHashtag(null, pageable);
+        Page<ArticleListDto> articles = sut.searchArticlesViaHashtag(null, pageable);
 
         // Then
         assertThat(articles).isEqualTo(Page.empty(pageable));
@@ -108,14 +250,15 @@ class ArticleServiceTest {
         // Given
         String hashtagName = "난 없지롱";
         Pageable pageable = Pageable.ofSize(20);
-        given(articleHashtagRepository.findByHashtagNames(List.of(hashtagName), pageable)).willReturn(new PageImpl<>(List.of(), pageable, 0));
+        given(hashtagService.findHashtagIdsByNames(List.of(hashtagName))).willReturn(List.of());
 
         // When
-        Page<ArticleDto> articles = sut.searchArticlesViaHashtag(hashtagName, pageable);
+        Page<ArticleListDto> articles = sut.searchArticlesViaHashtag(hashtagName, pageable);
 
         // Then
         assertThat(articles).isEqualTo(Page.empty(pageable));
-        then(articleHashtagRepository).should().findByHashtagNames(List.of(hashtagName), pageable);
+        then(hashtagService).should().findHashtagIdsByNames(List.of(hashtagName));
+        then(articleHashtagRepository).shouldHaveNoInteractions();
     }
 
     @DisplayName("게시글을 해시태그 검색하면, 게시글 페이지를 반환한다.")
@@ -124,23 +267,54 @@ class ArticleServiceTest {
         // Given
         String hashtagName = "java";
         Pageable pageable = Pageable.ofSize(20);
-        Article expectedArticle = createArticle();
-        PageImpl<ArticleSelectDto> articleSelectDtoPage = new PageImpl<>(createArticleSelectDtoList(), pageable, 1);
-        given(articleHashtagRepository.findByHashtagNames(List.of(hashtagName), pageable)).willReturn(articleSelectDtoPage);
+        given(hashtagService.findHashtagIdsByNames(List.of(hashtagName))).willReturn(List.of(1L));
+        given(articleHashtagRepository.findArticleIdsByHashtagIds(List.of(1L), HashtagMatchMode.ANY, pageable)).willReturn(List.of(1L));
+        given(articleRepository.findListRowsByIds(List.of(1L))).willReturn(List.of(createArticleListRow(1L)));
         given(articleHashtagRepository.findDtoByArticleIds(Set.of(1L))).willReturn(createArticleHashtagDtoSet());
 
         // When
-        Page<ArticleDto> articles = sut.searchArticlesViaHashtag(hashtagName, pageable);
+        Page<ArticleListDto> articles = sut.searchArticlesViaHashtag(hashtagName, pageable);
 
         // Then
         assertThat(articles.getContent().get(0).id()).isEqualTo(1L);
-        assertThat(articles.getContent().get(0).hashtagDtos().stream()
-                        .map(HashtagDto::hashtagName).collect(Collectors.toSet()).toString())
-                .contains("java", "spring");
-        then(articleHashtagRepository).should().findByHashtagNames(List.of(hashtagName), pageable);
+        assertThat(articles.getContent().get(0).hashtags()).contains("java", "spring");
+        then(articleHashtagRepository).should().findArticleIdsByHashtagIds(List.of(1L), HashtagMatchMode.ANY, pageable);
+        then(articleRepository).should().findListRowsByIds(List.of(1L));
         then(articleHashtagRepository).should().findDtoByArticleIds(Set.of(1L));
     }
 
+    @DisplayName("해시태그를 모두 포함하도록 검색할 때 없는 해시태그가 섞여 있으면, 게시글을 조회하지 않고 빈 페이지를 반환한다.")
+    @Test
+    void givenAllModeWithNonexistentHashtag_whenSearchingArticles_thenReturnsEmptyPage() {
+        // Given
+        Pageable pageable = Pageable.ofSize(20);
+        given(hashtagService.findHashtagIdsByNames(List.of("java", "없는태그"))).willReturn(List.of(1L));
+
+        // When
+        Page<ArticleListDto> articles = sut.searchArticles(SearchType.HASHTAG, "java 없는태그", HashtagMatchMode.ALL, pageable);
+
+        // Then
+        assertThat(articles).isEqualTo(Page.empty(pageable));
+        then(articleHashtagRepository).shouldHaveNoInteractions();
+        then(articleRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("해시태그를 모두 포함하도록 검색하면, ALL 모드로 게시글 ID 를 조회한다.")
+    @Test
+    void givenAllMode_whenSearchingArticles_thenQueriesArticleIdsInAllMode() {
+        // Given
+        Pageable pageable = Pageable.ofSize(20);
+        given(hashtagService.findHashtagIdsByNames(List.of("java", "spring"))).willReturn(List.of(1L, 2L));
+        given(articleHashtagRepository.findArticleIdsByHashtagIds(List.of(1L, 2L), HashtagMatchMode.ALL, pageable)).willReturn(List.of());
+
+        // When
+        Page<ArticleListDto> articles = sut.searchArticles(SearchType.HASHTAG, "java spring", HashtagMatchMode.ALL, pageable);
+
+        // Then
+        assertThat(articles).isEmpty();
+        then(articleHashtagRepository).should().findArticleIdsByHashtagIds(List.of(1L, 2L), HashtagMatchMode.ALL, pageable);
+    }
+
     @DisplayName("게시글 ID로 조회하면, 댓글 달긴 게시글을 반환한다.")
     @Test
     void givenArticleId_whenSearchingArticleWithComments_thenReturnsArticleWithComments() {
@@ -205,6 +379,90 @@ class ArticleServiceTest {
         then(articleRepository).should().findById(articleId);
     }
 
+    @DisplayName("같은 게시글을 다시 조회하면, DB 를 거치지 않고 캐시된 게시글을 반환한다.")
+    @Test
+    void givenCachedArticle_whenSearchingArticleAgain_thenReturnsCachedArticle() {
+        // Given
+        Long articleId = 1L;
+        given(articleRepository.findById(articleId)).willReturn(Optional.of(createArticle()));
+        ArticleDto first = sut.getArticle(articleId);
+
+        // When
+        ArticleDto second = sut.getArticle(articleId);
+
+        // Then
+        assertThat(second).isSameAs(first);
+        then(articleRepository).should(times(1)).findById(articleId);
+    }
+
+    @DisplayName("게시글을 두 번 조회하면, 캐시 실패와 적중을 한 번씩 기록한다.")
+    @Test
+    void givenArticle_whenSearchingArticleTwice_thenRecordsCacheMissAndHit() {
+        // Given
+        Long articleId = 1L;
+        given(articleRepository.findById(articleId)).willReturn(Optional.of(createArticle()));
+
+        // When
+        sut.getArticle(articleId);
+        sut.getArticle(articleId);
+
+        // Then
+        assertThat(meterRegistry.get("board.article.detail").tag("cache", "miss").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("board.article.detail").tag("cache", "hit").timer().count()).isEqualTo(1);
+    }
+
+    @DisplayName("게시글을 조회하면, 아직 DB 에 쓰지 않은 조회수를 더해 반환한다.")
+    @Test
+    void givenPendingViews_whenSearchingArticle_thenReturnsArticleWithPendingViews() {
+        // Given
+        Article article = createArticle();
+        Long articleId = article.getId();
+        given(articleRepository.findById(articleId)).willReturn(Optional.of(article));
+        given(articleViewCounter.getPendingCount(articleId)).willReturn(3L);
+
+        // When
+        ArticleDto dto = sut.getArticle(articleId);
+
+        // Then
+        assertThat(dto).hasFieldOrPropertyWithValue("viewCount", article.getViewCount() + 3L);
+    }
+
+    @DisplayName("게시글을 보면, 조회수를 메모리에만 더한다.")
+    @Test
+    void givenArticleId_whenIncreasingViewCount_thenIncrementsCounterOnly() {
+        // Given
+        Long articleId = 1L;
+
+        // When
+        sut.increaseViewCount(articleId);
+
+        // Then
+        then(articleViewCounter).should().increment(articleId);
+        then(articleRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("게시글을 수정하면, 캐시된 게시글을 지워 다음 조회에서 다시 읽는다.")
+    @Test
+    void givenCachedArticle_whenUpdatingArticle_thenEvictsCachedArticle() {
+        // Given
+        Article article = createArticle();
+        Long articleId = article.getId();
+        given(articleRepository.findById(articleId)).willReturn(Optional.of(article));
+        sut.getArticle(articleId);
+        ArticleDto dto = createArticleDto("new title", null);
+        given(articleRepository.getReferenceById(articleId)).willReturn(article);
+        given(userAccountRepository.getReferenceById(dto.userAccountDto().userId())).willReturn(dto.userAccountDto().toEntity());
+
+        // When
+        sut.updateArticle(articleId, dto);
+        ArticleDto actual = sut.getArticle(articleId);
+
+        // Then
+        assertThat(actual).hasFieldOrPropertyWithValue("title", "new title");
+        then(articleDetailCache).should().invalidateArticle(articleId);
+        then(articleRepository).should(times(2)).findById(articleId);
+    }
+
     @DisplayName("게시글이 없으면, 예외를 던진다.")
     @Test
     void givenNonexistentArticleId_whenSearchingArticle_thenThrowsException() {
@@ -244,27 +502,25 @@ class ArticleServiceTest {
         then(hashtagService).should().parseHashtagNames(dto.content());
         then(hashtagService).should().findHashtagsByNames(expectedHashtagNames);
         then(articleRepository).should().save(any(Article.class));
+        then(articleSearchIndex).should().index(any(Article.class));
+        then(searchCountCache).should().invalidateAll();
+        then(boardStatistics).should().addArticles(1);
     }
 
-    @DisplayName("게시글의 수정 정보를 입력하면, 게시글을 수정한다.")
+    @DisplayName("게시글의 수정 정보를 입력하면, 게시글을 수정하고 달라진 해시태그의 연결만 추가/삭제한다.")
     @Test
     void givenModifiedArticleInfo_whenUpdatingArticle_thenUpdatesArticle() {
         // Given
         Article article = createArticle();
-        ArticleDto dto = createArticleDto("새 타이틀", "새 내용 #springboot");
-        Set<String> expectedHashtagNames = Set.of("springboot");
-        Set<Hashtag> expectedHashtags = new HashSet<>();
-        Hashtag hashtag = Hashtag.of("springboot");
-        Set<ArticleHashtag> articleHashtags = Set.of(ArticleHashtag.of(article, hashtag));
+        ArticleDto dto = createArticleDto("새 타이틀", "새 내용 #java #springboot");
+        ArticleHashtag javaArticleHashtag = ArticleHashtag.of(article, createHashtag(1L, "java"));
+        ArticleHashtag springArticleHashtag = ArticleHashtag.of(article, createHashtag(2L, "spring"));
         given(articleRepository.getReferenceById(dto.id())).willReturn(article);
         given(userAccountRepository.getReferenceById(dto.userAccountDto().userId())).willReturn(dto.userAccountDto().toEntity());
-        given(articleHashtagService.getHashtagIdsByArticleId(article.getId())).willReturn(Set.of(1L,2L));
-
-        willDoNothing().given(articleRepository).flush();
-        willDoNothing().given(hashtagService).deleteHashtagWithoutArticles(any());
-        given(hashtagService.parseHashtagNames(dto.content())).willReturn(expectedHashtagNames);
-        given(hashtagService.findHashtagsByNames(expectedHashtagNames)).willReturn(expectedHashtags);
-        given(articleHashtagService.saveArticleHashtags(any(), any())).willReturn(articleHashtags);
+        given(hashtagService.parseHashtagNames(dto.content())).willReturn(Set.of("java", "springboot"));
+        given(articleHashtagService.getArticleHashtagsByArticleId(article.getId()))
+                .willReturn(Set.of(javaArticleHashtag, springArticleHashtag));
+        given(hashtagService.findHashtagsByNames(Set.of("springboot"))).willReturn(new HashSet<>());
 
         // When
         sut.updateArticle(dto.id(), dto);
@@ -273,23 +529,39 @@ class ArticleServiceTest {
         assertThat(article)
                 .hasFieldOrPropertyWithValue("title", dto.title())
                 .hasFieldOrPropertyWithValue("content", dto.content());
-        assertThat(articleHashtags)
-                .asInstanceOf(InstanceOfAssertFactories.COLLECTION)
-                .hasSize(1)
-                .extracting("hashtag.hashtagName")
-                .containsExactly("springboot");
         then(articleRepository).should().getReferenceById(dto.id());
         then(userAccountRepository).should().getReferenceById(dto.userAccountDto().userId());
-        then(articleHashtagService).should().getHashtagIdsByArticleId(article.getId());
-        then(articleRepository).should().flush();
-        then(hashtagService).should(times(2)).deleteHashtagWithoutArticles(any());
-        then(hashtagService).should().parseHashtagNames(dto.content());
-        then(hashtagService).should().findHashtagsByNames(expectedHashtagNames);
-        then(articleHashtagService).should().saveArticleHashtags(any(), any());
-
+        then(articleHashtagService).should().deleteArticleHashtags(Set.of(springArticleHashtag));
+        then(hashtagService).should().releaseHashtags(List.of(2L));
+        then(hashtagService).should().findHashtagsByNames(Set.of("springboot"));
+        then(articleHashtagService).should().saveArticleHashtags(eq(article), argThat(hashtags ->
+                hashtags.size() == 1 && hashtags.iterator().next().getHashtagName().equals("springboot")));
+        then(articleRepository).should(never()).flush();
+        then(searchCountCache).should().invalidateAll();
     }
 
+    @DisplayName("게시글의 해시태그가 그대로인 수정 정보를 입력하면, 해시태그 연결은 건드리지 않는다.")
+    @Test
+    void givenModifiedArticleInfoWithSameHashtags_whenUpdatingArticle_thenKeepsArticleHashtags() {
+        // Given
+        Article article = createArticle();
+        ArticleDto dto = createArticleDto("새 타이틀", "오타 수정 #java");
+        given(articleRepository.getReferenceById(dto.id())).willReturn(article);
+        given(userAccountRepository.getReferenceById(dto.userAccountDto().userId())).willReturn(dto.userAccountDto().toEntity());
+        given(hashtagService.parseHashtagNames(dto.content())).willReturn(Set.of("java"));
+        given(articleHashtagService.getArticleHashtagsByArticleId(article.getId()))
+                .willReturn(Set.of(ArticleHashtag.of(article, createHashtag(1L, "java"))));
+
+        // When
+        sut.updateArticle(dto.id(), dto);
 
+        // Then
+        assertThat(article).hasFieldOrPropertyWithValue("content", dto.content());
+        then(articleHashtagService).should().getArticleHashtagsByArticleId(article.getId());
+        then(articleHashtagService).shouldHaveNoMoreInteractions();
+        then(hashtagService).should().parseHashtagNames(dto.content());
+        then(hashtagService).shouldHaveNoMoreInteractions();
+    }
 
     @DisplayName("없는 게시글의 수정 정보를 입력하면, 경고 로그를 찍고 아무 것도 하지 않는다.")
     @Test
@@ -338,8 +610,7 @@ class ArticleServiceTest {
 
         willDoNothing().given(articleHashtagService).deleteArticleHashtagsByArticleId(articleId);
         willDoNothing().given(articleRepository).deleteByIdAndUserAccount_UserId(articleId, userId);
-        willDoNothing().given(articleRepository).flush();
-        willDoNothing().given(hashtagService).deleteHashtagWithoutArticles(any());
+        willDoNothing().given(hashtagService).releaseHashtags(Set.of(1L, 2L));
 
         // When
         articleHashtagRepository.deleteById(articleId);
@@ -350,8 +621,12 @@ class ArticleServiceTest {
         then(articleHashtagService).should().getHashtagIdsByArticleId(articleId);
         then(articleHashtagService).should().deleteArticleHashtagsByArticleId(articleId);
         then(articleRepository).should().deleteByIdAndUserAccount_UserId(articleId, userId);
-        then(articleRepository).should().flush();
-        then(hashtagService).should(times(2)).deleteHashtagWithoutArticles(any());
+        then(hashtagService).should().releaseHashtags(Set.of(1L, 2L));
+        then(articleSearchIndex).should().remove(articleId);
+        then(searchCountCache).should().invalidateAll();
+        then(articleDetailCache).should().invalidateArticle(articleId);
+        then(articleDetailCache).should().invalidateComments(articleId);
+        then(boardStatistics).should().addArticles(-1);
     }
 
     @DisplayName("게시글 수를 조회하면, 게시글 수를 반환한다.")
@@ -359,14 +634,15 @@ class ArticleServiceTest {
     void givenNothing_whenCountingArticles_thenReturnsArticleCount(){
         // Given
         long expected = 0L;
-        given(articleRepository.count()).willReturn(expected);
+        given(boardStatistics.getArticleCount()).willReturn(expected);
 
         // When
         long actual = sut.getArticleCount();
 
         // Then
         assertThat(actual).isEqualTo(expected);
-        then(articleRepository).should().count();
+        then(boardStatistics).should().getArticleCount();
+        then(articleRepository).should(never()).count();
     }
 
     private UserAccount createUserAccount() {
@@ -383,6 +659,14 @@ class ArticleServiceTest {
         );
     }
 
+    private ArticleListRow createArticleListRow(Long id) {
+        return createArticleListRow(id, LocalDateTime.now());
+    }
+
+    private ArticleListRow createArticleListRow(Long id, LocalDateTime createdAt) {
+        return ArticleListRow.of(id, "title", "content", "uno", "Uno", createdAt, 0L, 0L);
+    }
+
     private Article createArticle() {
         return createArticle(1L);
     }
@@ -448,19 +732,6 @@ class ArticleServiceTest {
         );
     }
 
-    private List<ArticleSelectDto> createArticleSelectDtoList() {
-        return List.of(ArticleSelectDto.of(
-                1L,
-                createUserAccount(),
-                "title",
-                "content",
-                LocalDateTime.now(),
-                "uno",
-                LocalDateTime.now(),
-                "uno"
-        ));
-    }
-
     private Set<ArticleHashtagDto> createArticleHashtagDtoSet() {
         return Set.of(
                 ArticleHashtagDto.of(1L, "java"),
@@ -0,0 +1,132 @@
+package fastcampus.board.service;
+
+import fastcampus.board.service.ArticleViewCounter.ArticleViewCountProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.Collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비지니스 로직 - 게시글 조회수")
+@ExtendWith(MockitoExtension.class)
+class ArticleViewCounterTest {
+
+    @Mock private JdbcTemplate jdbcTemplate;
+    @Mock private PlatformTransactionManager transactionManager;
+    @Mock private ArticleDetailCache articleDetailCache;
+
+    private ArticleViewCounter sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new ArticleViewCounter(
+                jdbcTemplate,
+                transactionManager,
+                articleDetailCache,
+                new ArticleViewCountProperties(Duration.ofSeconds(5), 500)
+        );
+    }
+
+    @DisplayName("조회하면, DB 에 쓰지 않고 메모리에 더한다.")
+    @Test
+    void givenViews_whenGettingPendingCount_thenReturnsSumWithoutWriting() {
+        // Given
+        sut.increment(1L);
+        sut.increment(1L);
+        sut.increment(2L);
+
+        // When & Then
+        assertThat(sut.getPendingCount(1L)).isEqualTo(2L);
+        assertThat(sut.getPendingCount(2L)).isEqualTo(1L);
+        assertThat(sut.getPendingCount(3L)).isZero();
+        then(jdbcTemplate).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("첫 주기에는 쓰지 않고, 다음 주기에 모인 조회수를 한 번의 배치로 더한 뒤 캐시를 비운다.")
+    @Test
+    @SuppressWarnings("unchecked")
+    void givenViews_whenFlushingTwice_thenWritesOnceInBatch() {
+        // Given
+        sut.increment(1L);
+        sut.increment(1L);
+        sut.increment(2L);
+
+        // When
+        int firstFlushed = sut.flush();
+        sut.increment(1L);
+        int secondFlushed = sut.flush();
+
+        // Then
+        assertThat(firstFlushed).isZero();
+        assertThat(secondFlushed).isEqualTo(2);
+        ArgumentCaptor<Collection<Object[]>> args = ArgumentCaptor.forClass(Collection.class);
+        then(jdbcTemplate).should().batchUpdate(anyString(), args.capture(), eq(500), any(ParameterizedPreparedStatementSetter.class));
+        assertThat(args.getValue())
+                .containsExactlyInAnyOrder(new Object[]{2L, 1L}, new Object[]{1L, 2L});
+        then(articleDetailCache).should().invalidateArticle(1L);
+        then(articleDetailCache).should().invalidateArticle(2L);
+        assertThat(sut.getPendingCount(1L)).isEqualTo(1L);
+        assertThat(sut.getPendingCount(2L)).isZero();
+    }
+
+    @DisplayName("종료할 때는, 기다리지 않고 모든 조회수를 쓴다.")
+    @Test
+    @SuppressWarnings("unchecked")
+    void givenViews_whenFlushingAll_thenWritesEverything() {
+        // Given
+        sut.increment(1L);
+        sut.flush();
+        sut.increment(1L);
+        sut.increment(2L);
+
+        // When
+        int flushed = sut.flushAll();
+
+        // Then
+        assertThat(flushed).isEqualTo(2);
+        ArgumentCaptor<Collection<Object[]>> args = ArgumentCaptor.forClass(Collection.class);
+        then(jdbcTemplate).should().batchUpdate(anyString(), args.capture(), eq(500), any(ParameterizedPreparedStatementSetter.class));
+        assertThat(args.getValue())
+                .containsExactlyInAnyOrder(new Object[]{2L, 1L}, new Object[]{1L, 2L});
+        assertThat(sut.getPendingCount(1L)).isZero();
+    }
+
+    @DisplayName("쓰기에 실패하면, 조회수를 잃지 않고 다음 주기에 다시 쓴다.")
+    @Test
+    @SuppressWarnings("unchecked")
+    void givenWriteFailure_whenFlushing_thenKeepsViewsForNextFlush() {
+        // Given
+        given(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .willThrow(new QueryTimeoutException("timeout"))
+                .willReturn(new int[][]{});
+        sut.increment(1L);
+        sut.flush();
+
+        // When
+        int failed = sut.flush();
+
+        // Then
+        assertThat(failed).isZero();
+        assertThat(sut.getPendingCount(1L)).isEqualTo(1L);
+        then(articleDetailCache).shouldHaveNoInteractions();
+        assertThat(sut.flush()).isEqualTo(1);
+        assertThat(sut.getPendingCount(1L)).isZero();
+    }
+}
@@ -0,0 +1,137 @@
+package fastcampus.board.service;
+
+import fastcampus.board.repository.ArticleCommentRepository;
+import fastcampus.board.repository.ArticleRepository;
+import fastcampus.board.repository.HashtagRepository;
+import fastcampus.board.repository.UserAccountRepository;
+import fastcampus.board.service.BoardStatistics.BoardStatisticsProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비지니스 로직 - 게시판 전체 수")
+@ExtendWith(MockitoExtension.class)
+class BoardStatisticsTest {
+
+    @Mock private ArticleRepository articleRepository;
+    @Mock private ArticleCommentRepository articleCommentRepository;
+    @Mock private HashtagRepository hashtagRepository;
+    @Mock private UserAccountRepository userAccountRepository;
+
+    private BoardStatistics sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new BoardStatistics(
+                articleRepository,
+                articleCommentRepository,
+                hashtagRepository,
+                userAccountRepository,
+                new BoardStatisticsProperties(Duration.ZERO)
+        );
+    }
+
+    @DisplayName("채우기 전에 게시글 수를 조회하면, DB 에서 센다.")
+    @Test
+    void givenNotReconciled_whenGettingArticleCount_thenCountsFromDatabase() {
+        // Given
+        given(articleRepository.count()).willReturn(123L);
+
+        // When
+        long actual = sut.getArticleCount();
+
+        // Then
+        assertThat(actual).isEqualTo(123L);
+        then(articleRepository).should().count();
+    }
+
+    @DisplayName("채운 뒤에는, DB 를 세지 않고 더하고 뺀 값을 반환한다.")
+    @Test
+    void givenReconciled_whenAddingArticles_thenReturnsAdjustedCountWithoutQuerying() {
+        // Given
+        givenCounts(123L, 10L, 19L, 2L);
+        sut.reconcile();
+
+        // When
+        sut.addArticles(1);
+        sut.addArticles(1);
+        sut.addArticles(-1);
+        sut.addArticleComments(-1);
+        sut.addHashtags(3);
+        sut.addUserAccounts(1);
+
+        // Then
+        assertThat(sut.getArticleCount()).isEqualTo(124L);
+        assertThat(sut.getArticleCommentCount()).isEqualTo(9L);
+        assertThat(sut.getHashtagCount()).isEqualTo(22L);
+        assertThat(sut.getUserAccountCount()).isEqualTo(3L);
+        then(articleRepository).should(times(1)).count();
+    }
+
+    @DisplayName("재조정하면, 어긋난 값을 DB 에서 센 값으로 맞춘다.")
+    @Test
+    void givenDrift_whenReconciling_thenMatchesDatabase() {
+        // Given
+        givenCounts(123L, 10L, 19L, 2L);
+        sut.reconcile();
+        sut.addArticleComments(5);
+        given(articleCommentRepository.count()).willReturn(12L);
+
+        // When
+        sut.reconcile();
+
+        // Then
+        assertThat(sut.getArticleCommentCount()).isEqualTo(12L);
+        assertThat(sut.getArticleCount()).isEqualTo(123L);
+    }
+
+    @DisplayName("DB 를 세는 도중 값이 바뀌면, 그 재조정은 건너뛴다.")
+    @Test
+    void givenChangeWhileCounting_whenReconciling_thenSkipsReconciliation() {
+        // Given
+        givenCounts(123L, 10L, 19L, 2L);
+        sut.reconcile();
+        given(articleRepository.count()).willAnswer(invocation -> {
+            sut.addArticles(1);
+            return 200L;
+        });
+
+        // When
+        sut.reconcile();
+
+        // Then
+        assertThat(sut.getArticleCount()).isEqualTo(124L);
+    }
+
+    @DisplayName("전체 수를 유형별 지표로 내보낸다.")
+    @Test
+    void givenMeterRegistry_whenBinding_thenExposesTotalsByType() {
+        // Given
+        givenCounts(123L, 10L, 19L, 2L);
+        sut.reconcile();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        // When
+        sut.bindTo(registry);
+
+        // Then
+        assertThat(registry.get("board.totals").tag("type", "article").gauge().value()).isEqualTo(123.0);
+        assertThat(registry.get("board.totals").tag("type", "hashtag").gauge().value()).isEqualTo(19.0);
+    }
+
+    private void givenCounts(long articles, long articleComments, long hashtags, long userAccounts) {
+        given(articleRepository.count()).willReturn(articles);
+        given(articleCommentRepository.count()).willReturn(articleComments);
+        given(hashtagRepository.count()).willReturn(hashtags);
+        given(userAccountRepository.count()).willReturn(userAccounts);
+    }
+}
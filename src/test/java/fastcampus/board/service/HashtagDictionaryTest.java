@@ -0,0 +1,110 @@
+package fastcampus.board.service;
+
+import fastcampus.board.dto.query.HashtagEntry;
+import fastcampus.board.repository.HashtagRepository;
+import fastcampus.board.service.HashtagDictionary.HashtagDictionaryProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+
+@DisplayName("해시태그 사전")
+@ExtendWith(MockitoExtension.class)
+class HashtagDictionaryTest {
+
+    @Mock private HashtagRepository hashtagRepository;
+
+    @DisplayName("적재된 사전에서 이름으로 조회하면, 해시태그 ID 를 반환하고 조회 결과를 집계한다.")
+    @Test
+    void givenLoadedDictionary_whenLookingUp_thenReturnsIdAndCountsHitsAndMisses() {
+        // Given
+        HashtagDictionary sut = createDictionary(10);
+        given(hashtagRepository.findEntriesAfter(anyLong(), anyInt())).willReturn(List.of(
+                HashtagEntry.of(1L, "java"),
+                HashtagEntry.of(2L, "spring")
+        ));
+        sut.rebuild();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        sut.bindTo(registry);
+
+        // When
+        Long javaId = sut.getId("java");
+        Long unknownId = sut.getId("boot");
+
+        // Then
+        assertThat(javaId).isEqualTo(1L);
+        assertThat(unknownId).isNull();
+        assertThat(sut.isComplete()).isTrue();
+        assertThat(sut.getNames()).containsExactly("java", "spring");
+        assertThat(registry.get("board.hashtag.dictionary.lookups").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("board.hashtag.dictionary.lookups").tag("result", "miss").functionCounter().count()).isEqualTo(1);
+    }
+
+    @DisplayName("최대 개수보다 해시태그가 많으면, 최대 개수까지만 적재하고 전체 적재가 아님을 표시한다.")
+    @Test
+    void givenMoreHashtagsThanMaximum_whenLoading_thenMarksIncomplete() {
+        // Given
+        HashtagDictionary sut = createDictionary(1);
+        given(hashtagRepository.findEntriesAfter(anyLong(), anyInt())).willReturn(List.of(
+                HashtagEntry.of(1L, "java"),
+                HashtagEntry.of(2L, "spring")
+        ));
+
+        // When
+        sut.rebuild();
+
+        // Then
+        assertThat(sut.isComplete()).isFalse();
+        assertThat(sut.getNames()).containsExactly("java");
+    }
+
+    @DisplayName("적재 중에 마지막 배치를 읽은 뒤 해시태그가 추가되면, 적재가 끝난 뒤 사전에 반영한다.")
+    @Test
+    void givenHashtagPutDuringRebuild_whenLookingUp_thenReturnsId() {
+        // Given
+        HashtagDictionary sut = createDictionary(10);
+        given(hashtagRepository.findEntriesAfter(anyLong(), anyInt())).willAnswer(invocation -> {
+            List<HashtagEntry> batch = List.of(HashtagEntry.of(1L, "java"));
+            sut.put(2L, "spring");
+            return batch;
+        });
+
+        // When
+        sut.rebuild();
+
+        // Then
+        assertThat(sut.getId("spring")).isEqualTo(2L);
+        assertThat(sut.getNames()).containsExactly("java", "spring");
+    }
+
+    @DisplayName("트랜잭션 밖에서 해시태그를 추가/삭제하면, 사전에 바로 반영한다.")
+    @Test
+    void givenNoTransaction_whenPuttingAndRemoving_thenAppliesImmediately() {
+        // Given
+        HashtagDictionary sut = createDictionary(10);
+        given(hashtagRepository.findEntriesAfter(anyLong(), anyInt())).willReturn(List.of(HashtagEntry.of(1L, "java")));
+        sut.rebuild();
+
+        // When
+        sut.put(2L, "spring");
+        sut.remove(1L);
+
+        // Then
+        assertThat(sut.getId("spring")).isEqualTo(2L);
+        assertThat(sut.getId("java")).isNull();
+        assertThat(sut.getNames()).containsExactly("spring");
+    }
+
+    private HashtagDictionary createDictionary(int maximumSize) {
+        return new HashtagDictionary(hashtagRepository, new HashtagDictionaryProperties(maximumSize));
+    }
+}
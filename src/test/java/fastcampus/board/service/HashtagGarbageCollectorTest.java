@@ -0,0 +1,118 @@
+package fastcampus.board.service;
+
+import fastcampus.board.domain.Hashtag;
+import fastcampus.board.dto.query.HashtagEntry;
+import fastcampus.board.repository.HashtagRepository;
+import fastcampus.board.service.HashtagGarbageCollector.HashtagGcProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@DisplayName("고아 해시태그 정리")
+@ExtendWith(MockitoExtension.class)
+class HashtagGarbageCollectorTest {
+
+    @Mock private HashtagRepository hashtagRepository;
+    @Mock private HashtagDictionary hashtagDictionary;
+    @Mock private BoardStatistics boardStatistics;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private HashtagGarbageCollector sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new HashtagGarbageCollector(
+                hashtagRepository,
+                hashtagDictionary,
+                boardStatistics,
+                transactionManager,
+                new HashtagGcProperties(Duration.ofSeconds(5), 2, Duration.ZERO)
+        );
+    }
+
+    @DisplayName("같은 해시태그를 여러 번 후보로 넘기면, 한 번만 확인한다.")
+    @Test
+    void givenDuplicatedCandidates_whenEnqueuing_thenDeduplicates() {
+        // Given
+
+        // When
+        sut.enqueue(List.of(1L, 2L));
+        sut.enqueue(List.of(2L, 1L));
+
+        // Then
+        assertThat(sut.getBacklog()).isEqualTo(2);
+    }
+
+    @DisplayName("후보를 정리하면, 한 주기에 배치 크기만큼만 확인하고 고아 해시태그만 지운다.")
+    @Test
+    void givenCandidates_whenCollecting_thenDeletesOrphansWithinBatchSize() {
+        // Given
+        sut.enqueue(List.of(1L, 2L, 3L));
+        given(hashtagRepository.findOrphanIds(anyCollection())).willReturn(List.of(1L));
+        given(hashtagRepository.deleteOrphansByIds(List.of(1L))).willReturn(1L);
+
+        // When
+        int deletedCount = sut.collect();
+
+        // Then
+        assertThat(deletedCount).isEqualTo(1);
+        assertThat(sut.getBacklog()).isEqualTo(1);
+        then(hashtagDictionary).should().remove(1L);
+    }
+
+    @DisplayName("확인과 삭제 사이에 다시 게시글에 달린 해시태그는, 사전에서 지우지 않는다.")
+    @Test
+    void givenReusedHashtagAfterCheck_whenCollecting_thenKeepsItInDictionary() {
+        // Given
+        sut.enqueue(List.of(1L, 2L));
+        given(hashtagRepository.findOrphanIds(anyCollection())).willReturn(List.of(1L, 2L));
+        given(hashtagRepository.deleteOrphansByIds(List.of(1L, 2L))).willReturn(1L);
+        given(hashtagRepository.findAllById(List.of(1L, 2L))).willReturn(List.of(createHashtag(2L)));
+
+        // When
+        int deletedCount = sut.collect();
+
+        // Then
+        assertThat(deletedCount).isEqualTo(1);
+        then(hashtagDictionary).should().remove(1L);
+        then(hashtagDictionary).should(never()).remove(2L);
+    }
+
+    @DisplayName("전체 점검을 하면, 모든 해시태그를 배치 단위로 훑어 고아 해시태그를 후보에 넣는다.")
+    @Test
+    void givenHashtags_whenSweeping_thenEnqueuesOrphans() {
+        // Given
+        given(hashtagRepository.findEntriesAfter(0L, 2)).willReturn(List.of(HashtagEntry.of(1L, "java"), HashtagEntry.of(2L, "spring")));
+        given(hashtagRepository.findEntriesAfter(2L, 2)).willReturn(List.of(HashtagEntry.of(3L, "boot")));
+        given(hashtagRepository.findOrphanIds(List.of(1L, 2L))).willReturn(List.of(2L));
+        given(hashtagRepository.findOrphanIds(List.of(3L))).willReturn(List.of(3L));
+
+        // When
+        int found = sut.sweep();
+
+        // Then
+        assertThat(found).isEqualTo(2);
+        assertThat(sut.getBacklog()).isEqualTo(2);
+        then(hashtagRepository).should(never()).deleteOrphansByIds(anyCollection());
+    }
+
+    private Hashtag createHashtag(Long id) {
+        Hashtag hashtag = Hashtag.of("hashtag" + id);
+        ReflectionTestUtils.setField(hashtag, "id", id);
+        return hashtag;
+    }
+}
@@ -0,0 +1,84 @@
+package fastcampus.board.service;
+
+import fastcampus.board.service.HashtagParser.HashtagParserProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.text.Normalizer;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("해시태그 파서")
+class HashtagParserTest {
+
+    @DisplayName("본문을 파싱하면, 해시태그 이름을 처음 나온 순서대로 반환한다.")
+    @Test
+    void givenContent_whenParsing_thenReturnsHashtagNamesInOrder() {
+        // Given
+        HashtagParser sut = createParser(50, 30, false);
+
+        // When
+        Set<String> actual = sut.parse("#spring 그리고 #java, 다시 #spring #부트");
+
+        // Then
+        assertThat(actual).containsExactly("spring", "java", "부트");
+    }
+
+    @DisplayName("한글 외의 유니코드 문자로 된 해시태그도 이름으로 인식한다.")
+    @Test
+    void givenUnicodeHashtags_whenParsing_thenReturnsUnicodeHashtagNames() {
+        // Given
+        HashtagParser sut = createParser(50, 30, false);
+
+        // When
+        Set<String> actual = sut.parse("#café #日本語 #ㅋㅋ #Ελληνικά!");
+
+        // Then
+        assertThat(actual).containsExactly("café", "日本語", "ㅋㅋ", "Ελληνικά");
+    }
+
+    @DisplayName("분해된 형태(NFD)의 해시태그는, 조합된 형태(NFC)로 정규화한다.")
+    @Test
+    void givenDecomposedHashtag_whenParsing_thenReturnsComposedHashtagName() {
+        // Given
+        HashtagParser sut = createParser(50, 30, false);
+        String decomposed = Normalizer.normalize("#한글 #café", Normalizer.Form.NFD);
+
+        // When
+        Set<String> actual = sut.parse(decomposed);
+
+        // Then
+        assertThat(actual).containsExactly("한글", "café");
+    }
+
+    @DisplayName("소문자 변환을 켜면, 대소문자만 다른 해시태그는 하나로 합친다.")
+    @Test
+    void givenMixedCaseHashtags_whenParsingWithLowerCase_thenMergesHashtags() {
+        // Given
+        HashtagParser sut = createParser(50, 30, true);
+
+        // When
+        Set<String> actual = sut.parse("#Java #JAVA #java #Café");
+
+        // Then
+        assertThat(actual).containsExactly("java", "café");
+    }
+
+    @DisplayName("최대 길이를 넘는 해시태그는 버리고, 최대 개수까지만 반환한다.")
+    @Test
+    void givenTooLongAndTooManyHashtags_whenParsing_thenAppliesLimits() {
+        // Given
+        HashtagParser sut = createParser(5, 2, false);
+
+        // When
+        Set<String> actual = sut.parse("#toolonghashtag #a #b #c");
+
+        // Then
+        assertThat(actual).containsExactly("a", "b");
+    }
+
+    private HashtagParser createParser(int maxLength, int maxCount, boolean lowerCase) {
+        return new HashtagParser(new HashtagParserProperties(maxLength, maxCount, lowerCase, Normalizer.Form.NFC));
+    }
+}
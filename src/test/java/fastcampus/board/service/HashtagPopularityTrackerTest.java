@@ -0,0 +1,120 @@
+package fastcampus.board.service;
+
+import fastcampus.board.domain.constant.HashtagRankType;
+import fastcampus.board.dto.HashtagPopularityDto;
+import fastcampus.board.dto.query.HashtagUsage;
+import fastcampus.board.dto.query.HashtagUse;
+import fastcampus.board.repository.ArticleHashtagRepository;
+import fastcampus.board.service.HashtagPopularityTracker.HashtagPopularityProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+@DisplayName("해시태그 인기 집계")
+@ExtendWith(MockitoExtension.class)
+class HashtagPopularityTrackerTest {
+
+    private static final Instant NOW = Instant.parse("2023-01-10T00:00:00Z");
+    private static final LocalDateTime NOW_DATE_TIME = LocalDateTime.ofInstant(NOW, ZoneOffset.UTC);
+
+    @Mock private ArticleHashtagRepository articleHashtagRepository;
+
+    @DisplayName("적재된 사용 기록으로 순위를 매기면, 누적 사용은 사용 수 순으로, 인기 급상승은 최근 사용 순으로 정렬한다.")
+    @Test
+    void givenUsages_whenRanking_thenOrdersByUsageAndTrending() {
+        // Given
+        given(articleHashtagRepository.findHashtagUsages()).willReturn(List.of(
+                HashtagUsage.of("java", 10),
+                HashtagUsage.of("spring", 2)
+        ));
+        given(articleHashtagRepository.findHashtagUsesSince(any())).willReturn(List.of(
+                HashtagUse.of("java", NOW_DATE_TIME.minusDays(7)),
+                HashtagUse.of("spring", NOW_DATE_TIME),
+                HashtagUse.of("spring", NOW_DATE_TIME)
+        ));
+        HashtagPopularityTracker sut = createTracker(10);
+
+        // When
+        sut.rebuild();
+        List<HashtagPopularityDto> byUsage = sut.getTop(HashtagRankType.USAGE, PageRequest.of(0, 10)).getContent();
+        List<HashtagPopularityDto> byTrending = sut.getTop(HashtagRankType.TRENDING, PageRequest.of(0, 10)).getContent();
+
+        // Then
+        assertThat(byUsage).extracting(HashtagPopularityDto::hashtagName).containsExactly("java", "spring");
+        assertThat(byTrending).extracting(HashtagPopularityDto::hashtagName).containsExactly("spring", "java");
+        assertThat(byTrending.get(0).trendingScore()).isCloseTo(2.0, within(1e-9));
+        assertThat(byTrending.get(1).trendingScore()).isCloseTo(1.0 / 128, within(1e-9));
+    }
+
+    @DisplayName("해시태그 사용이 늘고 줄면, 순위에 반영하고 사용이 없어진 해시태그는 제외한다.")
+    @Test
+    void givenIncreaseAndDecrease_whenRanking_thenReflectsChanges() {
+        // Given
+        given(articleHashtagRepository.findHashtagUsages()).willReturn(List.of(HashtagUsage.of("java", 1)));
+        given(articleHashtagRepository.findHashtagUsesSince(any())).willReturn(List.of(HashtagUse.of("java", NOW_DATE_TIME)));
+        HashtagPopularityTracker sut = createTracker(10);
+        sut.rebuild();
+
+        // When
+        sut.increase(List.of("spring", "boot"), NOW_DATE_TIME);
+        sut.increase(List.of("spring"), NOW_DATE_TIME);
+        sut.decrease(List.of("java"), NOW_DATE_TIME);
+        List<HashtagPopularityDto> actual = sut.getTop(HashtagRankType.USAGE, PageRequest.of(0, 10)).getContent();
+
+        // Then
+        assertThat(actual).containsExactly(
+                HashtagPopularityDto.of("spring", 2, 2.0),
+                HashtagPopularityDto.of("boot", 1, 1.0)
+        );
+    }
+
+    @DisplayName("유지할 순위 수보다 해시태그가 많으면, 상위 해시태그만 남기고 그 안에서 페이지를 나눈다.")
+    @Test
+    void givenMoreHashtagsThanCapacity_whenPaging_thenPagesWithinTopN() {
+        // Given
+        given(articleHashtagRepository.findHashtagUsages()).willReturn(List.of(
+                HashtagUsage.of("a", 5),
+                HashtagUsage.of("b", 4),
+                HashtagUsage.of("c", 3),
+                HashtagUsage.of("d", 2),
+                HashtagUsage.of("e", 1)
+        ));
+        given(articleHashtagRepository.findHashtagUsesSince(any())).willReturn(List.of());
+        HashtagPopularityTracker sut = createTracker(3);
+        sut.rebuild();
+
+        // When
+        Page<HashtagPopularityDto> firstPage = sut.getTop(HashtagRankType.USAGE, PageRequest.of(0, 2));
+        Page<HashtagPopularityDto> secondPage = sut.getTop(HashtagRankType.USAGE, PageRequest.of(1, 2));
+
+        // Then
+        assertThat(firstPage.getTotalElements()).isEqualTo(3);
+        assertThat(firstPage.getContent()).extracting(HashtagPopularityDto::hashtagName).containsExactly("a", "b");
+        assertThat(secondPage.getContent()).extracting(HashtagPopularityDto::hashtagName).containsExactly("c");
+        assertThat(secondPage.hasNext()).isFalse();
+    }
+
+    private HashtagPopularityTracker createTracker(int capacity) {
+        return new HashtagPopularityTracker(
+                articleHashtagRepository,
+                new HashtagPopularityProperties(Duration.ofDays(1), capacity, Duration.ZERO),
+                Clock.fixed(NOW, ZoneOffset.UTC)
+        );
+    }
+}
@@ -2,7 +2,12 @@ package fastcampus.board.service;
 
 import fastcampus.board.domain.Article;
 import fastcampus.board.domain.Hashtag;
+import fastcampus.board.domain.constant.HashtagRankType;
+import fastcampus.board.dto.HashtagPopularityDto;
 import fastcampus.board.repository.HashtagRepository;
+import fastcampus.board.service.HashtagParser.HashtagParserProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,8 +16,15 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.text.Normalizer;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Stream;
@@ -29,6 +41,12 @@ class HashtagServiceTest {
     @InjectMocks private HashtagService sut;
 
     @Mock private HashtagRepository hashtagRepository;
+    @Mock private HashtagDictionary hashtagDictionary;
+    @Mock private HashtagPopularityTracker hashtagPopularityTracker;
+    @Mock private HashtagGarbageCollector hashtagGarbageCollector;
+    @Spy private HashtagParser hashtagParser = new HashtagParser(new HashtagParserProperties(50, 30, false, Normalizer.Form.NFC));
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    @Spy private ServiceMetrics serviceMetrics = new ServiceMetrics(meterRegistry);
 
     @DisplayName("본문을 파싱하면, 해시태그 이름들을 중복 없이 반환한다.")
     @MethodSource
@@ -109,6 +127,7 @@ class HashtagServiceTest {
     void givenNothing_whenCalling_thenReturnsHashtags() {
         // Given
         List<String> expectedHashtags = List.of("java", "spring", "boot");
+        given(hashtagDictionary.isComplete()).willReturn(false);
         given(hashtagRepository.findAllHashtagNames()).willReturn(expectedHashtags);
 
         // When
@@ -119,4 +138,94 @@ class HashtagServiceTest {
         then(hashtagRepository).should().findAllHashtagNames();
     }
 
-}
\ No newline at end of file
+    @DisplayName("해시태그 사전이 모두 적재된 상태에서 해시태그를 조회하면, DB 조회 없이 사전의 해시태그 리스트를 반환한다")
+    @Test
+    void givenCompleteDictionary_whenCalling_thenReturnsHashtagsFromDictionary() {
+        // Given
+        List<String> expectedHashtags = List.of("boot", "java", "spring");
+        given(hashtagDictionary.isComplete()).willReturn(true);
+        given(hashtagDictionary.getNames()).willReturn(expectedHashtags);
+
+        // When
+        List<String> actualHashtags = sut.getHashtags();
+
+        // Then
+        assertThat(actualHashtags).isEqualTo(expectedHashtags);
+        then(hashtagRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("해시태그 이름들로 ID 를 조회하면, 사전에 있는 것은 DB 조회 없이 반환하고 사전에 없는 것은 사전이 모두 적재된 상태여도 DB 에서 확인한다")
+    @Test
+    void givenCompleteDictionary_whenFindingHashtagIds_thenQueriesNamesMissingFromDictionary() {
+        // Given
+        Hashtag boots = Hashtag.of("boots");
+        ReflectionTestUtils.setField(boots, "id", 3L);
+        given(hashtagDictionary.getId("java")).willReturn(1L);
+        given(hashtagDictionary.getId("spring")).willReturn(2L);
+        given(hashtagDictionary.getId("boots")).willReturn(null);
+        given(hashtagRepository.findByHashtagNameIn(Set.of("boots"))).willReturn(List.of(boots));
+
+        // When
+        List<Long> hashtagIds = sut.findHashtagIdsByNames(List.of("java", "spring", "java", "boots"));
+
+        // Then
+        assertThat(hashtagIds).containsExactly(1L, 2L, 3L);
+        then(hashtagRepository).should().findByHashtagNameIn(Set.of("boots"));
+        then(hashtagDictionary).should().load(3L, "boots");
+    }
+
+    @DisplayName("해시태그 사전이 일부만 적재된 상태에서 사전에 없는 이름으로 ID 를 조회하면, 없는 것만 DB 에서 조회한다")
+    @Test
+    void givenIncompleteDictionary_whenFindingHashtagIds_thenQueriesOnlyUnresolvedNames() {
+        // Given
+        Hashtag spring = Hashtag.of("spring");
+        ReflectionTestUtils.setField(spring, "id", 2L);
+        given(hashtagDictionary.getId("java")).willReturn(1L);
+        given(hashtagDictionary.getId("spring")).willReturn(null);
+        given(hashtagRepository.findByHashtagNameIn(Set.of("spring"))).willReturn(List.of(spring));
+
+        // When
+        List<Long> hashtagIds = sut.findHashtagIdsByNames(List.of("java", "spring"));
+
+        // Then
+        assertThat(hashtagIds).containsExactly(1L, 2L);
+        then(hashtagRepository).should().findByHashtagNameIn(Set.of("spring"));
+        then(hashtagDictionary).should().load(2L, "spring");
+        assertThat(meterRegistry.get("board.hashtag.lookups").tag("source", "dictionary").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("board.hashtag.lookups").tag("source", "database").counter().count()).isEqualTo(1);
+    }
+
+    @DisplayName("인기 해시태그를 조회하면, 메모리 집계의 상위 순위 페이지를 반환한다")
+    @Test
+    void givenRankType_whenFindingPopularHashtags_thenReturnsTopHashtagPage() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 2);
+        Page<HashtagPopularityDto> expected = new PageImpl<>(List.of(
+                HashtagPopularityDto.of("java", 10, 3.0),
+                HashtagPopularityDto.of("spring", 5, 1.0)
+        ), pageable, 3);
+        given(hashtagPopularityTracker.getTop(HashtagRankType.TRENDING, pageable)).willReturn(expected);
+
+        // When
+        Page<HashtagPopularityDto> actual = sut.getPopularHashtags(HashtagRankType.TRENDING, pageable);
+
+        // Then
+        assertThat(actual).isEqualTo(expected);
+        then(hashtagRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("게시글에서 떨어진 해시태그 ID 를 넘기면, 바로 지우지 않고 정리 후보로 넘긴다")
+    @Test
+    void givenReleasedHashtagIds_whenReleasing_thenEnqueuesForGarbageCollection() {
+        // Given
+        List<Long> hashtagIds = List.of(1L, 2L);
+
+        // When
+        sut.releaseHashtags(hashtagIds);
+
+        // Then
+        then(hashtagGarbageCollector).should().enqueue(hashtagIds);
+        then(hashtagRepository).shouldHaveNoInteractions();
+    }
+
+}
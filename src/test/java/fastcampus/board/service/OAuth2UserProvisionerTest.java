@@ -0,0 +1,151 @@
+package fastcampus.board.service;
+
+import fastcampus.board.config.SecurityConfig.OAuth2ProvisioningProperties;
+import fastcampus.board.dto.UserAccountDto;
+import fastcampus.board.dto.security.BoardPrincipal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
+import org.springframework.security.oauth2.client.userinfo.OAuth2UserService;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.security.oauth2.core.user.DefaultOAuth2User;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비지니스 로직 - 카카오 로그인 회원 가입")
+@ExtendWith(MockitoExtension.class)
+class OAuth2UserProvisionerTest {
+
+    private static final String USERNAME = "kakao_1234567890";
+
+    @Mock private OAuth2UserService<OAuth2UserRequest, OAuth2User> delegate;
+    @Mock private UserAccountService userAccountService;
+    @Mock private PasswordEncoder passwordEncoder;
+
+    private SimpleMeterRegistry registry;
+    private OAuth2UserProvisioner sut;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        sut = new OAuth2UserProvisioner(
+                delegate,
+                userAccountService,
+                passwordEncoder,
+                new OAuth2ProvisioningProperties(1, 10, Duration.ofSeconds(5)),
+                registry
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        sut.shutdown();
+    }
+
+    @DisplayName("이미 가입한 사용자가 로그인하면, 비밀번호를 해싱하지 않고 회원 정보를 반환한다.")
+    @Test
+    void givenExistingUser_whenLoadingPrincipal_thenReturnsPrincipalWithoutHashing() {
+        // Given
+        OAuth2UserRequest userRequest = createUserRequest();
+        BoardPrincipal principal = BoardPrincipal.from(createUserAccountDto());
+        given(delegate.loadUser(userRequest)).willReturn(createOAuth2User());
+        given(userAccountService.searchPrincipal(USERNAME)).willReturn(Optional.of(principal));
+
+        // When
+        BoardPrincipal result = sut.loadPrincipal(userRequest);
+
+        // Then
+        assertThat(result).isSameAs(principal);
+        then(passwordEncoder).shouldHaveNoInteractions();
+        then(userAccountService).should(never()).saveUser(anyString(), anyString(), anyString(), anyString(), any());
+        assertThat(timerCount("lookup")).isEqualTo(1L);
+        assertThat(timerCount("provision")).isZero();
+    }
+
+    @DisplayName("처음 로그인한 사용자는, 스레드 풀에서 해싱한 임의의 비밀번호로 가입시킨다.")
+    @Test
+    void givenNewUser_whenLoadingPrincipal_thenSavesUserWithHashedPassword() {
+        // Given
+        OAuth2UserRequest userRequest = createUserRequest();
+        given(delegate.loadUser(userRequest)).willReturn(createOAuth2User());
+        given(userAccountService.searchPrincipal(USERNAME)).willReturn(Optional.empty());
+        given(passwordEncoder.encode(anyString())).willReturn("{bcrypt}hashed");
+        given(userAccountService.saveUser(USERNAME, "{bcrypt}hashed", "uno@mail.com", "uno", null))
+                .willReturn(createUserAccountDto());
+
+        // When
+        BoardPrincipal result = sut.loadPrincipal(userRequest);
+
+        // Then
+        assertThat(result.username()).isEqualTo(USERNAME);
+        then(passwordEncoder).should().encode(anyString());
+        assertThat(timerCount("user-info")).isEqualTo(1L);
+        assertThat(timerCount("provision")).isEqualTo(1L);
+    }
+
+    private long timerCount(String phase) {
+        return registry.get("board.login.oauth2").tag("phase", phase).timer().count();
+    }
+
+    private OAuth2UserRequest createUserRequest() {
+        ClientRegistration clientRegistration = ClientRegistration.withRegistrationId("kakao")
+                .clientId("client-id")
+                .authorizationGrantType(AuthorizationGrantType.AUTHORIZATION_CODE)
+                .redirectUri("{baseUrl}/login/oauth2/code/{registrationId}")
+                .authorizationUri("https://kauth.kakao.com/oauth/authorize")
+                .tokenUri("https://kauth.kakao.com/oauth/token")
+                .build();
+        OAuth2AccessToken accessToken = new OAuth2AccessToken(
+                OAuth2AccessToken.TokenType.BEARER,
+                "access-token",
+                Instant.now(),
+                Instant.now().plusSeconds(60)
+        );
+        return new OAuth2UserRequest(clientRegistration, accessToken);
+    }
+
+    private OAuth2User createOAuth2User() {
+        return new DefaultOAuth2User(
+                List.of(),
+                Map.of(
+                        "id", 1234567890L,
+                        "connected_at", "2022-09-30T13:11:41Z",
+                        "properties", Map.of("nickname", "uno"),
+                        "kakao_account", Map.of(
+                                "profile", Map.of("nickname", "uno"),
+                                "email", "uno@mail.com"
+                        )
+                ),
+                "id"
+        );
+    }
+
+    private UserAccountDto createUserAccountDto() {
+        return UserAccountDto.of(
+                USERNAME,
+                "{bcrypt}hashed",
+                "uno@mail.com",
+                "uno",
+                null
+        );
+    }
+}
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
@@ -53,6 +54,20 @@ class PaginationServiceTest {
         );
     }
 
+    @DisplayName("페이징 바를 채우는 데 필요한 페이지 수만 알면, 총 페이지 수를 정확히 알 때와 같은 페이징 바를 만든다.")
+    @ParameterizedTest(name = "[{index}] 현재 페이지: {0}")
+    @ValueSource(ints = {0, 1, 2, 3, 10})
+    void givenPagesNeededForBar_whenCalculating_thenReturnsSameBarAsExactTotalPages(int currentPageNumber) {
+        // Given
+        int pagesNeededForBar = PaginationService.pagesNeededForBar(currentPageNumber);
+
+        // When
+        List<Integer> actual = sut.getPaginationBarNumbers(currentPageNumber, pagesNeededForBar);
+
+        // Then
+        assertThat(actual).isEqualTo(sut.getPaginationBarNumbers(currentPageNumber, 1_000));
+    }
+
     @DisplayName("현재 설정되어 있는 페이지네이션 바의 길이를 알려준다.")
     @Test
     void givenNothing_whenCalling_thenReturnsCurrentBarLength() {
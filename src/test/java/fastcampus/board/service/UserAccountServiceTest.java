@@ -1,20 +1,25 @@
 package fastcampus.board.service;
 
+import fastcampus.board.config.SecurityConfig.PrincipalCacheProperties;
 import fastcampus.board.domain.UserAccount;
 import fastcampus.board.dto.UserAccountDto;
+import fastcampus.board.dto.security.BoardPrincipal;
 import fastcampus.board.repository.UserAccountRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
 
 @DisplayName("비즈니스 로직 - 회원")
 @ExtendWith(MockitoExtension.class)
@@ -25,6 +30,10 @@ class UserAccountServiceTest {
 
     @Mock
     private UserAccountRepository userAccountRepository;
+    @Mock
+    private BoardStatistics boardStatistics;
+    @Spy
+    private PrincipalCache principalCache = new PrincipalCache(new PrincipalCacheProperties(100, Duration.ofMinutes(5)));
 
     @DisplayName("존재하는 회원 ID를 검색하면, 회원 데이터를 Optional로 반환한다.")
     @Test
@@ -83,6 +92,58 @@ class UserAccountServiceTest {
                 .hasFieldOrPropertyWithValue("createdBy", userAccount.getUserId())
                 .hasFieldOrPropertyWithValue("modifiedBy", userAccount.getUserId());
         then(userAccountRepository).should().save(userAccount);
+        then(boardStatistics).should().addUserAccounts(1);
+        then(principalCache).should().invalidate(userAccount.getUserId());
+    }
+
+    @DisplayName("같은 회원으로 다시 로그인하면, DB 를 거치지 않고 캐시된 사용자를 반환한다.")
+    @Test
+    void givenCachedPrincipal_whenSearchingPrincipalAgain_thenReturnsCachedPrincipal() {
+        // Given
+        String username = "uno";
+        given(userAccountRepository.findById(username)).willReturn(Optional.of(createUserAccount(username)));
+        Optional<BoardPrincipal> first = sut.searchPrincipal(username);
+
+        // When
+        Optional<BoardPrincipal> second = sut.searchPrincipal(username);
+
+        // Then
+        assertThat(second).containsSame(first.orElseThrow());
+        then(userAccountRepository).should(times(1)).findById(username);
+    }
+
+    @DisplayName("없는 회원으로 로그인하면, 캐시에 담지 않아 가입 뒤에는 바로 조회된다.")
+    @Test
+    void givenNonexistentUser_whenSearchingPrincipal_thenDoesNotCacheAbsence() {
+        // Given
+        String username = "new-user";
+        given(userAccountRepository.findById(username))
+                .willReturn(Optional.empty())
+                .willReturn(Optional.of(createUserAccount(username)));
+
+        // When
+        Optional<BoardPrincipal> before = sut.searchPrincipal(username);
+        Optional<BoardPrincipal> after = sut.searchPrincipal(username);
+
+        // Then
+        assertThat(before).isEmpty();
+        assertThat(after).map(BoardPrincipal::username).contains(username);
+    }
+
+    @DisplayName("캐시된 회원을 지우면, 다음 로그인에서 DB 에서 다시 읽는다.")
+    @Test
+    void givenCachedPrincipal_whenInvalidating_thenReloadsFromDatabase() {
+        // Given
+        String username = "uno";
+        given(userAccountRepository.findById(username)).willReturn(Optional.of(createUserAccount(username)));
+        sut.searchPrincipal(username);
+
+        // When
+        principalCache.invalidate(username);
+        sut.searchPrincipal(username);
+
+        // Then
+        then(userAccountRepository).should(times(2)).findById(username);
     }
 
 
@@ -0,0 +1,236 @@
+package fastcampus.board.service.search;
+
+import fastcampus.board.domain.Article;
+import fastcampus.board.domain.constant.SearchType;
+import fastcampus.board.dto.query.ArticleIndexRow;
+import fastcampus.board.repository.ArticleRepository;
+import fastcampus.board.service.search.analysis.Analyzer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+
+@DisplayName("검색 색인 - 게시글")
+@ExtendWith(MockitoExtension.class)
+class ArticleSearchIndexTest {
+
+    private ArticleSearchIndex sut;
+
+    @Mock private ArticleRepository articleRepository;
+
+    @BeforeEach
+    void setUp() {
+        Analyzer analyzer = Analyzer.builder()
+                .hangulNGram(2, 3)
+                .lowerCase()
+                .build();
+        sut = new ArticleSearchIndex(articleRepository, analyzer);
+    }
+
+    @DisplayName("색인 적재 전에는, 색인 검색을 지원하지 않는다.")
+    @Test
+    void givenNotRebuiltIndex_whenCheckingSupport_thenReturnsFalse() {
+        // Given
+
+        // When
+        boolean actual = sut.supports("java", Pageable.ofSize(10));
+
+        // Then
+        assertThat(actual).isFalse();
+    }
+
+    @DisplayName("색인이 처리할 수 없는 정렬이 요청되면, 색인 검색을 지원하지 않는다.")
+    @Test
+    void givenUnsupportedSort_whenCheckingSupport_thenReturnsFalse() {
+        // Given
+        rebuildWith(List.of());
+
+        // When
+        boolean actual = sut.supports("java", PageRequest.of(0, 10, Sort.by("title")));
+
+        // Then
+        assertThat(actual).isFalse();
+    }
+
+    @DisplayName("최소 n-gram 보다 짧은 한글 단어가 섞인 검색어는, 더 긴 단어 안에서 찾지 못하므로 색인 검색을 지원하지 않는다.")
+    @Test
+    void givenKeywordWithHangulShorterThanMinGram_whenCheckingSupport_thenReturnsFalse() {
+        // Given
+        rebuildWith(List.of());
+
+        // When
+        boolean singleSyllable = sut.supports("자바 책", Pageable.ofSize(10));
+        boolean longerWords = sut.supports("자바 책상", Pageable.ofSize(10));
+
+        // Then
+        assertThat(singleSyllable).isFalse();
+        assertThat(longerWords).isTrue();
+    }
+
+    @DisplayName("색인 적재가 실패하면, 색인 검색을 지원하지 않다가 다시 적재에 성공하면 지원한다.")
+    @Test
+    void givenFailedRebuild_whenRetrying_thenBecomesReady() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        sut.bindTo(registry);
+        given(articleRepository.findIndexRowsAfter(anyLong(), anyInt()))
+                .willThrow(new IllegalStateException("DB 연결 실패"))
+                .willReturn(List.of(ArticleIndexRow.of(1L, "java", "content", LocalDateTime.now())));
+        sut.rebuild();
+        boolean supportedAfterFailure = sut.supports("java", Pageable.ofSize(10));
+        double readyAfterFailure = registry.get("board.article.search.index.ready").gauge().value();
+
+        // When
+        sut.retryFailedRebuild();
+
+        // Then
+        assertThat(supportedAfterFailure).isFalse();
+        assertThat(readyAfterFailure).isEqualTo(0);
+        assertThat(sut.supports("java", Pageable.ofSize(10))).isTrue();
+        assertThat(registry.get("board.article.search.index.ready").gauge().value()).isEqualTo(1);
+        assertThat(sut.search(SearchType.TITLE, "java", Pageable.ofSize(10)).getContent()).containsExactly(1L);
+    }
+
+    @DisplayName("본문을 검색하면, 모든 검색어를 포함한 게시글만 BM25 점수 순으로 반환한다.")
+    @Test
+    void givenKeyword_whenSearchingContent_thenReturnsMatchingArticlesOrderedByScore() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        rebuildWith(List.of(
+                ArticleIndexRow.of(1L, "title", "spring boot", now),
+                ArticleIndexRow.of(2L, "title", "spring boot spring boot spring", now),
+                ArticleIndexRow.of(3L, "title", "spring only", now),
+                ArticleIndexRow.of(4L, "title", "nothing here", now)
+        ));
+
+        // When
+        Page<Long> actual = sut.search(SearchType.CONTENT, "Spring Boot", Pageable.ofSize(10));
+
+        // Then
+        assertThat(actual.getTotalElements()).isEqualTo(2);
+        assertThat(actual.getContent()).containsExactly(2L, 1L);
+    }
+
+    @DisplayName("한글 검색어는 n-gram 으로 쪼개져, 단어 일부만 입력해도 검색된다.")
+    @Test
+    void givenHangulKeyword_whenSearchingTitle_thenMatchesPartOfWord() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        rebuildWith(List.of(
+                ArticleIndexRow.of(1L, "자유게시판 공지사항", "content", now),
+                ArticleIndexRow.of(2L, "질문 게시글", "content", now),
+                ArticleIndexRow.of(3L, "공지", "content", now)
+        ));
+
+        // When
+        Page<Long> actual = sut.search(SearchType.TITLE, "게시판", Pageable.ofSize(10));
+
+        // Then
+        assertThat(actual.getContent()).containsExactly(1L);
+    }
+
+    @DisplayName("작성일 정렬과 페이징을 요청하면, 해당 정렬 순서의 페이지를 반환한다.")
+    @Test
+    void givenCreatedAtSortAndPage_whenSearching_thenReturnsSortedPage() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        rebuildWith(List.of(
+                ArticleIndexRow.of(1L, "java", "content", now.minusDays(3)),
+                ArticleIndexRow.of(2L, "java", "content", now.minusDays(1)),
+                ArticleIndexRow.of(3L, "java", "content", now.minusDays(2)),
+                ArticleIndexRow.of(4L, "java", "content", now)
+        ));
+        Pageable pageable = PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+        // When
+        Page<Long> actual = sut.search(SearchType.TITLE, "java", pageable);
+
+        // Then
+        assertThat(actual.getTotalElements()).isEqualTo(4);
+        assertThat(actual.getContent()).containsExactly(3L, 1L);
+    }
+
+    @DisplayName("색인에서 게시글을 제거하면, 더 이상 검색되지 않는다.")
+    @Test
+    void givenRemovedArticle_whenSearching_thenExcludesArticle() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        rebuildWith(List.of(
+                ArticleIndexRow.of(1L, "java", "content", now),
+                ArticleIndexRow.of(2L, "java", "content", now)
+        ));
+
+        // When
+        sut.remove(1L);
+        Page<Long> actual = sut.search(SearchType.TITLE, "java", Pageable.ofSize(10));
+
+        // Then
+        assertThat(actual.getContent()).containsExactly(2L);
+    }
+
+    @DisplayName("색인 적재 중에 이미 읽어 간 게시글이 삭제되면, 적재가 끝난 뒤에도 검색되지 않는다.")
+    @Test
+    void givenArticleRemovedDuringRebuild_whenSearching_thenExcludesArticle() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        given(articleRepository.findIndexRowsAfter(anyLong(), anyInt())).willAnswer(invocation -> {
+            List<ArticleIndexRow> batch = List.of(
+                    ArticleIndexRow.of(1L, "java", "content", now),
+                    ArticleIndexRow.of(2L, "java", "content", now)
+            );
+            sut.remove(1L);
+            return batch;
+        });
+
+        // When
+        sut.rebuild();
+        Page<Long> actual = sut.search(SearchType.TITLE, "java", Pageable.ofSize(10));
+
+        // Then
+        assertThat(actual.getContent()).containsExactly(2L);
+    }
+
+    @DisplayName("색인 적재 중에 이미 읽어 간 게시글이 수정되면, 적재가 끝난 뒤에는 수정된 내용으로 검색된다.")
+    @Test
+    void givenArticleUpdatedDuringRebuild_whenSearching_thenMatchesUpdatedTitle() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        Article updated = Article.of(null, "kotlin", "content");
+        ReflectionTestUtils.setField(updated, "id", 1L);
+        given(articleRepository.findIndexRowsAfter(anyLong(), anyInt())).willAnswer(invocation -> {
+            List<ArticleIndexRow> batch = List.of(ArticleIndexRow.of(1L, "java", "content", now));
+            sut.index(updated);
+            return batch;
+        });
+
+        // When
+        sut.rebuild();
+        Page<Long> javaHits = sut.search(SearchType.TITLE, "java", Pageable.ofSize(10));
+        Page<Long> kotlinHits = sut.search(SearchType.TITLE, "kotlin", Pageable.ofSize(10));
+
+        // Then
+        assertThat(javaHits.getContent()).isEmpty();
+        assertThat(kotlinHits.getContent()).containsExactly(1L);
+    }
+
+    private void rebuildWith(List<ArticleIndexRow> rows) {
+        given(articleRepository.findIndexRowsAfter(anyLong(), anyInt())).willReturn(rows);
+        sut.rebuild();
+    }
+}
@@ -0,0 +1,152 @@
+package fastcampus.board.service.search;
+
+import fastcampus.board.config.SearchConfig.SearchCountProperties;
+import fastcampus.board.domain.constant.SearchType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("검색 결과 개수 캐시")
+class SearchCountCacheTest {
+
+    @DisplayName("같은 검색 조건으로 다시 세면, 캐시된 개수를 반환한다.")
+    @Test
+    void givenCachedCount_whenCountingAgain_thenReturnsCachedCount() {
+        // Given
+        SearchCountCache sut = createCache(0);
+        List<Long> requestedLimits = new ArrayList<>();
+        sut.count(SearchType.TITLE, "java", Pageable.ofSize(10), limit -> {
+            requestedLimits.add(limit);
+            return 42L;
+        });
+
+        // When
+        long actual = sut.count(SearchType.TITLE, " java ", Pageable.ofSize(10), limit -> {
+            requestedLimits.add(limit);
+            return 0L;
+        });
+
+        // Then
+        assertThat(actual).isEqualTo(42L);
+        assertThat(requestedLimits).containsExactly(0L);
+    }
+
+    @DisplayName("해시태그 검색어는 순서와 중복에 상관없이 같은 캐시 항목을 사용한다.")
+    @Test
+    void givenReorderedHashtags_whenCounting_thenSharesCacheEntry() {
+        // Given
+        SearchCountCache sut = createCache(0);
+        sut.count(SearchType.HASHTAG, "java spring", Pageable.ofSize(10), limit -> 7L);
+
+        // When
+        long actual = sut.count(SearchType.HASHTAG, "spring java spring", Pageable.ofSize(10), limit -> 0L);
+
+        // Then
+        assertThat(actual).isEqualTo(7L);
+    }
+
+    @DisplayName("캐시를 무효화하면, 다시 센다.")
+    @Test
+    void givenInvalidatedCache_whenCounting_thenCountsAgain() {
+        // Given
+        SearchCountCache sut = createCache(0);
+        sut.count(null, null, Pageable.ofSize(10), limit -> 1L);
+
+        // When
+        sut.invalidateAll();
+        long actual = sut.count(null, null, Pageable.ofSize(10), limit -> 2L);
+
+        // Then
+        assertThat(actual).isEqualTo(2L);
+    }
+
+    @DisplayName("추정 모드에서는, 현재 페이지 이후 지정한 페이지 수만큼까지만 센다.")
+    @Test
+    void givenEstimateMode_whenCounting_thenCountsUpToLimit() {
+        // Given
+        SearchCountCache sut = createCache(2);
+        Pageable pageable = PageRequest.of(3, 10);
+        List<Long> requestedLimits = new ArrayList<>();
+
+        // When
+        long actual = sut.count(SearchType.ID, "uno", pageable, limit -> {
+            requestedLimits.add(limit);
+            return limit;
+        });
+
+        // Then
+        assertThat(requestedLimits).containsExactly(51L);
+        assertThat(actual).isEqualTo(51L);
+    }
+
+    @DisplayName("추정 모드에서 지정한 페이지 수로 페이징 바를 다 채우지 못하면, 바를 채울 만큼까지 센다.")
+    @Test
+    void givenEstimateModeOnFirstPage_whenCounting_thenCountsEnoughForPaginationBar() {
+        // Given
+        SearchCountCache sut = createCache(1);
+        List<Long> requestedLimits = new ArrayList<>();
+
+        // When
+        sut.count(SearchType.ID, "uno", PageRequest.of(0, 10), limit -> {
+            requestedLimits.add(limit);
+            return limit;
+        });
+
+        // Then
+        assertThat(requestedLimits).containsExactly(41L);
+    }
+
+    @DisplayName("추정 모드에서 캐시된 하한값이 부족하면, 더 큰 상한으로 다시 센다.")
+    @Test
+    void givenLowerBoundCached_whenCountingDeeperPage_thenCountsAgainWithLargerLimit() {
+        // Given
+        SearchCountCache sut = createCache(2);
+        sut.count(SearchType.ID, "uno", PageRequest.of(0, 10), limit -> limit);
+        List<Long> requestedLimits = new ArrayList<>();
+
+        // When
+        long actual = sut.count(SearchType.ID, "uno", PageRequest.of(5, 10), limit -> {
+            requestedLimits.add(limit);
+            return 65L;
+        });
+
+        // Then
+        assertThat(requestedLimits).containsExactly(71L);
+        assertThat(actual).isEqualTo(65L);
+    }
+
+    @DisplayName("개수를 세면, 검색 유형별로 캐시 적중/실패 수를 남긴다.")
+    @Test
+    void givenBoundRegistry_whenCounting_thenRecordsHitsAndMissesBySearchType() {
+        // Given
+        SearchCountCache sut = createCache(0);
+        MeterRegistry registry = new SimpleMeterRegistry();
+        sut.bindTo(registry);
+
+        // When
+        sut.count(SearchType.HASHTAG, "java", Pageable.ofSize(10), limit -> 3L);
+        sut.count(SearchType.HASHTAG, "java", Pageable.ofSize(10), limit -> 3L);
+        sut.count(null, null, Pageable.ofSize(10), limit -> 7L);
+
+        // Then
+        assertThat(registry.get("board.article.search.count-cache").tags("type", "hashtag", "result", "hit").functionCounter().count())
+                .isEqualTo(1.0);
+        assertThat(registry.get("board.article.search.count-cache").tags("type", "hashtag", "result", "miss").functionCounter().count())
+                .isEqualTo(1.0);
+        assertThat(registry.get("board.article.search.count-cache").tags("type", "none", "result", "miss").functionCounter().count())
+                .isEqualTo(1.0);
+    }
+
+    private SearchCountCache createCache(int estimatePages) {
+        return new SearchCountCache(new SearchCountProperties(Duration.ofMinutes(1), 100, estimatePages));
+    }
+}
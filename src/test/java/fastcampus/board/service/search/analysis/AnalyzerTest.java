@@ -0,0 +1,94 @@
+package fastcampus.board.service.search.analysis;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.text.Normalizer;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("검색 분석기")
+class AnalyzerTest {
+
+    private final Analyzer sut = Analyzer.builder()
+            .normalization(Normalizer.Form.NFKC)
+            .hangulNGram(2, 3)
+            .lowerCase()
+            .asciiFolding()
+            .build();
+
+    @DisplayName("한글은 n-gram 으로, 그 외 단어는 소문자로 분석한다.")
+    @Test
+    void givenMixedText_whenAnalyzing_thenReturnsNGramsAndLowerCasedWords() {
+        // Given
+        String text = "게시판 Spring2";
+
+        // When
+        List<String> actual = sut.analyze(text);
+
+        // Then
+        assertThat(actual).containsExactly("게시", "게시판", "시판", "spring2");
+    }
+
+    @DisplayName("최소 n-gram 길이보다 짧은 한글 토큰은 그대로 반환한다.")
+    @Test
+    void givenSingleSyllable_whenAnalyzing_thenReturnsAsIs() {
+        // Given
+        String text = "글 공지";
+
+        // When
+        List<String> actual = sut.analyze(text);
+
+        // Then
+        assertThat(actual).containsExactly("글", "공지");
+    }
+
+    @DisplayName("전각 문자와 발음 구별 기호는 정규화되어 ASCII 로 분석된다.")
+    @Test
+    void givenFullWidthAndAccentedText_whenAnalyzing_thenReturnsFoldedTerms() {
+        // Given
+        String text = "ＪＡＶＡ Café Łódź";
+
+        // When
+        List<String> actual = sut.analyze(text);
+
+        // Then
+        assertThat(actual).containsExactly("java", "cafe", "lodz");
+    }
+
+    @DisplayName("한글과 영문이 붙어 있으면, 문자 종류가 바뀌는 지점에서 나눈다.")
+    @Test
+    void givenAttachedScripts_whenAnalyzing_thenSplitsByScript() {
+        // Given
+        String text = "JPA를";
+
+        // When
+        List<String> actual = sut.analyze(text);
+
+        // Then
+        assertThat(actual).containsExactly("jpa", "를");
+    }
+
+    @DisplayName("null 이나 빈 문자열은, 빈 결과를 반환한다.")
+    @Test
+    void givenNullOrBlank_whenAnalyzing_thenReturnsEmpty() {
+        // Given
+
+        // When & Then
+        assertThat(sut.analyze(null)).isEmpty();
+        assertThat(sut.analyze("  ,. ")).isEmpty();
+    }
+
+    @DisplayName("잘못된 n-gram 범위로 분석기를 만들면, 예외를 던진다.")
+    @Test
+    void givenInvalidGramRange_whenAnalyzing_thenThrowsException() {
+        // Given
+        Analyzer analyzer = Analyzer.builder().hangulNGram(3, 2).build();
+
+        // When & Then
+        assertThatThrownBy(() -> analyzer.analyze("게시판"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
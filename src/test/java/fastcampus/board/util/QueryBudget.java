@@ -0,0 +1,64 @@
+package fastcampus.board.util;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 테스트에서 요청 하나가 쓸 수 있는 SQL 수를 정해 두고, 넘으면 실행한 SQL 목록과 함께 실패시킨다.
+ * MockMvc 요청은 테스트 스레드에서 그대로 실행되므로, 요청 중에 나간 SQL 이 모두 세어진다.
+ *
+ * <pre>
+ * QueryBudget.statements(5).repeatsAtMost(1)
+ *         .verify(() -&gt; mvc.perform(get("/articles")).andExpect(status().isOk()));
+ * </pre>
+ */
+public final class QueryBudget {
+
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+
+    private final int maxStatements;
+    private final int maxRepeats;
+
+    private QueryBudget(int maxStatements, int maxRepeats) {
+        this.maxStatements = maxStatements;
+        this.maxRepeats = maxRepeats;
+    }
+
+    public static QueryBudget statements(int maxStatements) {
+        return new QueryBudget(maxStatements, maxStatements);
+    }
+
+    /**
+     * 같은 SQL 을 실행해도 되는 최대 횟수. 넘으면 N+1 로 본다.
+     */
+    public QueryBudget repeatsAtMost(int maxRepeats) {
+        return new QueryBudget(maxStatements, maxRepeats);
+    }
+
+    public QueryScope verify(Action action) throws Exception {
+        QueryScope scope = QueryCounter.open("test");
+        try {
+            action.run();
+        } finally {
+            scope.close();
+        }
+
+        if (scope.getStatements() > maxStatements) {
+            throw new AssertionError("SQL 을 " + scope.getStatements() + "번 실행했습니다. 예산은 " + maxStatements + "번입니다.\n" + describe(scope.getStatementCounts()));
+        }
+        Map<String, Integer> repeated = scope.getRepeatedStatements(maxRepeats + 1);
+        if (!repeated.isEmpty()) {
+            throw new AssertionError("같은 SQL 을 " + maxRepeats + "번보다 많이 실행했습니다(N+1 의심).\n" + describe(repeated));
+        }
+        return scope;
+    }
+
+    private static String describe(Map<String, Integer> statementCounts) {
+        return statementCounts.entrySet().stream()
+                .map(entry -> "  " + entry.getValue() + "x " + entry.getKey())
+                .collect(Collectors.joining("\n"));
+    }
+}